@@ -0,0 +1,42 @@
+#!/bin/bash
+# Load test for the aggregate endpoints (program dashboard, team workload, search).
+#
+# Run it once against an app started with VIRTUAL_THREADS_ENABLED=false and once with
+# VIRTUAL_THREADS_ENABLED=true, then compare the latency percentiles and requests/sec.
+# Also compare the zevaro.fanout.* and hikaricp.connections.* metrics on /actuator/metrics.
+#
+# Requires hey (https://github.com/rakyll/hey).
+#
+#   TOKEN=<jwt> PROGRAM_ID=<uuid> TEAM_ID=<uuid> ./scripts/load-test-aggregates.sh
+set -e
+
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+REQUESTS="${REQUESTS:-2000}"
+CONCURRENCY="${CONCURRENCY:-50}"
+QUERY="${QUERY:-decision}"
+
+if [ -z "$TOKEN" ] || [ -z "$PROGRAM_ID" ] || [ -z "$TEAM_ID" ]; then
+    echo "Set TOKEN, PROGRAM_ID and TEAM_ID (and optionally BASE_URL, REQUESTS, CONCURRENCY, QUERY)"
+    exit 1
+fi
+
+if ! command -v hey > /dev/null; then
+    echo "hey is not installed: go install github.com/rakyll/hey@latest"
+    exit 1
+fi
+
+run() {
+    local name="$1"
+    local url="$2"
+    echo ""
+    echo "=== $name: $REQUESTS requests, concurrency $CONCURRENCY ==="
+    hey -n "$REQUESTS" -c "$CONCURRENCY" -H "Authorization: Bearer $TOKEN" "$url" \
+        | grep -E "Requests/sec|Average|Slowest|50%|90%|99%|\[[0-9]{3}\]"
+}
+
+# Warm up connection pools and JIT before measuring
+hey -n 200 -c 10 -H "Authorization: Bearer $TOKEN" "$BASE_URL/api/v1/programs/$PROGRAM_ID/dashboard" > /dev/null
+
+run "Program dashboard" "$BASE_URL/api/v1/programs/$PROGRAM_ID/dashboard"
+run "Team workload" "$BASE_URL/api/v1/teams/$TEAM_ID/workload"
+run "Search" "$BASE_URL/api/v1/search?q=$QUERY"
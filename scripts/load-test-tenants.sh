@@ -0,0 +1,53 @@
+#!/bin/bash
+# Multi-tenant isolation test for the tenant bulkheads.
+#
+# A noisy tenant floods report endpoints (decision queue, dashboard) while a quiet tenant makes
+# ordinary reads. With bulkheads on, the noisy tenant should see 429s and the quiet tenant's
+# latency should stay close to its baseline. Run once with BULKHEAD_ENABLED=false to compare.
+# Watch zevaro.bulkhead.* on /actuator/metrics while it runs.
+#
+# Requires hey (https://github.com/rakyll/hey).
+#
+#   NOISY_TOKEN=<jwt> NOISY_PROGRAM_ID=<uuid> QUIET_TOKEN=<jwt> ./scripts/load-test-tenants.sh
+set -e
+
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+DURATION="${DURATION:-60s}"
+NOISY_CONCURRENCY="${NOISY_CONCURRENCY:-100}"
+QUIET_CONCURRENCY="${QUIET_CONCURRENCY:-5}"
+
+if [ -z "$NOISY_TOKEN" ] || [ -z "$NOISY_PROGRAM_ID" ] || [ -z "$QUIET_TOKEN" ]; then
+    echo "Set NOISY_TOKEN, NOISY_PROGRAM_ID and QUIET_TOKEN (tokens for users of two different tenants)"
+    exit 1
+fi
+
+if ! command -v hey > /dev/null; then
+    echo "hey is not installed: go install github.com/rakyll/hey@latest"
+    exit 1
+fi
+
+summary() {
+    grep -E "Requests/sec|Average|50%|90%|99%|\[[0-9]{3}\]"
+}
+
+echo "=== Quiet tenant baseline ($QUIET_CONCURRENCY concurrent, 20s) ==="
+hey -z 20s -c "$QUIET_CONCURRENCY" -H "Authorization: Bearer $QUIET_TOKEN" "$BASE_URL/api/v1/programs" | summary
+
+echo ""
+echo "=== Noisy tenant ($NOISY_CONCURRENCY concurrent) and quiet tenant together, $DURATION ==="
+NOISY_OUT=$(mktemp)
+hey -z "$DURATION" -c "$NOISY_CONCURRENCY" -H "Authorization: Bearer $NOISY_TOKEN" \
+    "$BASE_URL/api/v1/decisions/queue" > "$NOISY_OUT" &
+NOISY_PID=$!
+hey -z "$DURATION" -c "$NOISY_CONCURRENCY" -H "Authorization: Bearer $NOISY_TOKEN" \
+    "$BASE_URL/api/v1/programs/$NOISY_PROGRAM_ID/dashboard" > /dev/null &
+NOISY_DASHBOARD_PID=$!
+
+sleep 2
+echo "--- Quiet tenant ---"
+hey -z "$DURATION" -c "$QUIET_CONCURRENCY" -H "Authorization: Bearer $QUIET_TOKEN" "$BASE_URL/api/v1/programs" | summary
+
+wait $NOISY_PID $NOISY_DASHBOARD_PID
+echo "--- Noisy tenant (decision queue) ---"
+summary < "$NOISY_OUT"
+rm -f "$NOISY_OUT"
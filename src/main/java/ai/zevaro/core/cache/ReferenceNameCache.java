@@ -0,0 +1,231 @@
+package ai.zevaro.core.cache;
+
+import ai.zevaro.core.config.AppConstants;
+import ai.zevaro.core.domain.program.Program;
+import ai.zevaro.core.domain.program.ProgramRepository;
+import ai.zevaro.core.domain.team.Team;
+import ai.zevaro.core.domain.team.TeamRepository;
+import ai.zevaro.core.domain.user.User;
+import ai.zevaro.core.domain.user.UserRepository;
+import ai.zevaro.core.domain.workstream.Workstream;
+import ai.zevaro.core.domain.workstream.WorkstreamRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Two-tier read-through cache for display names of users, programs, workstreams and teams.
+ *
+ * - L1: bounded, short-lived Caffeine cache per node
+ * - L2: Redis, shared across nodes, keyed by type, tenant and ID
+ * - Falls back to the database when Redis is unavailable and skips L2 for a short
+ *   back-off window rather than failing every lookup against a dead connection
+ * - Invalidated after commit from the owning services' save/delete paths
+ *
+ * Metrics: {@code cache.*{cache=reference.names}} for L1 and {@code zevaro.reference.cache.l2}
+ * (tagged by type and result) for L2.
+ */
+@Service
+@Slf4j
+public class ReferenceNameCache {
+
+    private static final String KEY_PREFIX = "zevaro:ref:";
+    private static final String METRIC_NAME = "zevaro.reference.cache.l2";
+    private static final Duration REDIS_TTL = Duration.ofMinutes(AppConstants.REFERENCE_CACHE_REDIS_TTL_MINUTES);
+    private static final Duration REDIS_RETRY = Duration.ofSeconds(AppConstants.REFERENCE_CACHE_REDIS_RETRY_SECONDS);
+
+    private final UserRepository userRepository;
+    private final ProgramRepository programRepository;
+    private final WorkstreamRepository workstreamRepository;
+    private final TeamRepository teamRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    private final Cache<String, String> localCache;
+    private final AtomicReference<Instant> redisDownUntil = new AtomicReference<>(null);
+
+    private final Map<ReferenceType, Counter> l2Hits = new EnumMap<>(ReferenceType.class);
+    private final Map<ReferenceType, Counter> l2Misses = new EnumMap<>(ReferenceType.class);
+    private final Counter l2Errors;
+
+    public ReferenceNameCache(UserRepository userRepository,
+                              ProgramRepository programRepository,
+                              WorkstreamRepository workstreamRepository,
+                              TeamRepository teamRepository,
+                              StringRedisTemplate redisTemplate,
+                              MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.programRepository = programRepository;
+        this.workstreamRepository = workstreamRepository;
+        this.teamRepository = teamRepository;
+        this.redisTemplate = redisTemplate;
+
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(AppConstants.REFERENCE_CACHE_LOCAL_MAX_SIZE)
+                .expireAfterWrite(Duration.ofSeconds(AppConstants.REFERENCE_CACHE_LOCAL_TTL_SECONDS))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "reference.names");
+
+        for (ReferenceType type : ReferenceType.values()) {
+            l2Hits.put(type, meterRegistry.counter(METRIC_NAME, "type", type.name(), "result", "hit"));
+            l2Misses.put(type, meterRegistry.counter(METRIC_NAME, "type", type.name(), "result", "miss"));
+        }
+        this.l2Errors = meterRegistry.counter(METRIC_NAME, "type", "ANY", "result", "error");
+    }
+
+    public String userName(UUID tenantId, UUID userId) {
+        return getName(ReferenceType.USER, tenantId, userId);
+    }
+
+    public String programName(UUID tenantId, UUID programId) {
+        return getName(ReferenceType.PROGRAM, tenantId, programId);
+    }
+
+    public String workstreamName(UUID tenantId, UUID workstreamId) {
+        return getName(ReferenceType.WORKSTREAM, tenantId, workstreamId);
+    }
+
+    public String teamName(UUID tenantId, UUID teamId) {
+        return getName(ReferenceType.TEAM, tenantId, teamId);
+    }
+
+    /**
+     * Resolve a display name through L1, then Redis, then the database.
+     * Missing entities are not cached so a later create is visible immediately.
+     */
+    public String getName(ReferenceType type, UUID tenantId, UUID id) {
+        if (tenantId == null || id == null) {
+            return null;
+        }
+
+        String key = key(type, tenantId, id);
+        String name = localCache.getIfPresent(key);
+        if (name != null) {
+            return name;
+        }
+
+        name = readRedis(type, key);
+        if (name == null) {
+            name = loadFromDatabase(type, tenantId, id);
+            if (name == null) {
+                return null;
+            }
+            writeRedis(key, name);
+        }
+
+        localCache.put(key, name);
+        return name;
+    }
+
+    /**
+     * Evict an entry from both tiers. When called inside a transaction the eviction runs
+     * after commit, so concurrent readers can't repopulate the cache with the old value.
+     */
+    public void evict(ReferenceType type, UUID tenantId, UUID id) {
+        if (tenantId == null || id == null) {
+            return;
+        }
+
+        String key = key(type, tenantId, id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(key);
+                }
+            });
+        } else {
+            evictNow(key);
+        }
+    }
+
+    private void evictNow(String key) {
+        localCache.invalidate(key);
+        if (!isRedisAvailable()) {
+            return;
+        }
+        try {
+            redisTemplate.delete(key);
+        } catch (DataAccessException e) {
+            handleRedisFailure(e);
+        }
+    }
+
+    private String readRedis(ReferenceType type, String key) {
+        if (!isRedisAvailable()) {
+            return null;
+        }
+        try {
+            String name = redisTemplate.opsForValue().get(key);
+            (name != null ? l2Hits : l2Misses).get(type).increment();
+            return name;
+        } catch (DataAccessException e) {
+            handleRedisFailure(e);
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, String name) {
+        if (!isRedisAvailable()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(key, name, REDIS_TTL);
+        } catch (DataAccessException e) {
+            handleRedisFailure(e);
+        }
+    }
+
+    private boolean isRedisAvailable() {
+        Instant downUntil = redisDownUntil.get();
+        if (downUntil == null) {
+            return true;
+        }
+        if (Instant.now().isAfter(downUntil)) {
+            redisDownUntil.compareAndSet(downUntil, null);
+            return true;
+        }
+        return false;
+    }
+
+    private void handleRedisFailure(DataAccessException e) {
+        l2Errors.increment();
+        Instant retryAt = Instant.now().plus(REDIS_RETRY);
+        if (redisDownUntil.getAndSet(retryAt) == null) {
+            log.warn("Redis unavailable for reference cache, falling back to database for {}s. Error: {}",
+                    REDIS_RETRY.toSeconds(), e.getMessage());
+        }
+    }
+
+    private String loadFromDatabase(ReferenceType type, UUID tenantId, UUID id) {
+        return switch (type) {
+            case USER -> userRepository.findByIdAndTenantId(id, tenantId)
+                    .map(User::getFullName).orElse(null);
+            case PROGRAM -> programRepository.findByIdAndTenantId(id, tenantId)
+                    .map(Program::getName).orElse(null);
+            case WORKSTREAM -> workstreamRepository.findByIdAndTenantId(id, tenantId)
+                    .map(Workstream::getName).orElse(null);
+            case TEAM -> teamRepository.findByIdAndTenantId(id, tenantId)
+                    .map(Team::getName).orElse(null);
+        };
+    }
+
+    private static String key(ReferenceType type, UUID tenantId, UUID id) {
+        return KEY_PREFIX + type.name() + ":" + tenantId + ":" + id;
+    }
+}
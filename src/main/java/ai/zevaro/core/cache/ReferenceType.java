@@ -0,0 +1,8 @@
+package ai.zevaro.core.cache;
+
+public enum ReferenceType {
+    USER,
+    PROGRAM,
+    WORKSTREAM,
+    TEAM
+}
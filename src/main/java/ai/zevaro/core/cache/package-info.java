@@ -0,0 +1,4 @@
+/**
+ * Tenant-scoped read-through caches for low-churn reference data.
+ */
+package ai.zevaro.core.cache;
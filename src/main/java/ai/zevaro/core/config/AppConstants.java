@@ -18,6 +18,146 @@ public final class AppConstants {
     public static final int SLA_NORMAL = 24;
     public static final int SLA_LOW = 72;
 
+    // Reference cache (display names for users, programs, workstreams, teams)
+    public static final int REFERENCE_CACHE_LOCAL_MAX_SIZE = 10_000;
+    public static final int REFERENCE_CACHE_LOCAL_TTL_SECONDS = 60;
+    public static final int REFERENCE_CACHE_REDIS_TTL_MINUTES = 60;
+    public static final int REFERENCE_CACHE_REDIS_RETRY_SECONDS = 30;
+
+    // Search
+    public static final int SEARCH_SNIPPET_LENGTH = 200;
+    public static final int SEARCH_BODY_MAX_CHARS = 100_000;
+    public static final long SEARCH_INDEX_RETRY_INTERVAL_MS = 30_000;
+    public static final int SEARCH_INDEX_RETRY_BATCH_SIZE = 1_000;
+
+    // Audit log writer
+    public static final int AUDIT_QUEUE_CAPACITY = 10_000;
+    public static final int AUDIT_BATCH_SIZE = 200;
+    public static final int AUDIT_FLUSH_INTERVAL_MS = 250;
+    public static final int AUDIT_ENQUEUE_TIMEOUT_MS = 50;
+    public static final int AUDIT_WRITE_MAX_ATTEMPTS = 3;
+    public static final long AUDIT_RETRY_BACKOFF_MS = 200;
+    public static final long AUDIT_RETRY_MAX_BACKOFF_MS = 5_000;
+
+    // Event outbox
+    public static final int OUTBOX_BATCH_SIZE = 500;
+    public static final long OUTBOX_POLL_INTERVAL_MS = 1_000;
+    public static final long OUTBOX_CLEANUP_INTERVAL_MS = 3_600_000;
+    public static final int OUTBOX_RETENTION_DAYS = 7;
+    public static final int OUTBOX_MAX_ATTEMPTS = 10;
+
+    // Program dashboard rollups
+    public static final long PROGRAM_METRICS_REFRESH_INTERVAL_MS = 2_000;
+    public static final long PROGRAM_METRICS_RECONCILE_INTERVAL_MS = 60_000;
+    public static final int PROGRAM_METRICS_STALE_SECONDS = 300;
+    public static final int PROGRAM_METRICS_RECONCILE_BATCH_SIZE = 100;
+
+    // Decision SLA engine
+    public static final int SLA_SHARD_COUNT = 16;
+    public static final long SLA_TICK_MS = 1_000;
+    public static final int SLA_WHEEL_SIZE = 60;
+    public static final int SLA_LOAD_INTERVAL_SECONDS = 30;
+    public static final int SLA_LOAD_HORIZON_MINUTES = 15;
+    public static final int SLA_LEASE_TTL_SECONDS = 90;
+    public static final int SLA_BATCH_SIZE = 200;
+
+    // Streaming exports
+    public static final int EXPORT_FETCH_SIZE = 1_000;
+    public static final int EXPORT_BUFFER_BYTES = 64 * 1024;
+    public static final int EXPORT_MAX_CONCURRENT = 4;
+    public static final int EXPORT_QUEUE_CAPACITY = 16;
+    public static final long EXPORT_TIMEOUT_MS = 3_600_000;
+
+    // Bulk decision operations
+    public static final int DECISION_BULK_MAX_ITEMS = 500;
+
+    // Requirement dependency graph
+    public static final int REQUIREMENT_GRAPH_CACHE_MAX_TENANTS = 500;
+    public static final int REQUIREMENT_GRAPH_CACHE_TTL_SECONDS = 300;
+
+    // Verified JWT cache
+    public static final int JWT_CACHE_MAX_SIZE = 100_000;
+    public static final int JWT_REVOCATION_RETRY_SECONDS = 5;
+    public static final int PERMISSION_SET_INTERN_MAX_SIZE = 1_000;
+
+    // Rate limiting
+    public static final int RATE_LIMIT_LOGIN_PER_MINUTE = 5;
+    public static final int RATE_LIMIT_AUTH_PER_MINUTE = 10;
+    public static final int RATE_LIMIT_LOCAL_MAX_BUCKETS = 100_000;
+    public static final int RATE_LIMIT_LOCAL_IDLE_MINUTES = 10;
+    public static final long RATE_LIMIT_REDIS_TIMEOUT_MS = 200;
+    public static final int RATE_LIMIT_REDIS_RETRY_SECONDS = 30;
+
+    // External ticket ingestion
+    public static final int TICKET_INGEST_QUEUE_CAPACITY = 20_000;
+    public static final int TICKET_INGEST_BATCH_SIZE = 500;
+    public static final int TICKET_INGEST_FLUSH_INTERVAL_MS = 500;
+    public static final int TICKET_INGEST_MAX_BATCH_ITEMS = 1_000;
+    public static final int TICKET_INGEST_RETRY_AFTER_SECONDS = 5;
+    public static final int TICKET_INGEST_FLUSH_MAX_ATTEMPTS = 5;
+    public static final long TICKET_INGEST_FLUSH_BACKOFF_MS = 1_000;
+
+    // Attachments
+    public static final long ATTACHMENT_GC_INTERVAL_MS = 600_000;
+    public static final int ATTACHMENT_GC_GRACE_MINUTES = 60;
+    public static final int ATTACHMENT_GC_BATCH_SIZE = 200;
+    public static final int ATTACHMENT_STAGING_MAX_AGE_MINUTES = 60;
+
+    // Document versions
+    public static final int DOCUMENT_VERSION_SNAPSHOT_INTERVAL = 20;
+    public static final int DOCUMENT_DIFF_MAX_EDITS = 1_000;
+    public static final int DOCUMENT_DIFF_CONTEXT_LINES = 3;
+
+    // Read fan-out for aggregate endpoints
+    public static final int FAN_OUT_MAX_CONCURRENCY_PER_REQUEST = 3;
+    public static final int FAN_OUT_PLATFORM_POOL_SIZE = 16;
+    public static final int FAN_OUT_QUEUE_CAPACITY = 256;
+
+    // Tenant bulkheads
+    public static final int TENANT_BULKHEAD_REQUESTS_PER_CONNECTION = 2;
+    public static final int TENANT_BULKHEAD_TENANT_PERCENT = 25;
+    public static final int TENANT_BULKHEAD_REPORT_POOL_PERCENT = 10;
+    public static final int TENANT_BULKHEAD_IDLE_MINUTES = 10;
+    public static final long TENANT_BULKHEAD_SWEEP_INTERVAL_MS = 60_000;
+    public static final int TENANT_BULKHEAD_CONTENTION_PERCENT = 75;
+    public static final int TENANT_BULKHEAD_RETRY_AFTER_SECONDS = 1;
+    public static final int QUERY_TIMEOUT_RETRY_AFTER_SECONDS = 5;
+
+    // Entity link graph
+    public static final int LINK_GRAPH_DEFAULT_DEPTH = 2;
+    public static final int LINK_GRAPH_MAX_DEPTH = 5;
+    public static final int LINK_GRAPH_MAX_FAN_OUT = 50;
+    public static final int LINK_GRAPH_MAX_NODES = 500;
+    public static final int LINK_GRAPH_MAX_LINKS_PER_HOP = 2_000;
+
+    // Decision queue index
+    public static final int DECISION_QUEUE_INDEX_MAX_DECISIONS = 200_000;
+    public static final int DECISION_QUEUE_INDEX_MAX_OPEN = 5_000;
+    public static final int DECISION_QUEUE_RECENTLY_DECIDED_LIMIT = 50;
+    public static final int DECISION_QUEUE_INDEX_REBUILD_MINUTES = 15;
+    public static final int DECISION_QUEUE_INDEX_AVG_REFRESH_SECONDS = 60;
+    public static final int DECISION_QUEUE_INDEX_REFRESH_QUEUE_CAPACITY = 10_000;
+    public static final int DECISION_QUEUE_INDEX_REFRESH_BATCH_SIZE = 500;
+
+    // Activity stream
+    public static final int ACTIVITY_STREAM_FLUSH_INTERVAL_MS = 250;
+    public static final int ACTIVITY_STREAM_QUEUE_CAPACITY = 10_000;
+    public static final int ACTIVITY_STREAM_BUFFER_SIZE = 256;
+    public static final int ACTIVITY_STREAM_MAX_FRAME_ITEMS = 100;
+    public static final int ACTIVITY_STREAM_REPLAY_SIZE = 500;
+    public static final int ACTIVITY_STREAM_REPLAY_MAX_TENANTS = 1_000;
+    public static final int ACTIVITY_STREAM_REPLAY_IDLE_MINUTES = 10;
+    public static final int ACTIVITY_STREAM_MAX_SUBSCRIBERS_PER_TENANT = 200;
+    public static final int ACTIVITY_STREAM_HEARTBEAT_SECONDS = 15;
+    public static final int ACTIVITY_STREAM_TIMEOUT_MINUTES = 30;
+
+    // Stakeholder metrics
+    public static final int STAKEHOLDER_LEADERBOARD_SIZE = 10;
+    public static final int STAKEHOLDER_ATTENTION_PENDING_THRESHOLD = 2;
+    public static final double STAKEHOLDER_ATTENTION_RESPONSE_HOURS = 24;
+    public static final int STAKEHOLDER_STATS_WINDOW_DAYS = 90;
+    public static final int STAKEHOLDER_MONTHLY_BUCKETS = 6;
+
     // Validation
     public static final int TITLE_MAX_LENGTH = 500;
     public static final int DESCRIPTION_MAX_LENGTH = 10000;
@@ -1,9 +1,43 @@
 package ai.zevaro.core.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.type.format.jackson.JacksonJsonFormatMapper;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import javax.sql.DataSource;
+
 @Configuration
 @EnableJpaAuditing
 public class JpaConfig {
+
+    /**
+     * Wrap the pool so per-request statement timeouts apply to every query.
+     */
+    @Bean
+    public static BeanPostProcessor statementTimeoutDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementTimeoutDataSource)) {
+                    return new StatementTimeoutDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Read and write JSON columns with the application's ObjectMapper, so they (de)serialize the same
+     * way as API payloads.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jsonFormatMapperCustomizer(ObjectMapper objectMapper) {
+        return properties -> properties.put(AvailableSettings.JSON_FORMAT_MAPPER,
+                new JacksonJsonFormatMapper(objectMapper));
+    }
 }
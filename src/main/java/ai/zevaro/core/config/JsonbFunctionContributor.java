@@ -0,0 +1,25 @@
+package ai.zevaro.core.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers {@code jsonb_contains(column, json)} for JPQL and criteria queries. It renders as the
+ * {@code @>} operator rather than the function of the same name, because only the operator can use
+ * a GIN index. Registered through {@code META-INF/services}.
+ */
+public class JsonbFunctionContributor implements FunctionContributor {
+
+    public static final String JSONB_CONTAINS = "jsonb_contains";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry()
+                .patternDescriptorBuilder(JSONB_CONTAINS, "(?1 @> cast(?2 as jsonb))")
+                .setExactArgumentCount(2)
+                .setInvariantType(functionContributions.getTypeConfiguration()
+                        .getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN))
+                .register();
+    }
+}
@@ -52,6 +52,9 @@ public class KafkaConfig {
         config.put(ProducerConfig.RETRY_BACKOFF_MS_CONFIG, 1000);
         config.put(ProducerConfig.RETRIES_CONFIG, 3);
 
+        // Let bursts (e.g. a flushed audit batch) share produce requests
+        config.put(ProducerConfig.LINGER_MS_CONFIG, 10);
+
         log.info("Kafka producer configured with defensive settings: bootstrap={}", bootstrapServers);
 
         return new DefaultKafkaProducerFactory<>(config);
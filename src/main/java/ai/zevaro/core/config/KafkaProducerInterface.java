@@ -1,9 +1,17 @@
 package ai.zevaro.core.config;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface KafkaProducerInterface {
 
     void send(String topic, String key, Object event);
 
+    /**
+     * Send an event and complete once the broker acknowledged it. Fails fast (without
+     * counting a drop) while the circuit breaker is open, so the caller can retry later.
+     */
+    CompletableFuture<Void> sendAndConfirm(String topic, String key, Object event);
+
     long getDroppedEventCount();
 
     boolean isCircuitBreakerOpen();
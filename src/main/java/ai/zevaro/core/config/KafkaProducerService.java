@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -48,7 +49,7 @@ public class KafkaProducerService implements KafkaProducerInterface {
      * Send an event to Kafka with circuit breaker protection.
      *
      * @param topic the Kafka topic
-     * @param key the message key (usually tenant ID)
+     * @param key the message key (usually the ID of the entity the event is about)
      * @param event the event payload
      */
     public void send(String topic, String key, Object event) {
@@ -74,6 +75,31 @@ public class KafkaProducerService implements KafkaProducerInterface {
         }
     }
 
+    /**
+     * Send an event and complete once Kafka acknowledged it.
+     * While the circuit is open the returned future fails immediately and nothing is counted
+     * as dropped: the caller (the outbox relay) keeps the event and retries it later.
+     */
+    public CompletableFuture<Void> sendAndConfirm(String topic, String key, Object event) {
+        if (isCircuitOpen()) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Kafka circuit breaker is open"));
+        }
+
+        try {
+            return kafkaTemplate.send(topic, key, event).handle((result, ex) -> {
+                if (ex != null) {
+                    handleFailure(topic, ex);
+                    throw new CompletionException(ex);
+                }
+                handleSuccess();
+                return null;
+            });
+        } catch (Exception e) {
+            handleFailure(topic, e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     private boolean isCircuitOpen() {
         Instant openedAt = circuitOpenedAt.get();
         if (openedAt == null) {
@@ -4,6 +4,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -29,6 +30,12 @@ public class KafkaProducerServiceNoOp implements KafkaProducerInterface {
         log.debug("Kafka disabled - dropping event #{} for topic: {}", count, topic);
     }
 
+    @Override
+    public CompletableFuture<Void> sendAndConfirm(String topic, String key, Object event) {
+        send(topic, key, event);
+        return CompletableFuture.completedFuture(null);
+    }
+
     @Override
     public long getDroppedEventCount() {
         return droppedCount.get();
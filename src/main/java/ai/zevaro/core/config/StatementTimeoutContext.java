@@ -0,0 +1,30 @@
+package ai.zevaro.core.config;
+
+/**
+ * Statement timeout for database work done on the current thread, set per request by
+ * {@link ai.zevaro.core.security.TenantBulkheadFilter} and applied by {@link StatementTimeoutDataSource}.
+ * Work handed to other threads for a request (fan-out reads, exports) carries it over; background
+ * jobs run without one.
+ */
+public class StatementTimeoutContext {
+
+    private static final ThreadLocal<Integer> currentTimeoutSeconds = new ThreadLocal<>();
+
+    private StatementTimeoutContext() {}
+
+    public static void setTimeoutSeconds(Integer seconds) {
+        if (seconds == null) {
+            currentTimeoutSeconds.remove();
+        } else {
+            currentTimeoutSeconds.set(seconds);
+        }
+    }
+
+    public static Integer getTimeoutSeconds() {
+        return currentTimeoutSeconds.get();
+    }
+
+    public static void clear() {
+        currentTimeoutSeconds.remove();
+    }
+}
@@ -0,0 +1,59 @@
+package ai.zevaro.core.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Applies the {@link StatementTimeoutContext} timeout to every statement created on connections
+ * borrowed while it is set, whether the statement comes from Hibernate or a {@code JdbcTemplate}.
+ * A statement that already has a timeout (a JPA query hint, a transaction timeout) keeps it.
+ * Connections borrowed without a timeout are returned unwrapped.
+ */
+public class StatementTimeoutDataSource extends DelegatingDataSource {
+
+    public StatementTimeoutDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return withTimeouts(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return withTimeouts(super.getConnection(username, password));
+    }
+
+    private static Connection withTimeouts(Connection connection) {
+        Integer timeoutSeconds = StatementTimeoutContext.getTimeoutSeconds();
+        if (timeoutSeconds == null || timeoutSeconds <= 0) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(StatementTimeoutDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("equals")) {
+                        return proxy == args[0];
+                    }
+                    if (method.getName().equals("hashCode")) {
+                        return System.identityHashCode(proxy);
+                    }
+                    Object result;
+                    try {
+                        result = method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (result instanceof Statement statement && statement.getQueryTimeout() == 0) {
+                        statement.setQueryTimeout(timeoutSeconds);
+                    }
+                    return result;
+                });
+    }
+}
@@ -1,18 +1,23 @@
 package ai.zevaro.core.domain.activity;
 
+import ai.zevaro.core.config.AppConstants;
 import ai.zevaro.core.domain.activity.dto.ActivityEvent;
+import ai.zevaro.core.domain.common.dto.CursorPage;
 import ai.zevaro.core.security.CurrentUser;
 import ai.zevaro.core.security.UserPrincipal;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.UUID;
 
@@ -23,6 +28,7 @@ import java.util.UUID;
 public class ActivityController {
 
     private final ActivityService activityService;
+    private final ActivityStreamHub activityStreamHub;
 
     @GetMapping
     @PreAuthorize("hasRole('TENANT_OWNER') or hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('program:read')")
@@ -35,4 +41,34 @@ public class ActivityController {
         return ResponseEntity.ok(activityService.getActivity(
                 principal.getTenantId(), programId, workstreamId, entityType, pageable));
     }
+
+    @GetMapping("/cursor")
+    @PreAuthorize("hasRole('TENANT_OWNER') or hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('program:read')")
+    public ResponseEntity<CursorPage<ActivityEvent>> getActivityByCursor(
+            @RequestParam(required = false) UUID programId,
+            @RequestParam(required = false) UUID workstreamId,
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @CurrentUser UserPrincipal principal) {
+        return ResponseEntity.ok(activityService.getActivity(
+                principal.getTenantId(), programId, workstreamId, entityType, cursor,
+                Math.max(1, Math.min(size, AppConstants.MAX_PAGE_SIZE))));
+    }
+
+    /**
+     * Live feed of audit entries ({@code source=audit}) and domain events ({@code source=event}) as
+     * server-sent events. Each {@code activity} event carries a batch of items; reconnecting with
+     * {@code Last-Event-ID} resumes after the last one received.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('TENANT_OWNER') or hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('program:read')")
+    public SseEmitter streamActivity(
+            @RequestParam(required = false) UUID programId,
+            @RequestParam(required = false) UUID workstreamId,
+            @RequestParam(required = false) String entityType,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @CurrentUser UserPrincipal principal) {
+        return activityStreamHub.subscribe(principal.getTenantId(), programId, workstreamId, entityType, lastEventId);
+    }
 }
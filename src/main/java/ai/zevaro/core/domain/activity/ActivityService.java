@@ -2,7 +2,9 @@ package ai.zevaro.core.domain.activity;
 
 import ai.zevaro.core.domain.activity.dto.ActivityEvent;
 import ai.zevaro.core.domain.audit.AuditLog;
-import ai.zevaro.core.domain.audit.AuditLogRepository;
+import ai.zevaro.core.domain.audit.AuditService;
+import ai.zevaro.core.domain.audit.dto.AuditLogFilter;
+import ai.zevaro.core.domain.common.dto.CursorPage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -15,24 +17,26 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ActivityService {
 
-    private final AuditLogRepository auditLogRepository;
+    private final AuditService auditService;
 
     @Transactional(readOnly = true)
     public Page<ActivityEvent> getActivity(UUID tenantId, UUID programId, UUID workstreamId,
                                             String entityType, Pageable pageable) {
-        Page<AuditLog> logs;
-
-        if (entityType != null && !entityType.isBlank()) {
-            logs = auditLogRepository.findByTenantIdAndEntityTypeOrderByTimestampDesc(
-                    tenantId, entityType, pageable);
-        } else {
-            logs = auditLogRepository.findByTenantIdOrderByTimestampDesc(tenantId, pageable);
-        }
+        return auditService.searchAuditLogs(tenantId, filter(programId, workstreamId, entityType), pageable)
+                .map(ActivityService::toActivityEvent);
+    }
 
-        return logs.map(this::toActivityEvent);
+    @Transactional(readOnly = true)
+    public CursorPage<ActivityEvent> getActivity(UUID tenantId, UUID programId, UUID workstreamId,
+                                                 String entityType, String cursor, int size) {
+        CursorPage<AuditLog> logs = auditService.getAuditLogs(
+                tenantId, filter(programId, workstreamId, entityType), cursor, size);
+        return new CursorPage<>(
+                logs.content().stream().map(ActivityService::toActivityEvent).toList(),
+                logs.size(), logs.nextCursor(), logs.hasNext());
     }
 
-    private ActivityEvent toActivityEvent(AuditLog log) {
+    static ActivityEvent toActivityEvent(AuditLog log) {
         return new ActivityEvent(
                 log.getId(),
                 log.getActorId(),
@@ -45,4 +49,9 @@ public class ActivityService {
                 log.getDescription()
         );
     }
+
+    private static AuditLogFilter filter(UUID programId, UUID workstreamId, String entityType) {
+        return new AuditLogFilter(null, entityType != null && !entityType.isBlank() ? entityType : null,
+                null, null, null, null, programId, workstreamId);
+    }
 }
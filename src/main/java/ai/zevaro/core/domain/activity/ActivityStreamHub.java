@@ -0,0 +1,553 @@
+package ai.zevaro.core.domain.activity;
+
+import ai.zevaro.core.config.AppConstants;
+import ai.zevaro.core.domain.activity.dto.ActivityStreamFrame;
+import ai.zevaro.core.domain.activity.dto.ActivityStreamItem;
+import ai.zevaro.core.domain.audit.AuditLog;
+import ai.zevaro.core.event.outbox.OutboxEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Pushes audit entries and domain events to activity feed subscribers over server-sent events.
+ *
+ * - {@link ai.zevaro.core.domain.audit.AuditLogWriter} reports entries once written and
+ *   {@link ai.zevaro.core.event.EventPublisher} reports events after commit; both only enqueue
+ * - A single thread collects everything reported in each {@link AppConstants#ACTIVITY_STREAM_FLUSH_INTERVAL_MS}
+ *   ms window, so a burst reaches each subscriber as one frame of up to
+ *   {@link AppConstants#ACTIVITY_STREAM_MAX_FRAME_ITEMS} items
+ * - Subscribers filter by program, workstream and entity type; the tenant is the caller's. Scope
+ *   comes from the audit entry or the event payload; comments, attachments, entity links and
+ *   portfolios have none, so they only reach subscribers without a program or workstream filter
+ * - Each subscriber buffers at most {@link AppConstants#ACTIVITY_STREAM_BUFFER_SIZE} items and
+ *   has at most one send in flight, on its own virtual thread. A slow client loses its oldest
+ *   items (the next frame reports how many) and never holds up the others
+ * - The last {@link AppConstants#ACTIVITY_STREAM_REPLAY_SIZE} items per tenant are kept, so a
+ *   client reconnecting with {@code Last-Event-ID} gets what it missed; when that id is no longer
+ *   held it gets a {@code reset} event and should reload the feed
+ * - Items are relayed to other nodes over Redis, so a client sees activity from every node and can
+ *   resume on any of them. Nodes may order concurrent items differently
+ *
+ * Metrics: {@code zevaro.activity.stream.subscribers}, {@code zevaro.activity.stream.frames},
+ * {@code zevaro.activity.stream.dropped}, {@code zevaro.activity.stream.rejected} and
+ * {@code zevaro.activity.stream.resets}.
+ */
+@Component
+@Slf4j
+public class ActivityStreamHub implements SmartLifecycle {
+
+    private static final String ACTIVITY_CHANNEL = "zevaro:activity:stream";
+    private static final String SOURCE_AUDIT = "audit";
+    private static final String SOURCE_EVENT = "event";
+
+    private record Pending(UUID tenantId, Supplier<ActivityStreamItem> item, boolean local) {}
+
+    private record RemoteBatch(String nodeId, UUID tenantId, List<ActivityStreamItem> items) {}
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final BlockingQueue<Pending> pending =
+            new ArrayBlockingQueue<>(AppConstants.ACTIVITY_STREAM_QUEUE_CAPACITY);
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Cache<UUID, ReplayRing> replay;
+
+    private final Counter framesCounter;
+    private final Counter droppedCounter;
+    private final Counter rejectedCounter;
+    private final Counter resetsCounter;
+
+    private volatile boolean running;
+    private Thread flushThread;
+    private ExecutorService sender;
+
+    public ActivityStreamHub(StringRedisTemplate redisTemplate,
+                             RedisMessageListenerContainer listenerContainer,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+
+        this.replay = Caffeine.newBuilder()
+                .maximumSize(AppConstants.ACTIVITY_STREAM_REPLAY_MAX_TENANTS)
+                .expireAfterAccess(Duration.ofMinutes(AppConstants.ACTIVITY_STREAM_REPLAY_IDLE_MINUTES))
+                .build();
+
+        meterRegistry.gauge("zevaro.activity.stream.subscribers", subscriberCount);
+        this.framesCounter = meterRegistry.counter("zevaro.activity.stream.frames");
+        this.droppedCounter = meterRegistry.counter("zevaro.activity.stream.dropped");
+        this.rejectedCounter = meterRegistry.counter("zevaro.activity.stream.rejected");
+        this.resetsCounter = meterRegistry.counter("zevaro.activity.stream.resets");
+
+        listenerContainer.addMessageListener(this::onRemoteBatch, new ChannelTopic(ACTIVITY_CHANNEL));
+    }
+
+    /**
+     * Open a stream of the tenant's activity. {@code lastEventId} is the id of the last frame the
+     * client received, if it is resuming.
+     *
+     * @throws IllegalStateException if the tenant already has the maximum number of subscribers
+     */
+    public SseEmitter subscribe(UUID tenantId, UUID programId, UUID workstreamId, String entityType,
+                                String lastEventId) {
+        if (!running) {
+            throw new IllegalStateException("Activity stream is not available");
+        }
+        Set<Subscriber> tenantSubscribers = subscribers.computeIfAbsent(tenantId, k -> ConcurrentHashMap.newKeySet());
+        if (tenantSubscribers.size() >= AppConstants.ACTIVITY_STREAM_MAX_SUBSCRIBERS_PER_TENANT) {
+            throw new IllegalStateException("Too many activity stream subscribers for this tenant");
+        }
+
+        SseEmitter emitter = new SseEmitter(TimeUnit.MINUTES.toMillis(AppConstants.ACTIVITY_STREAM_TIMEOUT_MINUTES));
+        Subscriber subscriber = new Subscriber(tenantId, programId, workstreamId,
+                entityType != null && !entityType.isBlank() ? entityType : null, emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        // Replay and registration happen under the ring's lock, so nothing delivered in between is missed
+        ReplayRing ring = replay.get(tenantId, k -> new ReplayRing());
+        synchronized (ring) {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                List<ActivityStreamItem> missed = ring.after(parseId(lastEventId));
+                if (missed == null) {
+                    subscriber.reset = true;
+                    resetsCounter.increment();
+                } else {
+                    missed.stream().filter(subscriber::matches).forEach(subscriber::offer);
+                }
+            }
+            tenantSubscribers.add(subscriber);
+            subscriberCount.incrementAndGet();
+        }
+
+        // Send something straight away so the client sees the stream open
+        if (subscriber.claim(true)) {
+            sender.execute(() -> subscriber.drain(true));
+        }
+        return emitter;
+    }
+
+    /**
+     * Report audit entries that have been written. Never blocks; entries that don't fit in the
+     * queue are not streamed.
+     */
+    public void publishAudit(List<AuditLog> auditLogs) {
+        for (AuditLog auditLog : auditLogs) {
+            enqueue(new Pending(auditLog.getTenantId(), () -> fromAudit(auditLog), true));
+        }
+    }
+
+    /**
+     * Report domain events queued in the outbox. Takes effect after commit.
+     */
+    public void publishEvents(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<OutboxEvent> snapshot = List.copyOf(events);
+        afterCommit(() -> {
+            for (OutboxEvent event : snapshot) {
+                enqueue(new Pending(event.getTenantId(), () -> fromEvent(event), true));
+            }
+        });
+    }
+
+    @Override
+    public void start() {
+        sender = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("activity-stream-send-", 0).factory());
+        running = true;
+        flushThread = new Thread(this::flushLoop, "activity-stream");
+        flushThread.setDaemon(true);
+        flushThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        flushThread.interrupt();
+        try {
+            flushThread.join(TimeUnit.SECONDS.toMillis(AppConstants.DEFAULT_TIMEOUT_SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        for (Set<Subscriber> tenantSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : tenantSubscribers) {
+                subscriber.emitter.complete();
+            }
+        }
+        sender.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stop before the web server's graceful shutdown, which would otherwise wait for open streams
+     * to time out. Clients reconnect to another node and resume from their last event id.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 512;
+    }
+
+    private void enqueue(Pending item) {
+        if (!running) {
+            return;
+        }
+        if (!pending.offer(item)) {
+            rejectedCounter.increment();
+        }
+    }
+
+    private void flushLoop() {
+        long heartbeatNanos = TimeUnit.SECONDS.toNanos(AppConstants.ACTIVITY_STREAM_HEARTBEAT_SECONDS);
+        long nextHeartbeat = System.nanoTime() + heartbeatNanos;
+        while (running) {
+            try {
+                Thread.sleep(AppConstants.ACTIVITY_STREAM_FLUSH_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            boolean heartbeat = System.nanoTime() - nextHeartbeat >= 0;
+            if (heartbeat) {
+                nextHeartbeat = System.nanoTime() + heartbeatNanos;
+            }
+            try {
+                flush(heartbeat);
+            } catch (RuntimeException e) {
+                log.error("Activity stream flush failed: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void flush(boolean heartbeat) {
+        List<Pending> batch = new ArrayList<>();
+        pending.drainTo(batch);
+
+        Map<UUID, List<ActivityStreamItem>> byTenant = new LinkedHashMap<>();
+        Map<UUID, List<ActivityStreamItem>> local = new LinkedHashMap<>();
+        for (Pending p : batch) {
+            ActivityStreamItem item = p.item().get();
+            if (item == null) {
+                continue;
+            }
+            byTenant.computeIfAbsent(p.tenantId(), k -> new ArrayList<>()).add(item);
+            if (p.local()) {
+                local.computeIfAbsent(p.tenantId(), k -> new ArrayList<>()).add(item);
+            }
+        }
+        byTenant.forEach(this::deliver);
+        local.forEach(this::broadcast);
+
+        for (Set<Subscriber> tenantSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : tenantSubscribers) {
+                if (subscriber.claim(heartbeat)) {
+                    sender.execute(() -> subscriber.drain(heartbeat));
+                }
+            }
+        }
+    }
+
+    private void deliver(UUID tenantId, List<ActivityStreamItem> items) {
+        ReplayRing ring = replay.get(tenantId, k -> new ReplayRing());
+        synchronized (ring) {
+            items.forEach(ring::add);
+            Set<Subscriber> tenantSubscribers = subscribers.get(tenantId);
+            if (tenantSubscribers == null) {
+                return;
+            }
+            for (Subscriber subscriber : tenantSubscribers) {
+                for (ActivityStreamItem item : items) {
+                    if (subscriber.matches(item)) {
+                        subscriber.offer(item);
+                    }
+                }
+            }
+        }
+    }
+
+    private void broadcast(UUID tenantId, List<ActivityStreamItem> items) {
+        try {
+            redisTemplate.convertAndSend(ACTIVITY_CHANNEL,
+                    objectMapper.writeValueAsString(new RemoteBatch(nodeId, tenantId, items)));
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.debug("Could not relay activity for tenant {}: {}", tenantId, e.getMessage());
+        }
+    }
+
+    private void onRemoteBatch(Message message, byte[] pattern) {
+        RemoteBatch batch;
+        try {
+            batch = objectMapper.readValue(message.getBody(), RemoteBatch.class);
+        } catch (IOException e) {
+            log.warn("Ignoring malformed activity stream message: {}",
+                    new String(message.getBody(), StandardCharsets.UTF_8));
+            return;
+        }
+        if (nodeId.equals(batch.nodeId()) || batch.items() == null) {
+            return;
+        }
+        for (ActivityStreamItem item : batch.items()) {
+            enqueue(new Pending(batch.tenantId(), () -> item, false));
+        }
+    }
+
+    private ActivityStreamItem fromAudit(AuditLog auditLog) {
+        return new ActivityStreamItem(
+                auditLog.getId(),
+                SOURCE_AUDIT,
+                auditLog.getAction() != null ? auditLog.getAction().name() : null,
+                auditLog.getEntityType(),
+                auditLog.getEntityId(),
+                auditLog.getProgramId(),
+                auditLog.getWorkstreamId(),
+                auditLog.getTimestamp(),
+                ActivityService.toActivityEvent(auditLog));
+    }
+
+    /**
+     * Event types are {@code entity.change} and payloads name the entity's id {@code entityId},
+     * e.g. {@code ticketId} on {@code ticket.created}, and carry {@code programId} and
+     * {@code workstreamId} when the entity belongs to one.
+     */
+    private ActivityStreamItem fromEvent(OutboxEvent event) {
+        JsonNode payload;
+        try {
+            payload = objectMapper.readTree(event.getPayload());
+        } catch (JsonProcessingException e) {
+            log.debug("Not streaming event {}: {}", event.getEventId(), e.getMessage());
+            return null;
+        }
+        String type = event.getEventType();
+        int separator = type.indexOf('.');
+        String entity = separator > 0 ? type.substring(0, separator) : type;
+        return new ActivityStreamItem(
+                event.getEventId(),
+                SOURCE_EVENT,
+                type,
+                entity.toUpperCase(Locale.ROOT),
+                uuidField(payload, entity + "Id"),
+                uuidField(payload, "programId"),
+                uuidField(payload, "workstreamId"),
+                event.getCreatedAt(),
+                payload);
+    }
+
+    private static UUID uuidField(JsonNode payload, String field) {
+        JsonNode value = payload.get(field);
+        if (value == null || !value.isTextual()) {
+            return null;
+        }
+        return parseId(value.asText());
+    }
+
+    private static UUID parseId(String value) {
+        try {
+            return UUID.fromString(value.trim());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * The tenant's most recent items, oldest first. Guarded by its own monitor.
+     */
+    private static final class ReplayRing {
+        private final ArrayDeque<ActivityStreamItem> items = new ArrayDeque<>(AppConstants.ACTIVITY_STREAM_REPLAY_SIZE);
+
+        void add(ActivityStreamItem item) {
+            if (items.size() == AppConstants.ACTIVITY_STREAM_REPLAY_SIZE) {
+                items.pollFirst();
+            }
+            items.addLast(item);
+        }
+
+        /**
+         * Items after {@code id}, oldest first, or null if {@code id} is not held.
+         */
+        List<ActivityStreamItem> after(UUID id) {
+            if (id == null) {
+                return null;
+            }
+            List<ActivityStreamItem> result = new ArrayList<>();
+            Iterator<ActivityStreamItem> newestFirst = items.descendingIterator();
+            while (newestFirst.hasNext()) {
+                ActivityStreamItem item = newestFirst.next();
+                if (id.equals(item.id())) {
+                    Collections.reverse(result);
+                    return result;
+                }
+                result.add(item);
+            }
+            return null;
+        }
+    }
+
+    private final class Subscriber {
+        private final UUID tenantId;
+        private final UUID programId;
+        private final UUID workstreamId;
+        private final String entityType;
+        private final SseEmitter emitter;
+
+        private final ArrayDeque<ActivityStreamItem> buffer = new ArrayDeque<>();
+        private int dropped;
+        private boolean sending;
+        private boolean reset;
+        private volatile boolean closed;
+
+        Subscriber(UUID tenantId, UUID programId, UUID workstreamId, String entityType, SseEmitter emitter) {
+            this.tenantId = tenantId;
+            this.programId = programId;
+            this.workstreamId = workstreamId;
+            this.entityType = entityType;
+            this.emitter = emitter;
+        }
+
+        boolean matches(ActivityStreamItem item) {
+            return (programId == null || programId.equals(item.programId()))
+                    && (workstreamId == null || workstreamId.equals(item.workstreamId()))
+                    && (entityType == null || entityType.equalsIgnoreCase(item.entityType()));
+        }
+
+        synchronized void offer(ActivityStreamItem item) {
+            if (closed) {
+                return;
+            }
+            if (buffer.size() >= AppConstants.ACTIVITY_STREAM_BUFFER_SIZE) {
+                buffer.pollFirst();
+                dropped++;
+                droppedCounter.increment();
+            }
+            buffer.addLast(item);
+        }
+
+        /**
+         * Take the right to send, if there is something to send and no send is in flight.
+         */
+        synchronized boolean claim(boolean heartbeat) {
+            if (closed || sending || (buffer.isEmpty() && !reset && !heartbeat)) {
+                return false;
+            }
+            sending = true;
+            return true;
+        }
+
+        /**
+         * Send everything buffered, one frame at a time; runs on the sender until the buffer is empty.
+         */
+        void drain(boolean heartbeat) {
+            try {
+                boolean sendReset;
+                synchronized (this) {
+                    sendReset = reset;
+                    reset = false;
+                }
+                if (sendReset) {
+                    emitter.send(SseEmitter.event().name("reset").data(""));
+                } else if (heartbeat) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+
+                while (true) {
+                    List<ActivityStreamItem> items;
+                    int droppedSinceLastFrame;
+                    synchronized (this) {
+                        if (buffer.isEmpty() || closed) {
+                            sending = false;
+                            return;
+                        }
+                        int size = Math.min(buffer.size(), AppConstants.ACTIVITY_STREAM_MAX_FRAME_ITEMS);
+                        items = new ArrayList<>(size);
+                        for (int i = 0; i < size; i++) {
+                            items.add(buffer.pollFirst());
+                        }
+                        droppedSinceLastFrame = dropped;
+                        dropped = 0;
+                    }
+                    emitter.send(SseEmitter.event()
+                            .id(items.get(items.size() - 1).id().toString())
+                            .name("activity")
+                            .data(new ActivityStreamFrame(items, droppedSinceLastFrame)));
+                    framesCounter.increment();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; the emitter's completion callback may not fire for a broken connection
+                close();
+            }
+        }
+
+        void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                buffer.clear();
+            }
+            Set<Subscriber> tenantSubscribers = subscribers.get(tenantId);
+            if (tenantSubscribers != null && tenantSubscribers.remove(this)) {
+                subscriberCount.decrementAndGet();
+            }
+        }
+    }
+}
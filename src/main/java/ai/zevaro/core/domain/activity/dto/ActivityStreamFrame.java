@@ -0,0 +1,8 @@
+package ai.zevaro.core.domain.activity.dto;
+
+import java.util.List;
+
+public record ActivityStreamFrame(
+    List<ActivityStreamItem> items,
+    int dropped
+) {}
@@ -0,0 +1,16 @@
+package ai.zevaro.core.domain.activity.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ActivityStreamItem(
+    UUID id,
+    String source,
+    String type,
+    String entityType,
+    UUID entityId,
+    UUID programId,
+    UUID workstreamId,
+    Instant timestamp,
+    Object data
+) {}
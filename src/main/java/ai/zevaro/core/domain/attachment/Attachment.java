@@ -55,6 +55,12 @@ public class Attachment {
     @Column(name = "storage_url", nullable = false, length = 1000)
     private String storageUrl;
 
+    @Column(name = "blob_id")
+    private UUID blobId;
+
+    @Column(length = 64)
+    private String sha256;
+
     @Column(name = "uploaded_by_id", nullable = false)
     private UUID uploadedById;
 
@@ -0,0 +1,54 @@
+package ai.zevaro.core.domain.attachment;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One stored piece of attachment content, shared by every attachment in the tenant with the same
+ * SHA-256. Reference counts are maintained with plain SQL by {@link AttachmentService}, and
+ * unreferenced content is removed by {@link AttachmentBlobCollector}; mapped here so the table is
+ * created with the rest of the schema.
+ */
+@Entity
+@Table(name = "attachment_blobs",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"tenant_id", "sha256"}),
+    indexes = @Index(name = "idx_attachment_blobs_orphaned", columnList = "orphaned_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class AttachmentBlob {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
+    @Column(nullable = false, length = 64)
+    private String sha256;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long sizeBytes;
+
+    @Column(name = "storage_key", nullable = false, length = 200)
+    private String storageKey;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "orphaned_at")
+    private Instant orphanedAt;
+}
@@ -0,0 +1,134 @@
+package ai.zevaro.core.domain.attachment;
+
+import ai.zevaro.core.config.AppConstants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Background removal of attachment content nothing refers to any more.
+ *
+ * - Blobs unreferenced for {@link AppConstants#ATTACHMENT_GC_GRACE_MINUTES} minutes are claimed with
+ *   {@code FOR UPDATE SKIP LOCKED}, so nodes share the work and an upload reviving a blob either
+ *   wins the row first or waits and then re-creates it
+ * - Content is deleted while the row lock is held and the row only after that succeeds, so a
+ *   failed delete is retried on the next run
+ * - Staged uploads left behind by interrupted uploads, both local files and staging keys in
+ *   storage, are removed once {@link AppConstants#ATTACHMENT_STAGING_MAX_AGE_MINUTES} minutes old;
+ *   no blob row ever refers to a staging key
+ *
+ * Metrics: {@code zevaro.attachments.gc.deleted} and {@code zevaro.attachments.gc.failed}.
+ */
+@Component
+@Slf4j
+public class AttachmentBlobCollector {
+
+    private static final String CLAIM_SQL =
+            "SELECT id, storage_key FROM attachment_blobs " +
+            "WHERE ref_count = 0 AND orphaned_at < ? " +
+            "ORDER BY orphaned_at LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String DELETE_SQL = "DELETE FROM attachment_blobs WHERE id = ?";
+
+    private record Orphan(UUID id, String storageKey) {}
+
+    private final AttachmentStorage storage;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Path stagingDir;
+
+    private final Counter deletedCounter;
+    private final Counter failedCounter;
+
+    public AttachmentBlobCollector(AttachmentStorage storage,
+                                   JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${zevaro.attachments.storage-path:./attachments}") String storagePath) {
+        this.storage = storage;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.stagingDir = AttachmentService.stagingDir(storagePath);
+
+        this.deletedCounter = meterRegistry.counter("zevaro.attachments.gc.deleted");
+        this.failedCounter = meterRegistry.counter("zevaro.attachments.gc.failed");
+    }
+
+    @Scheduled(fixedDelay = AppConstants.ATTACHMENT_GC_INTERVAL_MS, initialDelay = AppConstants.ATTACHMENT_GC_INTERVAL_MS)
+    public void collect() {
+        try {
+            int total = 0;
+            Integer deleted;
+            do {
+                deleted = transactionTemplate.execute(status -> collectBatch());
+                total += deleted != null ? deleted : 0;
+            } while (deleted != null && deleted == AppConstants.ATTACHMENT_GC_BATCH_SIZE);
+
+            if (total > 0) {
+                log.info("Removed {} unreferenced attachment blobs", total);
+            }
+            purgeStaging();
+        } catch (Exception e) {
+            log.error("Attachment garbage collection failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private int collectBatch() {
+        Instant cutoff = Instant.now().minus(AppConstants.ATTACHMENT_GC_GRACE_MINUTES, ChronoUnit.MINUTES);
+        List<Orphan> orphans = jdbcTemplate.query(CLAIM_SQL,
+                (rs, rowNum) -> new Orphan(rs.getObject(1, UUID.class), rs.getString(2)),
+                Timestamp.from(cutoff), AppConstants.ATTACHMENT_GC_BATCH_SIZE);
+
+        List<Object[]> removed = new ArrayList<>(orphans.size());
+        for (Orphan orphan : orphans) {
+            try {
+                storage.delete(orphan.storageKey());
+                removed.add(new Object[]{orphan.id()});
+            } catch (IOException | RuntimeException e) {
+                failedCounter.increment();
+                log.warn("Failed to delete attachment content {}: {}", orphan.storageKey(), e.getMessage());
+            }
+        }
+        if (!removed.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_SQL, removed);
+            deletedCounter.increment(removed.size());
+        }
+        return removed.size();
+    }
+
+    private void purgeStaging() throws IOException {
+        Instant cutoff = Instant.now().minus(AppConstants.ATTACHMENT_STAGING_MAX_AGE_MINUTES, ChronoUnit.MINUTES);
+        int staged = storage.deleteStagedBefore(cutoff);
+        if (staged > 0) {
+            log.info("Removed {} abandoned staged attachment uploads", staged);
+        }
+
+        if (!Files.isDirectory(stagingDir)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(stagingDir)) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package ai.zevaro.core.domain.attachment;
+
+import java.nio.file.Path;
+
+/**
+ * What a download needs: metadata for the headers and where to read the bytes. Attachments
+ * uploaded before content addressing have no digest and are read from their original path.
+ */
+public record AttachmentContent(
+        String fileName,
+        String fileType,
+        long size,
+        String sha256,
+        String storageKey,
+        Path legacyPath
+) {}
@@ -4,9 +4,11 @@ import ai.zevaro.core.domain.attachment.dto.AttachmentResponse;
 import ai.zevaro.core.security.CurrentUser;
 import ai.zevaro.core.security.UserPrincipal;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -15,11 +17,15 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 
@@ -51,20 +57,50 @@ public class AttachmentController {
         return ResponseEntity.ok(attachmentService.getById(id, user.getTenantId()));
     }
 
+    /**
+     * Download an attachment. Honors a single-range {@code Range} header with 206 Partial Content;
+     * multi-range and malformed headers get the whole file. Content-addressed attachments carry
+     * their SHA-256 as a strong ETag.
+     */
     @GetMapping("/{id}/download")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<Resource> download(
+    public void download(
             @PathVariable UUID id,
-            @CurrentUser UserPrincipal user) {
-        AttachmentResponse metadata = attachmentService.getById(id, user.getTenantId());
-        Resource resource = attachmentService.getFileById(id, user.getTenantId());
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String rangeHeader,
+            @CurrentUser UserPrincipal user,
+            HttpServletResponse response) throws IOException {
+        AttachmentContent content = attachmentService.getContent(id, user.getTenantId());
+        long size = content.size();
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (content.sha256() != null) {
+            response.setHeader(HttpHeaders.ETAG, "\"" + content.sha256() + "\"");
+        }
+
+        long start = 0;
+        long length = size;
+        HttpRange range = singleRange(rangeHeader);
+        if (range != null) {
+            try {
+                start = range.getRangeStart(size);
+                length = range.getRangeEnd(size) - start + 1;
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (start + length - 1) + "/" + size);
+        } else {
+            response.setStatus(HttpStatus.OK.value());
+        }
 
-        String contentType = metadata.fileType() != null ? metadata.fileType() : "application/octet-stream";
+        response.setContentType(content.fileType() != null ? content.fileType() : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setContentLengthLong(length);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(content.fileName(), StandardCharsets.UTF_8).build().toString());
 
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + metadata.fileName() + "\"")
-                .contentType(MediaType.parseMediaType(contentType))
-                .body(resource);
+        attachmentService.transferTo(content, start, length, Channels.newChannel(response.getOutputStream()));
     }
 
     @GetMapping("/by-parent/{parentType}/{parentId}")
@@ -84,4 +120,16 @@ public class AttachmentController {
         attachmentService.delete(id, user.getTenantId(), user.getUserId());
         return ResponseEntity.noContent().build();
     }
+
+    private static HttpRange singleRange(String rangeHeader) {
+        if (rangeHeader == null) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
 }
@@ -1,73 +1,143 @@
 package ai.zevaro.core.domain.attachment;
 
+import ai.zevaro.core.cache.ReferenceNameCache;
 import ai.zevaro.core.domain.attachment.dto.AttachmentResponse;
 import ai.zevaro.core.domain.audit.AuditAction;
 import ai.zevaro.core.domain.audit.AuditLogBuilder;
 import ai.zevaro.core.domain.audit.AuditService;
-import ai.zevaro.core.domain.user.User;
-import ai.zevaro.core.domain.user.UserRepository;
 import ai.zevaro.core.exception.ResourceNotFoundException;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.FileSystemResource;
-import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+/**
+ * Attachment uploads, downloads and deletes over content-addressed storage.
+ *
+ * - Uploads are streamed to a staging file while their SHA-256 is computed, then stored once per
+ *   tenant under a key derived from the digest; identical files share one {@link AttachmentBlob}
+ *   with a reference count
+ * - Unless the tenant already holds the content, it is sent to a staging key in storage before the
+ *   transaction opens, so no transaction or row lock waits on a client-sized transfer
+ * - The upload that takes the first reference promotes the staged content into place (a rename or
+ *   server-side copy) while it holds the blob row's lock, so it never races
+ *   {@link AttachmentBlobCollector}; staging keys are deleted after commit, or collected if abandoned
+ * - Deleting an attachment drops a reference; content is removed once unreferenced for a grace period
+ * - Attachments uploaded before content addressing are still read from, and deleted at, their original path
+ *
+ * Metrics: {@code zevaro.attachments.uploads} (tagged stored/deduplicated) and
+ * {@code zevaro.attachments.dedup.bytes}.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class AttachmentService {
 
+    private static final String ACQUIRE_BLOB_SQL =
+            "INSERT INTO attachment_blobs (id, tenant_id, sha256, size_bytes, storage_key, ref_count, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, 1, NOW()) " +
+            "ON CONFLICT (tenant_id, sha256) DO UPDATE SET ref_count = attachment_blobs.ref_count + 1, orphaned_at = NULL " +
+            "RETURNING id, ref_count";
+
+    private static final String BLOB_IN_USE_SQL =
+            "SELECT EXISTS (SELECT 1 FROM attachment_blobs WHERE tenant_id = ? AND sha256 = ? AND ref_count > 0)";
+
+    private static final String RELEASE_BLOB_SQL =
+            "UPDATE attachment_blobs SET ref_count = ref_count - 1, " +
+            "orphaned_at = CASE WHEN ref_count = 1 THEN NOW() ELSE orphaned_at END " +
+            "WHERE id = ?";
+
+    private record StagedUpload(Path path, String sha256, long size) {}
+
+    private record BlobReference(UUID id, int refCount) {}
+
     private final AttachmentRepository attachmentRepository;
-    private final UserRepository userRepository;
+    private final AttachmentStorage storage;
+    private final ReferenceNameCache referenceNameCache;
     private final AuditService auditService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Path stagingDir;
 
-    @Value("${zevaro.attachments.storage-path:./attachments}")
-    private String storagePath;
+    private final Counter storedCounter;
+    private final Counter deduplicatedCounter;
+    private final Counter dedupBytesCounter;
+
+    public AttachmentService(AttachmentRepository attachmentRepository,
+                             AttachmentStorage storage,
+                             ReferenceNameCache referenceNameCache,
+                             AuditService auditService,
+                             JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${zevaro.attachments.storage-path:./attachments}") String storagePath) {
+        this.attachmentRepository = attachmentRepository;
+        this.storage = storage;
+        this.referenceNameCache = referenceNameCache;
+        this.auditService = auditService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.stagingDir = stagingDir(storagePath);
+
+        this.storedCounter = meterRegistry.counter("zevaro.attachments.uploads", "result", "stored");
+        this.deduplicatedCounter = meterRegistry.counter("zevaro.attachments.uploads", "result", "deduplicated");
+        this.dedupBytesCounter = meterRegistry.counter("zevaro.attachments.dedup.bytes");
+    }
+
+    static Path stagingDir(String storagePath) {
+        return Paths.get(storagePath, "staging").toAbsolutePath().normalize();
+    }
 
-    @Transactional
     public AttachmentResponse upload(MultipartFile file, AttachmentParentType parentType, UUID parentId,
                                      UUID tenantId, UUID userId) {
+        StagedUpload staged;
+        try {
+            staged = stage(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store file: " + e.getMessage(), e);
+        }
+
+        String stagingKey = null;
         try {
-            Path dir = Paths.get(storagePath, tenantId.toString(), parentType.name(), parentId.toString());
-            Files.createDirectories(dir);
-
-            String uniqueFileName = UUID.randomUUID() + "_" + file.getOriginalFilename();
-            Path filePath = dir.resolve(uniqueFileName);
-            Files.copy(file.getInputStream(), filePath);
-
-            Attachment attachment = new Attachment();
-            attachment.setTenantId(tenantId);
-            attachment.setParentType(parentType);
-            attachment.setParentId(parentId);
-            attachment.setFileName(file.getOriginalFilename());
-            attachment.setFileType(file.getContentType());
-            attachment.setFileSize(file.getSize());
-            attachment.setStorageUrl(filePath.toAbsolutePath().toString());
-            attachment.setUploadedById(userId);
-
-            attachment = attachmentRepository.save(attachment);
-
-            auditService.log(AuditLogBuilder.create()
-                    .tenant(tenantId)
-                    .actor(userId, null, null)
-                    .action(AuditAction.CREATE)
-                    .entity("Attachment", attachment.getId(), file.getOriginalFilename())
-                    .description("File uploaded to " + parentType + " " + parentId));
-
-            return toResponse(attachment);
+            if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(BLOB_IN_USE_SQL, Boolean.class,
+                    tenantId, staged.sha256()))) {
+                stagingKey = AttachmentStorage.STAGING_PREFIX + tenantId + "/" + UUID.randomUUID();
+                storage.store(stagingKey, staged.path(), staged.size());
+            }
+
+            String promotable = stagingKey;
+            Attachment attachment = transactionTemplate.execute(status ->
+                    persist(file, staged, promotable, parentType, parentId, tenantId, userId));
+            return toResponse(attachment, referenceNameCache.userName(tenantId, userId));
         } catch (IOException e) {
-            throw new RuntimeException("Failed to store file: " + e.getMessage(), e);
+            throw new UncheckedIOException("Failed to store file: " + e.getMessage(), e);
+        } finally {
+            deleteStaged(staged.path());
+            if (stagingKey != null) {
+                deleteStagingKey(stagingKey);
+            }
         }
     }
 
@@ -75,27 +145,53 @@ public class AttachmentService {
     public AttachmentResponse getById(UUID id, UUID tenantId) {
         Attachment attachment = attachmentRepository.findByIdAndTenantId(id, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Attachment", "id", id));
-        return toResponse(attachment);
+        return toResponse(attachment, referenceNameCache.userName(tenantId, attachment.getUploadedById()));
     }
 
     @Transactional(readOnly = true)
-    public Resource getFileById(UUID id, UUID tenantId) {
+    public AttachmentContent getContent(UUID id, UUID tenantId) {
         Attachment attachment = attachmentRepository.findByIdAndTenantId(id, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Attachment", "id", id));
 
+        if (attachment.getBlobId() != null) {
+            return new AttachmentContent(attachment.getFileName(), attachment.getFileType(),
+                    attachment.getFileSize(), attachment.getSha256(), attachment.getStorageUrl(), null);
+        }
+
         Path filePath = Paths.get(attachment.getStorageUrl());
         if (!Files.exists(filePath)) {
             throw new ResourceNotFoundException("Attachment file", "path", attachment.getStorageUrl());
         }
+        try {
+            return new AttachmentContent(attachment.getFileName(), attachment.getFileType(),
+                    Files.size(filePath), null, null, filePath);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read file: " + e.getMessage(), e);
+        }
+    }
 
-        return new FileSystemResource(filePath);
+    /**
+     * Write a byte range of an attachment's content to the target channel.
+     */
+    public void transferTo(AttachmentContent content, long offset, long length, WritableByteChannel target)
+            throws IOException {
+        if (content.legacyPath() != null) {
+            FileSystemAttachmentStorage.transfer(content.legacyPath(), offset, length, target);
+        } else {
+            storage.transferTo(content.storageKey(), offset, length, target);
+        }
     }
 
     @Transactional(readOnly = true)
     public List<AttachmentResponse> listByParent(AttachmentParentType parentType, UUID parentId, UUID tenantId) {
-        return attachmentRepository.findByTenantIdAndParentTypeAndParentIdOrderByCreatedAtDesc(tenantId, parentType, parentId)
-                .stream()
-                .map(this::toResponse)
+        List<Attachment> attachments = attachmentRepository
+                .findByTenantIdAndParentTypeAndParentIdOrderByCreatedAtDesc(tenantId, parentType, parentId);
+
+        // Usually a handful of uploaders across many attachments
+        Map<UUID, String> uploaderNames = new HashMap<>();
+        return attachments.stream()
+                .map(a -> toResponse(a, uploaderNames.computeIfAbsent(a.getUploadedById(),
+                        userId -> referenceNameCache.userName(tenantId, userId))))
                 .toList();
     }
 
@@ -104,11 +200,14 @@ public class AttachmentService {
         Attachment attachment = attachmentRepository.findByIdAndTenantId(id, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Attachment", "id", id));
 
-        try {
-            Path filePath = Paths.get(attachment.getStorageUrl());
-            Files.deleteIfExists(filePath);
-        } catch (IOException e) {
-            log.warn("Failed to delete file from disk: {}", attachment.getStorageUrl(), e);
+        if (attachment.getBlobId() != null) {
+            jdbcTemplate.update(RELEASE_BLOB_SQL, attachment.getBlobId());
+        } else {
+            try {
+                Files.deleteIfExists(Paths.get(attachment.getStorageUrl()));
+            } catch (IOException e) {
+                log.warn("Failed to delete file from disk: {}", attachment.getStorageUrl(), e);
+            }
         }
 
         attachmentRepository.delete(attachment);
@@ -121,10 +220,104 @@ public class AttachmentService {
                 .description("Attachment deleted"));
     }
 
-    private AttachmentResponse toResponse(Attachment attachment) {
-        String uploadedByName = userRepository.findById(attachment.getUploadedById())
-                .map(User::getFullName)
-                .orElse(null);
+    /**
+     * Take a reference to the blob and record the attachment. {@code stagingKey} is null when the
+     * content was already stored before the transaction.
+     */
+    private Attachment persist(MultipartFile file, StagedUpload staged, String stagingKey,
+                               AttachmentParentType parentType, UUID parentId, UUID tenantId, UUID userId) {
+        String storageKey = storageKey(tenantId, staged.sha256());
+        BlobReference blob = jdbcTemplate.queryForObject(ACQUIRE_BLOB_SQL,
+                (rs, rowNum) -> new BlobReference(rs.getObject(1, UUID.class), rs.getInt(2)),
+                UUID.randomUUID(), tenantId, staged.sha256(), staged.size(), storageKey);
+
+        try {
+            // The first reference puts the content in place (a revived orphan may still have it). Without
+            // a staging key the blob was collected after the in-use check; only then is it sent here
+            if (blob.refCount() == 1 && !storage.exists(storageKey)) {
+                if (stagingKey != null) {
+                    storage.promote(stagingKey, storageKey);
+                } else {
+                    storage.store(storageKey, staged.path(), staged.size());
+                }
+                storedCounter.increment();
+            } else {
+                deduplicatedCounter.increment();
+                dedupBytesCounter.increment(staged.size());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store file: " + e.getMessage(), e);
+        }
+
+        Attachment attachment = new Attachment();
+        attachment.setTenantId(tenantId);
+        attachment.setParentType(parentType);
+        attachment.setParentId(parentId);
+        attachment.setFileName(file.getOriginalFilename());
+        attachment.setFileType(file.getContentType());
+        attachment.setFileSize(staged.size());
+        attachment.setStorageUrl(storageKey);
+        attachment.setBlobId(blob.id());
+        attachment.setSha256(staged.sha256());
+        attachment.setUploadedById(userId);
+
+        attachment = attachmentRepository.save(attachment);
+
+        auditService.log(AuditLogBuilder.create()
+                .tenant(tenantId)
+                .actor(userId, null, null)
+                .action(AuditAction.CREATE)
+                .entity("Attachment", attachment.getId(), file.getOriginalFilename())
+                .description("File uploaded to " + parentType + " " + parentId));
+
+        return attachment;
+    }
+
+    /**
+     * Copy the upload to a staging file, computing its digest on the way through.
+     */
+    private StagedUpload stage(MultipartFile file) throws IOException {
+        Files.createDirectories(stagingDir);
+        Path path = Files.createTempFile(stagingDir, "upload-", ".part");
+        MessageDigest digest = sha256();
+        try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+            long size = Files.copy(in, path, StandardCopyOption.REPLACE_EXISTING);
+            return new StagedUpload(path, HexFormat.of().formatHex(digest.digest()), size);
+        } catch (IOException e) {
+            deleteStaged(path);
+            throw e;
+        }
+    }
+
+    private static void deleteStaged(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete staged upload {}: {}", path, e.getMessage());
+        }
+    }
+
+    private void deleteStagingKey(String stagingKey) {
+        try {
+            storage.delete(stagingKey);
+        } catch (IOException e) {
+            log.warn("Failed to delete staged upload {}, left for collection: {}", stagingKey, e.getMessage());
+        }
+    }
+
+    private static String storageKey(UUID tenantId, String sha256) {
+        return tenantId + "/" + sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private AttachmentResponse toResponse(Attachment attachment, String uploadedByName) {
         return new AttachmentResponse(
                 attachment.getId(),
                 attachment.getParentType(),
@@ -132,6 +325,7 @@ public class AttachmentService {
                 attachment.getFileName(),
                 attachment.getFileType(),
                 attachment.getFileSize(),
+                attachment.getSha256(),
                 attachment.getUploadedById(),
                 uploadedByName,
                 attachment.getCreatedAt()
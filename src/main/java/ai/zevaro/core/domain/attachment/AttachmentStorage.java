@@ -0,0 +1,50 @@
+package ai.zevaro.core.domain.attachment;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * Where attachment content lives. Content is immutable and addressed by a key derived from its
+ * SHA-256, so writing the same key twice always writes the same bytes.
+ * <p>
+ * {@link FileSystemAttachmentStorage} is the default; {@link S3AttachmentStorage} is selected with
+ * {@code zevaro.attachments.storage=s3}.
+ */
+public interface AttachmentStorage {
+
+    /**
+     * Keys under this prefix hold uploads whose transaction has not committed yet. No blob row
+     * refers to them; leftovers are removed by {@link #deleteStagedBefore}.
+     */
+    String STAGING_PREFIX = "staging/";
+
+    boolean exists(String key) throws IOException;
+
+    /**
+     * Store a staged file under {@code key}. The staged file may be moved rather than copied;
+     * the caller deletes it afterwards if it is still there.
+     */
+    void store(String key, Path staged, long size) throws IOException;
+
+    /**
+     * Put content already stored under {@code stagingKey} in place under {@code key}, without
+     * sending it again. The staging key may be left behind; the caller deletes it afterwards.
+     */
+    void promote(String stagingKey, String key) throws IOException;
+
+    /**
+     * Delete content under {@link #STAGING_PREFIX} last written before {@code cutoff}.
+     *
+     * @return the number of staged objects deleted
+     */
+    int deleteStagedBefore(Instant cutoff) throws IOException;
+
+    /**
+     * Write {@code length} bytes starting at {@code offset} to {@code target}.
+     */
+    void transferTo(String key, long offset, long length, WritableByteChannel target) throws IOException;
+
+    void delete(String key) throws IOException;
+}
@@ -0,0 +1,121 @@
+package ai.zevaro.core.domain.attachment;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Attachment content on a local or mounted filesystem under {@code <storage-path>/blobs}.
+ *
+ * - Staged uploads are renamed into place, so storing and promoting cost no second copy
+ * - Reads use {@link FileChannel#transferTo}, which hands the copy to the kernel when the target
+ *   allows it and otherwise avoids buffering file content on the heap
+ */
+@Component
+@ConditionalOnProperty(name = "zevaro.attachments.storage", havingValue = "filesystem", matchIfMissing = true)
+@Slf4j
+public class FileSystemAttachmentStorage implements AttachmentStorage {
+
+    private final Path root;
+
+    public FileSystemAttachmentStorage(@Value("${zevaro.attachments.storage-path:./attachments}") String storagePath) {
+        this.root = Paths.get(storagePath, "blobs").toAbsolutePath().normalize();
+        log.info("Attachment content stored under {}", root);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(resolve(key));
+    }
+
+    @Override
+    public void store(String key, Path staged, long size) throws IOException {
+        moveIntoPlace(staged, resolve(key));
+    }
+
+    @Override
+    public void promote(String stagingKey, String key) throws IOException {
+        moveIntoPlace(resolve(stagingKey), resolve(key));
+    }
+
+    @Override
+    public int deleteStagedBefore(Instant cutoff) throws IOException {
+        Path stagingRoot = resolve(STAGING_PREFIX);
+        if (!Files.isDirectory(stagingRoot)) {
+            return 0;
+        }
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(stagingRoot)) {
+            files = walk.filter(Files::isRegularFile).toList();
+        }
+        int deleted = 0;
+        for (Path file : files) {
+            if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff) && Files.deleteIfExists(file)) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    private static void moveIntoPlace(Path staged, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(staged, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // Same key, same bytes
+        } catch (AtomicMoveNotSupportedException e) {
+            // Staging is on another filesystem; copy to a temp name so readers never see a partial file
+            Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+            Files.copy(staged, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public void transferTo(String key, long offset, long length, WritableByteChannel target) throws IOException {
+        transfer(resolve(key), offset, length, target);
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    static void transfer(Path path, long offset, long length, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long position = offset;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, target);
+                if (sent <= 0) {
+                    throw new IOException("Attachment content ended early: " + path.getFileName());
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("Invalid storage key: " + key);
+        }
+        return path;
+    }
+}
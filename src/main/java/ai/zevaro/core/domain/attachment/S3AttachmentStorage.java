@@ -0,0 +1,163 @@
+package ai.zevaro.core.domain.attachment;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * Attachment content in an S3-compatible object store (AWS S3, MinIO, Ceph RGW, ...).
+ *
+ * - Set {@code zevaro.attachments.s3.endpoint} for anything other than AWS; path-style addressing
+ *   is on by default because most self-hosted stores need it
+ * - Ranged downloads fetch only the requested bytes with a ranged GET
+ * - Staged uploads are promoted with a server-side copy
+ * - Without an access key the default AWS credentials chain is used
+ */
+@Component
+@ConditionalOnProperty(name = "zevaro.attachments.storage", havingValue = "s3")
+@Slf4j
+public class S3AttachmentStorage implements AttachmentStorage, DisposableBean {
+
+    private final S3Client client;
+    private final String bucket;
+
+    public S3AttachmentStorage(@Value("${zevaro.attachments.s3.endpoint:}") String endpoint,
+                               @Value("${zevaro.attachments.s3.region:us-east-1}") String region,
+                               @Value("${zevaro.attachments.s3.bucket:zevaro-attachments}") String bucket,
+                               @Value("${zevaro.attachments.s3.access-key:}") String accessKey,
+                               @Value("${zevaro.attachments.s3.secret-key:}") String secretKey,
+                               @Value("${zevaro.attachments.s3.path-style:true}") boolean pathStyle) {
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region))
+                .forcePathStyle(pathStyle)
+                .credentialsProvider(StringUtils.hasText(accessKey)
+                        ? StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey))
+                        : DefaultCredentialsProvider.create());
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        this.client = builder.build();
+        this.bucket = bucket;
+        log.info("Attachment content stored in bucket {} at {}", bucket,
+                StringUtils.hasText(endpoint) ? endpoint : "AWS S3 (" + region + ")");
+    }
+
+    @Override
+    public boolean exists(String key) throws IOException {
+        try {
+            client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+            return true;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw new IOException("Failed to check attachment content " + key + ": " + e.getMessage(), e);
+        } catch (SdkException e) {
+            throw new IOException("Failed to check attachment content " + key + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void store(String key, Path staged, long size) throws IOException {
+        try {
+            client.putObject(PutObjectRequest.builder().bucket(bucket).key(key).contentLength(size).build(),
+                    RequestBody.fromFile(staged));
+        } catch (SdkException e) {
+            throw new IOException("Failed to store attachment content " + key + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void promote(String stagingKey, String key) throws IOException {
+        try {
+            client.copyObject(CopyObjectRequest.builder()
+                    .sourceBucket(bucket).sourceKey(stagingKey)
+                    .destinationBucket(bucket).destinationKey(key)
+                    .build());
+        } catch (SdkException e) {
+            throw new IOException("Failed to promote attachment content " + stagingKey + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public int deleteStagedBefore(Instant cutoff) throws IOException {
+        int deleted = 0;
+        try {
+            ListObjectsV2Request request = ListObjectsV2Request.builder().bucket(bucket).prefix(STAGING_PREFIX).build();
+            for (S3Object object : client.listObjectsV2Paginator(request).contents()) {
+                if (object.lastModified().isBefore(cutoff)) {
+                    delete(object.key());
+                    deleted++;
+                }
+            }
+        } catch (SdkException e) {
+            throw new IOException("Failed to list staged attachment content: " + e.getMessage(), e);
+        }
+        return deleted;
+    }
+
+    @Override
+    public void transferTo(String key, long offset, long length, WritableByteChannel target) throws IOException {
+        if (length == 0) {
+            return;
+        }
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .range("bytes=" + offset + "-" + (offset + length - 1))
+                .build();
+        try (ResponseInputStream<GetObjectResponse> in = client.getObject(request)) {
+            copy(in, target);
+        } catch (SdkException e) {
+            throw new IOException("Failed to read attachment content " + key + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        try {
+            client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (SdkException e) {
+            throw new IOException("Failed to delete attachment content " + key + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        client.close();
+    }
+
+    private static void copy(InputStream in, WritableByteChannel target) throws IOException {
+        // Not closed: the channel wraps the response stream, which the container owns
+        in.transferTo(Channels.newOutputStream(target));
+    }
+}
@@ -12,6 +12,7 @@ public record AttachmentResponse(
         String fileName,
         String fileType,
         Long fileSize,
+        String sha256,
         UUID uploadedById,
         String uploadedByName,
         Instant createdAt
@@ -1,6 +1,8 @@
 package ai.zevaro.core.domain.audit;
 
+import ai.zevaro.core.config.AppConstants;
 import ai.zevaro.core.domain.audit.dto.AuditLogFilter;
+import ai.zevaro.core.domain.common.dto.CursorPage;
 import ai.zevaro.core.security.CurrentUser;
 import ai.zevaro.core.security.UserPrincipal;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Instant;
 import java.util.Map;
 import java.util.UUID;
 
@@ -38,10 +41,28 @@ public class AuditController {
             @PageableDefault(size = 50, sort = "timestamp", direction = Sort.Direction.DESC) Pageable pageable,
             @CurrentUser UserPrincipal user) {
 
-        AuditLogFilter filter = new AuditLogFilter(actorId, entityType, entityId, action, null, null);
+        AuditLogFilter filter = new AuditLogFilter(actorId, entityType, entityId, action, null, null, null, null);
         return ResponseEntity.ok(auditService.getAuditLogs(user.getTenantId(), filter, pageable));
     }
 
+    @GetMapping("/cursor")
+    @PreAuthorize("hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('system:audit_read')")
+    public ResponseEntity<CursorPage<AuditLog>> getAuditLogsByCursor(
+            @RequestParam(required = false) UUID actorId,
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) UUID entityId,
+            @RequestParam(required = false) AuditAction action,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @CurrentUser UserPrincipal user) {
+
+        AuditLogFilter filter = new AuditLogFilter(actorId, entityType, entityId, action, from, to, null, null);
+        return ResponseEntity.ok(auditService.getAuditLogs(
+                user.getTenantId(), filter, cursor, Math.max(1, Math.min(size, AppConstants.MAX_PAGE_SIZE))));
+    }
+
     @GetMapping("/entity/{entityType}/{entityId}")
     @PreAuthorize("hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('system:audit_read')")
     public ResponseEntity<Page<AuditLog>> getEntityHistory(
@@ -50,7 +71,7 @@ public class AuditController {
             @PageableDefault(size = 50, sort = "timestamp", direction = Sort.Direction.DESC) Pageable pageable,
             @CurrentUser UserPrincipal user) {
 
-        AuditLogFilter filter = new AuditLogFilter(null, entityType, entityId, null, null, null);
+        AuditLogFilter filter = new AuditLogFilter(null, entityType, entityId, null, null, null, null, null);
         return ResponseEntity.ok(auditService.getAuditLogs(user.getTenantId(), filter, pageable));
     }
 
@@ -18,7 +18,10 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "audit_logs", indexes = {
-        @Index(name = "idx_audit_tenant_timestamp", columnList = "tenant_id, timestamp DESC"),
+        @Index(name = "idx_audit_tenant_timestamp_id", columnList = "tenant_id, timestamp DESC, id DESC"),
+        @Index(name = "idx_audit_tenant_entity_type_timestamp", columnList = "tenant_id, entity_type, timestamp DESC, id DESC"),
+        @Index(name = "idx_audit_tenant_program_timestamp", columnList = "tenant_id, program_id, timestamp DESC, id DESC"),
+        @Index(name = "idx_audit_tenant_workstream_timestamp", columnList = "tenant_id, workstream_id, timestamp DESC, id DESC"),
         @Index(name = "idx_audit_entity", columnList = "entity_type, entity_id"),
         @Index(name = "idx_audit_actor", columnList = "actor_id")
 })
@@ -56,6 +59,12 @@ public class AuditLog {
     @Column(name = "entity_title")
     private String entityTitle;
 
+    @Column(name = "program_id")
+    private UUID programId;
+
+    @Column(name = "workstream_id")
+    private UUID workstreamId;
+
     @Column(columnDefinition = "TEXT")
     private String description;
 
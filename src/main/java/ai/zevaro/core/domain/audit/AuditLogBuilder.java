@@ -19,6 +19,8 @@ public class AuditLogBuilder {
     private String entityType;
     private UUID entityId;
     private String entityTitle;
+    private UUID programId;
+    private UUID workstreamId;
     private String description;
     private Object oldValues;
     private Object newValues;
@@ -63,6 +65,15 @@ public class AuditLogBuilder {
         return this;
     }
 
+    /**
+     * Program and workstream the entity belongs to, so the activity feed can be filtered by them.
+     */
+    public AuditLogBuilder scope(UUID programId, UUID workstreamId) {
+        this.programId = programId;
+        this.workstreamId = workstreamId;
+        return this;
+    }
+
     public AuditLogBuilder description(String description) {
         this.description = description;
         return this;
@@ -95,6 +106,8 @@ public class AuditLogBuilder {
         auditLog.setEntityType(entityType);
         auditLog.setEntityId(entityId);
         auditLog.setEntityTitle(entityTitle);
+        auditLog.setProgramId(programId);
+        auditLog.setWorkstreamId(workstreamId);
         auditLog.setDescription(description);
         auditLog.setOldValues(toJson(oldValues));
         auditLog.setNewValues(toJson(newValues));
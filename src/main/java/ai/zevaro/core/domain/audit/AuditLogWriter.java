@@ -0,0 +1,347 @@
+package ai.zevaro.core.domain.audit;
+
+import ai.zevaro.core.config.AppConstants;
+import ai.zevaro.core.config.KafkaProducerInterface;
+import ai.zevaro.core.domain.activity.ActivityStreamHub;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous, batched writer for {@link AuditLog} records.
+ *
+ * - Callers enqueue into a bounded in-memory queue and return immediately
+ * - A single drain thread writes up to {@link AppConstants#AUDIT_BATCH_SIZE} rows per multi-row
+ *   INSERT, flushing at least every {@link AppConstants#AUDIT_FLUSH_INTERVAL_MS} ms
+ * - Persisted records are then published to Kafka as one burst (the producer batches them) and
+ *   handed to {@link ActivityStreamHub} for live activity feeds
+ * - While the database is unreachable the drain thread keeps its batch and retries with backoff
+ *   (up to {@link AppConstants#AUDIT_RETRY_MAX_BACKOFF_MS} ms apart); new records wait in the queue
+ * - A batch rejected for its content is written row by row, so only the offending row is lost
+ * - When the queue is full, callers wait briefly (backpressure) and the record is dropped if
+ *   there is still no room
+ * - On shutdown the queue is drained after the web server has stopped accepting requests;
+ *   anything logged after that is written synchronously. Writes outside the drain thread give up
+ *   after {@link AppConstants#AUDIT_WRITE_MAX_ATTEMPTS} attempts and log the unwritten records
+ *
+ * Metrics: {@code zevaro.audit.queue.size}, {@code zevaro.audit.written},
+ * {@code zevaro.audit.failed}, {@code zevaro.audit.retries}, {@code zevaro.audit.backpressure},
+ * {@code zevaro.audit.dropped} and {@code zevaro.audit.flush}.
+ */
+@Component
+@Slf4j
+public class AuditLogWriter implements SmartLifecycle {
+
+    private static final String AUDIT_TOPIC = "zevaro.audit.events";
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO audit_logs (id, tenant_id, actor_id, actor_email, actor_name, action, entity_type, " +
+            "entity_id, entity_title, program_id, workstream_id, description, old_values, new_values, ip_address, " +
+            "user_agent, request_id, timestamp) VALUES ";
+
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final KafkaProducerInterface kafkaProducer;
+    private final ActivityStreamHub activityStream;
+    private final BlockingQueue<AuditLog> queue = new ArrayBlockingQueue<>(AppConstants.AUDIT_QUEUE_CAPACITY);
+
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+    private final Counter retriesCounter;
+    private final Counter backpressureCounter;
+    private final Counter droppedCounter;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread drainThread;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate,
+                          KafkaProducerInterface kafkaProducer,
+                          ActivityStreamHub activityStream,
+                          MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.kafkaProducer = kafkaProducer;
+        this.activityStream = activityStream;
+
+        meterRegistry.gaugeCollectionSize("zevaro.audit.queue.size", List.of(), queue);
+        this.writtenCounter = meterRegistry.counter("zevaro.audit.written");
+        this.failedCounter = meterRegistry.counter("zevaro.audit.failed");
+        this.retriesCounter = meterRegistry.counter("zevaro.audit.retries");
+        this.backpressureCounter = meterRegistry.counter("zevaro.audit.backpressure");
+        this.droppedCounter = meterRegistry.counter("zevaro.audit.dropped");
+        this.flushTimer = meterRegistry.timer("zevaro.audit.flush");
+    }
+
+    /**
+     * Queue an audit record for writing. Never throws; a record that can't be queued
+     * within {@link AppConstants#AUDIT_ENQUEUE_TIMEOUT_MS} ms is dropped and counted.
+     */
+    public void enqueue(AuditLog auditLog) {
+        if (auditLog.getId() == null) {
+            auditLog.setId(UUID.randomUUID());
+        }
+
+        if (!running) {
+            write(List.of(auditLog), false);
+            return;
+        }
+
+        if (queue.offer(auditLog)) {
+            return;
+        }
+
+        backpressureCounter.increment();
+        try {
+            if (queue.offer(auditLog, AppConstants.AUDIT_ENQUEUE_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        droppedCounter.increment();
+        log.warn("Audit queue full ({} records), dropped {} on {} {}",
+                AppConstants.AUDIT_QUEUE_CAPACITY, auditLog.getAction(),
+                auditLog.getEntityType(), auditLog.getEntityId());
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        drainThread = new Thread(this::drainLoop, "audit-log-writer");
+        drainThread.setDaemon(true);
+        drainThread.start();
+        log.info("Audit log writer started (batch size {}, flush interval {}ms)",
+                AppConstants.AUDIT_BATCH_SIZE, AppConstants.AUDIT_FLUSH_INTERVAL_MS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        drainThread.interrupt();
+        try {
+            drainThread.join(TimeUnit.SECONDS.toMillis(AppConstants.DEFAULT_TIMEOUT_SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Flush whatever the drain thread didn't get to
+        List<AuditLog> remaining = new ArrayList<>();
+        while (queue.drainTo(remaining, AppConstants.AUDIT_BATCH_SIZE) > 0) {
+            write(remaining, false);
+            remaining.clear();
+        }
+        log.info("Audit log writer stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stop after the web server (graceful shutdown included) so in-flight requests can
+     * still enqueue, and before the DataSource and Kafka producer are destroyed.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drainLoop() {
+        List<AuditLog> batch = new ArrayList<>(AppConstants.AUDIT_BATCH_SIZE);
+        while (running) {
+            try {
+                AuditLog first = queue.poll(AppConstants.AUDIT_FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // Give a burst a moment to fill the batch before writing
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(AppConstants.AUDIT_FLUSH_INTERVAL_MS);
+                while (batch.size() < AppConstants.AUDIT_BATCH_SIZE) {
+                    queue.drainTo(batch, AppConstants.AUDIT_BATCH_SIZE - batch.size());
+                    long waitNanos = deadline - System.nanoTime();
+                    if (batch.size() >= AppConstants.AUDIT_BATCH_SIZE || waitNanos <= 0) {
+                        break;
+                    }
+                    AuditLog next = queue.poll(waitNanos, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // Shutdown requested; stop() drains the rest
+                Thread.currentThread().interrupt();
+            }
+
+            if (!batch.isEmpty()) {
+                write(batch, true);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Write a batch, retrying with backoff while the database is unreachable.
+     *
+     * @param untilStored keep retrying for as long as the writer is running (the drain thread);
+     *                    otherwise give up after {@link AppConstants#AUDIT_WRITE_MAX_ATTEMPTS}
+     */
+    private void write(List<AuditLog> batch, boolean untilStored) {
+        List<AuditLog> pending = new ArrayList<>(batch);
+        long backoffMs = AppConstants.AUDIT_RETRY_BACKOFF_MS;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                insert(pending);
+                return;
+            } catch (DataAccessException e) {
+                if (!(untilStored && running) && attempt >= AppConstants.AUDIT_WRITE_MAX_ATTEMPTS) {
+                    failedCounter.increment(pending.size());
+                    log.error("Could not save {} audit logs after {} attempts: {}",
+                            pending.size(), attempt, e.getMostSpecificCause().getMessage());
+                    for (AuditLog auditLog : pending) {
+                        log.error("Unsaved audit log {}: tenant {} actor {} {} {} {} at {}", auditLog.getId(),
+                                auditLog.getTenantId(), auditLog.getActorId(), auditLog.getAction(),
+                                auditLog.getEntityType(), auditLog.getEntityId(), auditLog.getTimestamp());
+                    }
+                    return;
+                }
+                if (attempt == 1) {
+                    log.warn("Could not save {} audit logs, retrying: {}",
+                            pending.size(), e.getMostSpecificCause().getMessage());
+                }
+                retriesCounter.increment();
+                sleep(backoffMs);
+                backoffMs = Math.min(backoffMs * 2, AppConstants.AUDIT_RETRY_MAX_BACKOFF_MS);
+            }
+        }
+    }
+
+    /**
+     * Insert {@code pending}, removing rows from it as they are stored or rejected.
+     *
+     * @throws DataAccessException if the database is unreachable; {@code pending} then holds the
+     *                             rows still to write
+     */
+    private void insert(List<AuditLog> pending) {
+        try {
+            flushTimer.record(() -> jdbcTemplate.update(buildInsertSql(pending.size()), toArgs(pending)));
+            stored(List.copyOf(pending));
+            pending.clear();
+            return;
+        } catch (DataAccessException e) {
+            if (isRetryable(e)) {
+                throw e;
+            }
+            log.warn("Batch of {} audit logs rejected, writing them one at a time: {}",
+                    pending.size(), e.getMostSpecificCause().getMessage());
+        }
+
+        // One bad row fails the whole multi-row INSERT
+        List<AuditLog> written = new ArrayList<>();
+        try {
+            Iterator<AuditLog> it = pending.iterator();
+            while (it.hasNext()) {
+                AuditLog auditLog = it.next();
+                try {
+                    jdbcTemplate.update(buildInsertSql(1), toArgs(List.of(auditLog)));
+                    written.add(auditLog);
+                } catch (DataAccessException e) {
+                    if (isRetryable(e)) {
+                        throw e;
+                    }
+                    failedCounter.increment();
+                    log.error("Failed to save audit log {} ({} {} {}): {}", auditLog.getId(), auditLog.getAction(),
+                            auditLog.getEntityType(), auditLog.getEntityId(), e.getMostSpecificCause().getMessage());
+                }
+                it.remove();
+            }
+        } finally {
+            if (!written.isEmpty()) {
+                stored(written);
+            }
+        }
+    }
+
+    private void stored(List<AuditLog> written) {
+        writtenCounter.increment(written.size());
+        for (AuditLog auditLog : written) {
+            kafkaProducer.send(AUDIT_TOPIC, auditLog.getTenantId().toString(), auditLog);
+        }
+        activityStream.publishAudit(written);
+    }
+
+    private static boolean isRetryable(DataAccessException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            // Shutdown requested; the remaining attempts run without waiting
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String buildInsertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW_PLACEHOLDERS.length() + 2));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDERS);
+        }
+        return sql.toString();
+    }
+
+    private static Object[] toArgs(List<AuditLog> batch) {
+        Object[] args = new Object[batch.size() * 18];
+        int i = 0;
+        for (AuditLog a : batch) {
+            args[i++] = a.getId();
+            args[i++] = a.getTenantId();
+            args[i++] = a.getActorId();
+            args[i++] = a.getActorEmail();
+            args[i++] = a.getActorName();
+            args[i++] = a.getAction() != null ? a.getAction().name() : null;
+            args[i++] = a.getEntityType();
+            args[i++] = a.getEntityId();
+            args[i++] = a.getEntityTitle();
+            args[i++] = a.getProgramId();
+            args[i++] = a.getWorkstreamId();
+            args[i++] = a.getDescription();
+            args[i++] = a.getOldValues();
+            args[i++] = a.getNewValues();
+            args[i++] = a.getIpAddress();
+            args[i++] = a.getUserAgent();
+            args[i++] = a.getRequestId();
+            args[i++] = Timestamp.from(a.getTimestamp());
+        }
+        return args;
+    }
+}
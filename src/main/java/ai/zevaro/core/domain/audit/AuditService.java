@@ -1,20 +1,28 @@
 package ai.zevaro.core.domain.audit;
 
-import ai.zevaro.core.config.KafkaProducerService;
 import ai.zevaro.core.domain.audit.dto.AuditLogFilter;
+import ai.zevaro.core.domain.common.KeysetCursor;
+import ai.zevaro.core.domain.common.dto.CursorPage;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -22,21 +30,39 @@ import java.util.UUID;
 public class AuditService {
 
     private final AuditLogRepository auditLogRepository;
-    private final KafkaProducerService kafkaProducerService;
+    private final AuditLogWriter auditLogWriter;
 
-    private static final String AUDIT_TOPIC = "zevaro.audit.events";
-
-    @Async
+    /**
+     * Record an audit entry. Returns immediately; the row is written and published to Kafka
+     * by {@link AuditLogWriter} in a batch, outside the caller's transaction. Inside a transaction
+     * the entry is queued only once it commits, so rolled-back changes leave no audit trail.
+     */
     public void log(AuditLogBuilder builder) {
+        AuditLog auditLog;
         try {
-            AuditLog auditLog = builder.build();
-            auditLogRepository.save(auditLog);
+            auditLog = builder.build();
+        } catch (Exception e) {
+            log.error("Failed to build audit log: {}", e.getMessage(), e);
+            return;
+        }
 
-            // Publish to Kafka using the circuit breaker protected service
-            kafkaProducerService.send(AUDIT_TOPIC, auditLog.getTenantId().toString(), auditLog);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(auditLog);
+                }
+            });
+        } else {
+            enqueue(auditLog);
+        }
+    }
 
+    private void enqueue(AuditLog auditLog) {
+        try {
+            auditLogWriter.enqueue(auditLog);
         } catch (Exception e) {
-            log.error("Failed to save audit log: {}", e.getMessage(), e);
+            log.error("Failed to queue audit log: {}", e.getMessage(), e);
         }
     }
 
@@ -60,6 +86,29 @@ public class AuditService {
         return auditLogRepository.findByTenantIdOrderByTimestampDesc(tenantId, pageable);
     }
 
+    /**
+     * Offset-paginated audit trail, newest first, with all filter fields combined.
+     */
+    public Page<AuditLog> searchAuditLogs(UUID tenantId, AuditLogFilter filter, Pageable pageable) {
+        Pageable newestFirst = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                KeysetCursor.sort("timestamp", Sort.Direction.DESC));
+        return auditLogRepository.findAll(matching(tenantId, filter), newestFirst);
+    }
+
+    /**
+     * Keyset-paginated audit trail, newest first. Unlike the offset variant, all filter fields are
+     * combined, and deep pages cost the same as the first.
+     */
+    public CursorPage<AuditLog> getAuditLogs(UUID tenantId, AuditLogFilter filter, String cursor, int size) {
+        Specification<AuditLog> spec = Specification.where(matching(tenantId, filter))
+                .and(KeysetCursor.after(KeysetCursor.decode(cursor), "timestamp", Sort.Direction.DESC));
+        List<AuditLog> rows = auditLogRepository.findBy(spec, query -> query
+                .sortBy(KeysetCursor.sort("timestamp", Sort.Direction.DESC))
+                .limit(size + 1)
+                .all());
+        return CursorPage.of(rows, size, a -> new KeysetCursor(a.getTimestamp(), a.getId()), Function.identity());
+    }
+
     public Map<AuditAction, Long> getActionCounts(UUID tenantId, int days) {
         Instant since = Instant.now().minus(days, ChronoUnit.DAYS);
         List<Object[]> results = auditLogRepository.countByActionSince(tenantId, since);
@@ -77,4 +126,38 @@ public class AuditService {
 
         return counts;
     }
+
+    private static Specification<AuditLog> matching(UUID tenantId, AuditLogFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("tenantId"), tenantId));
+
+            if (filter.actorId() != null) {
+                predicates.add(cb.equal(root.get("actorId"), filter.actorId()));
+            }
+            if (filter.entityType() != null) {
+                predicates.add(cb.equal(root.get("entityType"), filter.entityType()));
+            }
+            if (filter.entityId() != null) {
+                predicates.add(cb.equal(root.get("entityId"), filter.entityId()));
+            }
+            if (filter.action() != null) {
+                predicates.add(cb.equal(root.get("action"), filter.action()));
+            }
+            if (filter.programId() != null) {
+                predicates.add(cb.equal(root.get("programId"), filter.programId()));
+            }
+            if (filter.workstreamId() != null) {
+                predicates.add(cb.equal(root.get("workstreamId"), filter.workstreamId()));
+            }
+            if (filter.startDate() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("timestamp"), filter.startDate()));
+            }
+            if (filter.endDate() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("timestamp"), filter.endDate()));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
 }
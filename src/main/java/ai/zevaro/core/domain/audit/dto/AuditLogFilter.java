@@ -11,5 +11,7 @@ public record AuditLogFilter(
         UUID entityId,
         AuditAction action,
         Instant startDate,
-        Instant endDate
+        Instant endDate,
+        UUID programId,
+        UUID workstreamId
 ) {}
@@ -12,6 +12,7 @@ import ai.zevaro.core.domain.user.User;
 import ai.zevaro.core.domain.user.UserRepository;
 import ai.zevaro.core.exception.ResourceNotFoundException;
 import ai.zevaro.core.security.JwtTokenProvider;
+import ai.zevaro.core.security.VerifiedTokenCache;
 import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -31,6 +32,7 @@ public class AuthService {
     private final TenantRepository tenantRepository;
     private final RoleRepository roleRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final PasswordEncoder passwordEncoder;
 
     @Transactional
@@ -124,6 +126,8 @@ public class AuthService {
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
         user.setRefreshToken(null);
         userRepository.save(user);
+
+        verifiedTokenCache.revokeUser(userId);
     }
 
     private AuthResponse buildAuthResponse(User user, String rawRefreshToken) {
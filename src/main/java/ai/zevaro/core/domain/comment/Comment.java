@@ -23,7 +23,8 @@ import java.util.UUID;
 @Entity
 @Table(name = "comments", indexes = {
         @Index(name = "idx_comments_tenant_parent", columnList = "tenant_id, parent_type, parent_id"),
-        @Index(name = "idx_comments_parent_comment", columnList = "parent_comment_id")
+        @Index(name = "idx_comments_parent_comment", columnList = "parent_comment_id"),
+        @Index(name = "idx_comments_parent_created", columnList = "tenant_id, parent_type, parent_id, created_at, id")
 })
 @EntityListeners(AuditingEntityListener.class)
 @Getter
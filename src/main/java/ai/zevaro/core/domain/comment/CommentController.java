@@ -1,8 +1,10 @@
 package ai.zevaro.core.domain.comment;
 
+import ai.zevaro.core.config.AppConstants;
 import ai.zevaro.core.domain.comment.dto.CommentResponse;
 import ai.zevaro.core.domain.comment.dto.CreateCommentRequest;
 import ai.zevaro.core.domain.comment.dto.UpdateCommentRequest;
+import ai.zevaro.core.domain.common.dto.CursorPage;
 import ai.zevaro.core.security.CurrentUser;
 import ai.zevaro.core.security.UserPrincipal;
 import jakarta.validation.Valid;
@@ -71,6 +73,18 @@ public class CommentController {
         return ResponseEntity.ok(commentService.getByParentPaged(parentType, parentId, user.getTenantId(), pageable));
     }
 
+    @GetMapping("/by-parent/{parentType}/{parentId}/cursor")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CursorPage<CommentResponse>> getCommentsByParentCursor(
+            @PathVariable CommentParentType parentType,
+            @PathVariable UUID parentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @CurrentUser UserPrincipal user) {
+        return ResponseEntity.ok(commentService.getByParentAfter(parentType, parentId, user.getTenantId(),
+                cursor, Math.max(1, Math.min(size, AppConstants.MAX_PAGE_SIZE))));
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<CommentResponse> updateComment(
@@ -3,14 +3,18 @@ package ai.zevaro.core.domain.comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface CommentRepository extends JpaRepository<Comment, UUID> {
+public interface CommentRepository extends JpaRepository<Comment, UUID>, JpaSpecificationExecutor<Comment> {
 
     List<Comment> findByTenantIdAndParentTypeAndParentIdOrderByCreatedAtAsc(UUID tenantId, CommentParentType parentType, UUID parentId);
 
@@ -21,4 +25,9 @@ public interface CommentRepository extends JpaRepository<Comment, UUID> {
     List<Comment> findByParentCommentId(UUID parentCommentId);
 
     long countByTenantIdAndParentTypeAndParentId(UUID tenantId, CommentParentType parentType, UUID parentId);
+
+    @Query("SELECT c.parentId, COUNT(c) FROM Comment c WHERE c.tenantId = :tenantId AND c.parentType = :parentType AND c.parentId IN :parentIds GROUP BY c.parentId")
+    List<Object[]> countByParentIds(@Param("tenantId") UUID tenantId,
+                                    @Param("parentType") CommentParentType parentType,
+                                    @Param("parentIds") Collection<UUID> parentIds);
 }
@@ -1,18 +1,21 @@
 package ai.zevaro.core.domain.comment;
 
+import ai.zevaro.core.cache.ReferenceNameCache;
 import ai.zevaro.core.domain.audit.AuditAction;
 import ai.zevaro.core.domain.audit.AuditLogBuilder;
 import ai.zevaro.core.domain.audit.AuditService;
 import ai.zevaro.core.domain.comment.dto.CommentResponse;
 import ai.zevaro.core.domain.comment.dto.CreateCommentRequest;
 import ai.zevaro.core.domain.comment.dto.UpdateCommentRequest;
-import ai.zevaro.core.domain.user.User;
-import ai.zevaro.core.domain.user.UserRepository;
+import ai.zevaro.core.domain.common.KeysetCursor;
+import ai.zevaro.core.domain.common.dto.CursorPage;
 import ai.zevaro.core.event.EventPublisher;
 import ai.zevaro.core.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,7 +27,7 @@ import java.util.UUID;
 public class CommentService {
 
     private final CommentRepository commentRepository;
-    private final UserRepository userRepository;
+    private final ReferenceNameCache referenceNameCache;
     private final CommentMapper commentMapper;
     private final AuditService auditService;
     private final EventPublisher eventPublisher;
@@ -69,6 +72,21 @@ public class CommentService {
                 .map(this::toResponse);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<CommentResponse> getByParentAfter(CommentParentType parentType, UUID parentId, UUID tenantId,
+                                                        String cursor, int size) {
+        Specification<Comment> spec = Specification.<Comment>where((root, query, cb) -> cb.and(
+                        cb.equal(root.get("tenantId"), tenantId),
+                        cb.equal(root.get("parentType"), parentType),
+                        cb.equal(root.get("parentId"), parentId)))
+                .and(KeysetCursor.after(KeysetCursor.decode(cursor), "createdAt", Sort.Direction.ASC));
+        List<Comment> rows = commentRepository.findBy(spec, query -> query
+                .sortBy(KeysetCursor.sort("createdAt", Sort.Direction.ASC))
+                .limit(size + 1)
+                .all());
+        return CursorPage.of(rows, size, c -> new KeysetCursor(c.getCreatedAt(), c.getId()), this::toResponse);
+    }
+
     @Transactional
     public CommentResponse update(UUID id, UpdateCommentRequest request, UUID tenantId, UUID userId) {
         Comment comment = commentRepository.findByIdAndTenantId(id, tenantId)
@@ -125,9 +143,7 @@ public class CommentService {
     }
 
     private CommentResponse toResponse(Comment comment) {
-        String authorName = userRepository.findById(comment.getAuthorId())
-                .map(User::getFullName)
-                .orElse(null);
+        String authorName = referenceNameCache.userName(comment.getTenantId(), comment.getAuthorId());
         int replyCount = commentRepository.findByParentCommentId(comment.getId()).size();
         return commentMapper.toResponse(comment, authorName, replyCount);
     }
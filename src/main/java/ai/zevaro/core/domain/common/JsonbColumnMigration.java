@@ -0,0 +1,137 @@
+package ai.zevaro.core.domain.common;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Converts JSON columns created as {@code text} to {@code jsonb} and creates the GIN indexes behind
+ * tag and external-ref filters. Hibernate's schema update creates missing columns but never changes
+ * the type of existing ones. Does nothing once every column is {@code jsonb}.
+ * <p>
+ * Runs once all beans (including the schema update) are ready, before the web server and
+ * background workers start, so no request ever binds JSON to a {@code text} column. Only values of
+ * the shape the entity field maps to (an array for lists, an object for maps and records) are
+ * converted; anything else would fail every load of its row. Those values are cleared, their original
+ * text is copied to {@code jsonb_migration_rejects}, and the number of them is logged per column.
+ */
+@Component
+@Slf4j
+public class JsonbColumnMigration implements SmartInitializingSingleton {
+
+    /**
+     * @param shape    the {@code jsonb_typeof} the entity field can read
+     * @param fallback the value stored in place of a rejected one
+     */
+    private record JsonColumn(String table, String column, String shape, String fallback) {
+
+        JsonColumn(String table, String column, String shape) {
+            this(table, column, shape, "NULL");
+        }
+    }
+
+    private static final List<JsonColumn> COLUMNS = List.of(
+            new JsonColumn("decisions", "options", "array"),
+            new JsonColumn("decisions", "selected_option", "object"),
+            new JsonColumn("decisions", "blocked_items", "array"),
+            new JsonColumn("decisions", "external_refs", "object"),
+            new JsonColumn("decisions", "tags", "array"),
+            new JsonColumn("outcomes", "target_metrics", "object"),
+            new JsonColumn("outcomes", "current_metrics", "object"),
+            new JsonColumn("outcomes", "external_refs", "object"),
+            new JsonColumn("outcomes", "tags", "array"),
+            new JsonColumn("experiments", "config", "object"),
+            new JsonColumn("experiments", "results", "object"),
+            new JsonColumn("experiments", "secondary_metrics", "array"),
+            new JsonColumn("stakeholders", "external_refs", "object"),
+            // NOT NULL column
+            new JsonColumn("program_templates", "structure", "array", "'[]'::jsonb")
+    );
+
+    private static final List<String> INDEXES = List.of(
+            "CREATE INDEX IF NOT EXISTS idx_decision_tags ON decisions USING gin (tags jsonb_path_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_decision_external_refs ON decisions USING gin (external_refs jsonb_path_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_outcome_tags ON outcomes USING gin (tags jsonb_path_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_outcome_external_refs ON outcomes USING gin (external_refs jsonb_path_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_stakeholder_external_refs ON stakeholders USING gin (external_refs jsonb_path_ops)"
+    );
+
+    private static final String COLUMN_TYPE_SQL =
+            "SELECT data_type FROM information_schema.columns " +
+            "WHERE table_schema = current_schema() AND table_name = ? AND column_name = ?";
+
+    // Session-local, so the conversion must run on one connection (one transaction).
+    // Returns the jsonb_typeof of the value, or null when it is not valid JSON
+    private static final String JSON_TYPE_FUNCTION_SQL =
+            "CREATE OR REPLACE FUNCTION pg_temp.zevaro_json_type(value text) RETURNS text AS $$ " +
+            "BEGIN RETURN jsonb_typeof(value::jsonb); EXCEPTION WHEN others THEN RETURN null; END " +
+            "$$ LANGUAGE plpgsql IMMUTABLE";
+
+    private static final String REJECTS_TABLE_SQL =
+            "CREATE TABLE IF NOT EXISTS jsonb_migration_rejects (" +
+            "table_name VARCHAR(100) NOT NULL, column_name VARCHAR(100) NOT NULL, row_id TEXT NOT NULL, " +
+            "original_value TEXT NOT NULL, rejected_at TIMESTAMP NOT NULL)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public JsonbColumnMigration(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        int converted = 0;
+        for (JsonColumn column : COLUMNS) {
+            List<String> types = jdbcTemplate.queryForList(COLUMN_TYPE_SQL, String.class, column.table(), column.column());
+            if (types.isEmpty() || "jsonb".equals(types.get(0))) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> convert(column));
+                converted++;
+            } catch (DataAccessException e) {
+                log.error("Could not convert {}.{} to jsonb: {}",
+                        column.table(), column.column(), e.getMostSpecificCause().getMessage());
+            }
+        }
+        if (converted > 0) {
+            log.info("Converted {} JSON columns from text to jsonb", converted);
+        }
+
+        for (String index : INDEXES) {
+            try {
+                jdbcTemplate.execute(index);
+            } catch (DataAccessException e) {
+                log.warn("Could not create JSON index: {}", e.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    private void convert(JsonColumn column) {
+        String name = column.column();
+        String type = "pg_temp.zevaro_json_type(" + name + ")";
+        jdbcTemplate.execute(JSON_TYPE_FUNCTION_SQL);
+        jdbcTemplate.execute(REJECTS_TABLE_SQL);
+        // Empty strings and JSON null carry no data and are not worth keeping
+        int rejected = jdbcTemplate.update("INSERT INTO jsonb_migration_rejects " +
+                "(table_name, column_name, row_id, original_value, rejected_at) " +
+                "SELECT ?, ?, id::text, " + name + ", now() FROM " + column.table() +
+                " WHERE btrim(" + name + ") <> '' AND COALESCE(" + type + ", 'invalid') NOT IN (?, 'null')",
+                column.table(), name, column.shape());
+        jdbcTemplate.execute("ALTER TABLE " + column.table() + " ALTER COLUMN " + name +
+                " TYPE jsonb USING CASE WHEN " + type + " = '" + column.shape() + "' THEN " + name + "::jsonb" +
+                " ELSE " + column.fallback() + " END");
+        if (rejected > 0) {
+            log.warn("{} values in {}.{} were not a JSON {} and were cleared; the originals are in jsonb_migration_rejects",
+                    rejected, column.table(), name, column.shape());
+        }
+    }
+}
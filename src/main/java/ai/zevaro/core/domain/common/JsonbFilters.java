@@ -0,0 +1,60 @@
+package ai.zevaro.core.domain.common;
+
+import ai.zevaro.core.config.JsonbFunctionContributor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Filters on {@code jsonb} columns, written as containment ({@code @>}) so they use the columns'
+ * {@code jsonb_path_ops} GIN indexes. Each returns null (no restriction) for a missing value.
+ */
+public final class JsonbFilters {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private JsonbFilters() {}
+
+    /**
+     * Rows whose JSON array {@code attribute} contains the string {@code value}, e.g. a tag.
+     */
+    public static <T> Specification<T> arrayContains(String attribute, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return contains(attribute, toJson(List.of(value)));
+    }
+
+    /**
+     * Rows whose JSON object {@code attribute} has an entry for {@code ref}, given as
+     * {@code system:id} (e.g. {@code jira:PROJ-123} matches {@code {"jira": "PROJ-123"}}).
+     *
+     * @throws IllegalArgumentException if {@code ref} is not in {@code system:id} form
+     */
+    public static <T> Specification<T> hasExternalRef(String attribute, String ref) {
+        if (ref == null || ref.isBlank()) {
+            return null;
+        }
+        int separator = ref.indexOf(':');
+        if (separator <= 0 || separator == ref.length() - 1) {
+            throw new IllegalArgumentException("externalRef must be in the form system:id");
+        }
+        return contains(attribute, toJson(Map.of(ref.substring(0, separator), ref.substring(separator + 1))));
+    }
+
+    private static <T> Specification<T> contains(String attribute, String json) {
+        return (root, query, cb) -> cb.isTrue(cb.function(JsonbFunctionContributor.JSONB_CONTAINS, Boolean.class,
+                root.get(attribute), cb.literal(json)));
+    }
+
+    private static String toJson(Object value) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid filter value", e);
+        }
+    }
+}
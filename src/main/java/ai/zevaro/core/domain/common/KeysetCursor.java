@@ -0,0 +1,92 @@
+package ai.zevaro.core.domain.common;
+
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last row returned by a keyset ("seek") page: its sort timestamp and ID.
+ * <p>
+ * The next page is fetched with {@code WHERE ts <= :ts AND (ts, id) < (:ts, :id) ORDER BY ts DESC, id DESC}
+ * (or the ascending equivalent), which walks a {@code (tenant_id, ts, id)} index instead of
+ * counting and skipping {@code OFFSET} rows, so page N costs the same as page 1 and rows inserted
+ * while a client is paging never shift or duplicate results. The ID breaks ties between rows with
+ * the same timestamp.
+ * <p>
+ * Clients only see the opaque {@link #encode()}d form.
+ */
+public record KeysetCursor(Instant position, UUID id) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public String encode() {
+        String raw = position.toString() + "|" + id;
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a client-supplied cursor. Returns null for a missing cursor (first page).
+     *
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new KeysetCursor(
+                    Instant.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    /**
+     * Restrict a query to rows after {@code cursor} in {@code (attribute, id)} order.
+     * A null cursor matches everything.
+     * <p>
+     * The expanded row comparison {@code ts < :ts OR (ts = :ts AND id < :id)} is an OR, which the
+     * planner can't turn into an index range on its own; the redundant leading {@code ts <= :ts}
+     * bounds the index scan so it starts at the cursor instead of filtering from the top.
+     */
+    public static <T> Specification<T> after(KeysetCursor cursor, String attribute, Sort.Direction direction) {
+        if (cursor == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Path<Instant> position = root.get(attribute);
+            Path<UUID> id = root.get("id");
+            return direction.isDescending()
+                    ? cb.and(
+                            cb.lessThanOrEqualTo(position, cursor.position()),
+                            cb.or(
+                                    cb.lessThan(position, cursor.position()),
+                                    cb.and(cb.equal(position, cursor.position()), cb.lessThan(id, cursor.id()))))
+                    : cb.and(
+                            cb.greaterThanOrEqualTo(position, cursor.position()),
+                            cb.or(
+                                    cb.greaterThan(position, cursor.position()),
+                                    cb.and(cb.equal(position, cursor.position()), cb.greaterThan(id, cursor.id()))));
+        };
+    }
+
+    /**
+     * The {@code (attribute, id)} ordering a keyset page must be read in.
+     */
+    public static Sort sort(String attribute, Sort.Direction direction) {
+        return Sort.by(direction, attribute).and(Sort.by(direction, "id"));
+    }
+}
@@ -0,0 +1,40 @@
+package ai.zevaro.core.domain.common.dto;
+
+import ai.zevaro.core.domain.common.KeysetCursor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated list. Pass {@code nextCursor} back as {@code cursor}
+ * to get the following page; it is null on the last page.
+ */
+public record CursorPage<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+
+    /**
+     * Build a page from a query that fetched up to {@code size + 1} rows; the extra row only
+     * signals that another page exists and is not returned.
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size,
+                                          Function<E, KeysetCursor> cursorOf,
+                                          Function<E, T> mapper) {
+        return ofBatch(rows, size, cursorOf, page -> page.stream().map(mapper).toList());
+    }
+
+    /**
+     * Same as {@link #of}, for mappers that convert a whole page at once (batched lookups).
+     */
+    public static <E, T> CursorPage<T> ofBatch(List<E> rows, int size,
+                                               Function<E, KeysetCursor> cursorOf,
+                                               Function<List<E>, List<T>> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        return new CursorPage<>(mapper.apply(page), page.size(), nextCursor, hasNext);
+    }
+}
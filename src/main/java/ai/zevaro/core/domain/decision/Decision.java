@@ -1,9 +1,13 @@
 package ai.zevaro.core.domain.decision;
 
+import ai.zevaro.core.domain.decision.dto.BlockedItem;
+import ai.zevaro.core.domain.decision.dto.DecisionOption;
 import ai.zevaro.core.domain.hypothesis.Hypothesis;
 import ai.zevaro.core.domain.outcome.Outcome;
 import ai.zevaro.core.domain.program.Program;
+import ai.zevaro.core.domain.program.ProgramMetricsListener;
 import ai.zevaro.core.domain.queue.DecisionQueue;
+import ai.zevaro.core.domain.search.SearchIndexListener;
 import ai.zevaro.core.domain.stakeholder.Stakeholder;
 import ai.zevaro.core.domain.team.Team;
 import ai.zevaro.core.domain.user.User;
@@ -21,10 +25,14 @@ import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -33,6 +41,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Entity
@@ -41,14 +50,18 @@ import java.util.UUID;
         @Index(name = "idx_decision_tenant_priority", columnList = "tenant_id, priority"),
         @Index(name = "idx_decision_owner", columnList = "owner_id"),
         @Index(name = "idx_decision_assigned_to", columnList = "assigned_to_id"),
+        @Index(name = "idx_decision_tenant_assignee_decided", columnList = "tenant_id, assigned_to_id, decided_at"),
         @Index(name = "idx_decision_queue", columnList = "queue_id"),
         @Index(name = "idx_decision_due", columnList = "due_at"),
+        @Index(name = "idx_decision_sla", columnList = "sla_status, due_at"),
+        @Index(name = "idx_decision_tenant_at_risk", columnList = "tenant_id, at_risk_at"),
         @Index(name = "idx_decision_stakeholder", columnList = "stakeholder_id"),
         @Index(name = "idx_decision_project", columnList = "project_id"),
         @Index(name = "idx_decisions_parent", columnList = "tenant_id, parent_type, parent_id"),
-        @Index(name = "idx_decisions_tenant_ws", columnList = "tenant_id, workstream_id")
+        @Index(name = "idx_decisions_tenant_ws", columnList = "tenant_id, workstream_id"),
+        @Index(name = "idx_decision_tenant_created", columnList = "tenant_id, created_at DESC, id DESC")
 })
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, SearchIndexListener.class, ProgramMetricsListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -74,8 +87,9 @@ public class Decision {
     @Column(columnDefinition = "TEXT")
     private String context;
 
-    @Column(columnDefinition = "text")
-    private String options;
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    private List<DecisionOption> options;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -133,6 +147,13 @@ public class Decision {
     @Column(name = "due_at")
     private Instant dueAt;
 
+    @Column(name = "at_risk_at")
+    private Instant atRiskAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "sla_status", length = 20)
+    private DecisionSlaStatus slaStatus = DecisionSlaStatus.ON_TRACK;
+
     @Column(name = "escalation_level")
     private Integer escalationLevel = 0;
 
@@ -153,8 +174,9 @@ public class Decision {
     @Column(name = "decision_rationale", columnDefinition = "TEXT")
     private String decisionRationale;
 
-    @Column(name = "selected_option", columnDefinition = "text")
-    private String selectedOption;
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "selected_option", columnDefinition = "jsonb")
+    private DecisionOption selectedOption;
 
     @Column(length = 2000)
     private String resolution;
@@ -165,14 +187,17 @@ public class Decision {
     @OneToMany(mappedBy = "decision", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<DecisionVote> votes = new ArrayList<>();
 
-    @Column(name = "blocked_items", columnDefinition = "text")
-    private String blockedItems;
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "blocked_items", columnDefinition = "jsonb")
+    private List<BlockedItem> blockedItems;
 
-    @Column(name = "external_refs", columnDefinition = "text")
-    private String externalRefs;
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "external_refs", columnDefinition = "jsonb")
+    private Map<String, String> externalRefs;
 
-    @Column(columnDefinition = "text")
-    private String tags;
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    private List<String> tags;
 
     @CreatedDate
     @Column(name = "created_at", updatable = false)
@@ -192,6 +217,30 @@ public class Decision {
                 && status != DecisionStatus.CANCELLED;
     }
 
+    /**
+     * Keep the persisted SLA thresholds in step with {@code dueAt}, so SLA filters run in SQL.
+     * A breach is only ever recorded by {@link DecisionSlaEngine}, which also escalates.
+     */
+    @PrePersist
+    @PreUpdate
+    void updateSlaThresholds() {
+        if (dueAt == null) {
+            atRiskAt = null;
+            slaStatus = DecisionSlaStatus.ON_TRACK;
+            return;
+        }
+
+        Instant start = createdAt != null ? createdAt : Instant.now();
+        atRiskAt = start.plus(Duration.between(start, dueAt).dividedBy(2));
+
+        Instant now = Instant.now();
+        if (now.isBefore(atRiskAt)) {
+            slaStatus = DecisionSlaStatus.ON_TRACK;
+        } else if (now.isBefore(dueAt)) {
+            slaStatus = DecisionSlaStatus.AT_RISK;
+        }
+    }
+
     public long getWaitTimeHours() {
         if (createdAt == null) {
             return 0;
@@ -1,8 +1,15 @@
 package ai.zevaro.core.domain.decision;
 
+import ai.zevaro.core.config.AppConstants;
 import ai.zevaro.core.domain.comment.dto.CommentResponse;
 import ai.zevaro.core.domain.comment.dto.UpdateCommentRequest;
+import ai.zevaro.core.domain.common.dto.CursorPage;
 import ai.zevaro.core.domain.decision.dto.AddDecisionCommentRequest;
+import ai.zevaro.core.domain.decision.dto.BulkAssignDecisionsRequest;
+import ai.zevaro.core.domain.decision.dto.BulkCreateDecisionsRequest;
+import ai.zevaro.core.domain.decision.dto.BulkDecisionResponse;
+import ai.zevaro.core.domain.decision.dto.BulkDeferDecisionsRequest;
+import ai.zevaro.core.domain.decision.dto.BulkResolveDecisionsRequest;
 import ai.zevaro.core.domain.decision.dto.CastVoteRequest;
 import ai.zevaro.core.domain.decision.dto.CreateDecisionRequest;
 import ai.zevaro.core.domain.decision.dto.DecisionQueueResponse;
@@ -112,6 +119,8 @@ public class DecisionController {
             @RequestParam(required = false) String executionMode,
             @RequestParam(required = false) String slaStatus,
             @RequestParam(required = false) UUID portfolioId,
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) String externalRef,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
@@ -123,16 +132,39 @@ public class DecisionController {
         Pageable pageable = PageRequest.of(page, Math.min(size, 100), sort);
 
         if (programId != null || workstreamId != null || parentType != null
-                || executionMode != null || slaStatus != null || portfolioId != null) {
+                || executionMode != null || slaStatus != null || portfolioId != null
+                || tag != null || externalRef != null) {
             return ResponseEntity.ok(decisionService.listFiltered(
                     user.getTenantId(), programId, workstreamId, parentType,
-                    executionMode, slaStatus, portfolioId, pageable));
+                    executionMode, slaStatus, portfolioId, tag, externalRef, pageable));
         }
 
         return ResponseEntity.ok(decisionService.getDecisionsPaged(
                 user.getTenantId(), status, priority, type, teamId, projectId, pageable));
     }
 
+    @GetMapping("/decisions/cursor")
+    @PreAuthorize("hasRole('TENANT_OWNER') or hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('decision:read')")
+    public ResponseEntity<CursorPage<DecisionResponse>> getDecisionsByCursor(
+            @RequestParam(required = false) DecisionStatus status,
+            @RequestParam(required = false) DecisionPriority priority,
+            @RequestParam(required = false) UUID programId,
+            @RequestParam(required = false) UUID workstreamId,
+            @RequestParam(required = false) DecisionParentType parentType,
+            @RequestParam(required = false) String executionMode,
+            @RequestParam(required = false) String slaStatus,
+            @RequestParam(required = false) UUID portfolioId,
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) String externalRef,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @CurrentUser UserPrincipal user) {
+        return ResponseEntity.ok(decisionService.listAfter(
+                user.getTenantId(), status, priority, programId, workstreamId, parentType,
+                executionMode, slaStatus, portfolioId, tag, externalRef, cursor,
+                Math.max(1, Math.min(size, AppConstants.MAX_PAGE_SIZE))));
+    }
+
     @GetMapping("/decisions/{id}")
     @PreAuthorize("hasRole('TENANT_OWNER') or hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('decision:read')")
     public ResponseEntity<DecisionResponse> getDecision(
@@ -152,15 +184,16 @@ public class DecisionController {
     @GetMapping("/decisions/my-pending")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<List<DecisionResponse>> getMyPendingDecisions(@CurrentUser UserPrincipal user) {
-        return ResponseEntity.ok(decisionService.getMyPendingDecisions(user.getUserId()));
+        return ResponseEntity.ok(decisionService.getMyPendingDecisions(user.getTenantId(), user.getUserId()));
     }
 
     @GetMapping("/decisions/pending")
     @PreAuthorize("hasRole('TENANT_OWNER') or hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('decision:read')")
     public ResponseEntity<List<DecisionResponse>> getPendingDecisions(
             @RequestParam(required = false) UUID teamId,
+            @RequestParam(required = false) UUID queueId,
             @CurrentUser UserPrincipal user) {
-        return ResponseEntity.ok(decisionService.getPendingDecisions(user.getTenantId(), teamId));
+        return ResponseEntity.ok(decisionService.getPendingDecisions(user.getTenantId(), teamId, queueId));
     }
 
     @GetMapping("/decisions/blocking")
@@ -298,6 +331,42 @@ public class DecisionController {
         return ResponseEntity.ok(decisionService.reassign(id, user.getTenantId(), newAssigneeId, reason));
     }
 
+    // --- Bulk operations ---
+
+    @PostMapping("/decisions/bulk")
+    @PreAuthorize("hasRole('TENANT_OWNER') or hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('decision:create')")
+    public ResponseEntity<BulkDecisionResponse> createDecisions(
+            @Valid @RequestBody BulkCreateDecisionsRequest request,
+            @CurrentUser UserPrincipal user) {
+        return ResponseEntity.ok(decisionService.createDecisions(
+                user.getTenantId(), request.decisions(), user.getUserId()));
+    }
+
+    @PostMapping("/decisions/bulk/assign")
+    @PreAuthorize("hasRole('TENANT_OWNER') or hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('decision:assign')")
+    public ResponseEntity<BulkDecisionResponse> assignDecisions(
+            @Valid @RequestBody BulkAssignDecisionsRequest request,
+            @CurrentUser UserPrincipal user) {
+        return ResponseEntity.ok(decisionService.assignDecisions(user.getTenantId(), request.items()));
+    }
+
+    @PostMapping("/decisions/bulk/resolve")
+    @PreAuthorize("hasRole('TENANT_OWNER') or hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('decision:resolve')")
+    public ResponseEntity<BulkDecisionResponse> resolveDecisions(
+            @Valid @RequestBody BulkResolveDecisionsRequest request,
+            @CurrentUser UserPrincipal user) {
+        return ResponseEntity.ok(decisionService.resolveDecisions(
+                user.getTenantId(), request.items(), user.getUserId()));
+    }
+
+    @PostMapping("/decisions/bulk/defer")
+    @PreAuthorize("hasRole('TENANT_OWNER') or hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('decision:update')")
+    public ResponseEntity<BulkDecisionResponse> deferDecisions(
+            @Valid @RequestBody BulkDeferDecisionsRequest request,
+            @CurrentUser UserPrincipal user) {
+        return ResponseEntity.ok(decisionService.deferDecisions(user.getTenantId(), request.items()));
+    }
+
     @GetMapping("/decisions/{id}/comments")
     @PreAuthorize("hasRole('TENANT_OWNER') or hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('decision:read')")
     public ResponseEntity<List<CommentResponse>> getComments(
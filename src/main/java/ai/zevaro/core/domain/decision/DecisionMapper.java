@@ -1,9 +1,8 @@
 package ai.zevaro.core.domain.decision;
 
+import ai.zevaro.core.cache.ReferenceNameCache;
 import ai.zevaro.core.domain.comment.dto.CommentResponse;
-import ai.zevaro.core.domain.decision.dto.BlockedItem;
 import ai.zevaro.core.domain.decision.dto.CreateDecisionRequest;
-import ai.zevaro.core.domain.decision.dto.DecisionOption;
 import ai.zevaro.core.domain.decision.dto.DecisionResponse;
 import ai.zevaro.core.domain.decision.dto.DecisionSummary;
 import ai.zevaro.core.domain.decision.dto.UpdateDecisionRequest;
@@ -12,7 +11,6 @@ import ai.zevaro.core.domain.hypothesis.HypothesisMapper;
 import ai.zevaro.core.domain.hypothesis.HypothesisRepository;
 import ai.zevaro.core.domain.outcome.OutcomeMapper;
 import ai.zevaro.core.domain.program.ProgramMapper;
-import ai.zevaro.core.domain.program.ProgramRepository;
 import ai.zevaro.core.domain.queue.DecisionQueueMapper;
 import ai.zevaro.core.domain.requirement.RequirementRepository;
 import ai.zevaro.core.domain.specification.SpecificationRepository;
@@ -20,25 +18,18 @@ import ai.zevaro.core.domain.stakeholder.StakeholderMapper;
 import ai.zevaro.core.domain.team.TeamMapper;
 import ai.zevaro.core.domain.ticket.TicketRepository;
 import ai.zevaro.core.domain.user.UserMapper;
-import ai.zevaro.core.domain.workstream.Workstream;
-import ai.zevaro.core.domain.workstream.WorkstreamRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
-@Slf4j
 public class DecisionMapper {
 
-    private final ObjectMapper objectMapper;
     private final UserMapper userMapper;
     private final TeamMapper teamMapper;
     private final ProgramMapper programMapper;
@@ -50,8 +41,7 @@ public class DecisionMapper {
     private final SpecificationRepository specificationRepository;
     private final RequirementRepository requirementRepository;
     private final TicketRepository ticketRepository;
-    private final WorkstreamRepository workstreamRepository;
-    private final ProgramRepository programRepository;
+    private final ReferenceNameCache referenceNameCache;
 
     public DecisionResponse toResponse(Decision decision, int commentCount) {
         return toResponse(decision, commentCount, 0, null, null);
@@ -68,11 +58,20 @@ public class DecisionMapper {
         }
 
         String parentTitle = resolveParentTitle(decision.getParentType(), decision.getParentId(), decision.getTenantId());
-        String workstreamName = null;
-        if (decision.getWorkstreamId() != null) {
-            workstreamName = workstreamRepository.findByIdAndTenantId(decision.getWorkstreamId(), decision.getTenantId())
-                    .map(Workstream::getName)
-                    .orElse(null);
+        String workstreamName = referenceNameCache.workstreamName(decision.getTenantId(), decision.getWorkstreamId());
+
+        return toResponse(decision, commentCount, voteCount, parentTitle, workstreamName, votes, comments);
+    }
+
+    /**
+     * Builds a response from pre-resolved lookups. Used by {@link DecisionResponseAssembler}
+     * so list endpoints don't issue per-row parent title and workstream queries.
+     */
+    public DecisionResponse toResponse(Decision decision, int commentCount, int voteCount,
+                                        String parentTitle, String workstreamName,
+                                        List<VoteResponse> votes, List<CommentResponse> comments) {
+        if (decision == null) {
+            return null;
         }
 
         return new DecisionResponse(
@@ -80,7 +79,7 @@ public class DecisionMapper {
                 decision.getTitle(),
                 decision.getDescription(),
                 decision.getContext(),
-                parseOptions(decision.getOptions()),
+                decision.getOptions(),
                 decision.getStatus(),
                 decision.getPriority(),
                 decision.getDecisionType(),
@@ -107,14 +106,14 @@ public class DecisionMapper {
                 decision.getDecidedBy() != null ? userMapper.toSummary(decision.getDecidedBy()) : null,
                 decision.getDecidedAt(),
                 decision.getDecisionRationale(),
-                parseSelectedOption(decision.getSelectedOption()),
+                decision.getSelectedOption(),
                 decision.getResolution(),
                 decision.getWasEscalated() != null && decision.getWasEscalated(),
-                parseBlockedItems(decision.getBlockedItems()),
+                decision.getBlockedItems(),
                 commentCount,
                 voteCount,
-                parseJsonToStringMap(decision.getExternalRefs()),
-                parseJsonToList(decision.getTags()),
+                decision.getExternalRefs(),
+                decision.getTags(),
                 decision.getCreatedAt(),
                 decision.getUpdatedAt(),
                 votes,
@@ -122,6 +121,30 @@ public class DecisionMapper {
         );
     }
 
+    /**
+     * Copy of a previously built response with {@code overdue} and {@code waitTimeHours} recomputed
+     * for {@code now}, for responses held in memory by {@link DecisionQueueIndex}.
+     */
+    public DecisionResponse withTimingAt(DecisionResponse r, Instant now) {
+        boolean overdue = r.dueAt() != null && now.isAfter(r.dueAt())
+                && r.status() != DecisionStatus.DECIDED
+                && r.status() != DecisionStatus.IMPLEMENTED
+                && r.status() != DecisionStatus.CANCELLED;
+        long waitTimeHours = r.createdAt() != null ? Duration.between(r.createdAt(), now).toHours() : 0;
+        if (overdue == r.overdue() && waitTimeHours == r.waitTimeHours()) {
+            return r;
+        }
+
+        return new DecisionResponse(
+                r.id(), r.title(), r.description(), r.context(), r.options(), r.status(), r.priority(),
+                r.decisionType(), r.owner(), r.assignedTo(), r.outcome(), r.hypothesis(), r.team(), r.program(),
+                r.queue(), r.stakeholder(), r.parentType(), r.parentId(), r.parentTitle(), r.workstreamId(),
+                r.workstreamName(), r.slaHours(), r.dueAt(), overdue, waitTimeHours, r.escalationLevel(),
+                r.escalatedAt(), r.escalatedTo(), r.decidedBy(), r.decidedAt(), r.decisionRationale(),
+                r.selectedOption(), r.resolution(), r.wasEscalated(), r.blockedItems(), r.commentCount(),
+                r.voteCount(), r.externalRefs(), r.tags(), r.createdAt(), r.updatedAt(), r.votes(), r.comments());
+    }
+
     public DecisionSummary toSummary(Decision decision) {
         if (decision == null) {
             return null;
@@ -143,12 +166,12 @@ public class DecisionMapper {
         decision.setTitle(request.title());
         decision.setDescription(request.description());
         decision.setContext(request.context());
-        decision.setOptions(optionsToJson(request.options()));
+        decision.setOptions(request.options());
         decision.setPriority(request.priority());
         decision.setDecisionType(request.decisionType());
         decision.setSlaHours(request.slaHours());
-        decision.setBlockedItems(blockedItemsToJson(request.blockedItems()));
-        decision.setTags(listToJson(request.tags()));
+        decision.setBlockedItems(request.blockedItems());
+        decision.setTags(request.tags());
         decision.setCreatedById(createdById);
         decision.setStatus(DecisionStatus.NEEDS_INPUT);
         decision.setEscalationLevel(0);
@@ -166,7 +189,7 @@ public class DecisionMapper {
             decision.setContext(request.context());
         }
         if (request.options() != null) {
-            decision.setOptions(optionsToJson(request.options()));
+            decision.setOptions(request.options());
         }
         if (request.priority() != null) {
             decision.setPriority(request.priority());
@@ -178,13 +201,13 @@ public class DecisionMapper {
             decision.setSlaHours(request.slaHours());
         }
         if (request.blockedItems() != null) {
-            decision.setBlockedItems(blockedItemsToJson(request.blockedItems()));
+            decision.setBlockedItems(request.blockedItems());
         }
         if (request.externalRefs() != null) {
-            decision.setExternalRefs(mapToJson(request.externalRefs()));
+            decision.setExternalRefs(request.externalRefs());
         }
         if (request.tags() != null) {
-            decision.setTags(listToJson(request.tags()));
+            decision.setTags(request.tags());
         }
     }
 
@@ -218,132 +241,8 @@ public class DecisionMapper {
             case TICKET -> ticketRepository.findByIdAndTenantId(parentId, tenantId)
                     .map(t -> t.getTitle())
                     .orElse(null);
-            case WORKSTREAM -> workstreamRepository.findByIdAndTenantId(parentId, tenantId)
-                    .map(w -> w.getName())
-                    .orElse(null);
-            case PROGRAM -> programRepository.findByIdAndTenantId(parentId, tenantId)
-                    .map(p -> p.getName())
-                    .orElse(null);
+            case WORKSTREAM -> referenceNameCache.workstreamName(tenantId, parentId);
+            case PROGRAM -> referenceNameCache.programName(tenantId, parentId);
         };
     }
-
-    private List<DecisionOption> parseOptions(String json) {
-        if (json == null || json.isBlank()) {
-            return null;
-        }
-        try {
-            return objectMapper.readValue(json, new TypeReference<>() {});
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to parse options JSON: {}", json, e);
-            return null;
-        }
-    }
-
-    private DecisionOption parseSelectedOption(String json) {
-        if (json == null || json.isBlank()) {
-            return null;
-        }
-        try {
-            return objectMapper.readValue(json, DecisionOption.class);
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to parse selected option JSON: {}", json, e);
-            return null;
-        }
-    }
-
-    private List<BlockedItem> parseBlockedItems(String json) {
-        if (json == null || json.isBlank()) {
-            return null;
-        }
-        try {
-            return objectMapper.readValue(json, new TypeReference<>() {});
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to parse blocked items JSON: {}", json, e);
-            return null;
-        }
-    }
-
-    private Map<String, String> parseJsonToStringMap(String json) {
-        if (json == null || json.isBlank()) {
-            return null;
-        }
-        try {
-            return objectMapper.readValue(json, new TypeReference<>() {});
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to parse JSON to string map: {}", json, e);
-            return null;
-        }
-    }
-
-    private List<String> parseJsonToList(String json) {
-        if (json == null || json.isBlank()) {
-            return null;
-        }
-        try {
-            return objectMapper.readValue(json, new TypeReference<>() {});
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to parse JSON to list: {}", json, e);
-            return null;
-        }
-    }
-
-    public String optionsToJson(List<DecisionOption> options) {
-        if (options == null) {
-            return null;
-        }
-        try {
-            return objectMapper.writeValueAsString(options);
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to convert options to JSON", e);
-            return null;
-        }
-    }
-
-    public String selectedOptionToJson(DecisionOption option) {
-        if (option == null) {
-            return null;
-        }
-        try {
-            return objectMapper.writeValueAsString(option);
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to convert selected option to JSON", e);
-            return null;
-        }
-    }
-
-    public String blockedItemsToJson(List<BlockedItem> items) {
-        if (items == null) {
-            return null;
-        }
-        try {
-            return objectMapper.writeValueAsString(items);
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to convert blocked items to JSON", e);
-            return null;
-        }
-    }
-
-    private String mapToJson(Map<String, ?> map) {
-        if (map == null) {
-            return null;
-        }
-        try {
-            return objectMapper.writeValueAsString(map);
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to convert map to JSON", e);
-            return null;
-        }
-    }
-
-    private String listToJson(List<String> list) {
-        if (list == null) {
-            return null;
-        }
-        try {
-            return objectMapper.writeValueAsString(list);
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to convert list to JSON", e);
-            return null;
-        }
-    }
 }
@@ -0,0 +1,618 @@
+package ai.zevaro.core.domain.decision;
+
+import ai.zevaro.core.config.AppConstants;
+import ai.zevaro.core.domain.decision.dto.DecisionResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory index of each tenant's open decisions, so the queue views are served without
+ * touching the database.
+ *
+ * - Open decisions sit in a skip list ordered by priority, then due date; secondary skip lists
+ *   by assignee, team, queue and priority share that order, so every view is one ordered walk
+ * - A tenant's index is built on its first read, together with its last
+ *   {@link AppConstants#DECISION_QUEUE_RECENTLY_DECIDED_LIMIT} decided decisions, and rebuilt
+ *   {@link AppConstants#DECISION_QUEUE_INDEX_REBUILD_MINUTES} minutes later to pick up changes
+ *   made outside {@link DecisionService} (comments, deleted users and teams)
+ * - {@link DecisionService} reports changes; after commit the caller's response is applied at once,
+ *   so users see their own change on the next read, and a background thread re-reads the changed
+ *   decisions, which settles any reordering between concurrent commits
+ * - Changes are broadcast over Redis so other nodes re-read the same decisions; a node that misses
+ *   messages (Redis down, refresh queue full) catches up at its next rebuild
+ * - The indexes together hold at most {@link AppConstants#DECISION_QUEUE_INDEX_MAX_DECISIONS} decisions;
+ *   least recently used tenants are dropped beyond that. A tenant's size is taken when it is built
+ *   and after each refresh
+ * - Tenants with more than {@link AppConstants#DECISION_QUEUE_INDEX_MAX_OPEN} open decisions, or
+ *   all tenants with {@code zevaro.decisions.queue-index.enabled=false}, are read from the database
+ * - Responses are held as assembled; {@code overdue} and {@code waitTimeHours} are recomputed on read.
+ *   Reads are weakly consistent: a decision being moved may be missing from one read
+ *
+ * Metrics: {@code cache.*{cache=decision.queue}}, {@code zevaro.decision.queue.index.build},
+ * {@code zevaro.decision.queue.index.refreshed}, {@code zevaro.decision.queue.index.dropped} and
+ * {@code zevaro.decision.queue.index.pending}.
+ */
+@Component
+@Slf4j
+public class DecisionQueueIndex implements SmartLifecycle {
+
+    private static final String CHANGES_CHANNEL = "zevaro:decisions:queue-changes";
+    private static final List<DecisionStatus> OPEN_STATUSES =
+            List.of(DecisionStatus.NEEDS_INPUT, DecisionStatus.UNDER_DISCUSSION);
+    private static final Duration AVERAGE_WINDOW = Duration.ofDays(30);
+
+    /**
+     * Position of an open decision: priority, then due date; creation time and id break ties.
+     */
+    private record QueueKey(int priority, long dueAt, long createdAt, UUID id) implements Comparable<QueueKey> {
+
+        static QueueKey of(DecisionResponse decision) {
+            return new QueueKey(
+                    decision.priority() != null ? decision.priority().ordinal() : Integer.MAX_VALUE,
+                    decision.dueAt() != null ? decision.dueAt().toEpochMilli() : Long.MAX_VALUE,
+                    decision.createdAt() != null ? decision.createdAt().toEpochMilli() : Long.MAX_VALUE,
+                    decision.id());
+        }
+
+        @Override
+        public int compareTo(QueueKey other) {
+            int result = Integer.compare(priority, other.priority);
+            if (result == 0) {
+                result = Long.compare(dueAt, other.dueAt);
+            }
+            if (result == 0) {
+                result = Long.compare(createdAt, other.createdAt);
+            }
+            return result != 0 ? result : id.compareTo(other.id);
+        }
+    }
+
+    /**
+     * Position of a decided decision, most recent first.
+     */
+    private record DecidedKey(long decidedAt, UUID id) implements Comparable<DecidedKey> {
+
+        @Override
+        public int compareTo(DecidedKey other) {
+            int result = Long.compare(other.decidedAt, decidedAt);
+            return result != 0 ? result : id.compareTo(other.id);
+        }
+    }
+
+    private record Refresh(UUID tenantId, Collection<UUID> decisionIds, boolean broadcast) {}
+
+    private final DecisionRepository decisionRepository;
+    private final DecisionResponseAssembler responseAssembler;
+    private final DecisionMapper decisionMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Cache<UUID, TenantIndex> indexes;
+    private final BlockingQueue<Refresh> refreshes =
+            new LinkedBlockingQueue<>(AppConstants.DECISION_QUEUE_INDEX_REFRESH_QUEUE_CAPACITY);
+
+    private final Timer buildTimer;
+    private final Counter refreshedCounter;
+    private final Counter droppedCounter;
+
+    private volatile boolean running;
+    private Thread refreshThread;
+
+    public DecisionQueueIndex(DecisionRepository decisionRepository,
+                              DecisionResponseAssembler responseAssembler,
+                              DecisionMapper decisionMapper,
+                              StringRedisTemplate redisTemplate,
+                              RedisMessageListenerContainer listenerContainer,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${zevaro.decisions.queue-index.enabled:true}") boolean enabled) {
+        this.decisionRepository = decisionRepository;
+        this.responseAssembler = responseAssembler;
+        this.decisionMapper = decisionMapper;
+        this.redisTemplate = redisTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+
+        // Re-weighing an index replaces it in the cache; that must not postpone its rebuild
+        long rebuildNanos = TimeUnit.MINUTES.toNanos(AppConstants.DECISION_QUEUE_INDEX_REBUILD_MINUTES);
+        this.indexes = Caffeine.newBuilder()
+                .maximumWeight(AppConstants.DECISION_QUEUE_INDEX_MAX_DECISIONS)
+                .weigher((UUID tenantId, TenantIndex index) -> index.size())
+                .expireAfter(new Expiry<UUID, TenantIndex>() {
+                    @Override
+                    public long expireAfterCreate(UUID key, TenantIndex value, long currentTime) {
+                        return rebuildNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(UUID key, TenantIndex value, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(UUID key, TenantIndex value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, indexes, "decision.queue");
+
+        this.buildTimer = meterRegistry.timer("zevaro.decision.queue.index.build");
+        this.refreshedCounter = meterRegistry.counter("zevaro.decision.queue.index.refreshed");
+        this.droppedCounter = meterRegistry.counter("zevaro.decision.queue.index.dropped");
+        meterRegistry.gaugeCollectionSize("zevaro.decision.queue.index.pending", List.of(), refreshes);
+
+        listenerContainer.addMessageListener(this::onRemoteChange, new ChannelTopic(CHANGES_CHANNEL));
+    }
+
+    /**
+     * Answer a read from the tenant's index, or with {@code fromDatabase} (in a read-only
+     * transaction) when the tenant is not indexed.
+     */
+    public <T> T read(UUID tenantId, Function<TenantIndex, T> fromIndex, Supplier<T> fromDatabase) {
+        if (enabled) {
+            TenantIndex index = indexes.get(tenantId, TenantIndex::new);
+            ensureLoaded(index);
+            if (!index.oversized) {
+                return fromIndex.apply(index);
+            }
+        }
+        return readOnlyTransaction.execute(status -> fromDatabase.get());
+    }
+
+    /**
+     * Record a change to one decision; {@code response} is its state as of this transaction.
+     * Takes effect after commit.
+     */
+    public void onChanged(UUID tenantId, DecisionResponse response) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> {
+            TenantIndex index = indexes.getIfPresent(tenantId);
+            if (index != null && index.loaded) {
+                synchronized (index) {
+                    index.apply(response);
+                }
+            }
+            enqueue(new Refresh(tenantId, List.of(response.id()), true));
+        });
+    }
+
+    /**
+     * Record changes to decisions (including deletions) to be re-read from the database after commit.
+     */
+    public void onChanged(UUID tenantId, Collection<UUID> decisionIds) {
+        if (!enabled || decisionIds.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = List.copyOf(decisionIds);
+        afterCommit(() -> enqueue(new Refresh(tenantId, ids, true)));
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        refreshThread = new Thread(this::refreshLoop, "decision-queue-index");
+        refreshThread.setDaemon(true);
+        refreshThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        refreshThread.interrupt();
+        try {
+            refreshThread.join(TimeUnit.SECONDS.toMillis(AppConstants.DEFAULT_TIMEOUT_SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void ensureLoaded(TenantIndex index) {
+        if (index.loaded) {
+            return;
+        }
+        synchronized (index) {
+            if (!index.loaded) {
+                load(index);
+                index.loaded = true;
+            }
+        }
+        reweigh(index);
+    }
+
+    /**
+     * Let the cache account for the index's current size.
+     */
+    private void reweigh(TenantIndex index) {
+        indexes.asMap().replace(index.tenantId, index, index);
+    }
+
+    private void load(TenantIndex index) {
+        long start = System.nanoTime();
+        List<DecisionResponse> decisions = readOnlyTransaction.execute(status -> {
+            if (decisionRepository.countPendingDecisions(index.tenantId) > AppConstants.DECISION_QUEUE_INDEX_MAX_OPEN) {
+                return null;
+            }
+            List<Decision> rows = new ArrayList<>(decisionRepository.findByTenantIdAndStatusIn(index.tenantId, OPEN_STATUSES));
+            rows.addAll(decisionRepository.findByTenantIdAndStatusOrderByDecidedAtDesc(index.tenantId,
+                    DecisionStatus.DECIDED, PageRequest.of(0, AppConstants.DECISION_QUEUE_RECENTLY_DECIDED_LIMIT)));
+            return responseAssembler.toResponses(rows);
+        });
+
+        if (decisions == null) {
+            index.oversized = true;
+            log.info("Tenant {} has more than {} open decisions, serving its queue from the database",
+                    index.tenantId, AppConstants.DECISION_QUEUE_INDEX_MAX_OPEN);
+            return;
+        }
+        decisions.forEach(index::apply);
+        buildTimer.record(Duration.ofNanos(System.nanoTime() - start));
+        log.debug("Built decision queue index for tenant {}: {} open decisions", index.tenantId, index.pendingCount());
+    }
+
+    private void enqueue(Refresh refresh) {
+        if (!refreshes.offer(refresh)) {
+            // Without the refresh this node could keep a stale entry until the next rebuild
+            droppedCounter.increment();
+            indexes.invalidate(refresh.tenantId());
+        }
+    }
+
+    private void refreshLoop() {
+        List<Refresh> batch = new ArrayList<>(AppConstants.DECISION_QUEUE_INDEX_REFRESH_BATCH_SIZE);
+        while (running) {
+            try {
+                batch.add(refreshes.take());
+                refreshes.drainTo(batch, AppConstants.DECISION_QUEUE_INDEX_REFRESH_BATCH_SIZE - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Decision queue index refresh failed: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void process(List<Refresh> batch) {
+        Map<UUID, Set<UUID>> changed = new LinkedHashMap<>();
+        Map<UUID, Set<UUID>> local = new LinkedHashMap<>();
+        for (Refresh refresh : batch) {
+            changed.computeIfAbsent(refresh.tenantId(), k -> new LinkedHashSet<>()).addAll(refresh.decisionIds());
+            if (refresh.broadcast()) {
+                local.computeIfAbsent(refresh.tenantId(), k -> new LinkedHashSet<>()).addAll(refresh.decisionIds());
+            }
+        }
+        changed.forEach(this::refresh);
+        local.forEach(this::broadcast);
+    }
+
+    /**
+     * Re-read decisions and apply their committed state; those no longer found were deleted.
+     * Runs under the index lock so it cannot interleave with a build that read older data.
+     */
+    private void refresh(UUID tenantId, Set<UUID> decisionIds) {
+        TenantIndex index = indexes.getIfPresent(tenantId);
+        if (index == null) {
+            return;
+        }
+        synchronized (index) {
+            if (!index.loaded || index.oversized) {
+                return;
+            }
+            try {
+                List<DecisionResponse> current = readOnlyTransaction.execute(status -> responseAssembler.toResponses(
+                        decisionRepository.findByIdInAndTenantId(decisionIds, tenantId)));
+                Set<UUID> deleted = new HashSet<>(decisionIds);
+                for (DecisionResponse decision : current) {
+                    index.apply(decision);
+                    deleted.remove(decision.id());
+                }
+                deleted.forEach(index::remove);
+                refreshedCounter.increment(decisionIds.size());
+                reweigh(index);
+            } catch (DataAccessException e) {
+                indexes.invalidate(tenantId);
+                log.warn("Could not refresh decision queue index for tenant {}, dropped it: {}",
+                        tenantId, e.getMessage());
+            }
+        }
+    }
+
+    private void broadcast(UUID tenantId, Set<UUID> decisionIds) {
+        String ids = decisionIds.stream().map(UUID::toString).collect(Collectors.joining(","));
+        try {
+            redisTemplate.convertAndSend(CHANGES_CHANNEL, nodeId + "|" + tenantId + "|" + ids);
+        } catch (DataAccessException e) {
+            log.debug("Could not broadcast decision queue changes for tenant {}: {}", tenantId, e.getMessage());
+        }
+    }
+
+    private void onRemoteChange(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\|", 3);
+        if (parts.length != 3) {
+            log.warn("Ignoring malformed decision queue change message: {}", body);
+            return;
+        }
+        if (nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            UUID tenantId = UUID.fromString(parts[1]);
+            if (indexes.getIfPresent(tenantId) == null) {
+                return;
+            }
+            List<UUID> ids = new ArrayList<>();
+            for (String id : parts[2].split(",")) {
+                ids.add(UUID.fromString(id));
+            }
+            enqueue(new Refresh(tenantId, ids, false));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed decision queue change message: {}", body);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static UUID assigneeId(DecisionResponse decision) {
+        return decision.assignedTo() != null ? decision.assignedTo().id() : null;
+    }
+
+    private static UUID teamId(DecisionResponse decision) {
+        return decision.team() != null ? decision.team().id() : null;
+    }
+
+    private static UUID queueId(DecisionResponse decision) {
+        return decision.queue() != null ? decision.queue().id() : null;
+    }
+
+    /**
+     * One tenant's open and recently decided decisions. Read methods return responses in queue order.
+     * Changes are made by the enclosing index while holding this object's lock.
+     */
+    public final class TenantIndex {
+
+        private final UUID tenantId;
+        private final ConcurrentSkipListMap<QueueKey, DecisionResponse> open = new ConcurrentSkipListMap<>();
+        private final Map<UUID, QueueKey> openKeys = new ConcurrentHashMap<>();
+        private final Map<UUID, ConcurrentSkipListMap<QueueKey, DecisionResponse>> byAssignee = new ConcurrentHashMap<>();
+        private final Map<UUID, ConcurrentSkipListMap<QueueKey, DecisionResponse>> byTeam = new ConcurrentHashMap<>();
+        private final Map<UUID, ConcurrentSkipListMap<QueueKey, DecisionResponse>> byQueue = new ConcurrentHashMap<>();
+        private final Map<DecisionPriority, ConcurrentSkipListMap<QueueKey, DecisionResponse>> byPriority =
+                new EnumMap<>(DecisionPriority.class);
+        private final ConcurrentSkipListMap<DecidedKey, DecisionResponse> decided = new ConcurrentSkipListMap<>();
+        private final Map<UUID, DecidedKey> decidedKeys = new ConcurrentHashMap<>();
+
+        private volatile boolean loaded;
+        private volatile boolean oversized;
+        private volatile Double averageDecisionTimeHours;
+        private volatile long averageRefreshAtMs;
+
+        private TenantIndex(UUID tenantId) {
+            this.tenantId = tenantId;
+            for (DecisionPriority priority : DecisionPriority.values()) {
+                byPriority.put(priority, new ConcurrentSkipListMap<>());
+            }
+        }
+
+        public List<DecisionResponse> open() {
+            return list(open.values());
+        }
+
+        public List<DecisionResponse> open(DecisionStatus status) {
+            return list(open.values()).stream().filter(d -> d.status() == status).toList();
+        }
+
+        public List<DecisionResponse> assignedTo(UUID userId) {
+            return list(valuesOf(byAssignee.get(userId)));
+        }
+
+        public List<DecisionResponse> inTeam(UUID teamId) {
+            return list(valuesOf(byTeam.get(teamId)));
+        }
+
+        public List<DecisionResponse> inQueue(UUID queueId) {
+            return list(valuesOf(byQueue.get(queueId)));
+        }
+
+        public List<DecisionResponse> withPriority(DecisionPriority priority) {
+            return list(byPriority.get(priority).values());
+        }
+
+        public List<DecisionResponse> recentlyDecided() {
+            return list(decided.values());
+        }
+
+        public long pendingCount() {
+            return openKeys.size();
+        }
+
+        /**
+         * Decisions held, for the cache weight; at least 1 so an empty index can still be evicted.
+         */
+        private int size() {
+            return Math.max(1, openKeys.size() + decidedKeys.size());
+        }
+
+        /**
+         * Mean hours from creation to decision over the last 30 days, re-queried at most every
+         * {@link AppConstants#DECISION_QUEUE_INDEX_AVG_REFRESH_SECONDS} seconds.
+         */
+        public Double averageDecisionTimeHours() {
+            long now = System.currentTimeMillis();
+            if (now >= averageRefreshAtMs) {
+                Instant since = Instant.ofEpochMilli(now).minus(AVERAGE_WINDOW);
+                averageDecisionTimeHours = readOnlyTransaction.execute(
+                        status -> decisionRepository.getAverageDecisionTimeHours(tenantId, since));
+                averageRefreshAtMs = now + TimeUnit.SECONDS.toMillis(AppConstants.DECISION_QUEUE_INDEX_AVG_REFRESH_SECONDS);
+            }
+            return averageDecisionTimeHours;
+        }
+
+        private List<DecisionResponse> list(Collection<DecisionResponse> values) {
+            Instant now = Instant.now();
+            Set<UUID> seen = new HashSet<>();
+            List<DecisionResponse> result = new ArrayList<>();
+            for (DecisionResponse decision : values) {
+                // A decision moved while we iterate can be met at both its old and new position
+                if (seen.add(decision.id())) {
+                    result.add(decisionMapper.withTimingAt(decision, now));
+                }
+            }
+            return result;
+        }
+
+        private void apply(DecisionResponse decision) {
+            if (oversized) {
+                return;
+            }
+            remove(decision.id());
+
+            if (OPEN_STATUSES.contains(decision.status())) {
+                QueueKey key = QueueKey.of(decision);
+                open.put(key, decision);
+                openKeys.put(decision.id(), key);
+                addTo(byAssignee, assigneeId(decision), key, decision);
+                addTo(byTeam, teamId(decision), key, decision);
+                addTo(byQueue, queueId(decision), key, decision);
+                byPriority.get(decision.priority()).put(key, decision);
+
+                if (openKeys.size() > AppConstants.DECISION_QUEUE_INDEX_MAX_OPEN) {
+                    oversized = true;
+                    clear();
+                    log.info("Tenant {} now has more than {} open decisions, serving its queue from the database",
+                            tenantId, AppConstants.DECISION_QUEUE_INDEX_MAX_OPEN);
+                }
+            } else if (decision.status() == DecisionStatus.DECIDED && decision.decidedAt() != null) {
+                DecidedKey key = new DecidedKey(decision.decidedAt().toEpochMilli(), decision.id());
+                decided.put(key, decision);
+                decidedKeys.put(decision.id(), key);
+                while (decidedKeys.size() > AppConstants.DECISION_QUEUE_RECENTLY_DECIDED_LIMIT) {
+                    Map.Entry<DecidedKey, DecisionResponse> oldest = decided.pollLastEntry();
+                    if (oldest == null) {
+                        break;
+                    }
+                    decidedKeys.remove(oldest.getKey().id());
+                }
+            }
+        }
+
+        private void remove(UUID decisionId) {
+            QueueKey key = openKeys.remove(decisionId);
+            if (key != null) {
+                DecisionResponse previous = open.remove(key);
+                if (previous != null) {
+                    removeFrom(byAssignee, assigneeId(previous), key);
+                    removeFrom(byTeam, teamId(previous), key);
+                    removeFrom(byQueue, queueId(previous), key);
+                    byPriority.get(previous.priority()).remove(key);
+                }
+            }
+
+            DecidedKey decidedKey = decidedKeys.remove(decisionId);
+            if (decidedKey != null) {
+                decided.remove(decidedKey);
+            }
+        }
+
+        private void clear() {
+            open.clear();
+            openKeys.clear();
+            byAssignee.clear();
+            byTeam.clear();
+            byQueue.clear();
+            byPriority.values().forEach(Map::clear);
+            decided.clear();
+            decidedKeys.clear();
+        }
+
+        private static Collection<DecisionResponse> valuesOf(ConcurrentSkipListMap<QueueKey, DecisionResponse> index) {
+            return index != null ? index.values() : List.of();
+        }
+
+        private static void addTo(Map<UUID, ConcurrentSkipListMap<QueueKey, DecisionResponse>> index, UUID id,
+                                  QueueKey key, DecisionResponse decision) {
+            if (id != null) {
+                index.computeIfAbsent(id, k -> new ConcurrentSkipListMap<>()).put(key, decision);
+            }
+        }
+
+        private static void removeFrom(Map<UUID, ConcurrentSkipListMap<QueueKey, DecisionResponse>> index, UUID id,
+                                       QueueKey key) {
+            if (id != null) {
+                index.computeIfPresent(id, (k, entries) -> {
+                    entries.remove(key);
+                    return entries.isEmpty() ? null : entries;
+                });
+            }
+        }
+    }
+}
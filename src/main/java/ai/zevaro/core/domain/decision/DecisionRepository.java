@@ -1,13 +1,17 @@
 package ai.zevaro.core.domain.decision;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,6 +21,8 @@ public interface DecisionRepository extends JpaRepository<Decision, UUID>, org.s
 
     Optional<Decision> findByIdAndTenantId(UUID id, UUID tenantId);
 
+    List<Decision> findByIdInAndTenantId(Collection<UUID> ids, UUID tenantId);
+
     // JOIN FETCH queries for avoiding N+1
     @Query("SELECT d FROM Decision d " +
            "LEFT JOIN FETCH d.owner " +
@@ -53,6 +59,8 @@ public interface DecisionRepository extends JpaRepository<Decision, UUID>, org.s
 
     List<Decision> findByTenantIdAndStatus(UUID tenantId, DecisionStatus status);
 
+    List<Decision> findByTenantIdAndStatusOrderByDecidedAtDesc(UUID tenantId, DecisionStatus status, Pageable pageable);
+
     List<Decision> findByTenantIdAndStatusIn(UUID tenantId, List<DecisionStatus> statuses);
 
     @Query("SELECT d FROM Decision d WHERE d.tenantId = :tenantId AND d.status IN :statuses AND d.team.id = :teamId")
@@ -60,6 +68,11 @@ public interface DecisionRepository extends JpaRepository<Decision, UUID>, org.s
                                                        @Param("statuses") List<DecisionStatus> statuses,
                                                        @Param("teamId") UUID teamId);
 
+    @Query("SELECT d FROM Decision d WHERE d.tenantId = :tenantId AND d.status IN :statuses AND d.queue.id = :queueId")
+    List<Decision> findByTenantIdAndStatusInAndQueueId(@Param("tenantId") UUID tenantId,
+                                                        @Param("statuses") List<DecisionStatus> statuses,
+                                                        @Param("queueId") UUID queueId);
+
     List<Decision> findByTenantIdAndPriorityAndStatusIn(UUID tenantId, DecisionPriority priority, List<DecisionStatus> statuses);
 
     List<Decision> findByTenantIdAndPriority(UUID tenantId, DecisionPriority priority);
@@ -72,8 +85,12 @@ public interface DecisionRepository extends JpaRepository<Decision, UUID>, org.s
 
     List<Decision> findByTenantIdAndAssignedToIdAndStatusIn(UUID tenantId, UUID assignedToId, List<DecisionStatus> statuses);
 
+    Page<Decision> findByTenantIdAndAssignedToIdAndStatusIn(UUID tenantId, UUID assignedToId, List<DecisionStatus> statuses, Pageable pageable);
+
     List<Decision> findByTenantIdAndAssignedToId(UUID tenantId, UUID assignedToId);
 
+    Page<Decision> findByTenantIdAndAssignedToId(UUID tenantId, UUID assignedToId, Pageable pageable);
+
     List<Decision> findByOutcomeId(UUID outcomeId);
 
     List<Decision> findByHypothesisId(UUID hypothesisId);
@@ -89,7 +106,16 @@ public interface DecisionRepository extends JpaRepository<Decision, UUID>, org.s
 
     List<Decision> findByTeamId(UUID teamId);
 
-    @Query("SELECT d FROM Decision d WHERE d.tenantId = :tenantId AND d.status IN :statuses ORDER BY d.priority, d.createdAt")
+    /**
+     * Queue order, as kept by {@link DecisionQueueIndex}: priority by rank (not by name), then due date.
+     */
+    String QUEUE_ORDER = " ORDER BY CASE d.priority" +
+            " WHEN ai.zevaro.core.domain.decision.DecisionPriority.BLOCKING THEN 0" +
+            " WHEN ai.zevaro.core.domain.decision.DecisionPriority.HIGH THEN 1" +
+            " WHEN ai.zevaro.core.domain.decision.DecisionPriority.NORMAL THEN 2 ELSE 3 END," +
+            " d.dueAt ASC NULLS LAST, d.createdAt";
+
+    @Query("SELECT d FROM Decision d WHERE d.tenantId = :tenantId AND d.status IN :statuses" + QUEUE_ORDER)
     List<Decision> findDecisionQueue(@Param("tenantId") UUID tenantId, @Param("statuses") List<DecisionStatus> statuses);
 
     @Query("SELECT d FROM Decision d WHERE d.tenantId = :tenantId AND d.dueAt < :now AND d.status IN ('NEEDS_INPUT', 'UNDER_DISCUSSION')")
@@ -98,8 +124,20 @@ public interface DecisionRepository extends JpaRepository<Decision, UUID>, org.s
     @Query("SELECT d FROM Decision d WHERE d.tenantId = :tenantId AND d.dueAt < :now AND d.status IN ('NEEDS_INPUT', 'UNDER_DISCUSSION') AND d.escalationLevel = 0")
     List<Decision> findNeedingEscalation(@Param("tenantId") UUID tenantId, @Param("now") Instant now);
 
-    @Query("SELECT d FROM Decision d WHERE d.assignedTo.id = :userId AND d.status IN ('NEEDS_INPUT', 'UNDER_DISCUSSION') ORDER BY d.priority, d.createdAt")
-    List<Decision> findMyPendingDecisions(@Param("userId") UUID userId);
+    // For the SLA engine. Bypasses entity listeners; see DecisionService.markAtRisk for why that's safe
+    @Modifying
+    @Query("UPDATE Decision d SET d.slaStatus = ai.zevaro.core.domain.decision.DecisionSlaStatus.AT_RISK " +
+            "WHERE d.id IN :ids AND d.status IN ('NEEDS_INPUT', 'UNDER_DISCUSSION') AND d.atRiskAt <= :now " +
+            "AND (d.slaStatus IS NULL OR d.slaStatus = ai.zevaro.core.domain.decision.DecisionSlaStatus.ON_TRACK)")
+    int markAtRisk(@Param("ids") Collection<UUID> ids, @Param("now") Instant now);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM Decision d WHERE d.id IN :ids")
+    List<Decision> findAllByIdForUpdate(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT d FROM Decision d WHERE d.tenantId = :tenantId AND d.assignedTo.id = :userId " +
+           "AND d.status IN ('NEEDS_INPUT', 'UNDER_DISCUSSION')" + QUEUE_ORDER)
+    List<Decision> findMyPendingDecisions(@Param("tenantId") UUID tenantId, @Param("userId") UUID userId);
 
     @Query("SELECT d.status, COUNT(d) FROM Decision d WHERE d.tenantId = :tenantId GROUP BY d.status")
     List<Object[]> countByStatusForTenant(@Param("tenantId") UUID tenantId);
@@ -133,6 +171,9 @@ public interface DecisionRepository extends JpaRepository<Decision, UUID>, org.s
     @Query(value = "SELECT * FROM decisions WHERE tenant_id = :tenantId AND project_id = :projectId AND status IN ('NEEDS_INPUT', 'UNDER_DISCUSSION') AND sla_hours IS NOT NULL AND (EXTRACT(EPOCH FROM (CURRENT_TIMESTAMP - created_at))/3600) > sla_hours ORDER BY priority, created_at LIMIT 5", nativeQuery = true)
     List<Decision> findSlaBreachedForProject(@Param("tenantId") UUID tenantId, @Param("projectId") UUID projectId);
 
+    @Query(value = "SELECT COUNT(*) FROM decisions WHERE tenant_id = :tenantId AND project_id = :projectId AND status IN ('NEEDS_INPUT', 'UNDER_DISCUSSION') AND sla_hours IS NOT NULL AND (EXTRACT(EPOCH FROM (CURRENT_TIMESTAMP - created_at))/3600) > sla_hours", nativeQuery = true)
+    long countSlaBreachedForProject(@Param("tenantId") UUID tenantId, @Param("projectId") UUID projectId);
+
     // For dashboard - urgent decisions
     @Query(value = "SELECT * FROM decisions WHERE tenant_id = :tenantId AND project_id = :projectId AND status IN ('NEEDS_INPUT', 'UNDER_DISCUSSION') ORDER BY priority, created_at LIMIT 5", nativeQuery = true)
     List<Decision> findUrgentDecisionsForProject(@Param("tenantId") UUID tenantId, @Param("projectId") UUID projectId);
@@ -141,22 +182,25 @@ public interface DecisionRepository extends JpaRepository<Decision, UUID>, org.s
     @Query(value = "SELECT DATE(decided_at) as date, COUNT(*) as count, AVG(EXTRACT(EPOCH FROM (decided_at - created_at))/3600) as avg_hours FROM decisions WHERE tenant_id = :tenantId AND project_id = :projectId AND decided_at IS NOT NULL AND decided_at > :since GROUP BY DATE(decided_at) ORDER BY DATE(decided_at) DESC", nativeQuery = true)
     List<Object[]> findDailyMetricsForProject(@Param("tenantId") UUID tenantId, @Param("projectId") UUID projectId, @Param("since") java.time.Instant since);
 
-    // For team workload - count pending decisions for assignee
-    @Query("SELECT COUNT(d) FROM Decision d WHERE d.tenantId = :tenantId AND d.assignedTo.id = :userId AND d.status IN ('NEEDS_INPUT', 'UNDER_DISCUSSION')")
-    long countPendingForAssignee(@Param("tenantId") UUID tenantId, @Param("userId") UUID userId);
-
-    // For team workload - decisions for calculating response time
-    @Query("SELECT d FROM Decision d WHERE d.tenantId = :tenantId AND d.assignedTo.id = :userId AND d.decidedAt IS NOT NULL ORDER BY d.decidedAt DESC LIMIT 20")
-    List<Decision> findRecentResolvedForAssignee(@Param("tenantId") UUID tenantId, @Param("userId") UUID userId);
-
-    // For stakeholder scorecard - decisions completed this month
-    @Query(value = "SELECT COUNT(*) FROM decisions WHERE tenant_id = :tenantId AND assigned_to_id = :userId AND decided_at IS NOT NULL AND DATE_TRUNC('month', decided_at) = DATE_TRUNC('month', CURRENT_DATE)", nativeQuery = true)
-    long countDecisionsCompletedThisMonth(@Param("tenantId") UUID tenantId, @Param("userId") UUID userId);
+    // For team workload - pending decisions per team member: [userId, count]
+    @Query("SELECT d.assignedTo.id, COUNT(d) FROM Decision d WHERE d.tenantId = :tenantId " +
+            "AND d.assignedTo.id IN (SELECT tm.user.id FROM TeamMember tm WHERE tm.team.id = :teamId) " +
+            "AND d.status IN ('NEEDS_INPUT', 'UNDER_DISCUSSION') GROUP BY d.assignedTo.id")
+    List<Object[]> countPendingByTeamMember(@Param("tenantId") UUID tenantId, @Param("teamId") UUID teamId);
+
+    // For team workload - average hours to decide over each team member's 20 most recent resolved decisions: [userId, hours]
+    @Query(value = "SELECT assigned_to_id, AVG(COALESCE(FLOOR(EXTRACT(EPOCH FROM (decided_at - created_at)) / 60) / 60.0, 0)) " +
+            "FROM (SELECT assigned_to_id, decided_at, created_at, " +
+            "ROW_NUMBER() OVER (PARTITION BY assigned_to_id ORDER BY decided_at DESC) AS rn " +
+            "FROM decisions WHERE tenant_id = :tenantId AND decided_at IS NOT NULL " +
+            "AND assigned_to_id IN (SELECT user_id FROM team_members WHERE team_id = :teamId)) recent " +
+            "WHERE rn <= 20 GROUP BY assigned_to_id", nativeQuery = true)
+    List<Object[]> averageResponseHoursByTeamMember(@Param("tenantId") UUID tenantId, @Param("teamId") UUID teamId);
 
     // Portfolio-scoped queries
     @Query("SELECT d FROM Decision d WHERE d.tenantId = :tenantId AND d.program.id IN :projectIds")
     List<Decision> findByTenantIdAndProjectIdIn(@Param("tenantId") UUID tenantId, @Param("projectIds") List<UUID> projectIds);
 
-    @Query("SELECT d FROM Decision d WHERE d.tenantId = :tenantId AND (LOWER(d.title) LIKE LOWER(CONCAT('%', :query, '%')) OR LOWER(d.description) LIKE LOWER(CONCAT('%', :query, '%')))")
-    List<Decision> search(@Param("tenantId") UUID tenantId, @Param("query") String query, Pageable pageable);
+    @Query("SELECT d.id, d.title FROM Decision d WHERE d.tenantId = :tenantId AND d.id IN :ids")
+    List<Object[]> findTitlesByIds(@Param("tenantId") UUID tenantId, @Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,131 @@
+package ai.zevaro.core.domain.decision;
+
+import ai.zevaro.core.domain.comment.CommentParentType;
+import ai.zevaro.core.domain.comment.CommentRepository;
+import ai.zevaro.core.domain.decision.dto.DecisionResponse;
+import ai.zevaro.core.domain.hypothesis.HypothesisRepository;
+import ai.zevaro.core.domain.program.ProgramRepository;
+import ai.zevaro.core.domain.requirement.RequirementRepository;
+import ai.zevaro.core.domain.specification.SpecificationRepository;
+import ai.zevaro.core.domain.ticket.TicketRepository;
+import ai.zevaro.core.domain.workstream.WorkstreamRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Assembles {@link DecisionResponse} lists in bulk.
+ * <p>
+ * All IDs on a page are collected first, then comment counts, vote counts, workstream names and
+ * parent titles are resolved with one grouped query each (one per parent type present), so the
+ * statement count stays constant regardless of page size. Lazy associations on {@link Decision}
+ * are initialised in batches via {@code hibernate.default_batch_fetch_size}.
+ */
+@Component
+@RequiredArgsConstructor
+public class DecisionResponseAssembler {
+
+    private final DecisionMapper decisionMapper;
+    private final CommentRepository commentRepository;
+    private final DecisionVoteRepository voteRepository;
+    private final WorkstreamRepository workstreamRepository;
+    private final HypothesisRepository hypothesisRepository;
+    private final SpecificationRepository specificationRepository;
+    private final RequirementRepository requirementRepository;
+    private final TicketRepository ticketRepository;
+    private final ProgramRepository programRepository;
+
+    public DecisionResponse toResponse(Decision decision) {
+        if (decision == null) {
+            return null;
+        }
+        return toResponses(List.of(decision)).get(0);
+    }
+
+    public Page<DecisionResponse> toResponses(Page<Decision> page) {
+        return new PageImpl<>(toResponses(page.getContent()), page.getPageable(), page.getTotalElements());
+    }
+
+    public List<DecisionResponse> toResponses(List<Decision> decisions) {
+        if (decisions.isEmpty()) {
+            return List.of();
+        }
+
+        UUID tenantId = decisions.get(0).getTenantId();
+        Set<UUID> decisionIds = new HashSet<>();
+        Set<UUID> workstreamIds = new HashSet<>();
+        Map<DecisionParentType, Set<UUID>> parentIds = new EnumMap<>(DecisionParentType.class);
+
+        for (Decision decision : decisions) {
+            decisionIds.add(decision.getId());
+            if (decision.getWorkstreamId() != null) {
+                workstreamIds.add(decision.getWorkstreamId());
+            }
+            if (decision.getParentType() != null && decision.getParentId() != null) {
+                parentIds.computeIfAbsent(decision.getParentType(), k -> new HashSet<>())
+                        .add(decision.getParentId());
+            }
+        }
+
+        Map<UUID, Long> commentCounts = toCountMap(
+                commentRepository.countByParentIds(tenantId, CommentParentType.DECISION, decisionIds));
+        Map<UUID, Long> voteCounts = toCountMap(voteRepository.countVotesByDecisionIds(decisionIds));
+        Map<UUID, String> workstreamNames = workstreamIds.isEmpty()
+                ? Map.of()
+                : toNameMap(workstreamRepository.findNamesByIds(tenantId, workstreamIds));
+
+        Map<DecisionParentType, Map<UUID, String>> parentTitles = new EnumMap<>(DecisionParentType.class);
+        parentIds.forEach((type, ids) -> parentTitles.put(type, resolveParentTitles(type, ids, tenantId)));
+
+        return decisions.stream()
+                .map(d -> decisionMapper.toResponse(
+                        d,
+                        commentCounts.getOrDefault(d.getId(), 0L).intValue(),
+                        voteCounts.getOrDefault(d.getId(), 0L).intValue(),
+                        d.getParentType() != null
+                                ? parentTitles.getOrDefault(d.getParentType(), Map.of()).get(d.getParentId())
+                                : null,
+                        d.getWorkstreamId() != null ? workstreamNames.get(d.getWorkstreamId()) : null,
+                        null,
+                        null))
+                .toList();
+    }
+
+    private Map<UUID, String> resolveParentTitles(DecisionParentType parentType, Collection<UUID> ids, UUID tenantId) {
+        List<Object[]> rows = switch (parentType) {
+            case HYPOTHESIS -> hypothesisRepository.findTitlesByIds(tenantId, ids);
+            case SPECIFICATION -> specificationRepository.findNamesByIds(tenantId, ids);
+            case REQUIREMENT -> requirementRepository.findTitlesByIds(tenantId, ids);
+            case TICKET -> ticketRepository.findTitlesByIds(tenantId, ids);
+            case WORKSTREAM -> workstreamRepository.findNamesByIds(tenantId, ids);
+            case PROGRAM -> programRepository.findNamesByIds(tenantId, ids);
+        };
+        return toNameMap(rows);
+    }
+
+    private Map<UUID, Long> toCountMap(List<Object[]> rows) {
+        Map<UUID, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((UUID) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    private Map<UUID, String> toNameMap(List<Object[]> rows) {
+        Map<UUID, String> names = new HashMap<>();
+        for (Object[] row : rows) {
+            names.put((UUID) row[0], (String) row[1]);
+        }
+        return names;
+    }
+}
@@ -7,9 +7,18 @@ import ai.zevaro.core.domain.comment.CommentService;
 import ai.zevaro.core.domain.comment.dto.CommentResponse;
 import ai.zevaro.core.domain.comment.dto.CreateCommentRequest;
 import ai.zevaro.core.domain.comment.dto.UpdateCommentRequest;
+import ai.zevaro.core.domain.common.JsonbFilters;
+import ai.zevaro.core.domain.common.KeysetCursor;
+import ai.zevaro.core.domain.common.dto.CursorPage;
 import ai.zevaro.core.domain.decision.dto.BlockedItem;
+import ai.zevaro.core.domain.decision.dto.BulkAssignDecisionsRequest;
+import ai.zevaro.core.domain.decision.dto.BulkDecisionResponse;
+import ai.zevaro.core.domain.decision.dto.BulkDeferDecisionsRequest;
+import ai.zevaro.core.domain.decision.dto.BulkItemResult;
+import ai.zevaro.core.domain.decision.dto.BulkResolveDecisionsRequest;
 import ai.zevaro.core.domain.decision.dto.CastVoteRequest;
 import ai.zevaro.core.domain.decision.dto.CreateDecisionRequest;
+import ai.zevaro.core.domain.decision.dto.DecisionOption;
 import ai.zevaro.core.domain.decision.dto.DecisionQueueResponse;
 import ai.zevaro.core.domain.decision.dto.DecisionResponse;
 import ai.zevaro.core.domain.decision.dto.EscalateDecisionRequest;
@@ -39,7 +48,9 @@ import ai.zevaro.core.event.EventPublisher;
 import ai.zevaro.core.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -52,11 +63,19 @@ import org.springframework.data.jpa.domain.Specification;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -76,7 +95,9 @@ public class DecisionService {
     private final StakeholderService stakeholderService;
     private final WorkstreamRepository workstreamRepository;
     private final DecisionMapper decisionMapper;
+    private final DecisionResponseAssembler responseAssembler;
     private final EventPublisher eventPublisher;
+    private final DecisionQueueIndex queueIndex;
 
     private static final Set<DecisionStatus> OPEN_STATUSES = Set.of(
             DecisionStatus.NEEDS_INPUT,
@@ -107,9 +128,7 @@ public class DecisionService {
             decisions = decisionRepository.findByTenantId(tenantId);
         }
 
-        return decisions.stream()
-                .map(this::toResponseWithCount)
-                .toList();
+        return responseAssembler.toResponses(decisions);
     }
 
     @Transactional(readOnly = true)
@@ -131,7 +150,7 @@ public class DecisionService {
             decisions = decisionRepository.findByTenantId(tenantId, pageable);
         }
 
-        return decisions.map(this::toResponseWithCount);
+        return responseAssembler.toResponses(decisions);
     }
 
     @Transactional(readOnly = true)
@@ -164,106 +183,120 @@ public class DecisionService {
         return decisionMapper.toResponse(decision, commentCount, voteCount, votes, comments);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * The tenant's open decisions by status plus the most recently decided ones, from
+     * {@link DecisionQueueIndex}. The queue reads below are deliberately not {@code @Transactional}:
+     * served from the index they need no connection, and the index opens one when it falls back.
+     */
     public DecisionQueueResponse getDecisionQueue(UUID tenantId) {
-        List<DecisionStatus> openStatuses = List.of(DecisionStatus.NEEDS_INPUT, DecisionStatus.UNDER_DISCUSSION);
-        List<Decision> queueDecisions = decisionRepository.findDecisionQueue(tenantId, openStatuses);
-
-        List<DecisionResponse> needsInput = queueDecisions.stream()
-                .filter(d -> d.getStatus() == DecisionStatus.NEEDS_INPUT)
-                .map(this::toResponseWithCount)
-                .toList();
-
-        List<DecisionResponse> underDiscussion = queueDecisions.stream()
-                .filter(d -> d.getStatus() == DecisionStatus.UNDER_DISCUSSION)
-                .map(this::toResponseWithCount)
-                .toList();
-
-        List<Decision> recentlyDecided = decisionRepository.findByTenantIdAndStatus(tenantId, DecisionStatus.DECIDED);
-        List<DecisionResponse> decided = recentlyDecided.stream()
-                .map(this::toResponseWithCount)
-                .toList();
-
-        long totalPending = decisionRepository.countPendingDecisions(tenantId);
-        Instant thirtyDaysAgo = Instant.now().minus(Duration.ofDays(30));
-        Double avgTime = decisionRepository.getAverageDecisionTimeHours(tenantId, thirtyDaysAgo);
-
-        return new DecisionQueueResponse(needsInput, underDiscussion, decided, totalPending, avgTime);
+        return queueIndex.read(tenantId,
+                index -> new DecisionQueueResponse(
+                        index.open(DecisionStatus.NEEDS_INPUT),
+                        index.open(DecisionStatus.UNDER_DISCUSSION),
+                        index.recentlyDecided(),
+                        index.pendingCount(),
+                        index.averageDecisionTimeHours()),
+                () -> {
+                    List<DecisionResponse> queueResponses = responseAssembler.toResponses(decisionRepository.findDecisionQueue(
+                            tenantId, List.of(DecisionStatus.NEEDS_INPUT, DecisionStatus.UNDER_DISCUSSION)));
+                    List<DecisionResponse> needsInput = queueResponses.stream()
+                            .filter(d -> d.status() == DecisionStatus.NEEDS_INPUT)
+                            .toList();
+                    List<DecisionResponse> underDiscussion = queueResponses.stream()
+                            .filter(d -> d.status() == DecisionStatus.UNDER_DISCUSSION)
+                            .toList();
+
+                    List<Decision> recentlyDecided = decisionRepository.findByTenantIdAndStatusOrderByDecidedAtDesc(
+                            tenantId, DecisionStatus.DECIDED, PageRequest.of(0, AppConstants.DECISION_QUEUE_RECENTLY_DECIDED_LIMIT));
+                    Instant thirtyDaysAgo = Instant.now().minus(Duration.ofDays(30));
+
+                    return new DecisionQueueResponse(
+                            needsInput,
+                            underDiscussion,
+                            responseAssembler.toResponses(recentlyDecided),
+                            decisionRepository.countPendingDecisions(tenantId),
+                            decisionRepository.getAverageDecisionTimeHours(tenantId, thirtyDaysAgo));
+                });
     }
 
-    @Transactional(readOnly = true)
-    public List<DecisionResponse> getMyPendingDecisions(UUID userId) {
-        return decisionRepository.findMyPendingDecisions(userId).stream()
-                .map(this::toResponseWithCount)
-                .toList();
+    public List<DecisionResponse> getMyPendingDecisions(UUID tenantId, UUID userId) {
+        return queueIndex.read(tenantId,
+                index -> index.assignedTo(userId),
+                () -> responseAssembler.toResponses(decisionRepository.findMyPendingDecisions(tenantId, userId)));
     }
 
     @Transactional(readOnly = true)
     public List<DecisionResponse> getOverdueDecisions(UUID tenantId) {
-        return decisionRepository.findOverdueDecisions(tenantId, Instant.now()).stream()
-                .map(this::toResponseWithCount)
-                .toList();
+        return responseAssembler.toResponses(decisionRepository.findOverdueDecisions(tenantId, Instant.now()));
     }
 
-    @Transactional(readOnly = true)
-    public List<DecisionResponse> getPendingDecisions(UUID tenantId, UUID teamId) {
-        List<Decision> decisions;
-        if (teamId != null) {
-            decisions = decisionRepository.findByTenantIdAndStatusInAndTeamId(
-                    tenantId, List.of(DecisionStatus.NEEDS_INPUT, DecisionStatus.UNDER_DISCUSSION), teamId);
-        } else {
-            decisions = decisionRepository.findByTenantIdAndStatusIn(
-                    tenantId, List.of(DecisionStatus.NEEDS_INPUT, DecisionStatus.UNDER_DISCUSSION));
-        }
-        return decisions.stream()
-                .map(this::toResponseWithCount)
-                .toList();
+    /**
+     * Open decisions, optionally narrowed to a team and/or a decision queue.
+     */
+    public List<DecisionResponse> getPendingDecisions(UUID tenantId, UUID teamId, UUID queueId) {
+        return queueIndex.read(tenantId,
+                index -> {
+                    List<DecisionResponse> decisions = teamId != null ? index.inTeam(teamId)
+                            : queueId != null ? index.inQueue(queueId)
+                            : index.open();
+                    if (teamId != null && queueId != null) {
+                        decisions = decisions.stream()
+                                .filter(d -> d.queue() != null && queueId.equals(d.queue().id()))
+                                .toList();
+                    }
+                    return decisions;
+                },
+                () -> {
+                    List<DecisionStatus> openStatuses = List.of(DecisionStatus.NEEDS_INPUT, DecisionStatus.UNDER_DISCUSSION);
+                    List<Decision> decisions;
+                    if (teamId != null) {
+                        decisions = decisionRepository.findByTenantIdAndStatusInAndTeamId(tenantId, openStatuses, teamId);
+                    } else if (queueId != null) {
+                        decisions = decisionRepository.findByTenantIdAndStatusInAndQueueId(tenantId, openStatuses, queueId);
+                    } else {
+                        decisions = decisionRepository.findByTenantIdAndStatusIn(tenantId, openStatuses);
+                    }
+                    if (teamId != null && queueId != null) {
+                        decisions = decisions.stream()
+                                .filter(d -> d.getQueue() != null && queueId.equals(d.getQueue().getId()))
+                                .toList();
+                    }
+                    return responseAssembler.toResponses(decisions);
+                });
     }
 
-    @Transactional(readOnly = true)
     public List<DecisionResponse> getBlockingDecisions(UUID tenantId) {
-        return decisionRepository.findByTenantIdAndPriorityAndStatusIn(
-                tenantId, DecisionPriority.BLOCKING,
-                List.of(DecisionStatus.NEEDS_INPUT, DecisionStatus.UNDER_DISCUSSION)).stream()
-                .map(this::toResponseWithCount)
-                .toList();
+        return queueIndex.read(tenantId,
+                index -> index.withPriority(DecisionPriority.BLOCKING),
+                () -> responseAssembler.toResponses(decisionRepository.findByTenantIdAndPriorityAndStatusIn(
+                        tenantId, DecisionPriority.BLOCKING, List.of(DecisionStatus.NEEDS_INPUT, DecisionStatus.UNDER_DISCUSSION))));
     }
 
     @Transactional(readOnly = true)
     public List<DecisionResponse> getDecisionsForProject(UUID projectId, UUID tenantId) {
-        return decisionRepository.findByTenantIdAndProgramId(tenantId, projectId).stream()
-                .map(this::toResponseWithCount)
-                .toList();
+        return responseAssembler.toResponses(decisionRepository.findByTenantIdAndProgramId(tenantId, projectId));
     }
 
     @Transactional(readOnly = true)
     public List<DecisionResponse> getDecisionsForOutcome(UUID outcomeId, UUID tenantId) {
-        return decisionRepository.findByOutcomeId(outcomeId).stream()
-                .map(this::toResponseWithCount)
-                .toList();
+        return responseAssembler.toResponses(decisionRepository.findByOutcomeId(outcomeId));
     }
 
     @Transactional(readOnly = true)
     public List<DecisionResponse> getDecisionsForHypothesis(UUID hypothesisId, UUID tenantId) {
-        return decisionRepository.findByHypothesisId(hypothesisId).stream()
-                .map(this::toResponseWithCount)
-                .toList();
+        return responseAssembler.toResponses(decisionRepository.findByHypothesisId(hypothesisId));
     }
 
     @Transactional(readOnly = true)
     public List<DecisionResponse> listByParent(DecisionParentType parentType, UUID parentId, UUID tenantId) {
-        return decisionRepository.findByTenantIdAndParentTypeAndParentId(tenantId, parentType, parentId).stream()
-                .map(this::toResponseWithCount)
-                .toList();
+        return responseAssembler.toResponses(decisionRepository.findByTenantIdAndParentTypeAndParentId(tenantId, parentType, parentId));
     }
 
     @Transactional(readOnly = true)
     public List<DecisionResponse> listByWorkstream(UUID workstreamId, UUID tenantId) {
         workstreamRepository.findByIdAndTenantId(workstreamId, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Workstream", "id", workstreamId));
-        return decisionRepository.findByTenantIdAndWorkstreamId(tenantId, workstreamId).stream()
-                .map(this::toResponseWithCount)
-                .toList();
+        return responseAssembler.toResponses(decisionRepository.findByTenantIdAndWorkstreamId(tenantId, workstreamId));
     }
 
     @Transactional(readOnly = true)
@@ -275,11 +308,55 @@ public class DecisionService {
             String executionMode,
             String slaStatus,
             UUID portfolioId,
+            String tag,
+            String externalRef,
             Pageable pageable) {
 
-        Specification<Decision> spec = buildFilterSpec(tenantId, programId, workstreamId, parentType,
-                executionMode, slaStatus, portfolioId);
-        return decisionRepository.findAll(spec, pageable).map(this::toResponseWithCount);
+        Specification<Decision> spec = Specification.where(buildFilterSpec(tenantId, programId, workstreamId,
+                        parentType, executionMode, slaStatus, portfolioId))
+                .and(JsonbFilters.arrayContains("tags", tag))
+                .and(JsonbFilters.hasExternalRef("externalRefs", externalRef));
+        return responseAssembler.toResponses(decisionRepository.findAll(spec, pageable));
+    }
+
+    /**
+     * Keyset-paginated decisions, newest first, with the same filters as {@link #listFiltered}
+     * plus status and priority.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<DecisionResponse> listAfter(
+            UUID tenantId,
+            DecisionStatus status,
+            DecisionPriority priority,
+            UUID programId,
+            UUID workstreamId,
+            DecisionParentType parentType,
+            String executionMode,
+            String slaStatus,
+            UUID portfolioId,
+            String tag,
+            String externalRef,
+            String cursor,
+            int size) {
+
+        Specification<Decision> spec = Specification.where(buildFilterSpec(tenantId, programId, workstreamId,
+                        parentType, executionMode, slaStatus, portfolioId))
+                .and(JsonbFilters.arrayContains("tags", tag))
+                .and(JsonbFilters.hasExternalRef("externalRefs", externalRef))
+                .and(KeysetCursor.after(KeysetCursor.decode(cursor), "createdAt", Sort.Direction.DESC));
+        if (status != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("status"), status));
+        }
+        if (priority != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("priority"), priority));
+        }
+
+        List<Decision> rows = decisionRepository.findBy(spec, query -> query
+                .sortBy(KeysetCursor.sort("createdAt", Sort.Direction.DESC))
+                .limit(size + 1)
+                .all());
+        return CursorPage.ofBatch(rows, size, d -> new KeysetCursor(d.getCreatedAt(), d.getId()),
+                responseAssembler::toResponses);
     }
 
     private Specification<Decision> buildFilterSpec(
@@ -322,21 +399,12 @@ public class DecisionService {
                 switch (slaStatus.toUpperCase()) {
                     case "BREACHED" -> predicates.add(cb.lessThan(root.get("dueAt"), now));
                     case "AT_RISK" -> {
+                        // >50% elapsed; atRiskAt is the persisted midpoint of the SLA window
                         predicates.add(cb.greaterThanOrEqualTo(root.get("dueAt"), now));
-                        // >50% elapsed: now > createdAt + (dueAt - createdAt) / 2
-                        // Equivalent to: 2 * (now - createdAt) > (dueAt - createdAt)
-                        // We use a simpler approach: dueAt - now < now - createdAt
-                        // i.e., remaining time < elapsed time
-                        // This means we need: dueAt < 2*now - createdAt
-                        // Not directly expressible in JPA criteria, so we filter in-memory or use a native approach
-                        // For now, approximate: remaining < total/2 → dueAt < now + (dueAt - now) means always true
-                        // Better: use the midpoint. createdAt + (dueAt - createdAt)/2 < now
-                        // In SQL: created_at + (due_at - created_at) / 2 < now
-                        // This is hard in JPA Criteria. We'll do post-filtering in the service layer.
-                        // For the specification, just keep the open + has dueAt filters.
+                        predicates.add(cb.lessThanOrEqualTo(root.get("atRiskAt"), now));
                     }
                     case "ON_TRACK" -> {
-                        predicates.add(cb.greaterThanOrEqualTo(root.get("dueAt"), now));
+                        predicates.add(cb.greaterThan(root.get("atRiskAt"), now));
                     }
                 }
             }
@@ -359,75 +427,7 @@ public class DecisionService {
 
     @Transactional
     public DecisionResponse createDecision(UUID tenantId, CreateDecisionRequest request, UUID createdById) {
-        Decision decision = decisionMapper.toEntity(request, tenantId, createdById);
-
-        int slaHours = request.slaHours() != null ? request.slaHours() : getSlaHours(request.priority());
-        decision.setSlaHours(slaHours);
-        decision.setDueAt(Instant.now().plus(Duration.ofHours(slaHours)));
-
-        if (request.ownerId() != null) {
-            User owner = userRepository.findByIdAndTenantId(request.ownerId(), tenantId)
-                    .orElseThrow(() -> new ResourceNotFoundException("User", "id", request.ownerId()));
-            decision.setOwner(owner);
-        }
-
-        if (request.assignedToId() != null) {
-            User assignedTo = userRepository.findByIdAndTenantId(request.assignedToId(), tenantId)
-                    .orElseThrow(() -> new ResourceNotFoundException("User", "id", request.assignedToId()));
-            decision.setAssignedTo(assignedTo);
-        }
-
-        if (request.outcomeId() != null) {
-            Outcome outcome = outcomeRepository.findByIdAndTenantId(request.outcomeId(), tenantId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Outcome", "id", request.outcomeId()));
-            decision.setOutcome(outcome);
-        }
-
-        if (request.hypothesisId() != null) {
-            Hypothesis hypothesis = hypothesisRepository.findByIdAndTenantId(request.hypothesisId(), tenantId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Hypothesis", "id", request.hypothesisId()));
-            decision.setHypothesis(hypothesis);
-        }
-
-        if (request.teamId() != null) {
-            Team team = teamRepository.findByIdAndTenantId(request.teamId(), tenantId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Team", "id", request.teamId()));
-            decision.setTeam(team);
-        }
-
-        if (request.projectId() != null) {
-            Program program = programRepository.findByIdAndTenantId(request.projectId(), tenantId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Program", "id", request.projectId()));
-            decision.setProgram(program);
-        }
-
-        if (request.queueId() != null) {
-            DecisionQueue queue = queueRepository.findByIdAndTenantId(request.queueId(), tenantId)
-                    .orElseThrow(() -> new ResourceNotFoundException("DecisionQueue", "id", request.queueId()));
-            decision.setQueue(queue);
-        }
-
-        if (request.stakeholderId() != null) {
-            Stakeholder stakeholder = stakeholderRepository.findByIdAndTenantId(request.stakeholderId(), tenantId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Stakeholder", "id", request.stakeholderId()));
-            decision.setStakeholder(stakeholder);
-        }
-
-        // Polymorphic parent support
-        if (request.parentType() != null && request.parentId() != null) {
-            decision.setParentType(request.parentType());
-            decision.setParentId(request.parentId());
-        } else if (request.hypothesisId() != null) {
-            // Auto-populate from existing FK for backward compat
-            decision.setParentType(DecisionParentType.HYPOTHESIS);
-            decision.setParentId(request.hypothesisId());
-        }
-
-        if (request.workstreamId() != null) {
-            Workstream workstream = workstreamRepository.findByIdAndTenantId(request.workstreamId(), tenantId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Workstream", "id", request.workstreamId()));
-            decision.setWorkstreamId(workstream.getId());
-        }
+        Decision decision = buildDecision(tenantId, request, createdById, new ReferenceLookup(tenantId));
 
         decision = decisionRepository.save(decision);
 
@@ -438,7 +438,7 @@ public class DecisionService {
 
         eventPublisher.publishDecisionCreated(decision, createdById);
 
-        return toResponseWithCount(decision);
+        return indexed(tenantId, toResponseWithCount(decision));
     }
 
     @Transactional
@@ -495,7 +495,7 @@ public class DecisionService {
         }
 
         decision = decisionRepository.save(decision);
-        return toResponseWithCount(decision);
+        return indexed(tenantId, toResponseWithCount(decision));
     }
 
     @Transactional
@@ -503,6 +503,7 @@ public class DecisionService {
         Decision decision = decisionRepository.findByIdAndTenantId(id, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Decision", "id", id));
         decisionRepository.delete(decision);
+        queueIndex.onChanged(tenantId, List.of(id));
     }
 
     @Transactional
@@ -516,7 +517,7 @@ public class DecisionService {
 
         decision.setStatus(DecisionStatus.UNDER_DISCUSSION);
         decision = decisionRepository.save(decision);
-        return toResponseWithCount(decision);
+        return indexed(tenantId, toResponseWithCount(decision));
     }
 
     @Transactional
@@ -524,21 +525,10 @@ public class DecisionService {
         Decision decision = decisionRepository.findByIdAndTenantId(id, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Decision", "id", id));
 
-        if (!OPEN_STATUSES.contains(decision.getStatus())) {
-            throw new IllegalStateException("Can only resolve decisions in open status");
-        }
-
         User decidedBy = userRepository.findByIdAndTenantId(decidedById, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", decidedById));
 
-        decision.setStatus(DecisionStatus.DECIDED);
-        decision.setDecidedAt(Instant.now());
-        decision.setDecidedBy(decidedBy);
-        decision.setDecisionRationale(request.rationale());
-
-        if (request.selectedOption() != null) {
-            decision.setSelectedOption(decisionMapper.selectedOptionToJson(request.selectedOption()));
-        }
+        applyResolve(decision, request.rationale(), request.selectedOption(), decidedBy);
 
         Decision savedDecision = decisionRepository.save(decision);
 
@@ -556,7 +546,7 @@ public class DecisionService {
 
         eventPublisher.publishDecisionResolved(savedDecision, decidedById, unblockedHypothesisIds);
 
-        return toResponseWithCount(savedDecision);
+        return indexed(tenantId, toResponseWithCount(savedDecision));
     }
 
     @Transactional
@@ -570,7 +560,7 @@ public class DecisionService {
 
         decision.setStatus(DecisionStatus.IMPLEMENTED);
         decision = decisionRepository.save(decision);
-        return toResponseWithCount(decision);
+        return indexed(tenantId, toResponseWithCount(decision));
     }
 
     @Transactional
@@ -578,14 +568,9 @@ public class DecisionService {
         Decision decision = decisionRepository.findByIdAndTenantId(id, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Decision", "id", id));
 
-        if (!OPEN_STATUSES.contains(decision.getStatus())) {
-            throw new IllegalStateException("Can only defer decisions in open status");
-        }
-
-        decision.setStatus(DecisionStatus.DEFERRED);
-        decision.setDecisionRationale(reason);
+        applyDefer(decision, reason);
         decision = decisionRepository.save(decision);
-        return toResponseWithCount(decision);
+        return indexed(tenantId, toResponseWithCount(decision));
     }
 
     @Transactional
@@ -600,7 +585,7 @@ public class DecisionService {
         decision.setStatus(DecisionStatus.CANCELLED);
         decision.setDecisionRationale(reason);
         decision = decisionRepository.save(decision);
-        return toResponseWithCount(decision);
+        return indexed(tenantId, toResponseWithCount(decision));
     }
 
     @Transactional
@@ -616,7 +601,7 @@ public class DecisionService {
         decision.setDecisionRationale(null);
         decision.setDueAt(Instant.now().plus(Duration.ofHours(decision.getSlaHours())));
         decision = decisionRepository.save(decision);
-        return toResponseWithCount(decision);
+        return indexed(tenantId, toResponseWithCount(decision));
     }
 
     @Transactional
@@ -652,7 +637,79 @@ public class DecisionService {
                 request.reason()
         );
 
-        return toResponseWithCount(decision);
+        return indexed(tenantId, toResponseWithCount(decision));
+    }
+
+    /**
+     * Mark open decisions past the midpoint of their SLA window as at risk.
+     * Called in batches by {@link DecisionSlaEngine}; decisions already moved on are skipped.
+     * This is a bulk update, so entity listeners don't run and no event is published. Nothing
+     * derived from a decision holds its SLA status: the search index and program metrics don't
+     * include it, {@link DecisionQueueIndex} rows don't carry it, and SLA filters read the table.
+     */
+    @Transactional
+    public int markAtRisk(Collection<UUID> ids) {
+        return decisionRepository.markAtRisk(ids, Instant.now());
+    }
+
+    /**
+     * Record SLA breaches for open, overdue decisions and escalate those not escalated yet.
+     * Automatic escalation goes to the decision owner and keeps the current assignee, whose stakeholder
+     * escalation count goes up as with a manual escalation.
+     * Called in batches by {@link DecisionSlaEngine}; rows are locked so concurrent runs can't double-escalate.
+     */
+    @Transactional
+    public int escalateBreached(Collection<UUID> ids) {
+        Instant now = Instant.now();
+        int escalated = 0;
+        Map<UUID, List<UUID>> changedByTenant = new HashMap<>();
+        Map<UUID, List<Decision>> escalatedByTenant = new HashMap<>();
+
+        for (Decision decision : decisionRepository.findAllByIdForUpdate(ids)) {
+            if (!OPEN_STATUSES.contains(decision.getStatus())
+                    || decision.getSlaStatus() == DecisionSlaStatus.BREACHED
+                    || decision.getDueAt() == null
+                    || decision.getDueAt().isAfter(now)) {
+                continue;
+            }
+
+            decision.setSlaStatus(DecisionSlaStatus.BREACHED);
+            if (decision.getEscalationLevel() != null && decision.getEscalationLevel() > 0) {
+                continue;
+            }
+            changedByTenant.computeIfAbsent(decision.getTenantId(), k -> new ArrayList<>()).add(decision.getId());
+
+            decision.setEscalationLevel(1);
+            decision.setEscalatedAt(now);
+            decision.setWasEscalated(true);
+            decision.setEscalatedTo(decision.getOwner());
+            escalatedByTenant.computeIfAbsent(decision.getTenantId(), k -> new ArrayList<>()).add(decision);
+            escalated++;
+
+            if (decision.getEscalatedTo() != null) {
+                eventPublisher.publishDecisionEscalated(
+                        decision,
+                        null,
+                        decision.getAssignedTo() != null ? decision.getAssignedTo().getId() : null,
+                        "SLA breached"
+                );
+            }
+        }
+
+        escalatedByTenant.forEach((tenantId, decisions) -> {
+            Map<UUID, UUID> stakeholderIds = stakeholderIdsByUser(tenantId, decisions);
+            Map<UUID, Integer> escalatedCounts = new HashMap<>();
+            for (Decision decision : decisions) {
+                UUID stakeholderId = decision.getAssignedTo() != null
+                        ? stakeholderIds.get(decision.getAssignedTo().getId()) : null;
+                if (stakeholderId != null) {
+                    escalatedCounts.merge(stakeholderId, 1, Integer::sum);
+                }
+            }
+            stakeholderService.onDecisionsEscalated(escalatedCounts);
+        });
+        changedByTenant.forEach(queueIndex::onChanged);
+        return escalated;
     }
 
     @Transactional
@@ -665,7 +722,7 @@ public class DecisionService {
 
         decision.setAssignedTo(assignedTo);
         decision = decisionRepository.save(decision);
-        return toResponseWithCount(decision);
+        return indexed(tenantId, toResponseWithCount(decision));
     }
 
     @Transactional
@@ -695,7 +752,7 @@ public class DecisionService {
         }
 
         decision = decisionRepository.save(decision);
-        return toResponseWithCount(decision);
+        return indexed(tenantId, toResponseWithCount(decision));
     }
 
     @Transactional
@@ -703,17 +760,14 @@ public class DecisionService {
         Decision decision = decisionRepository.findByIdAndTenantId(id, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Decision", "id", id));
 
-        List<BlockedItem> items = decisionMapper.toResponse(decision, 0).blockedItems();
-        if (items == null) {
-            items = new java.util.ArrayList<>();
-        } else {
-            items = new java.util.ArrayList<>(items);
-        }
+        List<BlockedItem> items = decision.getBlockedItems() != null
+                ? new ArrayList<>(decision.getBlockedItems())
+                : new ArrayList<>();
         items.add(item);
 
-        decision.setBlockedItems(decisionMapper.blockedItemsToJson(items));
+        decision.setBlockedItems(items);
         decision = decisionRepository.save(decision);
-        return toResponseWithCount(decision);
+        return indexed(tenantId, toResponseWithCount(decision));
     }
 
     @Transactional(readOnly = true)
@@ -731,7 +785,9 @@ public class DecisionService {
 
         CreateCommentRequest commentRequest = new CreateCommentRequest(
                 CommentParentType.DECISION, decisionId, body, parentCommentId);
-        return commentService.create(commentRequest, tenantId, authorId);
+        CommentResponse comment = commentService.create(commentRequest, tenantId, authorId);
+        queueIndex.onChanged(tenantId, List.of(decisionId));
+        return comment;
     }
 
     @Transactional
@@ -819,6 +875,7 @@ public class DecisionService {
         }
 
         vote = voteRepository.save(vote);
+        queueIndex.onChanged(tenantId, List.of(decisionId));
         return decisionMapper.toVoteResponse(vote);
     }
 
@@ -831,6 +888,7 @@ public class DecisionService {
                 .orElseThrow(() -> new ResourceNotFoundException("Vote", "decisionId and userId", decisionId + "/" + userId));
 
         voteRepository.delete(vote);
+        queueIndex.onChanged(tenantId, List.of(decisionId));
     }
 
     @Transactional(readOnly = true)
@@ -839,6 +897,340 @@ public class DecisionService {
         return decisionRepository.getAverageDecisionTimeHours(tenantId, since);
     }
 
+    // --- Bulk operations ---
+    //
+    // Each runs in one transaction: targets and referenced users are loaded with one query each,
+    // state changes are flushed as JDBC batches (hibernate.jdbc.batch_size), stakeholder counters
+    // get one update per stakeholder and events are queued with one batched insert. Items that fail
+    // validation are reported in the per-item results and skipped; the rest are applied.
+
+    @Transactional
+    public BulkDecisionResponse createDecisions(UUID tenantId, List<CreateDecisionRequest> requests, UUID createdById) {
+        ReferenceLookup lookup = new ReferenceLookup(tenantId);
+        lookup.preloadUsers(requests.stream()
+                .flatMap(r -> Stream.of(r.ownerId(), r.assignedToId()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+
+        BulkItemResult[] results = new BulkItemResult[requests.size()];
+        List<Decision> created = new ArrayList<>(requests.size());
+        List<Integer> createdIndexes = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                created.add(buildDecision(tenantId, requests.get(i), createdById, lookup));
+                createdIndexes.add(i);
+            } catch (ResourceNotFoundException | IllegalArgumentException | IllegalStateException e) {
+                results[i] = BulkItemResult.failed(i, null, e.getMessage());
+            }
+        }
+
+        decisionRepository.saveAll(created);
+        for (int j = 0; j < created.size(); j++) {
+            int index = createdIndexes.get(j);
+            results[index] = BulkItemResult.ok(index, created.get(j).getId());
+        }
+
+        Map<UUID, Integer> assignedCounts = new HashMap<>();
+        Map<UUID, UUID> stakeholderIds = stakeholderIdsByUser(tenantId, created);
+        for (Decision decision : created) {
+            UUID stakeholderId = decision.getAssignedTo() != null
+                    ? stakeholderIds.get(decision.getAssignedTo().getId()) : null;
+            if (stakeholderId != null) {
+                assignedCounts.merge(stakeholderId, 1, Integer::sum);
+            }
+        }
+        stakeholderService.onDecisionsAssigned(assignedCounts);
+
+        eventPublisher.publishDecisionsCreated(created, createdById);
+        queueIndex.onChanged(tenantId, created.stream().map(Decision::getId).toList());
+
+        return BulkDecisionResponse.of(List.of(results));
+    }
+
+    @Transactional
+    public BulkDecisionResponse assignDecisions(UUID tenantId, List<BulkAssignDecisionsRequest.Item> items) {
+        Map<UUID, Decision> decisions = loadDecisions(tenantId, items.stream()
+                .map(BulkAssignDecisionsRequest.Item::decisionId).toList());
+        Map<UUID, User> users = new HashMap<>();
+        for (User user : userRepository.findByIdInAndTenantId(
+                items.stream().map(BulkAssignDecisionsRequest.Item::assigneeId).collect(Collectors.toSet()), tenantId)) {
+            users.put(user.getId(), user);
+        }
+
+        List<BulkItemResult> results = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            BulkAssignDecisionsRequest.Item item = items.get(i);
+            try {
+                Decision decision = require(decisions, item.decisionId(), "Decision");
+                decision.setAssignedTo(require(users, item.assigneeId(), "User"));
+                results.add(BulkItemResult.ok(i, item.decisionId()));
+            } catch (ResourceNotFoundException e) {
+                results.add(BulkItemResult.failed(i, item.decisionId(), e.getMessage()));
+            }
+        }
+        queueIndex.onChanged(tenantId, succeededIds(results));
+        return BulkDecisionResponse.of(results);
+    }
+
+    @Transactional
+    public BulkDecisionResponse resolveDecisions(UUID tenantId, List<BulkResolveDecisionsRequest.Item> items,
+                                                 UUID decidedById) {
+        User decidedBy = userRepository.findByIdAndTenantId(decidedById, tenantId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", decidedById));
+        Map<UUID, Decision> decisions = loadDecisions(tenantId, items.stream()
+                .map(BulkResolveDecisionsRequest.Item::decisionId).toList());
+
+        List<BulkItemResult> results = new ArrayList<>(items.size());
+        List<Decision> resolved = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            BulkResolveDecisionsRequest.Item item = items.get(i);
+            try {
+                Decision decision = require(decisions, item.decisionId(), "Decision");
+                applyResolve(decision, item.rationale(), item.selectedOption(), decidedBy);
+                resolved.add(decision);
+                results.add(BulkItemResult.ok(i, item.decisionId()));
+            } catch (ResourceNotFoundException | IllegalStateException e) {
+                results.add(BulkItemResult.failed(i, item.decisionId(), e.getMessage()));
+            }
+        }
+
+        Map<UUID, List<UUID>> unblockedHypothesisIds = new HashMap<>();
+        for (Decision decision : resolved) {
+            unblockedHypothesisIds.put(decision.getId(), unblockHypotheses(decision, tenantId));
+        }
+
+        // One counter update per stakeholder, covering all of their resolved decisions
+        Instant now = Instant.now();
+        Map<UUID, UUID> stakeholderIds = stakeholderIdsByUser(tenantId, resolved);
+        Map<UUID, Integer> completedCounts = new HashMap<>();
+        Map<UUID, Double> responseHours = new HashMap<>();
+        for (Decision decision : resolved) {
+            UUID stakeholderId = decision.getAssignedTo() != null
+                    ? stakeholderIds.get(decision.getAssignedTo().getId()) : null;
+            if (stakeholderId != null) {
+                completedCounts.merge(stakeholderId, 1, Integer::sum);
+                responseHours.merge(stakeholderId,
+                        (double) Duration.between(decision.getCreatedAt(), now).toHours(), Double::sum);
+            }
+        }
+        completedCounts.forEach((stakeholderId, count) -> stakeholderService.onDecisionsCompleted(
+                stakeholderId, count, now, responseHours.get(stakeholderId)));
+
+        eventPublisher.publishDecisionsResolved(resolved, decidedById, unblockedHypothesisIds);
+        queueIndex.onChanged(tenantId, resolved.stream().map(Decision::getId).toList());
+
+        return BulkDecisionResponse.of(results);
+    }
+
+    @Transactional
+    public BulkDecisionResponse deferDecisions(UUID tenantId, List<BulkDeferDecisionsRequest.Item> items) {
+        Map<UUID, Decision> decisions = loadDecisions(tenantId, items.stream()
+                .map(BulkDeferDecisionsRequest.Item::decisionId).toList());
+
+        List<BulkItemResult> results = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            BulkDeferDecisionsRequest.Item item = items.get(i);
+            try {
+                applyDefer(require(decisions, item.decisionId(), "Decision"), item.reason());
+                results.add(BulkItemResult.ok(i, item.decisionId()));
+            } catch (ResourceNotFoundException | IllegalStateException e) {
+                results.add(BulkItemResult.failed(i, item.decisionId(), e.getMessage()));
+            }
+        }
+        queueIndex.onChanged(tenantId, succeededIds(results));
+        return BulkDecisionResponse.of(results);
+    }
+
+    private Map<UUID, Decision> loadDecisions(UUID tenantId, Collection<UUID> ids) {
+        Map<UUID, Decision> decisions = new HashMap<>();
+        for (Decision decision : decisionRepository.findByIdInAndTenantId(new HashSet<>(ids), tenantId)) {
+            decisions.put(decision.getId(), decision);
+        }
+        return decisions;
+    }
+
+    private Map<UUID, UUID> stakeholderIdsByUser(UUID tenantId, List<Decision> decisions) {
+        Set<UUID> userIds = decisions.stream()
+                .map(Decision::getAssignedTo)
+                .filter(Objects::nonNull)
+                .map(User::getId)
+                .collect(Collectors.toSet());
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, UUID> stakeholderIds = new HashMap<>();
+        for (Stakeholder stakeholder : stakeholderRepository.findByUserIdInAndTenantId(userIds, tenantId)) {
+            stakeholderIds.put(stakeholder.getUser().getId(), stakeholder.getId());
+        }
+        return stakeholderIds;
+    }
+
+    private static List<UUID> succeededIds(List<BulkItemResult> results) {
+        return results.stream()
+                .filter(BulkItemResult::success)
+                .map(BulkItemResult::decisionId)
+                .toList();
+    }
+
+    private static <T> T require(Map<UUID, T> loaded, UUID id, String resourceName) {
+        T value = loaded.get(id);
+        if (value == null) {
+            throw new ResourceNotFoundException(resourceName, "id", id);
+        }
+        return value;
+    }
+
+    private Decision buildDecision(UUID tenantId, CreateDecisionRequest request, UUID createdById,
+                                   ReferenceLookup lookup) {
+        Decision decision = decisionMapper.toEntity(request, tenantId, createdById);
+
+        int slaHours = request.slaHours() != null ? request.slaHours() : getSlaHours(request.priority());
+        decision.setSlaHours(slaHours);
+        decision.setDueAt(Instant.now().plus(Duration.ofHours(slaHours)));
+
+        if (request.ownerId() != null) {
+            decision.setOwner(lookup.user(request.ownerId()));
+        }
+
+        if (request.assignedToId() != null) {
+            decision.setAssignedTo(lookup.user(request.assignedToId()));
+        }
+
+        if (request.outcomeId() != null) {
+            decision.setOutcome(lookup.outcome(request.outcomeId()));
+        }
+
+        if (request.hypothesisId() != null) {
+            decision.setHypothesis(lookup.hypothesis(request.hypothesisId()));
+        }
+
+        if (request.teamId() != null) {
+            decision.setTeam(lookup.team(request.teamId()));
+        }
+
+        if (request.projectId() != null) {
+            decision.setProgram(lookup.program(request.projectId()));
+        }
+
+        if (request.queueId() != null) {
+            decision.setQueue(lookup.queue(request.queueId()));
+        }
+
+        if (request.stakeholderId() != null) {
+            decision.setStakeholder(lookup.stakeholder(request.stakeholderId()));
+        }
+
+        // Polymorphic parent support
+        if (request.parentType() != null && request.parentId() != null) {
+            decision.setParentType(request.parentType());
+            decision.setParentId(request.parentId());
+        } else if (request.hypothesisId() != null) {
+            // Auto-populate from existing FK for backward compat
+            decision.setParentType(DecisionParentType.HYPOTHESIS);
+            decision.setParentId(request.hypothesisId());
+        }
+
+        if (request.workstreamId() != null) {
+            decision.setWorkstreamId(lookup.workstream(request.workstreamId()).getId());
+        }
+
+        return decision;
+    }
+
+    private void applyResolve(Decision decision, String rationale, DecisionOption selectedOption, User decidedBy) {
+        if (!OPEN_STATUSES.contains(decision.getStatus())) {
+            throw new IllegalStateException("Can only resolve decisions in open status");
+        }
+
+        decision.setStatus(DecisionStatus.DECIDED);
+        decision.setDecidedAt(Instant.now());
+        decision.setDecidedBy(decidedBy);
+        decision.setDecisionRationale(rationale);
+
+        if (selectedOption != null) {
+            decision.setSelectedOption(selectedOption);
+        }
+    }
+
+    private void applyDefer(Decision decision, String reason) {
+        if (!OPEN_STATUSES.contains(decision.getStatus())) {
+            throw new IllegalStateException("Can only defer decisions in open status");
+        }
+
+        decision.setStatus(DecisionStatus.DEFERRED);
+        decision.setDecisionRationale(reason);
+    }
+
+    /**
+     * Resolves the references of create requests, querying each distinct ID once per call.
+     */
+    private final class ReferenceLookup {
+
+        private final UUID tenantId;
+        private final Map<UUID, Optional<User>> users = new HashMap<>();
+        private final Map<UUID, Optional<Outcome>> outcomes = new HashMap<>();
+        private final Map<UUID, Optional<Hypothesis>> hypotheses = new HashMap<>();
+        private final Map<UUID, Optional<Team>> teams = new HashMap<>();
+        private final Map<UUID, Optional<Program>> programs = new HashMap<>();
+        private final Map<UUID, Optional<DecisionQueue>> queues = new HashMap<>();
+        private final Map<UUID, Optional<Stakeholder>> stakeholders = new HashMap<>();
+        private final Map<UUID, Optional<Workstream>> workstreams = new HashMap<>();
+
+        ReferenceLookup(UUID tenantId) {
+            this.tenantId = tenantId;
+        }
+
+        void preloadUsers(Set<UUID> ids) {
+            if (ids.isEmpty()) {
+                return;
+            }
+            for (UUID id : ids) {
+                users.put(id, Optional.empty());
+            }
+            for (User user : userRepository.findByIdInAndTenantId(ids, tenantId)) {
+                users.put(user.getId(), Optional.of(user));
+            }
+        }
+
+        User user(UUID id) {
+            return find(users, id, "User", key -> userRepository.findByIdAndTenantId(key, tenantId));
+        }
+
+        Outcome outcome(UUID id) {
+            return find(outcomes, id, "Outcome", key -> outcomeRepository.findByIdAndTenantId(key, tenantId));
+        }
+
+        Hypothesis hypothesis(UUID id) {
+            return find(hypotheses, id, "Hypothesis", key -> hypothesisRepository.findByIdAndTenantId(key, tenantId));
+        }
+
+        Team team(UUID id) {
+            return find(teams, id, "Team", key -> teamRepository.findByIdAndTenantId(key, tenantId));
+        }
+
+        Program program(UUID id) {
+            return find(programs, id, "Program", key -> programRepository.findByIdAndTenantId(key, tenantId));
+        }
+
+        DecisionQueue queue(UUID id) {
+            return find(queues, id, "DecisionQueue", key -> queueRepository.findByIdAndTenantId(key, tenantId));
+        }
+
+        Stakeholder stakeholder(UUID id) {
+            return find(stakeholders, id, "Stakeholder", key -> stakeholderRepository.findByIdAndTenantId(key, tenantId));
+        }
+
+        Workstream workstream(UUID id) {
+            return find(workstreams, id, "Workstream", key -> workstreamRepository.findByIdAndTenantId(key, tenantId));
+        }
+
+        private <T> T find(Map<UUID, Optional<T>> cache, UUID id, String resourceName,
+                           Function<UUID, Optional<T>> loader) {
+            return cache.computeIfAbsent(id, loader)
+                    .orElseThrow(() -> new ResourceNotFoundException(resourceName, "id", id));
+        }
+    }
+
     private int getSlaHours(DecisionPriority priority) {
         return switch (priority) {
             case BLOCKING -> AppConstants.SLA_BLOCKING;
@@ -849,9 +1241,12 @@ public class DecisionService {
     }
 
     private DecisionResponse toResponseWithCount(Decision decision) {
-        int commentCount = (int) commentRepository.countByTenantIdAndParentTypeAndParentId(decision.getTenantId(), CommentParentType.DECISION, decision.getId());
-        int voteCount = (int) voteRepository.findByDecisionId(decision.getId()).size();
-        return decisionMapper.toResponse(decision, commentCount, voteCount);
+        return responseAssembler.toResponse(decision);
+    }
+
+    private DecisionResponse indexed(UUID tenantId, DecisionResponse response) {
+        queueIndex.onChanged(tenantId, response);
+        return response;
     }
 
     private List<UUID> unblockHypotheses(Decision decision, UUID tenantId) {
@@ -0,0 +1,299 @@
+package ai.zevaro.core.domain.decision;
+
+import ai.zevaro.core.config.AppConstants;
+import ai.zevaro.core.domain.decision.SlaTimingWheel.Timer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drives decision SLAs: marks open decisions at risk once half their SLA window has elapsed,
+ * and records the breach and escalates them once they are past due.
+ *
+ * - Tenants are split into {@link AppConstants#SLA_SHARD_COUNT} shards by tenant hash; each node
+ *   leases a fair share of shards in {@code decision_sla_leases} and only handles those, so nodes
+ *   split the load and a crashed node's shards are picked up once its leases expire
+ * - Every {@link AppConstants#SLA_LOAD_INTERVAL_SECONDS}s the deadlines falling within the next
+ *   {@link AppConstants#SLA_LOAD_HORIZON_MINUTES} minutes are loaded into a hierarchical timing wheel
+ * - The wheel is advanced every tick and expired timers are applied in batches through
+ *   {@link DecisionService}; the updates are conditional, so a timer firing twice is harmless
+ *
+ * Metrics: {@code zevaro.sla.transitions} (tagged by type), {@code zevaro.sla.shards.owned}
+ * and {@code zevaro.sla.timers.scheduled}.
+ */
+@Component
+@Slf4j
+public class DecisionSlaEngine {
+
+    private static final String SHARD_EXPR =
+            "MOD(hashtext(CAST(tenant_id AS TEXT)) & 2147483647, " + AppConstants.SLA_SHARD_COUNT + ")";
+
+    private static final String LOAD_SQL =
+            "SELECT id, at_risk_at, due_at, sla_status FROM decisions " +
+            "WHERE status IN ('NEEDS_INPUT', 'UNDER_DISCUSSION') AND due_at IS NOT NULL " +
+            "AND (sla_status IS NULL OR sla_status <> 'BREACHED') " +
+            "AND (due_at < :horizon OR at_risk_at < :horizon) " +
+            "AND " + SHARD_EXPR + " IN (:shards)";
+
+    private static final String BACKFILL_SQL =
+            "UPDATE decisions SET at_risk_at = created_at + (due_at - created_at) / 2, " +
+            "sla_status = COALESCE(sla_status, 'ON_TRACK') " +
+            "WHERE due_at IS NOT NULL AND created_at IS NOT NULL AND at_risk_at IS NULL";
+
+    private static final String RENEW_SQL =
+            "UPDATE decision_sla_leases SET expires_at = NOW() + make_interval(secs => :ttl) " +
+            "WHERE owner = :owner AND expires_at > NOW()";
+
+    private static final String OWNED_SQL =
+            "SELECT shard FROM decision_sla_leases WHERE owner = :owner AND expires_at > NOW()";
+
+    private static final String OTHER_OWNERS_SQL =
+            "SELECT COUNT(DISTINCT owner) FROM decision_sla_leases WHERE owner <> :owner AND expires_at > NOW()";
+
+    private static final String ACQUIRE_SQL =
+            "INSERT INTO decision_sla_leases (shard, owner, expires_at) " +
+            "VALUES (:shard, :owner, NOW() + make_interval(secs => :ttl)) " +
+            "ON CONFLICT (shard) DO UPDATE SET owner = EXCLUDED.owner, expires_at = EXCLUDED.expires_at " +
+            "WHERE decision_sla_leases.expires_at <= NOW()";
+
+    private static final String RELEASE_SQL =
+            "UPDATE decision_sla_leases SET expires_at = NOW() WHERE owner = :owner AND shard IN (:shards)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DecisionService decisionService;
+    private final String nodeId;
+
+    private final Counter atRiskCounter;
+    private final Counter breachedCounter;
+    private final Counter escalatedCounter;
+    private final AtomicInteger ownedShardCount = new AtomicInteger(0);
+    private final AtomicInteger scheduledCount = new AtomicInteger(0);
+
+    private SlaTimingWheel<SlaKey> wheel;
+    private Map<SlaKey, Long> scheduled = new HashMap<>();
+    private long nextLoadAt = 0;
+    private boolean backfilled = false;
+
+    public DecisionSlaEngine(NamedParameterJdbcTemplate jdbcTemplate,
+                             DecisionService decisionService,
+                             MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.decisionService = decisionService;
+        this.nodeId = resolveNodeId();
+
+        this.atRiskCounter = meterRegistry.counter("zevaro.sla.transitions", "type", "AT_RISK");
+        this.breachedCounter = meterRegistry.counter("zevaro.sla.transitions", "type", "BREACHED");
+        this.escalatedCounter = meterRegistry.counter("zevaro.sla.transitions", "type", "ESCALATED");
+        meterRegistry.gauge("zevaro.sla.shards.owned", ownedShardCount);
+        meterRegistry.gauge("zevaro.sla.timers.scheduled", scheduledCount);
+    }
+
+    @Scheduled(fixedDelay = AppConstants.SLA_TICK_MS)
+    public void tick() {
+        try {
+            long now = System.currentTimeMillis();
+            List<Timer<SlaKey>> expired = new ArrayList<>();
+
+            if (now >= nextLoadAt) {
+                nextLoadAt = now + AppConstants.SLA_LOAD_INTERVAL_SECONDS * 1000L;
+                reload(now, expired);
+            }
+
+            // Stay one tick behind the clock so a timer never fires before its deadline
+            if (wheel != null) {
+                wheel.advance(now - AppConstants.SLA_TICK_MS, expired);
+            }
+            fire(expired);
+        } catch (Exception e) {
+            log.error("SLA engine tick failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void releaseLeases() {
+        try {
+            List<Integer> owned = ownedShards();
+            if (!owned.isEmpty()) {
+                jdbcTemplate.update(RELEASE_SQL, new MapSqlParameterSource()
+                        .addValue("owner", nodeId)
+                        .addValue("shards", owned));
+            }
+        } catch (Exception e) {
+            log.debug("Could not release SLA leases on shutdown: {}", e.getMessage());
+        }
+    }
+
+    private void reload(long now, List<Timer<SlaKey>> expired) {
+        if (!backfilled) {
+            int rows = jdbcTemplate.getJdbcTemplate().update(BACKFILL_SQL);
+            if (rows > 0) {
+                log.info("Backfilled SLA thresholds for {} decisions", rows);
+            }
+            backfilled = true;
+        }
+
+        List<Integer> shards = balanceLeases();
+        ownedShardCount.set(shards.size());
+
+        SlaTimingWheel<SlaKey> newWheel = new SlaTimingWheel<>(
+                AppConstants.SLA_TICK_MS, AppConstants.SLA_WHEEL_SIZE, now - AppConstants.SLA_TICK_MS);
+        Map<SlaKey, Long> newScheduled = new HashMap<>();
+
+        if (!shards.isEmpty()) {
+            Instant horizon = Instant.ofEpochMilli(now).plusSeconds(AppConstants.SLA_LOAD_HORIZON_MINUTES * 60L);
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("horizon", Timestamp.from(horizon))
+                    .addValue("shards", shards);
+
+            jdbcTemplate.query(LOAD_SQL, params, rs -> {
+                UUID id = rs.getObject("id", UUID.class);
+                Timestamp atRiskAt = rs.getTimestamp("at_risk_at");
+                Timestamp dueAt = rs.getTimestamp("due_at");
+                String slaStatus = rs.getString("sla_status");
+
+                if (atRiskAt != null && atRiskAt.toInstant().isBefore(horizon)
+                        && (slaStatus == null || DecisionSlaStatus.ON_TRACK.name().equals(slaStatus))) {
+                    schedule(newWheel, newScheduled, new SlaKey(id, SlaTransition.AT_RISK), atRiskAt.getTime(), expired);
+                }
+                if (dueAt.toInstant().isBefore(horizon)) {
+                    schedule(newWheel, newScheduled, new SlaKey(id, SlaTransition.BREACHED), dueAt.getTime(), expired);
+                }
+            });
+        }
+
+        wheel = newWheel;
+        scheduled = newScheduled;
+        scheduledCount.set(scheduled.size());
+    }
+
+    private void schedule(SlaTimingWheel<SlaKey> target, Map<SlaKey, Long> index,
+                          SlaKey key, long deadlineMs, List<Timer<SlaKey>> expired) {
+        Timer<SlaKey> timer = new Timer<>(deadlineMs, key);
+        index.put(key, deadlineMs);
+        if (!target.add(timer)) {
+            expired.add(timer);
+        }
+    }
+
+    private void fire(List<Timer<SlaKey>> expired) {
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        Set<UUID> atRisk = new HashSet<>();
+        Set<UUID> breached = new HashSet<>();
+        for (Timer<SlaKey> timer : expired) {
+            SlaKey key = timer.payload();
+            // Skip timers superseded by a reload with a different deadline
+            Long deadline = scheduled.get(key);
+            if (deadline == null || deadline != timer.deadlineMs()) {
+                continue;
+            }
+            scheduled.remove(key);
+            (key.transition() == SlaTransition.AT_RISK ? atRisk : breached).add(key.decisionId());
+        }
+        // A decision crossing both thresholds in one tick only needs the breach
+        atRisk.removeAll(breached);
+        scheduledCount.set(scheduled.size());
+
+        for (List<UUID> batch : partition(atRisk)) {
+            atRiskCounter.increment(decisionService.markAtRisk(batch));
+        }
+        for (List<UUID> batch : partition(breached)) {
+            escalatedCounter.increment(decisionService.escalateBreached(batch));
+            breachedCounter.increment(batch.size());
+        }
+    }
+
+    /**
+     * Renew our leases, then acquire free shards or release surplus ones so that every live
+     * node ends up owning roughly {@code shards / nodes}.
+     */
+    private List<Integer> balanceLeases() {
+        MapSqlParameterSource owner = new MapSqlParameterSource()
+                .addValue("owner", nodeId)
+                .addValue("ttl", AppConstants.SLA_LEASE_TTL_SECONDS);
+        jdbcTemplate.update(RENEW_SQL, owner);
+
+        Long others = jdbcTemplate.queryForObject(OTHER_OWNERS_SQL, owner, Long.class);
+        int nodes = (others != null ? others.intValue() : 0) + 1;
+        int fairShare = (AppConstants.SLA_SHARD_COUNT + nodes - 1) / nodes;
+
+        List<Integer> owned = new ArrayList<>(ownedShards());
+        if (owned.size() > fairShare) {
+            List<Integer> surplus = new ArrayList<>(owned.subList(fairShare, owned.size()));
+            jdbcTemplate.update(RELEASE_SQL, new MapSqlParameterSource()
+                    .addValue("owner", nodeId)
+                    .addValue("shards", surplus));
+            owned.removeAll(surplus);
+            log.info("Released {} SLA shards to rebalance across {} nodes", surplus.size(), nodes);
+        } else if (owned.size() < fairShare) {
+            List<Integer> candidates = new ArrayList<>();
+            for (int shard = 0; shard < AppConstants.SLA_SHARD_COUNT; shard++) {
+                if (!owned.contains(shard)) {
+                    candidates.add(shard);
+                }
+            }
+            Collections.shuffle(candidates);
+            for (Integer shard : candidates) {
+                if (owned.size() >= fairShare) {
+                    break;
+                }
+                int acquired = jdbcTemplate.update(ACQUIRE_SQL, new MapSqlParameterSource()
+                        .addValue("shard", shard)
+                        .addValue("owner", nodeId)
+                        .addValue("ttl", AppConstants.SLA_LEASE_TTL_SECONDS));
+                if (acquired > 0) {
+                    owned.add(shard);
+                }
+            }
+        }
+        return owned;
+    }
+
+    private List<Integer> ownedShards() {
+        return jdbcTemplate.queryForList(OWNED_SQL, new MapSqlParameterSource("owner", nodeId), Integer.class);
+    }
+
+    private static List<List<UUID>> partition(Set<UUID> ids) {
+        List<List<UUID>> batches = new ArrayList<>();
+        List<UUID> all = new ArrayList<>(ids);
+        for (int i = 0; i < all.size(); i += AppConstants.SLA_BATCH_SIZE) {
+            batches.add(all.subList(i, Math.min(i + AppConstants.SLA_BATCH_SIZE, all.size())));
+        }
+        return batches;
+    }
+
+    private static String resolveNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private enum SlaTransition { AT_RISK, BREACHED }
+
+    private record SlaKey(UUID decisionId, SlaTransition transition) {}
+}
@@ -0,0 +1,33 @@
+package ai.zevaro.core.domain.decision;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Ownership lease for one shard of tenants in the SLA engine. Only the node holding an unexpired
+ * lease schedules and fires SLA transitions for that shard. Managed with plain SQL by
+ * {@link DecisionSlaEngine}; mapped here so the table is created with the rest of the schema.
+ */
+@Entity
+@Table(name = "decision_sla_leases")
+@Getter
+@Setter
+@NoArgsConstructor
+public class DecisionSlaLease {
+
+    @Id
+    private Integer shard;
+
+    @Column(nullable = false, length = 100)
+    private String owner;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
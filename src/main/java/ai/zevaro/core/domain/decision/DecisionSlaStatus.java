@@ -0,0 +1,7 @@
+package ai.zevaro.core.domain.decision;
+
+public enum DecisionSlaStatus {
+    ON_TRACK,   // Less than half of the SLA window elapsed
+    AT_RISK,    // More than half elapsed, not yet due
+    BREACHED    // Past due while still open
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,6 +20,9 @@ public interface DecisionVoteRepository extends JpaRepository<DecisionVote, UUID
     @Query("SELECT v.vote, COUNT(v) FROM DecisionVote v WHERE v.decision.id = :decisionId GROUP BY v.vote")
     List<Object[]> countVotesByDecision(@Param("decisionId") UUID decisionId);
 
+    @Query("SELECT v.decision.id, COUNT(v) FROM DecisionVote v WHERE v.decision.id IN :decisionIds GROUP BY v.decision.id")
+    List<Object[]> countVotesByDecisionIds(@Param("decisionIds") Collection<UUID> decisionIds);
+
     long countByDecisionIdAndVote(UUID decisionId, VoteType vote);
 
     void deleteByDecisionId(UUID decisionId);
@@ -0,0 +1,95 @@
+package ai.zevaro.core.domain.decision;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel for SLA deadlines.
+ * <p>
+ * Each level has {@code wheelSize} buckets of {@code tickMs}; deadlines beyond a level's span go to
+ * a coarser overflow level (tick = span of the level below) and cascade down as the clock reaches
+ * them. Adding and expiring a timer is O(1) regardless of how many are scheduled. Not thread-safe;
+ * owned by the single scheduler thread of {@link DecisionSlaEngine}.
+ */
+final class SlaTimingWheel<T> {
+
+    record Timer<T>(long deadlineMs, T payload) {}
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final long spanMs;
+    private final List<List<Timer<T>>> buckets;
+    private long currentTime;
+    private SlaTimingWheel<T> overflow;
+
+    SlaTimingWheel(long tickMs, int wheelSize, long startMs) {
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.spanMs = tickMs * wheelSize;
+        this.currentTime = startMs - (startMs % tickMs);
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Schedule a timer. Returns false if its deadline falls in the current tick,
+     * in which case the caller should treat it as expired.
+     */
+    boolean add(Timer<T> timer) {
+        long deadline = timer.deadlineMs();
+        if (deadline < currentTime + tickMs) {
+            return false;
+        }
+        if (deadline < currentTime + spanMs) {
+            buckets.get(bucketIndex(deadline)).add(timer);
+            return true;
+        }
+        if (overflow == null) {
+            overflow = new SlaTimingWheel<>(spanMs, wheelSize, currentTime);
+        }
+        return overflow.add(timer);
+    }
+
+    /**
+     * Move the clock forward to {@code nowMs}, collecting every timer whose deadline has passed.
+     */
+    void advance(long nowMs, List<Timer<T>> expired) {
+        long target = nowMs - (nowMs % tickMs);
+        while (currentTime < target) {
+            currentTime += tickMs;
+            drainBucket(currentTime, expired);
+
+            if (overflow != null && currentTime % spanMs == 0) {
+                List<Timer<T>> cascaded = new ArrayList<>();
+                overflow.advance(currentTime, cascaded);
+                for (Timer<T> timer : cascaded) {
+                    reinsert(timer, expired);
+                }
+            }
+        }
+    }
+
+    private void drainBucket(long time, List<Timer<T>> expired) {
+        int index = bucketIndex(time);
+        List<Timer<T>> bucket = buckets.get(index);
+        if (bucket.isEmpty()) {
+            return;
+        }
+        buckets.set(index, new ArrayList<>());
+        for (Timer<T> timer : bucket) {
+            reinsert(timer, expired);
+        }
+    }
+
+    private void reinsert(Timer<T> timer, List<Timer<T>> expired) {
+        if (!add(timer)) {
+            expired.add(timer);
+        }
+    }
+
+    private int bucketIndex(long time) {
+        return (int) ((time / tickMs) % wheelSize);
+    }
+}
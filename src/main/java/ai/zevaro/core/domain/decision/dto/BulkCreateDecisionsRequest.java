@@ -0,0 +1,14 @@
+package ai.zevaro.core.domain.decision.dto;
+
+import ai.zevaro.core.config.AppConstants;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkCreateDecisionsRequest(
+        @NotEmpty
+        @Size(max = AppConstants.DECISION_BULK_MAX_ITEMS)
+        List<@Valid CreateDecisionRequest> decisions
+) {}
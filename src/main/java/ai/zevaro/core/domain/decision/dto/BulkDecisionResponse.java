@@ -0,0 +1,15 @@
+package ai.zevaro.core.domain.decision.dto;
+
+import java.util.List;
+
+public record BulkDecisionResponse(
+        int requested,
+        int succeeded,
+        int failed,
+        List<BulkItemResult> results
+) {
+    public static BulkDecisionResponse of(List<BulkItemResult> results) {
+        int succeeded = (int) results.stream().filter(BulkItemResult::success).count();
+        return new BulkDecisionResponse(results.size(), succeeded, results.size() - succeeded, results);
+    }
+}
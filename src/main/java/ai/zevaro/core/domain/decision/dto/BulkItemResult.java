@@ -0,0 +1,18 @@
+package ai.zevaro.core.domain.decision.dto;
+
+import java.util.UUID;
+
+public record BulkItemResult(
+        int index,
+        UUID decisionId,
+        boolean success,
+        String error
+) {
+    public static BulkItemResult ok(int index, UUID decisionId) {
+        return new BulkItemResult(index, decisionId, true, null);
+    }
+
+    public static BulkItemResult failed(int index, UUID decisionId, String error) {
+        return new BulkItemResult(index, decisionId, false, error);
+    }
+}
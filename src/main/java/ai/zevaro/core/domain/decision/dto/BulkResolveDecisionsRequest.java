@@ -0,0 +1,23 @@
+package ai.zevaro.core.domain.decision.dto;
+
+import ai.zevaro.core.config.AppConstants;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkResolveDecisionsRequest(
+        @NotEmpty
+        @Size(max = AppConstants.DECISION_BULK_MAX_ITEMS)
+        List<@Valid Item> items
+) {
+    public record Item(
+            @NotNull UUID decisionId,
+            @NotBlank String rationale,
+            DecisionOption selectedOption
+    ) {}
+}
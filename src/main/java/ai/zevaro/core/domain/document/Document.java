@@ -1,5 +1,6 @@
 package ai.zevaro.core.domain.document;
 
+import ai.zevaro.core.domain.search.SearchIndexListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
@@ -24,9 +25,10 @@ import java.util.UUID;
 @Table(name = "documents", indexes = {
         @Index(name = "idx_documents_tenant_space", columnList = "tenant_id, space_id"),
         @Index(name = "idx_documents_tenant_parent_doc", columnList = "tenant_id, parent_document_id"),
-        @Index(name = "idx_documents_tenant_type", columnList = "tenant_id, type")
+        @Index(name = "idx_documents_tenant_type", columnList = "tenant_id, type"),
+        @Index(name = "idx_documents_tenant_path", columnList = "tenant_id, path")
 })
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, SearchIndexListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -45,6 +47,16 @@ public class Document {
     @Column(name = "parent_document_id")
     private UUID parentDocumentId;
 
+    /**
+     * Ids from the root down to this document, as {@code /root-id/.../own-id/}; maintained by
+     * {@link DocumentTreeIndex}. Byte-ordered so prefix matches use the index.
+     */
+    @Column(columnDefinition = "text collate \"C\"")
+    private String path;
+
+    @Column(name = "child_count", nullable = false, columnDefinition = "integer default 0")
+    private Integer childCount = 0;
+
     @Column(nullable = false, length = 500)
     private String title;
 
@@ -3,7 +3,10 @@ package ai.zevaro.core.domain.document;
 import ai.zevaro.core.domain.document.dto.CreateDocumentRequest;
 import ai.zevaro.core.domain.document.dto.DocumentResponse;
 import ai.zevaro.core.domain.document.dto.DocumentTreeNode;
+import ai.zevaro.core.domain.document.dto.DocumentVersionDiffResponse;
 import ai.zevaro.core.domain.document.dto.DocumentVersionResponse;
+import ai.zevaro.core.domain.document.dto.DocumentVersionSummaryResponse;
+import ai.zevaro.core.domain.document.dto.MoveDocumentRequest;
 import ai.zevaro.core.domain.document.dto.UpdateDocumentRequest;
 import ai.zevaro.core.security.CurrentUser;
 import ai.zevaro.core.security.UserPrincipal;
@@ -20,6 +23,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -84,14 +88,33 @@ public class DocumentController {
         return ResponseEntity.ok(documentService.archive(id, user.getTenantId(), user.getUserId()));
     }
 
+    @PostMapping("/{id}/move")
+    @PreAuthorize("hasRole('TENANT_OWNER') or hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('document:update')")
+    public ResponseEntity<DocumentResponse> move(
+            @PathVariable UUID id,
+            @RequestBody MoveDocumentRequest request,
+            @CurrentUser UserPrincipal user) {
+        return ResponseEntity.ok(documentService.move(id, request, user.getTenantId(), user.getUserId()));
+    }
+
     @GetMapping("/{id}/versions")
     @PreAuthorize("hasRole('TENANT_OWNER') or hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('document:read')")
-    public ResponseEntity<List<DocumentVersionResponse>> getVersions(
+    public ResponseEntity<List<DocumentVersionSummaryResponse>> getVersions(
             @PathVariable UUID id,
             @CurrentUser UserPrincipal user) {
         return ResponseEntity.ok(documentService.getVersions(id, user.getTenantId()));
     }
 
+    @GetMapping("/{id}/versions/diff")
+    @PreAuthorize("hasRole('TENANT_OWNER') or hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('document:read')")
+    public ResponseEntity<DocumentVersionDiffResponse> diffVersions(
+            @PathVariable UUID id,
+            @RequestParam int from,
+            @RequestParam int to,
+            @CurrentUser UserPrincipal user) {
+        return ResponseEntity.ok(documentService.diffVersions(id, from, to, user.getTenantId()));
+    }
+
     @GetMapping("/{id}/versions/{version}")
     @PreAuthorize("hasRole('TENANT_OWNER') or hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('document:read')")
     public ResponseEntity<DocumentVersionResponse> getVersion(
@@ -109,6 +132,14 @@ public class DocumentController {
         return ResponseEntity.ok(documentService.listChildren(id, user.getTenantId()));
     }
 
+    @GetMapping("/{id}/subtree")
+    @PreAuthorize("hasRole('TENANT_OWNER') or hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('document:read')")
+    public ResponseEntity<DocumentTreeNode> getSubtree(
+            @PathVariable UUID id,
+            @CurrentUser UserPrincipal user) {
+        return ResponseEntity.ok(documentService.getSubtree(id, user.getTenantId()));
+    }
+
     @GetMapping("/by-space/{spaceId}")
     @PreAuthorize("hasRole('TENANT_OWNER') or hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('document:read')")
     public ResponseEntity<List<DocumentResponse>> listBySpace(
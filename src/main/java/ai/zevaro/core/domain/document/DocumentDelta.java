@@ -0,0 +1,104 @@
+package ai.zevaro.core.domain.document;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compressed line delta that rebuilds one text from another: a sequence of "copy these lines of
+ * the base" and "insert these literal lines" instructions, deflated.
+ * <p>
+ * Version storage uses it in reverse: an older version is stored as a delta against the next newer one.
+ */
+final class DocumentDelta {
+
+    private static final byte FORMAT = 1;
+    private static final byte END = 0;
+    private static final byte COPY = 1;
+    private static final byte INSERT = 2;
+
+    private DocumentDelta() {}
+
+    /**
+     * Delta turning {@code base} (already split with {@link LineDiff#lines}) into {@code target}.
+     */
+    static byte[] encode(String[] base, String target, int maxEdits) {
+        String[] targetLines = LineDiff.lines(target);
+        List<LineDiff.Edit> edits = LineDiff.diff(base, targetLines, maxEdits);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            out.writeByte(FORMAT);
+            if (edits == null) {
+                writeInsert(out, target);
+            } else {
+                for (LineDiff.Edit edit : edits) {
+                    switch (edit.op()) {
+                        case EQUAL -> {
+                            out.writeByte(COPY);
+                            out.writeInt(edit.oldStart());
+                            out.writeInt(edit.length());
+                        }
+                        case INSERT -> {
+                            StringBuilder text = new StringBuilder();
+                            for (int i = 0; i < edit.length(); i++) {
+                                text.append(targetLines[edit.newStart() + i]);
+                            }
+                            writeInsert(out, text.toString());
+                        }
+                        case DELETE -> {
+                            // Base lines not copied are dropped
+                        }
+                    }
+                }
+            }
+            out.writeByte(END);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static String apply(String base, byte[] delta) {
+        String[] baseLines = LineDiff.lines(base);
+        StringBuilder result = new StringBuilder(base != null ? base.length() : 0);
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(delta)))) {
+            byte format = in.readByte();
+            if (format != FORMAT) {
+                throw new IllegalStateException("Unsupported document delta format " + format);
+            }
+            for (byte op = in.readByte(); op != END; op = in.readByte()) {
+                if (op == COPY) {
+                    int start = in.readInt();
+                    int count = in.readInt();
+                    for (int i = 0; i < count; i++) {
+                        result.append(baseLines[start + i]);
+                    }
+                } else if (op == INSERT) {
+                    byte[] text = new byte[in.readInt()];
+                    in.readFully(text);
+                    result.append(new String(text, StandardCharsets.UTF_8));
+                } else {
+                    throw new IllegalStateException("Corrupt document delta (op " + op + ")");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return result.toString();
+    }
+
+    private static void writeInsert(DataOutputStream out, String text) throws IOException {
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        out.writeByte(INSERT);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+}
@@ -4,6 +4,7 @@ import ai.zevaro.core.domain.document.dto.CreateDocumentRequest;
 import ai.zevaro.core.domain.document.dto.DocumentResponse;
 import ai.zevaro.core.domain.document.dto.DocumentTreeNode;
 import ai.zevaro.core.domain.document.dto.DocumentVersionResponse;
+import ai.zevaro.core.domain.document.dto.DocumentVersionSummaryResponse;
 import ai.zevaro.core.domain.document.dto.UpdateDocumentRequest;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -85,7 +86,7 @@ public class DocumentMapper {
         existing.setLastEditedById(editorId);
     }
 
-    public DocumentVersionResponse toVersionResponse(DocumentVersion ver, String editedByName) {
+    public DocumentVersionResponse toVersionResponse(DocumentVersion ver, String body, String editedByName) {
         if (ver == null) {
             return null;
         }
@@ -95,20 +96,34 @@ public class DocumentMapper {
                 ver.getDocumentId(),
                 ver.getVersion(),
                 ver.getTitle(),
-                ver.getBody(),
+                body,
                 ver.getEditedById(),
                 editedByName,
                 ver.getCreatedAt()
         );
     }
 
-    public DocumentTreeNode toTreeNode(Document doc, List<DocumentTreeNode> children) {
+    public DocumentVersionSummaryResponse toVersionSummaryResponse(DocumentVersionSummary ver, String editedByName) {
+        return new DocumentVersionSummaryResponse(
+                ver.id(),
+                ver.documentId(),
+                ver.version(),
+                ver.title(),
+                ver.bodyLength(),
+                ver.editedById(),
+                editedByName,
+                ver.createdAt()
+        );
+    }
+
+    public DocumentTreeNode toTreeNode(DocumentTreeEntry entry, List<DocumentTreeNode> children) {
         return new DocumentTreeNode(
-                doc.getId(),
-                doc.getTitle(),
-                doc.getType(),
-                doc.getStatus(),
-                doc.getSortOrder(),
+                entry.id(),
+                entry.title(),
+                entry.type(),
+                entry.status(),
+                entry.sortOrder(),
+                entry.childCount(),
                 children
         );
     }
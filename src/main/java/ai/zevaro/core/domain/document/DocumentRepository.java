@@ -1,8 +1,11 @@
 package ai.zevaro.core.domain.document;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -24,12 +27,45 @@ public interface DocumentRepository extends JpaRepository<Document, UUID> {
 
     Optional<Document> findByIdAndTenantId(UUID id, UUID tenantId);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM Document d WHERE d.id = :id AND d.tenantId = :tenantId")
+    Optional<Document> findByIdAndTenantIdForUpdate(@Param("id") UUID id, @Param("tenantId") UUID tenantId);
+
     List<Document> findByTenantIdAndSpaceIdAndType(UUID tenantId, UUID spaceId, DocumentType type);
 
     long countByTenantIdAndSpaceId(UUID tenantId, UUID spaceId);
 
-    long countByTenantIdAndParentDocumentId(UUID tenantId, UUID parentDocumentId);
+    @Query("SELECT d.spaceId FROM Document d WHERE d.id = :id AND d.tenantId = :tenantId")
+    Optional<UUID> findSpaceId(@Param("id") UUID id, @Param("tenantId") UUID tenantId);
+
+    @Query("SELECT d.childCount FROM Document d WHERE d.id = :id")
+    int findChildCount(@Param("id") UUID id);
+
+    @Query("SELECT new ai.zevaro.core.domain.document.DocumentTreeEntry(d.id, d.parentDocumentId, d.title, d.type, " +
+           "d.status, d.sortOrder, d.childCount) " +
+           "FROM Document d WHERE d.tenantId = :tenantId AND d.spaceId = :spaceId ORDER BY d.sortOrder ASC")
+    List<DocumentTreeEntry> findTreeEntries(@Param("tenantId") UUID tenantId, @Param("spaceId") UUID spaceId);
+
+    /**
+     * Tree entries whose path matches {@code pathPattern}, a path followed by {@code %}.
+     */
+    @Query("SELECT new ai.zevaro.core.domain.document.DocumentTreeEntry(d.id, d.parentDocumentId, d.title, d.type, " +
+           "d.status, d.sortOrder, d.childCount) " +
+           "FROM Document d WHERE d.tenantId = :tenantId AND d.path LIKE :pathPattern ORDER BY d.sortOrder ASC")
+    List<DocumentTreeEntry> findSubtreeEntries(@Param("tenantId") UUID tenantId, @Param("pathPattern") String pathPattern);
+
+    @Modifying
+    @Query("UPDATE Document d SET d.childCount = d.childCount + :delta WHERE d.id = :id")
+    int adjustChildCount(@Param("id") UUID id, @Param("delta") int delta);
 
-    @Query("SELECT d FROM Document d WHERE d.tenantId = :tenantId AND (LOWER(d.title) LIKE LOWER(CONCAT('%', :query, '%')) OR LOWER(d.body) LIKE LOWER(CONCAT('%', :query, '%')))")
-    List<Document> search(@Param("tenantId") UUID tenantId, @Param("query") String query, Pageable pageable);
+    /**
+     * Replace the {@code oldPath} prefix with {@code newPath} on a document and all its descendants.
+     */
+    @Modifying
+    @Query(value = "UPDATE documents SET path = :newPath || substring(path from :oldPathLength + 1) " +
+                   "WHERE tenant_id = :tenantId AND path LIKE :oldPathPattern", nativeQuery = true)
+    int rewritePaths(@Param("tenantId") UUID tenantId,
+                     @Param("oldPathPattern") String oldPathPattern,
+                     @Param("oldPathLength") int oldPathLength,
+                     @Param("newPath") String newPath);
 }
@@ -1,17 +1,19 @@
 package ai.zevaro.core.domain.document;
 
+import ai.zevaro.core.cache.ReferenceNameCache;
 import ai.zevaro.core.domain.audit.AuditAction;
 import ai.zevaro.core.domain.audit.AuditLogBuilder;
 import ai.zevaro.core.domain.audit.AuditService;
 import ai.zevaro.core.domain.document.dto.CreateDocumentRequest;
 import ai.zevaro.core.domain.document.dto.DocumentResponse;
 import ai.zevaro.core.domain.document.dto.DocumentTreeNode;
+import ai.zevaro.core.domain.document.dto.DocumentVersionDiffResponse;
 import ai.zevaro.core.domain.document.dto.DocumentVersionResponse;
+import ai.zevaro.core.domain.document.dto.DocumentVersionSummaryResponse;
+import ai.zevaro.core.domain.document.dto.MoveDocumentRequest;
 import ai.zevaro.core.domain.document.dto.UpdateDocumentRequest;
 import ai.zevaro.core.domain.space.Space;
 import ai.zevaro.core.domain.space.SpaceRepository;
-import ai.zevaro.core.domain.user.User;
-import ai.zevaro.core.domain.user.UserRepository;
 import ai.zevaro.core.event.EventPublisher;
 import ai.zevaro.core.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +25,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
@@ -31,8 +34,10 @@ public class DocumentService {
 
     private final DocumentRepository documentRepository;
     private final DocumentVersionRepository documentVersionRepository;
+    private final DocumentVersionStore documentVersionStore;
+    private final DocumentTreeIndex documentTreeIndex;
     private final SpaceRepository spaceRepository;
-    private final UserRepository userRepository;
+    private final ReferenceNameCache referenceNameCache;
     private final DocumentMapper documentMapper;
     private final AuditService auditService;
     private final EventPublisher eventPublisher;
@@ -41,11 +46,13 @@ public class DocumentService {
 
     @Transactional
     public DocumentResponse create(CreateDocumentRequest req, UUID tenantId, UUID userId) {
-        spaceRepository.findByIdAndTenantId(req.spaceId(), tenantId)
+        Space space = spaceRepository.findByIdAndTenantId(req.spaceId(), tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Space", "id", req.spaceId()));
 
+        Document parent = null;
         if (req.parentDocumentId() != null) {
-            Document parent = documentRepository.findByIdAndTenantId(req.parentDocumentId(), tenantId)
+            documentTreeIndex.lockSpace(req.spaceId());
+            parent = documentRepository.findByIdAndTenantId(req.parentDocumentId(), tenantId)
                     .orElseThrow(() -> new ResourceNotFoundException("Document", "id", req.parentDocumentId()));
             if (!parent.getSpaceId().equals(req.spaceId())) {
                 throw new IllegalArgumentException("Parent document must be in the same space");
@@ -54,12 +61,14 @@ public class DocumentService {
 
         Document doc = documentMapper.toEntity(req, tenantId, userId);
         doc = documentRepository.save(doc);
+        documentTreeIndex.attach(doc, parent);
 
         auditService.log(AuditLogBuilder.create()
                 .tenant(tenantId)
                 .actor(userId, null, null)
                 .action(AuditAction.CREATE)
                 .entity("DOCUMENT", doc.getId(), doc.getTitle())
+                .scope(space.getProgramId(), null)
                 .description("Created document: " + doc.getTitle()));
 
         return toResponse(doc);
@@ -110,23 +119,21 @@ public class DocumentService {
         spaceRepository.findByIdAndTenantId(spaceId, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Space", "id", spaceId));
 
-        List<Document> allDocs = documentRepository.findByTenantIdAndSpaceIdOrderBySortOrderAsc(tenantId, spaceId);
-
-        // Group by parentDocumentId
-        Map<UUID, List<Document>> childrenMap = new HashMap<>();
-        List<Document> roots = new ArrayList<>();
+        return buildTree(documentRepository.findTreeEntries(tenantId, spaceId), null);
+    }
 
-        for (Document doc : allDocs) {
-            if (doc.getParentDocumentId() == null) {
-                roots.add(doc);
-            } else {
-                childrenMap.computeIfAbsent(doc.getParentDocumentId(), k -> new ArrayList<>()).add(doc);
-            }
-        }
+    @Transactional(readOnly = true)
+    public DocumentTreeNode getSubtree(UUID id, UUID tenantId) {
+        Document doc = documentRepository.findByIdAndTenantId(id, tenantId)
+                .orElseThrow(() -> new ResourceNotFoundException("Document", "id", id));
 
-        return roots.stream()
-                .map(root -> buildTreeNode(root, childrenMap))
-                .toList();
+        List<DocumentTreeEntry> entries = documentRepository.findSubtreeEntries(
+                tenantId, documentTreeIndex.subtreePattern(doc));
+        DocumentTreeEntry root = entries.stream()
+                .filter(entry -> entry.id().equals(id))
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Document", "id", id));
+        return documentMapper.toTreeNode(root, buildTree(entries, id));
     }
 
     @Transactional
@@ -142,6 +149,7 @@ public class DocumentService {
                 .actor(userId, null, null)
                 .action(AuditAction.UPDATE)
                 .entity("DOCUMENT", doc.getId(), doc.getTitle())
+                .scope(resolveProgramId(doc.getSpaceId(), tenantId), null)
                 .description("Updated document: " + doc.getTitle()));
 
         return toResponse(doc);
@@ -149,14 +157,14 @@ public class DocumentService {
 
     @Transactional
     public void delete(UUID id, UUID tenantId, UUID userId) {
-        Document doc = documentRepository.findByIdAndTenantId(id, tenantId)
-                .orElseThrow(() -> new ResourceNotFoundException("Document", "id", id));
+        Document doc = loadLocked(id, tenantId);
 
-        long childCount = documentRepository.countByTenantIdAndParentDocumentId(tenantId, id);
+        int childCount = documentRepository.findChildCount(id);
         if (childCount > 0) {
             throw new IllegalStateException("Cannot delete document with " + childCount + " child document(s). Delete children first.");
         }
 
+        documentTreeIndex.detach(doc);
         documentVersionRepository.deleteByDocumentId(doc.getId());
         documentRepository.delete(doc);
 
@@ -165,24 +173,51 @@ public class DocumentService {
                 .actor(userId, null, null)
                 .action(AuditAction.DELETE)
                 .entity("DOCUMENT", doc.getId(), doc.getTitle())
+                .scope(resolveProgramId(doc.getSpaceId(), tenantId), null)
                 .description("Deleted document: " + doc.getTitle()));
     }
 
+    @Transactional
+    public DocumentResponse move(UUID id, MoveDocumentRequest req, UUID tenantId, UUID userId) {
+        Document doc = loadLocked(id, tenantId);
+
+        Document parent = null;
+        if (req.parentDocumentId() != null) {
+            parent = documentRepository.findByIdAndTenantId(req.parentDocumentId(), tenantId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Document", "id", req.parentDocumentId()));
+            if (!parent.getSpaceId().equals(doc.getSpaceId())) {
+                throw new IllegalArgumentException("Parent document must be in the same space");
+            }
+        }
+
+        documentTreeIndex.move(doc, parent);
+        if (req.sortOrder() != null) {
+            doc.setSortOrder(req.sortOrder());
+        }
+        doc.setLastEditedById(userId);
+        doc = documentRepository.save(doc);
+
+        auditService.log(AuditLogBuilder.create()
+                .tenant(tenantId)
+                .actor(userId, null, null)
+                .action(AuditAction.UPDATE)
+                .entity("DOCUMENT", doc.getId(), doc.getTitle())
+                .scope(resolveProgramId(doc.getSpaceId(), tenantId), null)
+                .description("Moved document: " + doc.getTitle()));
+
+        return toResponse(doc);
+    }
+
     // --- Publish / Version ---
 
     @Transactional
     public DocumentResponse publish(UUID id, UUID tenantId, UUID userId) {
-        Document doc = documentRepository.findByIdAndTenantId(id, tenantId)
+        // Locked so concurrent publishes append versions one at a time
+        Document doc = documentRepository.findByIdAndTenantIdForUpdate(id, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Document", "id", id));
 
         // Create a version snapshot of the current state
-        DocumentVersion snapshot = new DocumentVersion();
-        snapshot.setDocumentId(doc.getId());
-        snapshot.setVersion(doc.getVersion());
-        snapshot.setTitle(doc.getTitle());
-        snapshot.setBody(doc.getBody());
-        snapshot.setEditedById(userId);
-        documentVersionRepository.save(snapshot);
+        documentVersionStore.append(doc, userId);
 
         // Increment version, set published
         doc.setVersion(doc.getVersion() + 1);
@@ -191,14 +226,16 @@ public class DocumentService {
         doc.setLastEditedById(userId);
         doc = documentRepository.save(doc);
 
+        UUID programId = resolveProgramId(doc.getSpaceId(), tenantId);
         auditService.log(AuditLogBuilder.create()
                 .tenant(tenantId)
                 .actor(userId, null, null)
                 .action(AuditAction.UPDATE)
                 .entity("DOCUMENT", doc.getId(), doc.getTitle())
+                .scope(programId, null)
                 .description("Published document: " + doc.getTitle() + " (version " + (doc.getVersion() - 1) + ")"));
 
-        eventPublisher.publishDocumentPublished(doc, userId);
+        eventPublisher.publishDocumentPublished(doc, programId, userId);
 
         return toResponse(doc);
     }
@@ -216,21 +253,22 @@ public class DocumentService {
                 .actor(userId, null, null)
                 .action(AuditAction.UPDATE)
                 .entity("DOCUMENT", doc.getId(), doc.getTitle())
+                .scope(resolveProgramId(doc.getSpaceId(), tenantId), null)
                 .description("Archived document: " + doc.getTitle()));
 
         return toResponse(doc);
     }
 
     @Transactional(readOnly = true)
-    public List<DocumentVersionResponse> getVersions(UUID documentId, UUID tenantId) {
+    public List<DocumentVersionSummaryResponse> getVersions(UUID documentId, UUID tenantId) {
         documentRepository.findByIdAndTenantId(documentId, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Document", "id", documentId));
 
-        return documentVersionRepository.findByDocumentIdOrderByVersionDesc(documentId)
+        return documentVersionRepository.findSummariesByDocumentId(documentId)
                 .stream()
                 .map(ver -> {
-                    String editedByName = resolveUserName(ver.getEditedById(), tenantId);
-                    return documentMapper.toVersionResponse(ver, editedByName);
+                    String editedByName = resolveUserName(ver.editedById(), tenantId);
+                    return documentMapper.toVersionSummaryResponse(ver, editedByName);
                 })
                 .toList();
     }
@@ -240,11 +278,24 @@ public class DocumentService {
         documentRepository.findByIdAndTenantId(documentId, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Document", "id", documentId));
 
-        DocumentVersion ver = documentVersionRepository.findByDocumentIdAndVersion(documentId, version)
-                .orElseThrow(() -> new ResourceNotFoundException("DocumentVersion", "version", version));
+        DocumentVersion ver = findVersion(documentId, version);
 
         String editedByName = resolveUserName(ver.getEditedById(), tenantId);
-        return documentMapper.toVersionResponse(ver, editedByName);
+        return documentMapper.toVersionResponse(ver, documentVersionStore.body(ver), editedByName);
+    }
+
+    @Transactional(readOnly = true)
+    public DocumentVersionDiffResponse diffVersions(UUID documentId, int fromVersion, int toVersion, UUID tenantId) {
+        documentRepository.findByIdAndTenantId(documentId, tenantId)
+                .orElseThrow(() -> new ResourceNotFoundException("Document", "id", documentId));
+
+        DocumentVersion from = findVersion(documentId, fromVersion);
+        DocumentVersion to = findVersion(documentId, toVersion);
+
+        DocumentVersionStore.LineChanges changes = documentVersionStore.diff(
+                documentVersionStore.body(from), documentVersionStore.body(to));
+        return new DocumentVersionDiffResponse(documentId, fromVersion, toVersion, from.getTitle(), to.getTitle(),
+                changes.linesAdded(), changes.linesRemoved(), changes.hunks());
     }
 
     // --- Internal: Specification bridge ---
@@ -264,12 +315,14 @@ public class DocumentService {
         doc.setSortOrder(0);
 
         doc = documentRepository.save(doc);
+        documentTreeIndex.attach(doc, null);
 
         auditService.log(AuditLogBuilder.create()
                 .tenant(tenantId)
                 .actor(authorId, null, null)
                 .action(AuditAction.CREATE)
                 .entity("DOCUMENT", doc.getId(), doc.getTitle())
+                .scope(resolveProgramId(doc.getSpaceId(), tenantId), null)
                 .description("Auto-created document for specification: " + specificationName));
 
         return doc;
@@ -277,21 +330,58 @@ public class DocumentService {
 
     // --- Helpers ---
 
+    /**
+     * Take the document's space lock, then load it, so its path, parent and child count can't
+     * have been changed by a concurrent move or delete between the read and the lock. A document
+     * never changes space, so the space id read before the lock stays valid.
+     */
+    private Document loadLocked(UUID id, UUID tenantId) {
+        UUID spaceId = documentRepository.findSpaceId(id, tenantId)
+                .orElseThrow(() -> new ResourceNotFoundException("Document", "id", id));
+        documentTreeIndex.lockSpace(spaceId);
+        return documentRepository.findByIdAndTenantId(id, tenantId)
+                .orElseThrow(() -> new ResourceNotFoundException("Document", "id", id));
+    }
+
+    private DocumentVersion findVersion(UUID documentId, int version) {
+        return documentVersionRepository.findByDocumentIdAndVersion(documentId, version)
+                .orElseThrow(() -> new ResourceNotFoundException("DocumentVersion", "version", version));
+    }
+
     private DocumentResponse toResponse(Document doc) {
         String spaceName = resolveSpaceName(doc.getSpaceId(), doc.getTenantId());
         String parentDocTitle = resolveDocumentTitle(doc.getParentDocumentId(), doc.getTenantId());
         String authorName = resolveUserName(doc.getAuthorId(), doc.getTenantId());
         String lastEditedByName = resolveUserName(doc.getLastEditedById(), doc.getTenantId());
-        int childCount = (int) documentRepository.countByTenantIdAndParentDocumentId(doc.getTenantId(), doc.getId());
-        return documentMapper.toResponse(doc, spaceName, parentDocTitle, authorName, lastEditedByName, childCount);
+        return documentMapper.toResponse(doc, spaceName, parentDocTitle, authorName, lastEditedByName,
+                doc.getChildCount());
     }
 
-    private DocumentTreeNode buildTreeNode(Document doc, Map<UUID, List<Document>> childrenMap) {
-        List<Document> children = childrenMap.getOrDefault(doc.getId(), List.of());
-        List<DocumentTreeNode> childNodes = children.stream()
+    /**
+     * Nodes for the children of {@code rootId} (the top-level documents if null), built from entries in sort order.
+     */
+    private List<DocumentTreeNode> buildTree(List<DocumentTreeEntry> entries, UUID rootId) {
+        Map<UUID, List<DocumentTreeEntry>> childrenMap = new HashMap<>();
+        List<DocumentTreeEntry> roots = new ArrayList<>();
+
+        for (DocumentTreeEntry entry : entries) {
+            if (Objects.equals(entry.parentDocumentId(), rootId)) {
+                roots.add(entry);
+            } else if (entry.parentDocumentId() != null) {
+                childrenMap.computeIfAbsent(entry.parentDocumentId(), k -> new ArrayList<>()).add(entry);
+            }
+        }
+
+        return roots.stream()
+                .map(root -> buildTreeNode(root, childrenMap))
+                .toList();
+    }
+
+    private DocumentTreeNode buildTreeNode(DocumentTreeEntry entry, Map<UUID, List<DocumentTreeEntry>> childrenMap) {
+        List<DocumentTreeNode> childNodes = childrenMap.getOrDefault(entry.id(), List.of()).stream()
                 .map(child -> buildTreeNode(child, childrenMap))
                 .toList();
-        return documentMapper.toTreeNode(doc, childNodes);
+        return documentMapper.toTreeNode(entry, childNodes);
     }
 
     private String resolveSpaceName(UUID spaceId, UUID tenantId) {
@@ -303,6 +393,15 @@ public class DocumentService {
                 .orElse(null);
     }
 
+    private UUID resolveProgramId(UUID spaceId, UUID tenantId) {
+        if (spaceId == null) {
+            return null;
+        }
+        return spaceRepository.findByIdAndTenantId(spaceId, tenantId)
+                .map(Space::getProgramId)
+                .orElse(null);
+    }
+
     private String resolveDocumentTitle(UUID documentId, UUID tenantId) {
         if (documentId == null) {
             return null;
@@ -316,8 +415,6 @@ public class DocumentService {
         if (userId == null) {
             return null;
         }
-        return userRepository.findByIdAndTenantId(userId, tenantId)
-                .map(User::getFullName)
-                .orElse(null);
+        return referenceNameCache.userName(tenantId, userId);
     }
 }
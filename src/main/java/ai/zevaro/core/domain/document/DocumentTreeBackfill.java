@@ -0,0 +1,53 @@
+package ai.zevaro.core.domain.document;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills in tree paths and child counts for documents created before {@link DocumentTreeIndex}
+ * existed (and for seeded documents). Does nothing once every document has a path.
+ */
+@Component
+@Order(5)
+@RequiredArgsConstructor
+@Slf4j
+public class DocumentTreeBackfill implements CommandLineRunner {
+
+    private static final String PATHS_SQL =
+            "WITH RECURSIVE tree AS (" +
+            "  SELECT id, '/' || id::text || '/' AS path FROM documents WHERE parent_document_id IS NULL" +
+            "  UNION ALL" +
+            "  SELECT d.id, t.path || d.id::text || '/' FROM documents d JOIN tree t ON d.parent_document_id = t.id" +
+            ") " +
+            "UPDATE documents d SET path = tree.path FROM tree WHERE d.id = tree.id AND d.path IS NULL";
+
+    private static final String CHILD_COUNTS_SQL =
+            "UPDATE documents p SET child_count = c.n FROM (" +
+            "  SELECT parent_document_id, COUNT(*) AS n FROM documents " +
+            "  WHERE parent_document_id IS NOT NULL GROUP BY parent_document_id" +
+            ") c WHERE p.id = c.parent_document_id AND p.child_count <> c.n";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+        Boolean missing = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM documents WHERE path IS NULL)", Boolean.class);
+        if (!Boolean.TRUE.equals(missing)) {
+            return;
+        }
+
+        int paths = jdbcTemplate.update(PATHS_SQL);
+        int counts = jdbcTemplate.update(CHILD_COUNTS_SQL);
+        log.info("Document tree index backfilled: {} paths, {} child counts", paths, counts);
+
+        Long orphans = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM documents WHERE path IS NULL", Long.class);
+        if (orphans != null && orphans > 0) {
+            log.warn("{} documents have a missing parent and are not in the document tree index", orphans);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package ai.zevaro.core.domain.document;
+
+import java.util.UUID;
+
+/**
+ * The columns needed to render a document tree, read without bodies.
+ */
+public record DocumentTreeEntry(
+        UUID id,
+        UUID parentDocumentId,
+        String title,
+        DocumentType type,
+        DocumentStatus status,
+        Integer sortOrder,
+        Integer childCount
+) {}
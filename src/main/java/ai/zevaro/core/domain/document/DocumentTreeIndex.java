@@ -0,0 +1,101 @@
+package ai.zevaro.core.domain.document;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Materialized-path index over the document hierarchy.
+ *
+ * - Each document stores the ids from its root down to itself, so a subtree is one prefix range
+ *   scan on {@code (tenant_id, path)} and a move is one {@code UPDATE} of the moved subtree
+ * - Each document keeps a count of its children, adjusted atomically on create, move and delete
+ * - Changes that read or rewrite paths hold a per-space advisory lock, so a move never races
+ *   another move or a create inside the moved subtree
+ *
+ * Documents created before the index existed are filled in by {@link DocumentTreeBackfill}.
+ */
+@Component
+@RequiredArgsConstructor
+public class DocumentTreeIndex {
+
+    private static final String LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtext(?))";
+
+    private final DocumentRepository documentRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Serialize tree changes within a space until the current transaction ends.
+     */
+    public void lockSpace(UUID spaceId) {
+        jdbcTemplate.query(LOCK_SQL, rs -> null, "document-tree:" + spaceId);
+    }
+
+    /**
+     * Index a newly saved document under {@code parent} (null for a root).
+     */
+    public void attach(Document doc, Document parent) {
+        doc.setPath(pathOf(parent, doc.getId()));
+        if (parent != null) {
+            documentRepository.adjustChildCount(parent.getId(), 1);
+        }
+    }
+
+    /**
+     * Remove a childless document from its parent's child count before it is deleted.
+     */
+    public void detach(Document doc) {
+        if (doc.getParentDocumentId() != null) {
+            documentRepository.adjustChildCount(doc.getParentDocumentId(), -1);
+        }
+    }
+
+    /**
+     * Re-parent a document and its whole subtree. Requires {@link #lockSpace} to be held.
+     */
+    public void move(Document doc, Document newParent) {
+        UUID newParentId = newParent != null ? newParent.getId() : null;
+        UUID oldParentId = doc.getParentDocumentId();
+        if (Objects.equals(oldParentId, newParentId)) {
+            return;
+        }
+
+        String oldPath = requirePath(doc);
+        if (newParent != null && requirePath(newParent).startsWith(oldPath)) {
+            throw new IllegalArgumentException("Cannot move a document under itself or one of its descendants");
+        }
+        String newPath = pathOf(newParent, doc.getId());
+
+        doc.setParentDocumentId(newParentId);
+        doc.setPath(newPath);
+        documentRepository.rewritePaths(doc.getTenantId(), oldPath + "%", oldPath.length(), newPath);
+
+        if (oldParentId != null) {
+            documentRepository.adjustChildCount(oldParentId, -1);
+        }
+        if (newParentId != null) {
+            documentRepository.adjustChildCount(newParentId, 1);
+        }
+    }
+
+    /**
+     * Pattern matching a document's path and every path below it.
+     */
+    public String subtreePattern(Document doc) {
+        return requirePath(doc) + "%";
+    }
+
+    private static String pathOf(Document parent, UUID id) {
+        return (parent != null ? requirePath(parent) : "/") + id + "/";
+    }
+
+    private static String requirePath(Document doc) {
+        if (doc.getPath() == null) {
+            throw new IllegalStateException("Document " + doc.getId() + " is not in the document tree index yet");
+        }
+        return doc.getPath();
+    }
+}
@@ -3,6 +3,8 @@ package ai.zevaro.core.domain.document;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -17,6 +19,11 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.Instant;
 import java.util.UUID;
 
+/**
+ * A published version of a document. The newest version, and every
+ * {@link ai.zevaro.core.config.AppConstants#DOCUMENT_VERSION_SNAPSHOT_INTERVAL}th one, keeps its full body;
+ * the rest store a compressed delta against the next newer version (see {@link DocumentVersionStore}).
+ */
 @Entity
 @Table(name = "document_versions", indexes = {
         @Index(name = "idx_doc_versions_document", columnList = "document_id"),
@@ -41,13 +48,29 @@ public class DocumentVersion {
     @Column(nullable = false, length = 500)
     private String title;
 
+    /** Null for delta versions. */
     @Column(columnDefinition = "text")
     private String body;
 
+    /** Null for versions written before deltas, which are all full. */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private DocumentVersionStorage storage;
+
+    @Column(columnDefinition = "bytea")
+    private byte[] delta;
+
+    @Column(name = "body_length")
+    private Integer bodyLength;
+
     @Column(name = "edited_by_id", nullable = false)
     private UUID editedById;
 
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private Instant createdAt;
+
+    public boolean isDelta() {
+        return storage == DocumentVersionStorage.DELTA;
+    }
 }
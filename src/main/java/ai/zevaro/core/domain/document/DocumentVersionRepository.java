@@ -1,6 +1,8 @@
 package ai.zevaro.core.domain.document;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,5 +18,19 @@ public interface DocumentVersionRepository extends JpaRepository<DocumentVersion
 
     Optional<DocumentVersion> findTopByDocumentIdOrderByVersionDesc(UUID documentId);
 
+    @Query("SELECT new ai.zevaro.core.domain.document.DocumentVersionSummary(v.id, v.documentId, v.version, v.title, " +
+           "COALESCE(v.bodyLength, LENGTH(v.body)), v.editedById, v.createdAt) " +
+           "FROM DocumentVersion v WHERE v.documentId = :documentId ORDER BY v.version DESC")
+    List<DocumentVersionSummary> findSummariesByDocumentId(@Param("documentId") UUID documentId);
+
+    /**
+     * The requested version and every newer one up to and including the nearest full version, newest first.
+     */
+    @Query("SELECT v FROM DocumentVersion v WHERE v.documentId = :documentId AND v.version >= :version " +
+           "AND v.version <= (SELECT MIN(f.version) FROM DocumentVersion f WHERE f.documentId = :documentId " +
+           "AND f.version >= :version AND (f.storage IS NULL OR f.storage <> ai.zevaro.core.domain.document.DocumentVersionStorage.DELTA)) " +
+           "ORDER BY v.version DESC")
+    List<DocumentVersion> findReconstructionChain(@Param("documentId") UUID documentId, @Param("version") int version);
+
     void deleteByDocumentId(UUID documentId);
 }
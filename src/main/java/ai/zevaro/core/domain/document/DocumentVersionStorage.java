@@ -0,0 +1,6 @@
+package ai.zevaro.core.domain.document;
+
+public enum DocumentVersionStorage {
+    FULL,
+    DELTA
+}
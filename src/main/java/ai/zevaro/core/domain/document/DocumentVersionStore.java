@@ -0,0 +1,224 @@
+package ai.zevaro.core.domain.document;
+
+import ai.zevaro.core.config.AppConstants;
+import ai.zevaro.core.domain.document.dto.DocumentDiffHunk;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Storage of document versions as reverse deltas.
+ *
+ * - The newest version is always stored in full; when a version is published the previous newest
+ *   is rewritten as a compressed line delta against it
+ * - Every {@link AppConstants#DOCUMENT_VERSION_SNAPSHOT_INTERVAL}th version stays full, so reading
+ *   any version applies fewer than that many deltas
+ * - A delta that would not be smaller than the body is not used
+ * - Versions written before deltas are full and are read as they are
+ *
+ * Metrics: {@code zevaro.document.versions.reconstruct}, {@code zevaro.document.versions.deltas.applied},
+ * {@code zevaro.document.versions.delta.bytes} and {@code zevaro.document.versions.delta.saved.bytes}.
+ */
+@Component
+public class DocumentVersionStore {
+
+    /** A line-level comparison of two texts. */
+    public record LineChanges(int linesAdded, int linesRemoved, List<DocumentDiffHunk> hunks) {}
+
+    private final DocumentVersionRepository documentVersionRepository;
+
+    private final Timer reconstructTimer;
+    private final DistributionSummary deltasAppliedSummary;
+    private final DistributionSummary deltaBytesSummary;
+    private final DistributionSummary deltaSavedBytesSummary;
+
+    public DocumentVersionStore(DocumentVersionRepository documentVersionRepository, MeterRegistry meterRegistry) {
+        this.documentVersionRepository = documentVersionRepository;
+
+        this.reconstructTimer = meterRegistry.timer("zevaro.document.versions.reconstruct");
+        this.deltasAppliedSummary = meterRegistry.summary("zevaro.document.versions.deltas.applied");
+        this.deltaBytesSummary = meterRegistry.summary("zevaro.document.versions.delta.bytes");
+        this.deltaSavedBytesSummary = meterRegistry.summary("zevaro.document.versions.delta.saved.bytes");
+    }
+
+    /**
+     * Record the document's current title and body as its current version number. The caller must
+     * hold the document's row lock so concurrent publishes cannot interleave.
+     */
+    public DocumentVersion append(Document doc, UUID editorId) {
+        DocumentVersion previous = documentVersionRepository.findTopByDocumentIdOrderByVersionDesc(doc.getId())
+                .orElse(null);
+
+        DocumentVersion version = new DocumentVersion();
+        version.setDocumentId(doc.getId());
+        version.setVersion(doc.getVersion());
+        version.setTitle(doc.getTitle());
+        version.setBody(doc.getBody());
+        version.setStorage(DocumentVersionStorage.FULL);
+        version.setBodyLength(doc.getBody() != null ? doc.getBody().length() : null);
+        version.setEditedById(editorId);
+        version = documentVersionRepository.save(version);
+
+        if (previous != null) {
+            toDelta(previous, doc.getBody());
+        }
+        return version;
+    }
+
+    /**
+     * The body of a version, rebuilt from the nearest newer full version if it is stored as a delta.
+     */
+    public String body(DocumentVersion version) {
+        if (!version.isDelta()) {
+            return version.getBody();
+        }
+
+        long start = System.nanoTime();
+        List<DocumentVersion> chain = documentVersionRepository
+                .findReconstructionChain(version.getDocumentId(), version.getVersion());
+        if (chain.isEmpty() || chain.get(0).isDelta()
+                || !chain.get(chain.size() - 1).getVersion().equals(version.getVersion())) {
+            throw new IllegalStateException("No full version to rebuild version " + version.getVersion()
+                    + " of document " + version.getDocumentId() + " from");
+        }
+
+        String body = chain.get(0).getBody();
+        for (int i = 1; i < chain.size(); i++) {
+            body = DocumentDelta.apply(body, chain.get(i).getDelta());
+        }
+
+        deltasAppliedSummary.record(chain.size() - 1);
+        reconstructTimer.record(Duration.ofNanos(System.nanoTime() - start));
+        return body;
+    }
+
+    /**
+     * Unified-diff style hunks turning {@code oldText} into {@code newText}. Lines are prefixed with
+     * ' ' (context), '-' (removed) or '+' (added), and starts are 1-based as in {@code diff -u}.
+     */
+    public LineChanges diff(String oldText, String newText) {
+        String[] oldLines = LineDiff.lines(oldText);
+        String[] newLines = LineDiff.lines(newText);
+        List<LineDiff.Edit> edits = LineDiff.diff(oldLines, newLines, AppConstants.DOCUMENT_DIFF_MAX_EDITS);
+        if (edits == null) {
+            // Too different to align: show a full replacement
+            edits = new ArrayList<>(2);
+            if (oldLines.length > 0) {
+                edits.add(new LineDiff.Edit(LineDiff.Op.DELETE, 0, 0, oldLines.length));
+            }
+            if (newLines.length > 0) {
+                edits.add(new LineDiff.Edit(LineDiff.Op.INSERT, oldLines.length, 0, newLines.length));
+            }
+        }
+
+        int context = AppConstants.DOCUMENT_DIFF_CONTEXT_LINES;
+        int added = 0;
+        int removed = 0;
+        List<DocumentDiffHunk> hunks = new ArrayList<>();
+
+        int i = 0;
+        while (i < edits.size()) {
+            if (edits.get(i).op() == LineDiff.Op.EQUAL) {
+                i++;
+                continue;
+            }
+
+            // Extend the hunk over unchanged runs short enough that their context would overlap
+            int first = i;
+            int last = i;
+            for (int j = i + 1; j < edits.size(); j++) {
+                LineDiff.Edit edit = edits.get(j);
+                if (edit.op() != LineDiff.Op.EQUAL) {
+                    last = j;
+                } else if (edit.length() > 2 * context || j == edits.size() - 1) {
+                    break;
+                }
+            }
+
+            List<String> lines = new ArrayList<>();
+            int leading = 0;
+            if (first > 0) {
+                LineDiff.Edit before = edits.get(first - 1);
+                leading = Math.min(context, before.length());
+                appendLines(lines, ' ', oldLines, before.oldStart() + before.length() - leading, leading);
+            }
+            int oldCount = leading;
+            int newCount = leading;
+            for (int k = first; k <= last; k++) {
+                LineDiff.Edit edit = edits.get(k);
+                switch (edit.op()) {
+                    case EQUAL -> {
+                        appendLines(lines, ' ', oldLines, edit.oldStart(), edit.length());
+                        oldCount += edit.length();
+                        newCount += edit.length();
+                    }
+                    case DELETE -> {
+                        appendLines(lines, '-', oldLines, edit.oldStart(), edit.length());
+                        oldCount += edit.length();
+                        removed += edit.length();
+                    }
+                    case INSERT -> {
+                        appendLines(lines, '+', newLines, edit.newStart(), edit.length());
+                        newCount += edit.length();
+                        added += edit.length();
+                    }
+                }
+            }
+            if (last + 1 < edits.size()) {
+                LineDiff.Edit after = edits.get(last + 1);
+                int trailing = Math.min(context, after.length());
+                appendLines(lines, ' ', oldLines, after.oldStart(), trailing);
+                oldCount += trailing;
+                newCount += trailing;
+            }
+
+            LineDiff.Edit head = edits.get(first);
+            hunks.add(new DocumentDiffHunk(head.oldStart() - leading + 1, oldCount,
+                    head.newStart() - leading + 1, newCount, lines));
+            i = last + 1;
+        }
+
+        return new LineChanges(added, removed, hunks);
+    }
+
+    /**
+     * Rewrite the previous newest version as a delta against the new body, unless it is a keyframe
+     * or the delta would not save anything.
+     */
+    private void toDelta(DocumentVersion previous, String newerBody) {
+        if (previous.isDelta() || previous.getBody() == null
+                || previous.getVersion() % AppConstants.DOCUMENT_VERSION_SNAPSHOT_INTERVAL == 0) {
+            return;
+        }
+
+        String body = previous.getBody();
+        byte[] delta = DocumentDelta.encode(LineDiff.lines(newerBody), body, AppConstants.DOCUMENT_DIFF_MAX_EDITS);
+        int bodyBytes = body.getBytes(StandardCharsets.UTF_8).length;
+        if (delta.length >= bodyBytes) {
+            return;
+        }
+
+        previous.setBodyLength(body.length());
+        previous.setBody(null);
+        previous.setDelta(delta);
+        previous.setStorage(DocumentVersionStorage.DELTA);
+        documentVersionRepository.save(previous);
+
+        deltaBytesSummary.record(delta.length);
+        deltaSavedBytesSummary.record(bodyBytes - delta.length);
+    }
+
+    private static void appendLines(List<String> target, char prefix, String[] lines, int start, int count) {
+        for (int i = start; i < start + count; i++) {
+            String line = lines[i];
+            target.add(prefix + (line.endsWith("\n") ? line.substring(0, line.length() - 1) : line));
+        }
+    }
+}
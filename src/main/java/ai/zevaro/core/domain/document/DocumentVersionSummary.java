@@ -0,0 +1,17 @@
+package ai.zevaro.core.domain.document;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Version metadata read without the body or delta.
+ */
+public record DocumentVersionSummary(
+        UUID id,
+        UUID documentId,
+        Integer version,
+        String title,
+        Integer bodyLength,
+        UUID editedById,
+        Instant createdAt
+) {}
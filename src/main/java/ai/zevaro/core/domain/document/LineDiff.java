@@ -0,0 +1,173 @@
+package ai.zevaro.core.domain.document;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Line-level diff (Myers' O(ND) algorithm) used for version deltas and the version diff API.
+ * <p>
+ * Lines keep their terminators, so joining them gives back the exact text. A common prefix and
+ * suffix are trimmed first and lines are compared as interned ints, so the cost is driven by the
+ * size of the change rather than the document. Past {@code maxEdits} line edits the texts are
+ * treated as unrelated and {@link #diff} returns null.
+ */
+final class LineDiff {
+
+    enum Op { EQUAL, DELETE, INSERT }
+
+    /**
+     * A run of lines: EQUAL and DELETE runs start at {@code oldStart}, EQUAL and INSERT runs at {@code newStart}.
+     */
+    record Edit(Op op, int oldStart, int newStart, int length) {}
+
+    private LineDiff() {}
+
+    static String[] lines(String text) {
+        if (text == null || text.isEmpty()) {
+            return new String[0];
+        }
+        List<String> lines = new ArrayList<>();
+        int start = 0;
+        for (int i = text.indexOf('\n'); i >= 0; i = text.indexOf('\n', start)) {
+            lines.add(text.substring(start, i + 1));
+            start = i + 1;
+        }
+        if (start < text.length()) {
+            lines.add(text.substring(start));
+        }
+        return lines.toArray(String[]::new);
+    }
+
+    /**
+     * Edit runs turning {@code oldLines} into {@code newLines}, in order, or null if they differ
+     * by more than {@code maxEdits} inserted plus deleted lines.
+     */
+    static List<Edit> diff(String[] oldLines, String[] newLines, int maxEdits) {
+        int n = oldLines.length;
+        int m = newLines.length;
+
+        int prefix = 0;
+        while (prefix < n && prefix < m && oldLines[prefix].equals(newLines[prefix])) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < n - prefix && suffix < m - prefix
+                && oldLines[n - 1 - suffix].equals(newLines[m - 1 - suffix])) {
+            suffix++;
+        }
+
+        int[] a = new int[n - prefix - suffix];
+        int[] b = new int[m - prefix - suffix];
+        Map<String, Integer> ids = new HashMap<>();
+        for (int i = 0; i < a.length; i++) {
+            a[i] = ids.computeIfAbsent(oldLines[prefix + i], k -> ids.size());
+        }
+        for (int i = 0; i < b.length; i++) {
+            b[i] = ids.computeIfAbsent(newLines[prefix + i], k -> ids.size());
+        }
+
+        List<Edit> middle = myers(a, b, maxEdits, prefix);
+        if (middle == null) {
+            return null;
+        }
+
+        List<Edit> edits = new ArrayList<>(middle.size() + 2);
+        if (prefix > 0) {
+            edits.add(new Edit(Op.EQUAL, 0, 0, prefix));
+        }
+        edits.addAll(middle);
+        if (suffix > 0) {
+            edits.add(new Edit(Op.EQUAL, n - suffix, m - suffix, suffix));
+        }
+        return coalesce(edits);
+    }
+
+    private static List<Edit> myers(int[] a, int[] b, int maxEdits, int base) {
+        int n = a.length;
+        int m = b.length;
+        int max = Math.min(n + m, maxEdits);
+        if (n + m > 0 && max == 0) {
+            return null;
+        }
+
+        int offset = max + 1;
+        int[] v = new int[2 * max + 3];
+        // Snapshot of v[-d-1 .. d+1] at the start of each round, for backtracking
+        List<int[]> trace = new ArrayList<>();
+
+        for (int d = 0; d <= max; d++) {
+            trace.add(Arrays.copyOfRange(v, offset - d - 1, offset + d + 2));
+            for (int k = -d; k <= d; k += 2) {
+                int x = (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1]))
+                        ? v[offset + k + 1]
+                        : v[offset + k - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && a[x] == b[y]) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if (x >= n && y >= m) {
+                    return backtrack(trace, n, m, base);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static List<Edit> backtrack(List<int[]> trace, int n, int m, int base) {
+        List<Edit> reversed = new ArrayList<>();
+        int x = n;
+        int y = m;
+        for (int d = trace.size() - 1; d >= 0; d--) {
+            int[] v = trace.get(d);
+            int k = x - y;
+            int prevK = (k == -d || (k != d && v[k - 1 + d + 1] < v[k + 1 + d + 1])) ? k + 1 : k - 1;
+            int prevX = v[prevK + d + 1];
+            int prevY = prevX - prevK;
+
+            while (x > prevX && y > prevY) {
+                x--;
+                y--;
+                reversed.add(new Edit(Op.EQUAL, base + x, base + y, 1));
+            }
+            if (d > 0) {
+                if (x == prevX) {
+                    reversed.add(new Edit(Op.INSERT, base + x, base + prevY, 1));
+                } else {
+                    reversed.add(new Edit(Op.DELETE, base + prevX, base + y, 1));
+                }
+            }
+            x = prevX;
+            y = prevY;
+        }
+        Collections.reverse(reversed);
+        return reversed;
+    }
+
+    private static List<Edit> coalesce(List<Edit> edits) {
+        List<Edit> runs = new ArrayList<>();
+        for (Edit edit : edits) {
+            if (!runs.isEmpty()) {
+                Edit last = runs.get(runs.size() - 1);
+                boolean contiguous = last.op() == edit.op() && switch (edit.op()) {
+                    case EQUAL -> last.oldStart() + last.length() == edit.oldStart()
+                            && last.newStart() + last.length() == edit.newStart();
+                    case DELETE -> last.oldStart() + last.length() == edit.oldStart();
+                    case INSERT -> last.newStart() + last.length() == edit.newStart();
+                };
+                if (contiguous) {
+                    runs.set(runs.size() - 1, new Edit(last.op(), last.oldStart(), last.newStart(),
+                            last.length() + edit.length()));
+                    continue;
+                }
+            }
+            runs.add(edit);
+        }
+        return runs;
+    }
+}
@@ -0,0 +1,11 @@
+package ai.zevaro.core.domain.document.dto;
+
+import java.util.List;
+
+public record DocumentDiffHunk(
+        int oldStart,
+        int oldLines,
+        int newStart,
+        int newLines,
+        List<String> lines
+) {}
@@ -12,5 +12,6 @@ public record DocumentTreeNode(
         DocumentType type,
         DocumentStatus status,
         Integer sortOrder,
+        int childCount,
         List<DocumentTreeNode> children
 ) {}
@@ -0,0 +1,15 @@
+package ai.zevaro.core.domain.document.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record DocumentVersionDiffResponse(
+        UUID documentId,
+        int fromVersion,
+        int toVersion,
+        String fromTitle,
+        String toTitle,
+        int linesAdded,
+        int linesRemoved,
+        List<DocumentDiffHunk> hunks
+) {}
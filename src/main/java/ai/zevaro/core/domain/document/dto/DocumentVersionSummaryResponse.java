@@ -0,0 +1,15 @@
+package ai.zevaro.core.domain.document.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record DocumentVersionSummaryResponse(
+        UUID id,
+        UUID documentId,
+        int version,
+        String title,
+        Integer bodyLength,
+        UUID editedById,
+        String editedByName,
+        Instant createdAt
+) {}
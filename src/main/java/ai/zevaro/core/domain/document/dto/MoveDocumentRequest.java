@@ -0,0 +1,8 @@
+package ai.zevaro.core.domain.document.dto;
+
+import java.util.UUID;
+
+public record MoveDocumentRequest(
+        UUID parentDocumentId,
+        Integer sortOrder
+) {}
@@ -2,6 +2,7 @@ package ai.zevaro.core.domain.experiment;
 
 import ai.zevaro.core.domain.hypothesis.Hypothesis;
 import ai.zevaro.core.domain.program.Program;
+import ai.zevaro.core.domain.program.ProgramMetricsListener;
 import ai.zevaro.core.domain.user.User;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -19,12 +20,16 @@ import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Entity
@@ -33,7 +38,7 @@ import java.util.UUID;
         @Index(name = "idx_experiment_tenant_project", columnList = "tenant_id, project_id"),
         @Index(name = "idx_experiment_hypothesis", columnList = "hypothesis_id")
 })
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, ProgramMetricsListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -68,8 +73,9 @@ public class Experiment {
     @Column(nullable = false)
     private ExperimentStatus status = ExperimentStatus.DRAFT;
 
-    @Column(columnDefinition = "TEXT")
-    private String config;
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    private Map<String, Object> config;
 
     @Column(name = "start_date")
     private Instant startDate;
@@ -80,8 +86,9 @@ public class Experiment {
     @Column(name = "duration_days")
     private Integer durationDays;
 
-    @Column(columnDefinition = "TEXT")
-    private String results;
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    private Map<String, Object> results;
 
     @Column(columnDefinition = "TEXT")
     private String conclusion;
@@ -92,8 +99,9 @@ public class Experiment {
     @Column(name = "primary_metric", length = 255)
     private String primaryMetric;
 
-    @Column(name = "secondary_metrics", columnDefinition = "TEXT")
-    private String secondaryMetrics;
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "secondary_metrics", columnDefinition = "jsonb")
+    private List<String> secondaryMetrics;
 
     @Column(name = "audience_filter", columnDefinition = "TEXT")
     private String audienceFilter;
@@ -7,23 +7,15 @@ import ai.zevaro.core.domain.experiment.dto.UpdateExperimentRequest;
 import ai.zevaro.core.domain.hypothesis.dto.HypothesisSummary;
 import ai.zevaro.core.domain.program.ProgramMapper;
 import ai.zevaro.core.domain.user.UserMapper;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
-@Slf4j
 public class ExperimentMapper {
 
-    private final ObjectMapper objectMapper;
     private final ProgramMapper programMapper;
     private final UserMapper userMapper;
 
@@ -48,15 +40,15 @@ public class ExperimentMapper {
                 experiment.getDescription(),
                 experiment.getType(),
                 experiment.getStatus(),
-                parseJsonToMap(experiment.getConfig()),
+                experiment.getConfig(),
                 experiment.getStartDate(),
                 experiment.getEndDate(),
                 experiment.getDurationDays(),
-                parseJsonToMap(experiment.getResults()),
+                experiment.getResults(),
                 experiment.getConclusion(),
                 experiment.getTrafficSplit(),
                 experiment.getPrimaryMetric(),
-                parseJsonToList(experiment.getSecondaryMetrics()),
+                experiment.getSecondaryMetrics(),
                 experiment.getAudienceFilter(),
                 experiment.getSampleSizeTarget(),
                 experiment.getCurrentSampleSize(),
@@ -95,7 +87,7 @@ public class ExperimentMapper {
         experiment.setDurationDays(request.durationDays());
         experiment.setTrafficSplit(request.trafficSplit());
         experiment.setPrimaryMetric(request.primaryMetric());
-        experiment.setSecondaryMetrics(listToJson(request.secondaryMetrics()));
+        experiment.setSecondaryMetrics(request.secondaryMetrics());
         experiment.setAudienceFilter(request.audienceFilter());
         experiment.setSampleSizeTarget(request.sampleSizeTarget());
         experiment.setCurrentSampleSize(0);
@@ -123,7 +115,7 @@ public class ExperimentMapper {
             experiment.setPrimaryMetric(request.primaryMetric());
         }
         if (request.secondaryMetrics() != null) {
-            experiment.setSecondaryMetrics(listToJson(request.secondaryMetrics()));
+            experiment.setSecondaryMetrics(request.secondaryMetrics());
         }
         if (request.audienceFilter() != null) {
             experiment.setAudienceFilter(request.audienceFilter());
@@ -132,52 +124,4 @@ public class ExperimentMapper {
             experiment.setSampleSizeTarget(request.sampleSizeTarget());
         }
     }
-
-    private Map<String, Object> parseJsonToMap(String json) {
-        if (json == null || json.isBlank()) {
-            return null;
-        }
-        try {
-            return objectMapper.readValue(json, new TypeReference<>() {});
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to parse JSON to map: {}", json, e);
-            return null;
-        }
-    }
-
-    private List<String> parseJsonToList(String json) {
-        if (json == null || json.isBlank()) {
-            return null;
-        }
-        try {
-            return objectMapper.readValue(json, new TypeReference<>() {});
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to parse JSON to list: {}", json, e);
-            return null;
-        }
-    }
-
-    private String mapToJson(Map<String, ?> map) {
-        if (map == null) {
-            return null;
-        }
-        try {
-            return objectMapper.writeValueAsString(map);
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to convert map to JSON", e);
-            return null;
-        }
-    }
-
-    private String listToJson(List<String> list) {
-        if (list == null) {
-            return null;
-        }
-        try {
-            return objectMapper.writeValueAsString(list);
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to convert list to JSON", e);
-            return null;
-        }
-    }
 }
@@ -11,8 +11,6 @@ import ai.zevaro.core.domain.program.ProgramRepository;
 import ai.zevaro.core.domain.user.User;
 import ai.zevaro.core.domain.user.UserRepository;
 import ai.zevaro.core.exception.ResourceNotFoundException;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -32,7 +30,6 @@ public class ExperimentService {
     private final ProgramRepository programRepository;
     private final UserRepository userRepository;
     private final ExperimentMapper experimentMapper;
-    private final ObjectMapper objectMapper;
 
     @Transactional(readOnly = true)
     public List<ExperimentResponse> listExperiments(UUID tenantId, UUID projectId, ExperimentStatus status) {
@@ -231,11 +228,7 @@ public class ExperimentService {
         }
 
         if (request.additionalResults() != null) {
-            try {
-                experiment.setResults(objectMapper.writeValueAsString(request.additionalResults()));
-            } catch (JsonProcessingException e) {
-                throw new IllegalArgumentException("Invalid results format", e);
-            }
+            experiment.setResults(request.additionalResults());
         }
 
         experiment = experimentRepository.save(experiment);
@@ -0,0 +1,84 @@
+package ai.zevaro.core.domain.export;
+
+import ai.zevaro.core.domain.audit.AuditAction;
+import ai.zevaro.core.domain.audit.dto.AuditLogFilter;
+import ai.zevaro.core.domain.decision.DecisionPriority;
+import ai.zevaro.core.domain.decision.DecisionStatus;
+import ai.zevaro.core.security.CurrentUser;
+import ai.zevaro.core.security.UserPrincipal;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/export")
+@Tag(name = "Export", description = "Streaming bulk exports")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+
+    private final ExportService exportService;
+    private final ExportExecutor exportExecutor;
+
+    @GetMapping("/audit")
+    @PreAuthorize("hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('system:audit_read')")
+    public WebAsyncTask<ResponseEntity<Void>> exportAuditLogs(
+            @RequestParam(required = false) UUID actorId,
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) UUID entityId,
+            @RequestParam(required = false) AuditAction action,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @CurrentUser UserPrincipal user,
+            HttpServletResponse response) {
+
+        AuditLogFilter filter = new AuditLogFilter(actorId, entityType, entityId, action, from, to, null, null);
+        return stream(response, "audit-logs", format, gzip,
+                exportService.exportAuditLogs(user.getTenantId(), filter, format, gzip));
+    }
+
+    @GetMapping("/decisions")
+    @PreAuthorize("hasRole('TENANT_OWNER') or hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('decision:read')")
+    public WebAsyncTask<ResponseEntity<Void>> exportDecisions(
+            @RequestParam(required = false) DecisionStatus status,
+            @RequestParam(required = false) DecisionPriority priority,
+            @RequestParam(required = false) UUID programId,
+            @RequestParam(required = false) UUID workstreamId,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @CurrentUser UserPrincipal user,
+            HttpServletResponse response) {
+
+        return stream(response, "decisions", format, gzip, exportService.exportDecisions(
+                user.getTenantId(), status, priority, programId, workstreamId, from, to, format, gzip));
+    }
+
+    private WebAsyncTask<ResponseEntity<Void>> stream(HttpServletResponse response, String name,
+                                                      ExportFormat format, boolean gzip, StreamingResponseBody body) {
+        String filename = name + "." + format.getExtension() + (gzip ? ".gz" : "");
+        // A .gz download rather than Content-Encoding, so clients keep the compressed file as-is
+        response.setContentType((gzip ? GZIP : format.getMediaType()).toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString());
+        return exportExecutor.stream(response, body);
+    }
+}
@@ -0,0 +1,65 @@
+package ai.zevaro.core.domain.export;
+
+import ai.zevaro.core.config.AppConstants;
+import ai.zevaro.core.config.StatementTimeoutContext;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Runs export responses on a small dedicated pool, which also caps how many long-running export
+ * queries can hold a database connection at once.
+ *
+ * - Only exports use this pool and its {@link AppConstants#EXPORT_TIMEOUT_MS} timeout; other async
+ *   requests keep Spring MVC's defaults
+ * - The pool is not an {@code Executor} bean, so it never replaces the application task executor
+ * - Exports run with the statement timeout of the request that started them
+ */
+@Component
+public class ExportExecutor implements DisposableBean {
+
+    private final ThreadPoolTaskExecutor executor;
+
+    public ExportExecutor() {
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(AppConstants.EXPORT_MAX_CONCURRENT);
+        this.executor.setMaxPoolSize(AppConstants.EXPORT_MAX_CONCURRENT);
+        this.executor.setQueueCapacity(AppConstants.EXPORT_QUEUE_CAPACITY);
+        this.executor.setThreadNamePrefix("export-");
+        this.executor.setDaemon(true);
+        this.executor.setTaskDecorator(task -> {
+            Integer timeoutSeconds = StatementTimeoutContext.getTimeoutSeconds();
+            return () -> {
+                StatementTimeoutContext.setTimeoutSeconds(timeoutSeconds);
+                try {
+                    task.run();
+                } finally {
+                    StatementTimeoutContext.clear();
+                }
+            };
+        });
+        this.executor.initialize();
+    }
+
+    /**
+     * Write {@code body} to the response on the export pool. Headers must be set on the response
+     * before this returns.
+     */
+    public WebAsyncTask<ResponseEntity<Void>> stream(HttpServletResponse response, StreamingResponseBody body) {
+        return new WebAsyncTask<>(AppConstants.EXPORT_TIMEOUT_MS, executor, () -> {
+            body.writeTo(response.getOutputStream());
+            response.flushBuffer();
+            // The body has been written; a null entity tells MVC there is nothing left to render
+            return null;
+        });
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
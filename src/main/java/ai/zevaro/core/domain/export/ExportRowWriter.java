@@ -0,0 +1,148 @@
+package ai.zevaro.core.domain.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * Writes JDBC rows to an export stream one at a time, so nothing but the current row is held in memory.
+ * Column labels become NDJSON field names / the CSV header; timestamps are written as ISO-8601 instants.
+ */
+abstract class ExportRowWriter implements AutoCloseable {
+
+    static ExportRowWriter create(ExportFormat format, OutputStream out, ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case NDJSON -> {
+                JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+                // Rows are separated by newlines, not Jackson's default root-value space
+                generator.setRootValueSeparator(null);
+                yield new Ndjson(generator);
+            }
+            case CSV -> new Csv(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        };
+    }
+
+    abstract void write(ResultSet rs) throws SQLException, IOException;
+
+    @Override
+    public abstract void close() throws IOException;
+
+    static String valueOf(ResultSet rs, int column) throws SQLException {
+        Object value = rs.getObject(column);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toInstant().toString();
+        }
+        return value.toString();
+    }
+
+    private static final class Ndjson extends ExportRowWriter {
+
+        private final JsonGenerator generator;
+        private String[] fields;
+
+        Ndjson(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        void write(ResultSet rs) throws SQLException, IOException {
+            if (fields == null) {
+                fields = labels(rs.getMetaData());
+            }
+            generator.writeStartObject();
+            for (int i = 0; i < fields.length; i++) {
+                Object value = rs.getObject(i + 1);
+                if (value == null) {
+                    generator.writeNullField(fields[i]);
+                } else if (value instanceof Number || value instanceof Boolean) {
+                    generator.writeFieldName(fields[i]);
+                    generator.writeObject(value);
+                } else {
+                    generator.writeStringField(fields[i], valueOf(rs, i + 1));
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.flush();
+        }
+    }
+
+    private static final class Csv extends ExportRowWriter {
+
+        private final Writer writer;
+        private int columns = -1;
+
+        Csv(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        void write(ResultSet rs) throws SQLException, IOException {
+            if (columns < 0) {
+                String[] header = labels(rs.getMetaData());
+                columns = header.length;
+                writeLine(header);
+            }
+            String[] values = new String[columns];
+            for (int i = 0; i < columns; i++) {
+                values[i] = valueOf(rs, i + 1);
+            }
+            writeLine(values);
+        }
+
+        private void writeLine(String[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeField(values[i]);
+            }
+            writer.write("\r\n");
+        }
+
+        // RFC 4180: quote fields containing separators, quotes or line breaks; double embedded quotes
+        private void writeField(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+
+    private static String[] labels(ResultSetMetaData meta) throws SQLException {
+        String[] labels = new String[meta.getColumnCount()];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = meta.getColumnLabel(i + 1);
+        }
+        return labels;
+    }
+}
@@ -0,0 +1,194 @@
+package ai.zevaro.core.domain.export;
+
+import ai.zevaro.core.config.AppConstants;
+import ai.zevaro.core.domain.audit.dto.AuditLogFilter;
+import ai.zevaro.core.domain.decision.DecisionPriority;
+import ai.zevaro.core.domain.decision.DecisionStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.sql.DataSource;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams audit logs and decisions straight from a server-side cursor to the HTTP response.
+ *
+ * - Plain JDBC with a fetch size of {@link AppConstants#EXPORT_FETCH_SIZE} inside a read-only transaction,
+ *   which makes the PostgreSQL driver use a portal cursor; no entities or persistence context are involved,
+ *   so memory stays constant regardless of row count
+ * - Each row is written as soon as it is read (NDJSON or CSV), optionally gzip-compressed
+ * - Rows are exported oldest first, so an interrupted export can be resumed with a {@code from} filter
+ *
+ * Metrics: {@code zevaro.export.rows} (rate = throughput), {@code zevaro.export.duration}
+ * and {@code zevaro.export.active}, tagged by export type.
+ */
+@Service
+@Slf4j
+public class ExportService {
+
+    private static final String AUDIT_COLUMNS =
+            "id, actor_id, actor_email, actor_name, action, entity_type, entity_id, entity_title, " +
+            "description, old_values, new_values, ip_address, user_agent, request_id, timestamp";
+
+    private static final String DECISION_COLUMNS =
+            "id, project_id AS program_id, workstream_id, title, status, priority, decision_type, " +
+            "owner_id, assigned_to_id, sla_hours, due_at, sla_status, escalation_level, was_escalated, " +
+            "decided_by_id, decided_at, resolution, created_at, updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger activeExports = new AtomicInteger(0);
+
+    public ExportService(DataSource dataSource,
+                         PlatformTransactionManager transactionManager,
+                         ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry) {
+        // Dedicated template so the fetch size doesn't apply to the rest of the application
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(AppConstants.EXPORT_FETCH_SIZE);
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("zevaro.export.active", activeExports);
+    }
+
+    public StreamingResponseBody exportAuditLogs(UUID tenantId, AuditLogFilter filter,
+                                                 ExportFormat format, boolean gzip) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(AUDIT_COLUMNS)
+                .append(" FROM audit_logs WHERE tenant_id = ?");
+        List<Object> args = new ArrayList<>();
+        args.add(tenantId);
+
+        if (filter.actorId() != null) {
+            sql.append(" AND actor_id = ?");
+            args.add(filter.actorId());
+        }
+        if (filter.entityType() != null) {
+            sql.append(" AND entity_type = ?");
+            args.add(filter.entityType());
+        }
+        if (filter.entityId() != null) {
+            sql.append(" AND entity_id = ?");
+            args.add(filter.entityId());
+        }
+        if (filter.action() != null) {
+            sql.append(" AND action = ?");
+            args.add(filter.action().name());
+        }
+        if (filter.programId() != null) {
+            sql.append(" AND program_id = ?");
+            args.add(filter.programId());
+        }
+        if (filter.workstreamId() != null) {
+            sql.append(" AND workstream_id = ?");
+            args.add(filter.workstreamId());
+        }
+        appendRange(sql, args, "timestamp", filter.startDate(), filter.endDate());
+        sql.append(" ORDER BY timestamp, id");
+
+        return stream("audit", sql.toString(), args.toArray(), format, gzip);
+    }
+
+    public StreamingResponseBody exportDecisions(UUID tenantId, DecisionStatus status, DecisionPriority priority,
+                                                 UUID programId, UUID workstreamId, Instant from, Instant to,
+                                                 ExportFormat format, boolean gzip) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(DECISION_COLUMNS)
+                .append(" FROM decisions WHERE tenant_id = ?");
+        List<Object> args = new ArrayList<>();
+        args.add(tenantId);
+
+        if (status != null) {
+            sql.append(" AND status = ?");
+            args.add(status.name());
+        }
+        if (priority != null) {
+            sql.append(" AND priority = ?");
+            args.add(priority.name());
+        }
+        if (programId != null) {
+            sql.append(" AND project_id = ?");
+            args.add(programId);
+        }
+        if (workstreamId != null) {
+            sql.append(" AND workstream_id = ?");
+            args.add(workstreamId);
+        }
+        appendRange(sql, args, "created_at", from, to);
+        sql.append(" ORDER BY created_at, id");
+
+        return stream("decisions", sql.toString(), args.toArray(), format, gzip);
+    }
+
+    private static void appendRange(StringBuilder sql, List<Object> args, String column, Instant from, Instant to) {
+        if (from != null) {
+            sql.append(" AND ").append(column).append(" >= ?");
+            args.add(Timestamp.from(from));
+        }
+        if (to != null) {
+            sql.append(" AND ").append(column).append(" <= ?");
+            args.add(Timestamp.from(to));
+        }
+    }
+
+    private StreamingResponseBody stream(String type, String sql, Object[] args, ExportFormat format, boolean gzip) {
+        Counter rowCounter = meterRegistry.counter("zevaro.export.rows", "type", type);
+        Timer durationTimer = meterRegistry.timer("zevaro.export.duration", "type", type);
+
+        return responseStream -> {
+            AtomicLong rows = new AtomicLong(0);
+            Timer.Sample sample = Timer.start(meterRegistry);
+            activeExports.incrementAndGet();
+
+            OutputStream out = gzip ? new GZIPOutputStream(responseStream, AppConstants.EXPORT_BUFFER_BYTES)
+                    : new BufferedOutputStream(responseStream, AppConstants.EXPORT_BUFFER_BYTES);
+            try (ExportRowWriter writer = ExportRowWriter.create(format, out, objectMapper)) {
+                readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(sql, rs -> {
+                    try {
+                        writer.write(rs);
+                    } catch (IOException e) {
+                        // Client went away; abandon the query
+                        throw new UncheckedIOException(e);
+                    }
+                    rows.incrementAndGet();
+                    rowCounter.increment();
+                }, args));
+            } catch (UncheckedIOException e) {
+                log.debug("{} export aborted after {} rows: {}", type, rows.get(), e.getMessage());
+                throw e.getCause();
+            } finally {
+                activeExports.decrementAndGet();
+                sample.stop(durationTimer);
+            }
+
+            if (out instanceof GZIPOutputStream gzipOut) {
+                gzipOut.finish();
+            }
+            out.flush();
+            log.info("Exported {} {} rows as {}", rows.get(), type, format);
+        };
+    }
+}
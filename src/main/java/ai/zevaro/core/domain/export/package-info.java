@@ -0,0 +1,4 @@
+/**
+ * Streaming bulk exports (NDJSON / CSV) of audit logs and decisions.
+ */
+package ai.zevaro.core.domain.export;
@@ -2,6 +2,7 @@ package ai.zevaro.core.domain.hypothesis;
 
 import ai.zevaro.core.domain.outcome.Outcome;
 import ai.zevaro.core.domain.program.Program;
+import ai.zevaro.core.domain.search.SearchIndexListener;
 import ai.zevaro.core.domain.user.User;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -33,7 +34,7 @@ import java.util.UUID;
         @Index(name = "idx_hypothesis_tenant_owner", columnList = "tenant_id, owner_id"),
         @Index(name = "idx_hypothesis_project", columnList = "project_id")
 })
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, SearchIndexListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
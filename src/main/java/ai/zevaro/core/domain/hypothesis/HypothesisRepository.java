@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -72,10 +73,11 @@ public interface HypothesisRepository extends JpaRepository<Hypothesis, UUID> {
     @Query("SELECT h.status, COUNT(h) FROM Hypothesis h WHERE h.tenantId = :tenantId AND h.program.id = :projectId GROUP BY h.status")
     List<Object[]> countByStatusForProject(@Param("tenantId") UUID tenantId, @Param("projectId") UUID projectId);
 
-    // For team workload - count hypotheses owned by user
-    @Query("SELECT COUNT(h) FROM Hypothesis h WHERE h.tenantId = :tenantId AND h.owner.id = :userId")
-    long countOwnedByUser(@Param("tenantId") UUID tenantId, @Param("userId") UUID userId);
+    // For team workload - hypotheses owned per team member: [userId, count]
+    @Query("SELECT h.owner.id, COUNT(h) FROM Hypothesis h WHERE h.tenantId = :tenantId " +
+            "AND h.owner.id IN (SELECT tm.user.id FROM TeamMember tm WHERE tm.team.id = :teamId) GROUP BY h.owner.id")
+    List<Object[]> countOwnedByTeamMember(@Param("tenantId") UUID tenantId, @Param("teamId") UUID teamId);
 
-    @Query("SELECT h FROM Hypothesis h WHERE h.tenantId = :tenantId AND (LOWER(h.title) LIKE LOWER(CONCAT('%', :query, '%')) OR LOWER(h.belief) LIKE LOWER(CONCAT('%', :query, '%')))")
-    List<Hypothesis> search(@Param("tenantId") UUID tenantId, @Param("query") String query, Pageable pageable);
+    @Query("SELECT h.id, h.title FROM Hypothesis h WHERE h.tenantId = :tenantId AND h.id IN :ids")
+    List<Object[]> findTitlesByIds(@Param("tenantId") UUID tenantId, @Param("ids") Collection<UUID> ids);
 }
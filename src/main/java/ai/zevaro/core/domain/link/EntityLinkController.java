@@ -2,6 +2,7 @@ package ai.zevaro.core.domain.link;
 
 import ai.zevaro.core.domain.link.dto.CreateEntityLinkRequest;
 import ai.zevaro.core.domain.link.dto.EntityLinkResponse;
+import ai.zevaro.core.domain.link.dto.LinkGraphResponse;
 import ai.zevaro.core.security.CurrentUser;
 import ai.zevaro.core.security.UserPrincipal;
 import jakarta.validation.Valid;
@@ -16,9 +17,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
@@ -65,6 +68,19 @@ public class EntityLinkController {
         return ResponseEntity.ok(entityLinkService.getAllLinks(entityType, entityId, user.getTenantId()));
     }
 
+    @GetMapping("/graph/{entityType}/{entityId}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<LinkGraphResponse> getLinkGraph(
+            @PathVariable EntityType entityType,
+            @PathVariable UUID entityId,
+            @RequestParam(required = false) Integer depth,
+            @RequestParam(defaultValue = "BOTH") LinkDirection direction,
+            @RequestParam(required = false) Set<LinkType> linkType,
+            @CurrentUser UserPrincipal user) {
+        return ResponseEntity.ok(entityLinkService.getGraph(
+                entityType, entityId, depth, direction, linkType, user.getTenantId()));
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<Void> deleteLink(
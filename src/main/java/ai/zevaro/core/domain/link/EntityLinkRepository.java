@@ -1,8 +1,12 @@
 package ai.zevaro.core.domain.link;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,4 +24,18 @@ public interface EntityLinkRepository extends JpaRepository<EntityLink, UUID> {
             EntityType sourceType, UUID sourceId, EntityType targetType, UUID targetId, LinkType linkType);
 
     void deleteByIdAndTenantId(UUID id, UUID tenantId);
+
+    // Links leaving / entering a set of entities, for one hop of a graph walk. The type and ID lists are
+    // matched independently, so callers drop rows whose (type, id) pair is not actually in the set.
+    @Query("SELECT l FROM EntityLink l WHERE l.tenantId = :tenantId AND l.sourceType IN :types AND l.sourceId IN :ids " +
+            "AND l.linkType IN :linkTypes ORDER BY l.createdAt, l.id")
+    List<EntityLink> findFromAny(@Param("tenantId") UUID tenantId, @Param("types") Collection<EntityType> types,
+                                 @Param("ids") Collection<UUID> ids, @Param("linkTypes") Collection<LinkType> linkTypes,
+                                 Pageable pageable);
+
+    @Query("SELECT l FROM EntityLink l WHERE l.tenantId = :tenantId AND l.targetType IN :types AND l.targetId IN :ids " +
+            "AND l.linkType IN :linkTypes ORDER BY l.createdAt, l.id")
+    List<EntityLink> findToAny(@Param("tenantId") UUID tenantId, @Param("types") Collection<EntityType> types,
+                               @Param("ids") Collection<UUID> ids, @Param("linkTypes") Collection<LinkType> linkTypes,
+                               Pageable pageable);
 }
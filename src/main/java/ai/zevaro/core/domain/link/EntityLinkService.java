@@ -1,5 +1,7 @@
 package ai.zevaro.core.domain.link;
 
+import ai.zevaro.core.cache.ReferenceNameCache;
+import ai.zevaro.core.config.AppConstants;
 import ai.zevaro.core.domain.audit.AuditAction;
 import ai.zevaro.core.domain.audit.AuditLogBuilder;
 import ai.zevaro.core.domain.audit.AuditService;
@@ -7,34 +9,41 @@ import ai.zevaro.core.domain.decision.DecisionRepository;
 import ai.zevaro.core.domain.hypothesis.HypothesisRepository;
 import ai.zevaro.core.domain.link.dto.CreateEntityLinkRequest;
 import ai.zevaro.core.domain.link.dto.EntityLinkResponse;
+import ai.zevaro.core.domain.link.dto.LinkGraphEdge;
+import ai.zevaro.core.domain.link.dto.LinkGraphNode;
+import ai.zevaro.core.domain.link.dto.LinkGraphResponse;
 import ai.zevaro.core.domain.outcome.OutcomeRepository;
-import ai.zevaro.core.domain.program.ProgramRepository;
 import ai.zevaro.core.domain.requirement.RequirementRepository;
 import ai.zevaro.core.domain.specification.SpecificationRepository;
 import ai.zevaro.core.domain.ticket.TicketRepository;
-import ai.zevaro.core.domain.user.User;
-import ai.zevaro.core.domain.user.UserRepository;
-import ai.zevaro.core.domain.workstream.WorkstreamRepository;
 import ai.zevaro.core.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 public class EntityLinkService {
 
+    private record EntityRef(EntityType type, UUID id) {}
+
     private final EntityLinkRepository entityLinkRepository;
-    private final UserRepository userRepository;
     private final AuditService auditService;
-    private final ProgramRepository programRepository;
-    private final WorkstreamRepository workstreamRepository;
+    private final ReferenceNameCache referenceNameCache;
     private final OutcomeRepository outcomeRepository;
     private final HypothesisRepository hypothesisRepository;
     private final DecisionRepository decisionRepository;
@@ -75,31 +84,128 @@ public class EntityLinkService {
                 .description(request.sourceType() + " " + request.sourceId()
                         + " " + request.linkType() + " " + request.targetType() + " " + request.targetId()));
 
-        return toResponse(link, tenantId);
+        return toResponses(List.of(link), tenantId).get(0);
     }
 
     @Transactional(readOnly = true)
     public List<EntityLinkResponse> getLinksFrom(EntityType entityType, UUID entityId, UUID tenantId) {
-        return entityLinkRepository.findByTenantIdAndSourceTypeAndSourceId(tenantId, entityType, entityId)
-                .stream()
-                .map(link -> toResponse(link, tenantId))
-                .toList();
+        return toResponses(entityLinkRepository.findByTenantIdAndSourceTypeAndSourceId(tenantId, entityType, entityId),
+                tenantId);
     }
 
     @Transactional(readOnly = true)
     public List<EntityLinkResponse> getLinksTo(EntityType entityType, UUID entityId, UUID tenantId) {
-        return entityLinkRepository.findByTenantIdAndTargetTypeAndTargetId(tenantId, entityType, entityId)
-                .stream()
-                .map(link -> toResponse(link, tenantId))
-                .toList();
+        return toResponses(entityLinkRepository.findByTenantIdAndTargetTypeAndTargetId(tenantId, entityType, entityId),
+                tenantId);
     }
 
     @Transactional(readOnly = true)
     public List<EntityLinkResponse> getAllLinks(EntityType entityType, UUID entityId, UUID tenantId) {
-        Set<EntityLinkResponse> combined = new LinkedHashSet<>();
-        combined.addAll(getLinksFrom(entityType, entityId, tenantId));
-        combined.addAll(getLinksTo(entityType, entityId, tenantId));
-        return new ArrayList<>(combined);
+        // Self-links are rejected on create, so no link is in both lists
+        List<EntityLink> links = new ArrayList<>(
+                entityLinkRepository.findByTenantIdAndSourceTypeAndSourceId(tenantId, entityType, entityId));
+        links.addAll(entityLinkRepository.findByTenantIdAndTargetTypeAndTargetId(tenantId, entityType, entityId));
+        return toResponses(links, tenantId);
+    }
+
+    /**
+     * Breadth-first walk of the link graph from one entity, e.g. outcome to hypotheses to decisions to
+     * specifications to requirements to tickets.
+     *
+     * - Each hop is one set-based query per direction for the whole frontier, so a walk costs
+     *   {@code depth} round trips however wide it gets
+     * - Depth is capped at {@link AppConstants#LINK_GRAPH_MAX_DEPTH}, each entity expands at most
+     *   {@link AppConstants#LINK_GRAPH_MAX_FAN_OUT} links and the result holds at most
+     *   {@link AppConstants#LINK_GRAPH_MAX_NODES} entities; {@code truncated} is set when any limit cut the walk
+     * - Every entity is visited once, at its shortest distance; links between already visited entities
+     *   are still returned as edges
+     * - Titles are resolved with one query per entity type
+     */
+    @Transactional(readOnly = true)
+    public LinkGraphResponse getGraph(EntityType entityType, UUID entityId, Integer depth, LinkDirection direction,
+                                      Set<LinkType> linkTypes, UUID tenantId) {
+        int maxDepth = Math.max(1, Math.min(depth != null ? depth : AppConstants.LINK_GRAPH_DEFAULT_DEPTH,
+                AppConstants.LINK_GRAPH_MAX_DEPTH));
+        LinkDirection walk = direction != null ? direction : LinkDirection.BOTH;
+        Set<LinkType> types = linkTypes == null || linkTypes.isEmpty() ? EnumSet.allOf(LinkType.class) : linkTypes;
+
+        EntityRef start = new EntityRef(entityType, entityId);
+        Map<EntityRef, Integer> depths = new LinkedHashMap<>();
+        depths.put(start, 0);
+        Map<UUID, EntityLink> edges = new LinkedHashMap<>();
+        boolean truncated = false;
+
+        List<EntityRef> frontier = List.of(start);
+        for (int level = 1; level <= maxDepth && !frontier.isEmpty(); level++) {
+            Set<EntityRef> frontierSet = new HashSet<>(frontier);
+            Set<EntityType> frontierTypes = EnumSet.noneOf(EntityType.class);
+            Set<UUID> frontierIds = new HashSet<>();
+            for (EntityRef ref : frontier) {
+                frontierTypes.add(ref.type());
+                frontierIds.add(ref.id());
+            }
+            int limit = Math.min(frontier.size() * AppConstants.LINK_GRAPH_MAX_FAN_OUT,
+                    AppConstants.LINK_GRAPH_MAX_LINKS_PER_HOP);
+            Pageable page = PageRequest.of(0, limit);
+
+            List<EntityLink> hop = new ArrayList<>();
+            if (walk != LinkDirection.INCOMING) {
+                List<EntityLink> outgoing = entityLinkRepository.findFromAny(
+                        tenantId, frontierTypes, frontierIds, types, page);
+                truncated |= outgoing.size() == limit;
+                hop.addAll(outgoing);
+            }
+            if (walk != LinkDirection.OUTGOING) {
+                List<EntityLink> incoming = entityLinkRepository.findToAny(
+                        tenantId, frontierTypes, frontierIds, types, page);
+                truncated |= incoming.size() == limit;
+                hop.addAll(incoming);
+            }
+
+            Map<EntityRef, Integer> fanOut = new HashMap<>();
+            List<EntityRef> next = new ArrayList<>();
+            for (EntityLink link : hop) {
+                if (edges.containsKey(link.getId())) {
+                    continue;
+                }
+                EntityRef source = new EntityRef(link.getSourceType(), link.getSourceId());
+                EntityRef target = new EntityRef(link.getTargetType(), link.getTargetId());
+                boolean fromFrontier = walk != LinkDirection.INCOMING && frontierSet.contains(source);
+                if (!fromFrontier && !(walk != LinkDirection.OUTGOING && frontierSet.contains(target))) {
+                    continue;
+                }
+                EntityRef anchor = fromFrontier ? source : target;
+                EntityRef other = fromFrontier ? target : source;
+
+                if (fanOut.merge(anchor, 1, Integer::sum) > AppConstants.LINK_GRAPH_MAX_FAN_OUT) {
+                    truncated = true;
+                    continue;
+                }
+                if (!depths.containsKey(other)) {
+                    if (depths.size() >= AppConstants.LINK_GRAPH_MAX_NODES) {
+                        truncated = true;
+                        continue;
+                    }
+                    depths.put(other, level);
+                    next.add(other);
+                }
+                edges.put(link.getId(), link);
+            }
+            frontier = next;
+        }
+
+        Map<EntityType, Set<UUID>> ids = new EnumMap<>(EntityType.class);
+        depths.keySet().forEach(ref -> ids.computeIfAbsent(ref.type(), t -> new HashSet<>()).add(ref.id()));
+        Map<EntityType, Map<UUID, String>> titles = resolveTitles(ids, tenantId);
+
+        List<LinkGraphNode> nodes = new ArrayList<>(depths.size());
+        depths.forEach((ref, nodeDepth) -> nodes.add(new LinkGraphNode(ref.type(), ref.id(),
+                title(titles, ref.type(), ref.id()), nodeDepth)));
+        List<LinkGraphEdge> edgeList = edges.values().stream()
+                .map(link -> new LinkGraphEdge(link.getId(), link.getSourceType(), link.getSourceId(),
+                        link.getTargetType(), link.getTargetId(), link.getLinkType()))
+                .toList();
+        return new LinkGraphResponse(nodes, edgeList, truncated);
     }
 
     @Transactional
@@ -117,50 +223,70 @@ public class EntityLinkService {
                 .description("Entity link deleted"));
     }
 
-    private String resolveTitle(EntityType type, UUID id, UUID tenantId) {
-        if (id == null) {
-            return null;
+    private List<EntityLinkResponse> toResponses(List<EntityLink> links, UUID tenantId) {
+        if (links.isEmpty()) {
+            return List.of();
         }
-        return switch (type) {
-            case PROGRAM -> programRepository.findByIdAndTenantId(id, tenantId)
-                    .map(p -> p.getName()).orElse(null);
-            case WORKSTREAM -> workstreamRepository.findByIdAndTenantId(id, tenantId)
-                    .map(w -> w.getName()).orElse(null);
-            case OUTCOME -> outcomeRepository.findByIdAndTenantId(id, tenantId)
-                    .map(o -> o.getTitle()).orElse(null);
-            case HYPOTHESIS -> hypothesisRepository.findByIdAndTenantId(id, tenantId)
-                    .map(h -> h.getTitle()).orElse(null);
-            case DECISION -> decisionRepository.findByIdAndTenantId(id, tenantId)
-                    .map(d -> d.getTitle()).orElse(null);
-            case SPECIFICATION -> specificationRepository.findByIdAndTenantId(id, tenantId)
-                    .map(s -> s.getName()).orElse(null);
-            case REQUIREMENT -> requirementRepository.findByIdAndTenantId(id, tenantId)
-                    .map(r -> r.getTitle()).orElse(null);
-            case TICKET -> ticketRepository.findByIdAndTenantId(id, tenantId)
-                    .map(t -> t.getTitle()).orElse(null);
-            case PORTFOLIO, EXPERIMENT, DOCUMENT, SPACE -> null;
-        };
+        Map<EntityType, Set<UUID>> ids = new EnumMap<>(EntityType.class);
+        for (EntityLink link : links) {
+            ids.computeIfAbsent(link.getSourceType(), t -> new HashSet<>()).add(link.getSourceId());
+            ids.computeIfAbsent(link.getTargetType(), t -> new HashSet<>()).add(link.getTargetId());
+        }
+        Map<EntityType, Map<UUID, String>> titles = resolveTitles(ids, tenantId);
+
+        return links.stream()
+                .map(link -> new EntityLinkResponse(
+                        link.getId(),
+                        link.getSourceType(),
+                        link.getSourceId(),
+                        title(titles, link.getSourceType(), link.getSourceId()),
+                        link.getTargetType(),
+                        link.getTargetId(),
+                        title(titles, link.getTargetType(), link.getTargetId()),
+                        link.getLinkType(),
+                        link.getCreatedById(),
+                        referenceNameCache.userName(tenantId, link.getCreatedById()),
+                        link.getCreatedAt()))
+                .toList();
+    }
+
+    /**
+     * Titles of the given entities, one query per entity type (programs and workstreams come from
+     * the reference name cache).
+     */
+    private Map<EntityType, Map<UUID, String>> resolveTitles(Map<EntityType, Set<UUID>> idsByType, UUID tenantId) {
+        Map<EntityType, Map<UUID, String>> titles = new EnumMap<>(EntityType.class);
+        idsByType.forEach((type, ids) -> titles.put(type, switch (type) {
+            case PROGRAM -> cachedNames(ids, id -> referenceNameCache.programName(tenantId, id));
+            case WORKSTREAM -> cachedNames(ids, id -> referenceNameCache.workstreamName(tenantId, id));
+            case OUTCOME -> toTitleMap(outcomeRepository.findTitlesByIds(tenantId, ids));
+            case HYPOTHESIS -> toTitleMap(hypothesisRepository.findTitlesByIds(tenantId, ids));
+            case DECISION -> toTitleMap(decisionRepository.findTitlesByIds(tenantId, ids));
+            case SPECIFICATION -> toTitleMap(specificationRepository.findNamesByIds(tenantId, ids));
+            case REQUIREMENT -> toTitleMap(requirementRepository.findTitlesByIds(tenantId, ids));
+            case TICKET -> toTitleMap(ticketRepository.findTitlesByIds(tenantId, ids));
+            case PORTFOLIO, EXPERIMENT, DOCUMENT, SPACE -> Map.of();
+        }));
+        return titles;
     }
 
-    private EntityLinkResponse toResponse(EntityLink link, UUID tenantId) {
-        String sourceTitle = resolveTitle(link.getSourceType(), link.getSourceId(), tenantId);
-        String targetTitle = resolveTitle(link.getTargetType(), link.getTargetId(), tenantId);
-        String createdByName = userRepository.findById(link.getCreatedById())
-                .map(User::getFullName)
-                .orElse(null);
-
-        return new EntityLinkResponse(
-                link.getId(),
-                link.getSourceType(),
-                link.getSourceId(),
-                sourceTitle,
-                link.getTargetType(),
-                link.getTargetId(),
-                targetTitle,
-                link.getLinkType(),
-                link.getCreatedById(),
-                createdByName,
-                link.getCreatedAt()
-        );
+    private static String title(Map<EntityType, Map<UUID, String>> titles, EntityType type, UUID id) {
+        return titles.getOrDefault(type, Map.of()).get(id);
+    }
+
+    private static Map<UUID, String> cachedNames(Set<UUID> ids, Function<UUID, String> lookup) {
+        Map<UUID, String> names = new HashMap<>();
+        for (UUID id : ids) {
+            names.put(id, lookup.apply(id));
+        }
+        return names;
+    }
+
+    private static Map<UUID, String> toTitleMap(List<Object[]> rows) {
+        Map<UUID, String> titles = new HashMap<>();
+        for (Object[] row : rows) {
+            titles.put((UUID) row[0], (String) row[1]);
+        }
+        return titles;
     }
 }
@@ -0,0 +1,7 @@
+package ai.zevaro.core.domain.link;
+
+public enum LinkDirection {
+    OUTGOING,
+    INCOMING,
+    BOTH
+}
@@ -0,0 +1,15 @@
+package ai.zevaro.core.domain.link.dto;
+
+import ai.zevaro.core.domain.link.EntityType;
+import ai.zevaro.core.domain.link.LinkType;
+
+import java.util.UUID;
+
+public record LinkGraphEdge(
+        UUID id,
+        EntityType sourceType,
+        UUID sourceId,
+        EntityType targetType,
+        UUID targetId,
+        LinkType linkType
+) {}
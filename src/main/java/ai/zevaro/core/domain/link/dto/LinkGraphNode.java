@@ -0,0 +1,12 @@
+package ai.zevaro.core.domain.link.dto;
+
+import ai.zevaro.core.domain.link.EntityType;
+
+import java.util.UUID;
+
+public record LinkGraphNode(
+        EntityType type,
+        UUID id,
+        String title,
+        int depth
+) {}
@@ -0,0 +1,9 @@
+package ai.zevaro.core.domain.link.dto;
+
+import java.util.List;
+
+public record LinkGraphResponse(
+        List<LinkGraphNode> nodes,
+        List<LinkGraphEdge> edges,
+        boolean truncated
+) {}
@@ -1,7 +1,9 @@
 package ai.zevaro.core.domain.outcome;
 
+import ai.zevaro.core.domain.program.ProgramMetricsListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -28,6 +30,7 @@ import java.util.UUID;
     indexes = {
         @Index(name = "idx_kr_outcome", columnList = "outcome_id")
     })
+@EntityListeners(ProgramMetricsListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,6 +1,8 @@
 package ai.zevaro.core.domain.outcome;
 
 import ai.zevaro.core.domain.program.Program;
+import ai.zevaro.core.domain.program.ProgramMetricsListener;
+import ai.zevaro.core.domain.search.SearchIndexListener;
 import ai.zevaro.core.domain.team.Team;
 import ai.zevaro.core.domain.user.User;
 import jakarta.persistence.CascadeType;
@@ -21,6 +23,8 @@ import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -29,6 +33,7 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Entity
@@ -38,7 +43,7 @@ import java.util.UUID;
         @Index(name = "idx_outcome_project", columnList = "project_id"),
         @Index(name = "idx_outcomes_tenant_ws", columnList = "tenant_id, workstream_id")
 })
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, SearchIndexListener.class, ProgramMetricsListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -67,11 +72,13 @@ public class Outcome {
     @Column(name = "success_criteria", columnDefinition = "TEXT")
     private String successCriteria;
 
-    @Column(name = "target_metrics", columnDefinition = "text")
-    private String targetMetrics;
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "target_metrics", columnDefinition = "jsonb")
+    private Map<String, Object> targetMetrics;
 
-    @Column(name = "current_metrics", columnDefinition = "text")
-    private String currentMetrics;
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "current_metrics", columnDefinition = "jsonb")
+    private Map<String, Object> currentMetrics;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -112,11 +119,13 @@ public class Outcome {
     @JoinColumn(name = "invalidated_by_id")
     private User invalidatedBy;
 
-    @Column(name = "external_refs", columnDefinition = "text")
-    private String externalRefs;
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "external_refs", columnDefinition = "jsonb")
+    private Map<String, String> externalRefs;
 
-    @Column(columnDefinition = "text")
-    private String tags;
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    private List<String> tags;
 
     @OneToMany(mappedBy = "outcome", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<KeyResult> keyResults = new ArrayList<>();
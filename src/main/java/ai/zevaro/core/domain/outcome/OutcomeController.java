@@ -59,9 +59,11 @@ public class OutcomeController {
             @RequestParam(required = false) UUID teamId,
             @RequestParam(required = false) OutcomePriority priority,
             @RequestParam(required = false) UUID projectId,
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) String externalRef,
             @CurrentUser UserPrincipal user) {
         return ResponseEntity.ok(outcomeService.getOutcomes(
-                user.getTenantId(), status, teamId, priority, projectId));
+                user.getTenantId(), status, teamId, priority, projectId, tag, externalRef));
     }
 
     @GetMapping("/outcomes/paged")
@@ -71,6 +73,8 @@ public class OutcomeController {
             @RequestParam(required = false) UUID teamId,
             @RequestParam(required = false) OutcomePriority priority,
             @RequestParam(required = false) UUID projectId,
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) String externalRef,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
@@ -81,7 +85,7 @@ public class OutcomeController {
                 : Sort.by(sortBy).descending();
         Pageable pageable = PageRequest.of(page, Math.min(size, 100), sort);
         return ResponseEntity.ok(outcomeService.getOutcomesPaged(
-                user.getTenantId(), status, teamId, priority, projectId, pageable));
+                user.getTenantId(), status, teamId, priority, projectId, tag, externalRef, pageable));
     }
 
     @GetMapping("/outcomes/{id}")
@@ -7,23 +7,15 @@ import ai.zevaro.core.domain.outcome.dto.UpdateOutcomeRequest;
 import ai.zevaro.core.domain.program.ProgramMapper;
 import ai.zevaro.core.domain.team.TeamMapper;
 import ai.zevaro.core.domain.user.UserMapper;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
-@Slf4j
 public class OutcomeMapper {
 
-    private final ObjectMapper objectMapper;
     private final TeamMapper teamMapper;
     private final ProgramMapper programMapper;
     private final UserMapper userMapper;
@@ -38,8 +30,8 @@ public class OutcomeMapper {
                 outcome.getTitle(),
                 outcome.getDescription(),
                 outcome.getSuccessCriteria(),
-                parseJsonToMap(outcome.getTargetMetrics()),
-                parseJsonToMap(outcome.getCurrentMetrics()),
+                outcome.getTargetMetrics(),
+                outcome.getCurrentMetrics(),
                 outcome.getStatus(),
                 outcome.getPriority(),
                 outcome.getTeam() != null ? teamMapper.toSummary(outcome.getTeam()) : null,
@@ -52,8 +44,8 @@ public class OutcomeMapper {
                 outcome.getValidatedAt(),
                 outcome.getValidatedBy() != null ? userMapper.toSummary(outcome.getValidatedBy()) : null,
                 outcome.getValidationNotes(),
-                parseJsonToStringMap(outcome.getExternalRefs()),
-                parseJsonToList(outcome.getTags()),
+                outcome.getExternalRefs(),
+                outcome.getTags(),
                 hypothesisCount,
                 outcome.getCreatedAt(),
                 outcome.getUpdatedAt()
@@ -79,10 +71,10 @@ public class OutcomeMapper {
         outcome.setTitle(request.title());
         outcome.setDescription(request.description());
         outcome.setSuccessCriteria(request.successCriteria());
-        outcome.setTargetMetrics(mapToJson(request.targetMetrics()));
+        outcome.setTargetMetrics(request.targetMetrics());
         outcome.setPriority(request.priority() != null ? request.priority() : OutcomePriority.MEDIUM);
         outcome.setTargetDate(request.targetDate());
-        outcome.setTags(listToJson(request.tags()));
+        outcome.setTags(request.tags());
         outcome.setCreatedById(createdById);
         outcome.setStatus(OutcomeStatus.DRAFT);
         return outcome;
@@ -99,10 +91,10 @@ public class OutcomeMapper {
             outcome.setSuccessCriteria(request.successCriteria());
         }
         if (request.targetMetrics() != null) {
-            outcome.setTargetMetrics(mapToJson(request.targetMetrics()));
+            outcome.setTargetMetrics(request.targetMetrics());
         }
         if (request.currentMetrics() != null) {
-            outcome.setCurrentMetrics(mapToJson(request.currentMetrics()));
+            outcome.setCurrentMetrics(request.currentMetrics());
         }
         if (request.priority() != null) {
             outcome.setPriority(request.priority());
@@ -111,70 +103,10 @@ public class OutcomeMapper {
             outcome.setTargetDate(request.targetDate());
         }
         if (request.tags() != null) {
-            outcome.setTags(listToJson(request.tags()));
+            outcome.setTags(request.tags());
         }
         if (request.externalRefs() != null) {
-            outcome.setExternalRefs(mapToJson(request.externalRefs()));
-        }
-    }
-
-    private Map<String, Object> parseJsonToMap(String json) {
-        if (json == null || json.isBlank()) {
-            return null;
-        }
-        try {
-            return objectMapper.readValue(json, new TypeReference<>() {});
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to parse JSON to map: {}", json, e);
-            return null;
-        }
-    }
-
-    private Map<String, String> parseJsonToStringMap(String json) {
-        if (json == null || json.isBlank()) {
-            return null;
-        }
-        try {
-            return objectMapper.readValue(json, new TypeReference<>() {});
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to parse JSON to string map: {}", json, e);
-            return null;
-        }
-    }
-
-    private List<String> parseJsonToList(String json) {
-        if (json == null || json.isBlank()) {
-            return null;
-        }
-        try {
-            return objectMapper.readValue(json, new TypeReference<>() {});
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to parse JSON to list: {}", json, e);
-            return null;
-        }
-    }
-
-    private String mapToJson(Map<String, ?> map) {
-        if (map == null) {
-            return null;
-        }
-        try {
-            return objectMapper.writeValueAsString(map);
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to convert map to JSON", e);
-            return null;
-        }
-    }
-
-    private String listToJson(List<String> list) {
-        if (list == null) {
-            return null;
-        }
-        try {
-            return objectMapper.writeValueAsString(list);
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to convert list to JSON", e);
-            return null;
+            outcome.setExternalRefs(request.externalRefs());
         }
     }
 }
@@ -3,17 +3,19 @@ package ai.zevaro.core.domain.outcome;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface OutcomeRepository extends JpaRepository<Outcome, UUID> {
+public interface OutcomeRepository extends JpaRepository<Outcome, UUID>, JpaSpecificationExecutor<Outcome> {
 
     Optional<Outcome> findByIdAndTenantId(UUID id, UUID tenantId);
 
@@ -86,10 +88,19 @@ public interface OutcomeRepository extends JpaRepository<Outcome, UUID> {
     @Query("SELECT COUNT(o) FROM Outcome o WHERE o.tenantId = :tenantId AND o.program.id = :projectId AND o.status = 'VALIDATED'")
     long countValidatedForProject(@Param("tenantId") UUID tenantId, @Param("projectId") UUID projectId);
 
+    // For dashboard - average key result progress per outcome, without loading the key results
+    @Query("SELECT o.id, o.title, o.status, AVG(CASE WHEN kr.targetValue IS NULL OR kr.targetValue = 0 THEN 0 " +
+            "ELSE COALESCE(kr.currentValue, 0) * 100 / kr.targetValue END) " +
+            "FROM Outcome o LEFT JOIN o.keyResults kr " +
+            "WHERE o.tenantId = :tenantId AND o.program.id = :projectId AND o.status = :status " +
+            "GROUP BY o.id, o.title, o.status")
+    List<Object[]> findProgressForProject(@Param("tenantId") UUID tenantId, @Param("projectId") UUID projectId,
+                                          @Param("status") OutcomeStatus status);
+
     // For dashboard - count non-draft outcomes
     @Query("SELECT COUNT(o) FROM Outcome o WHERE o.tenantId = :tenantId AND o.program.id = :projectId AND o.status != 'DRAFT'")
     long countNonDraftForProject(@Param("tenantId") UUID tenantId, @Param("projectId") UUID projectId);
 
-    @Query("SELECT o FROM Outcome o WHERE o.tenantId = :tenantId AND (LOWER(o.title) LIKE LOWER(CONCAT('%', :query, '%')) OR LOWER(o.description) LIKE LOWER(CONCAT('%', :query, '%')))")
-    List<Outcome> search(@Param("tenantId") UUID tenantId, @Param("query") String query, Pageable pageable);
+    @Query("SELECT o.id, o.title FROM Outcome o WHERE o.tenantId = :tenantId AND o.id IN :ids")
+    List<Object[]> findTitlesByIds(@Param("tenantId") UUID tenantId, @Param("ids") Collection<UUID> ids);
 }
@@ -1,5 +1,6 @@
 package ai.zevaro.core.domain.outcome;
 
+import ai.zevaro.core.domain.common.JsonbFilters;
 import ai.zevaro.core.domain.hypothesis.HypothesisRepository;
 import ai.zevaro.core.domain.outcome.dto.CreateOutcomeRequest;
 import ai.zevaro.core.domain.outcome.dto.InvalidateOutcomeRequest;
@@ -17,11 +18,10 @@ import ai.zevaro.core.domain.workstream.WorkstreamMode;
 import ai.zevaro.core.domain.workstream.WorkstreamRepository;
 import ai.zevaro.core.event.EventPublisher;
 import ai.zevaro.core.exception.ResourceNotFoundException;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -44,7 +44,6 @@ public class OutcomeService {
     private final WorkstreamRepository workstreamRepository;
     private final UserRepository userRepository;
     private final OutcomeMapper outcomeMapper;
-    private final ObjectMapper objectMapper;
     private final EventPublisher eventPublisher;
 
     private static final Set<OutcomeStatus> TERMINAL_STATUSES = Set.of(
@@ -54,10 +53,14 @@ public class OutcomeService {
     );
 
     @Transactional(readOnly = true)
-    public List<OutcomeResponse> getOutcomes(UUID tenantId, OutcomeStatus status, UUID teamId, OutcomePriority priority, UUID projectId) {
+    public List<OutcomeResponse> getOutcomes(UUID tenantId, OutcomeStatus status, UUID teamId, OutcomePriority priority,
+                                             UUID projectId, String tag, String externalRef) {
         List<Outcome> outcomes;
 
-        if (projectId != null) {
+        if (tag != null || externalRef != null) {
+            outcomes = outcomeRepository.findAll(
+                    buildFilterSpec(tenantId, status, teamId, priority, projectId, tag, externalRef));
+        } else if (projectId != null) {
             outcomes = outcomeRepository.findByTenantIdAndProgramId(tenantId, projectId);
         } else if (status != null) {
             outcomes = outcomeRepository.findByTenantIdAndStatus(tenantId, status);
@@ -76,10 +79,14 @@ public class OutcomeService {
 
     @Transactional(readOnly = true)
     public Page<OutcomeResponse> getOutcomesPaged(UUID tenantId, OutcomeStatus status, UUID teamId,
-                                                   OutcomePriority priority, UUID projectId, Pageable pageable) {
+                                                   OutcomePriority priority, UUID projectId,
+                                                   String tag, String externalRef, Pageable pageable) {
         Page<Outcome> outcomes;
 
-        if (projectId != null) {
+        if (tag != null || externalRef != null) {
+            outcomes = outcomeRepository.findAll(
+                    buildFilterSpec(tenantId, status, teamId, priority, projectId, tag, externalRef), pageable);
+        } else if (projectId != null) {
             outcomes = outcomeRepository.findByTenantIdAndProgramId(tenantId, projectId, pageable);
         } else if (status != null) {
             outcomes = outcomeRepository.findByTenantIdAndStatus(tenantId, status, pageable);
@@ -236,11 +243,7 @@ public class OutcomeService {
         outcome.setValidationNotes(request.validationNotes());
 
         if (request.finalMetrics() != null) {
-            try {
-                outcome.setCurrentMetrics(objectMapper.writeValueAsString(request.finalMetrics()));
-            } catch (JsonProcessingException e) {
-                throw new IllegalArgumentException("Invalid metrics format", e);
-            }
+            outcome.setCurrentMetrics(request.finalMetrics());
         }
 
         outcome = outcomeRepository.save(outcome);
@@ -268,11 +271,7 @@ public class OutcomeService {
         outcome.setValidationNotes(request.reason());
 
         if (request.finalMetrics() != null) {
-            try {
-                outcome.setCurrentMetrics(objectMapper.writeValueAsString(request.finalMetrics()));
-            } catch (JsonProcessingException e) {
-                throw new IllegalArgumentException("Invalid metrics format", e);
-            }
+            outcome.setCurrentMetrics(request.finalMetrics());
         }
 
         outcome = outcomeRepository.save(outcome);
@@ -302,11 +301,7 @@ public class OutcomeService {
         Outcome outcome = outcomeRepository.findByIdAndTenantId(id, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Outcome", "id", id));
 
-        try {
-            outcome.setCurrentMetrics(objectMapper.writeValueAsString(currentMetrics));
-        } catch (JsonProcessingException e) {
-            throw new IllegalArgumentException("Invalid metrics format", e);
-        }
+        outcome.setCurrentMetrics(currentMetrics);
 
         outcome = outcomeRepository.save(outcome);
         return toResponseWithCount(outcome);
@@ -337,6 +332,31 @@ public class OutcomeService {
                 .toList();
     }
 
+    /**
+     * All given filters combined, for queries on tags or external refs (the other filters alone use
+     * the single-column repository methods).
+     */
+    private Specification<Outcome> buildFilterSpec(UUID tenantId, OutcomeStatus status, UUID teamId,
+                                                   OutcomePriority priority, UUID projectId,
+                                                   String tag, String externalRef) {
+        Specification<Outcome> spec = Specification.where(
+                (root, query, cb) -> cb.equal(root.get("tenantId"), tenantId));
+        if (status != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("status"), status));
+        }
+        if (teamId != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("team").get("id"), teamId));
+        }
+        if (priority != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("priority"), priority));
+        }
+        if (projectId != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("program").get("id"), projectId));
+        }
+        return spec.and(JsonbFilters.arrayContains("tags", tag))
+                .and(JsonbFilters.hasExternalRef("externalRefs", externalRef));
+    }
+
     private OutcomeResponse toResponseWithCount(Outcome outcome) {
         int hypothesisCount = (int) hypothesisRepository.countByOutcomeId(outcome.getId());
         String workstreamName = null;
@@ -1,11 +1,11 @@
 package ai.zevaro.core.domain.portfolio;
 
-import ai.zevaro.core.domain.decision.Decision;
+import ai.zevaro.core.domain.decision.dto.DecisionResponse;
 import ai.zevaro.core.domain.portfolio.dto.CreatePortfolioRequest;
 import ai.zevaro.core.domain.portfolio.dto.PortfolioDashboardResponse;
 import ai.zevaro.core.domain.portfolio.dto.PortfolioResponse;
 import ai.zevaro.core.domain.portfolio.dto.UpdatePortfolioRequest;
-import ai.zevaro.core.domain.program.Program;
+import ai.zevaro.core.domain.program.dto.ProgramSummary;
 import ai.zevaro.core.security.CurrentUser;
 import ai.zevaro.core.security.UserPrincipal;
 import jakarta.validation.Valid;
@@ -107,7 +107,7 @@ public class PortfolioController {
 
     @GetMapping("/{id}/programs")
     @PreAuthorize("hasRole('TENANT_OWNER') or hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('portfolio:read')")
-    public ResponseEntity<List<Program>> getPrograms(
+    public ResponseEntity<List<ProgramSummary>> getPrograms(
             @PathVariable UUID id,
             @CurrentUser UserPrincipal user) {
         return ResponseEntity.ok(portfolioService.getPrograms(id, user.getTenantId()));
@@ -123,7 +123,7 @@ public class PortfolioController {
 
     @GetMapping("/{id}/decisions")
     @PreAuthorize("hasRole('TENANT_OWNER') or hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('portfolio:read')")
-    public ResponseEntity<List<Decision>> getDecisions(
+    public ResponseEntity<List<DecisionResponse>> getDecisions(
             @PathVariable UUID id,
             @CurrentUser UserPrincipal user) {
         return ResponseEntity.ok(portfolioService.getDecisions(id, user.getTenantId()));
@@ -1,21 +1,24 @@
 package ai.zevaro.core.domain.portfolio;
 
+import ai.zevaro.core.cache.ReferenceNameCache;
 import ai.zevaro.core.domain.audit.AuditAction;
 import ai.zevaro.core.domain.audit.AuditLogBuilder;
 import ai.zevaro.core.domain.audit.AuditService;
 import ai.zevaro.core.domain.decision.Decision;
 import ai.zevaro.core.domain.decision.DecisionRepository;
+import ai.zevaro.core.domain.decision.DecisionResponseAssembler;
 import ai.zevaro.core.domain.decision.DecisionStatus;
+import ai.zevaro.core.domain.decision.dto.DecisionResponse;
 import ai.zevaro.core.domain.portfolio.dto.CreatePortfolioRequest;
 import ai.zevaro.core.domain.portfolio.dto.PortfolioDashboardResponse;
 import ai.zevaro.core.domain.portfolio.dto.PortfolioResponse;
 import ai.zevaro.core.domain.portfolio.dto.ProgramHealthSummary;
 import ai.zevaro.core.domain.portfolio.dto.UpdatePortfolioRequest;
 import ai.zevaro.core.domain.program.Program;
+import ai.zevaro.core.domain.program.ProgramMapper;
 import ai.zevaro.core.domain.program.ProgramRepository;
 import ai.zevaro.core.domain.program.ProgramStatus;
-import ai.zevaro.core.domain.user.User;
-import ai.zevaro.core.domain.user.UserRepository;
+import ai.zevaro.core.domain.program.dto.ProgramSummary;
 import ai.zevaro.core.exception.ResourceNotFoundException;
 import ai.zevaro.core.security.UserPrincipal;
 import ai.zevaro.core.util.SlugGenerator;
@@ -37,8 +40,10 @@ public class PortfolioService {
 
     private final PortfolioRepository portfolioRepository;
     private final ProgramRepository programRepository;
-    private final UserRepository userRepository;
+    private final ReferenceNameCache referenceNameCache;
     private final DecisionRepository decisionRepository;
+    private final DecisionResponseAssembler decisionResponseAssembler;
+    private final ProgramMapper programMapper;
     private final PortfolioMapper portfolioMapper;
     private final SlugGenerator slugGenerator;
     private final AuditService auditService;
@@ -153,11 +158,13 @@ public class PortfolioService {
     }
 
     @Transactional(readOnly = true)
-    public List<Program> getPrograms(UUID portfolioId, UUID tenantId) {
+    public List<ProgramSummary> getPrograms(UUID portfolioId, UUID tenantId) {
         portfolioRepository.findByIdAndTenantId(portfolioId, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Portfolio", "id", portfolioId));
 
-        return programRepository.findByTenantIdAndPortfolioId(tenantId, portfolioId);
+        return programRepository.findByTenantIdAndPortfolioId(tenantId, portfolioId).stream()
+                .map(programMapper::toSummary)
+                .toList();
     }
 
     @Transactional(readOnly = true)
@@ -233,7 +240,7 @@ public class PortfolioService {
     }
 
     @Transactional(readOnly = true)
-    public List<Decision> getDecisions(UUID portfolioId, UUID tenantId) {
+    public List<DecisionResponse> getDecisions(UUID portfolioId, UUID tenantId) {
         portfolioRepository.findByIdAndTenantId(portfolioId, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Portfolio", "id", portfolioId));
 
@@ -244,16 +251,16 @@ public class PortfolioService {
             return List.of();
         }
 
-        return decisionRepository.findByTenantIdAndProjectIdIn(tenantId, programIds);
+        // Mapped inside the transaction: the lazy associations are not readable after it
+        return decisionResponseAssembler.toResponses(
+                decisionRepository.findByTenantIdAndProjectIdIn(tenantId, programIds));
     }
 
     private String resolveOwnerName(UUID ownerId, UUID tenantId) {
         if (ownerId == null) {
             return null;
         }
-        return userRepository.findByIdAndTenantId(ownerId, tenantId)
-                .map(User::getFullName)
-                .orElse(null);
+        return referenceNameCache.userName(tenantId, ownerId);
     }
 
     private int countPrograms(UUID portfolioId, UUID tenantId) {
@@ -1,5 +1,6 @@
 package ai.zevaro.core.domain.program;
 
+import ai.zevaro.core.domain.search.SearchIndexListener;
 import ai.zevaro.core.domain.user.User;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -36,7 +37,7 @@ import java.util.UUID;
 uniqueConstraints = {
         @UniqueConstraint(columnNames = {"tenant_id", "slug"})
 })
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, SearchIndexListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,84 @@
+package ai.zevaro.core.domain.program;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Rollup of the program dashboard aggregates, one row per program.
+ * Maintained by {@link ProgramMetricsService}; the dashboard reads this row instead of
+ * recomputing counts, averages, velocity and outcome progress on every request.
+ */
+@Entity
+@Table(name = "program_metrics", indexes = {
+        @Index(name = "idx_program_metrics_refreshed", columnList = "refreshed_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProgramMetrics {
+
+    @Id
+    @Column(name = "program_id")
+    private UUID programId;
+
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
+    @Column(name = "pending_decision_count", nullable = false)
+    private int pendingDecisionCount;
+
+    @Column(name = "sla_breached_decision_count", nullable = false)
+    private int slaBreachedDecisionCount;
+
+    @Column(name = "active_outcome_count", nullable = false)
+    private int activeOutcomeCount;
+
+    @Column(name = "validated_outcome_count", nullable = false)
+    private long validatedOutcomeCount;
+
+    @Column(name = "non_draft_outcome_count", nullable = false)
+    private long nonDraftOutcomeCount;
+
+    @Column(name = "running_experiment_count", nullable = false)
+    private int runningExperimentCount;
+
+    @Column(name = "avg_decision_time_hours", nullable = false)
+    private double avgDecisionTimeHours;
+
+    @Column(name = "previous_avg_decision_time_hours", nullable = false)
+    private double previousAvgDecisionTimeHours;
+
+    @Column(name = "decision_velocity", columnDefinition = "text")
+    private String decisionVelocity;
+
+    @Column(name = "outcome_progress", columnDefinition = "text")
+    private String outcomeProgress;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private Instant refreshedAt;
+
+    public double getOutcomeValidationPercentage() {
+        return nonDraftOutcomeCount > 0 ? (validatedOutcomeCount * 100.0 / nonDraftOutcomeCount) : 0;
+    }
+
+    /**
+     * True when the event-driven counters differ. Time-dependent values (SLA breaches,
+     * rolling averages, velocity) are expected to move between refreshes and are ignored.
+     */
+    boolean countsDifferFrom(ProgramMetrics other) {
+        return pendingDecisionCount != other.pendingDecisionCount
+                || activeOutcomeCount != other.activeOutcomeCount
+                || validatedOutcomeCount != other.validatedOutcomeCount
+                || nonDraftOutcomeCount != other.nonDraftOutcomeCount
+                || runningExperimentCount != other.runningExperimentCount;
+    }
+}
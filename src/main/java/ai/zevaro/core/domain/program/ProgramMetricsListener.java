@@ -0,0 +1,45 @@
+package ai.zevaro.core.domain.program;
+
+import ai.zevaro.core.domain.decision.Decision;
+import ai.zevaro.core.domain.experiment.Experiment;
+import ai.zevaro.core.domain.outcome.KeyResult;
+import ai.zevaro.core.domain.outcome.Outcome;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * JPA entity listener that marks a program's dashboard rollup dirty whenever one of its
+ * decisions, outcomes, key results or experiments is created, changed or removed.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProgramMetricsListener {
+
+    private final ProgramMetricsTracker programMetricsTracker;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof Decision d) {
+            mark(d.getTenantId(), d.getProgram());
+        } else if (entity instanceof Outcome o) {
+            mark(o.getTenantId(), o.getProgram());
+        } else if (entity instanceof Experiment e) {
+            mark(e.getTenantId(), e.getProgram());
+        } else if (entity instanceof KeyResult kr && kr.getOutcome() != null) {
+            mark(kr.getOutcome().getTenantId(), kr.getOutcome().getProgram());
+        }
+    }
+
+    private void mark(UUID tenantId, Program program) {
+        if (program != null) {
+            programMetricsTracker.markDirty(tenantId, program.getId());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package ai.zevaro.core.domain.program;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ProgramMetricsRepository extends JpaRepository<ProgramMetrics, UUID> {
+
+    Optional<ProgramMetrics> findByProgramIdAndTenantId(UUID programId, UUID tenantId);
+
+    @Query("SELECT m FROM ProgramMetrics m WHERE m.refreshedAt < :before ORDER BY m.refreshedAt")
+    List<ProgramMetrics> findStale(@Param("before") Instant before, Pageable pageable);
+}
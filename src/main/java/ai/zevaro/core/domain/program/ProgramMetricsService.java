@@ -0,0 +1,218 @@
+package ai.zevaro.core.domain.program;
+
+import ai.zevaro.core.config.AppConstants;
+import ai.zevaro.core.domain.decision.DecisionRepository;
+import ai.zevaro.core.domain.decision.DecisionStatus;
+import ai.zevaro.core.domain.experiment.ExperimentRepository;
+import ai.zevaro.core.domain.outcome.OutcomeRepository;
+import ai.zevaro.core.domain.outcome.OutcomeStatus;
+import ai.zevaro.core.domain.program.ProgramMetricsTracker.ProgramKey;
+import ai.zevaro.core.domain.program.dto.ProgramDashboardResponse.DailyMetric;
+import ai.zevaro.core.domain.program.dto.ProgramDashboardResponse.OutcomeProgressItem;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Maintains the {@code program_metrics} rollup behind the program dashboard.
+ *
+ * - Programs touched by a committed change are refreshed every
+ *   {@link AppConstants#PROGRAM_METRICS_REFRESH_INTERVAL_MS} ms, so a burst of writes costs one refresh
+ * - A reconciliation pass rebuilds rollups older than {@link AppConstants#PROGRAM_METRICS_STALE_SECONDS}
+ *   from the source tables, which also keeps time-dependent values (SLA breaches, rolling averages)
+ *   current, and counts rows whose event-driven counters had drifted
+ * - A program without a rollup is built on first read
+ *
+ * Metrics: {@code zevaro.program.metrics.refreshed} and {@code zevaro.program.metrics.drift}.
+ */
+@Service
+@Slf4j
+public class ProgramMetricsService {
+
+    private static final TypeReference<List<DailyMetric>> VELOCITY_TYPE = new TypeReference<>() {};
+    private static final TypeReference<List<OutcomeProgressItem>> PROGRESS_TYPE = new TypeReference<>() {};
+
+    private final ProgramMetricsRepository metricsRepository;
+    private final ProgramMetricsTracker tracker;
+    private final DecisionRepository decisionRepository;
+    private final OutcomeRepository outcomeRepository;
+    private final ExperimentRepository experimentRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter refreshedCounter;
+    private final Counter driftCounter;
+
+    public ProgramMetricsService(ProgramMetricsRepository metricsRepository,
+                                 ProgramMetricsTracker tracker,
+                                 DecisionRepository decisionRepository,
+                                 OutcomeRepository outcomeRepository,
+                                 ExperimentRepository experimentRepository,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.metricsRepository = metricsRepository;
+        this.tracker = tracker;
+        this.decisionRepository = decisionRepository;
+        this.outcomeRepository = outcomeRepository;
+        this.experimentRepository = experimentRepository;
+        this.objectMapper = objectMapper;
+
+        // Rollups are written from read-only dashboard requests too, so always use a fresh transaction
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.refreshedCounter = meterRegistry.counter("zevaro.program.metrics.refreshed");
+        this.driftCounter = meterRegistry.counter("zevaro.program.metrics.drift");
+    }
+
+    public ProgramMetrics getMetrics(UUID tenantId, UUID programId) {
+        return metricsRepository.findByProgramIdAndTenantId(programId, tenantId)
+                .orElseGet(() -> refresh(tenantId, programId));
+    }
+
+    public List<DailyMetric> getDecisionVelocity(ProgramMetrics metrics) {
+        return readList(metrics.getDecisionVelocity(), VELOCITY_TYPE);
+    }
+
+    public List<OutcomeProgressItem> getOutcomeProgress(ProgramMetrics metrics) {
+        return readList(metrics.getOutcomeProgress(), PROGRESS_TYPE);
+    }
+
+    /**
+     * Rebuild a program's rollup from the source tables and store it.
+     */
+    public ProgramMetrics refresh(UUID tenantId, UUID programId) {
+        return refresh(tenantId, programId, false);
+    }
+
+    /**
+     * Drift is only checked on reconciliation: a refresh for a tracked change is expected to move
+     * the counters, so comparing there would count every ordinary write as drift.
+     */
+    private ProgramMetrics refresh(UUID tenantId, UUID programId, boolean checkDrift) {
+        ProgramMetrics metrics = transactionTemplate.execute(status -> {
+            ProgramMetrics fresh = compute(tenantId, programId);
+            if (checkDrift) {
+                metricsRepository.findById(programId).ifPresent(current -> {
+                    if (current.countsDifferFrom(fresh)) {
+                        driftCounter.increment();
+                        log.debug("Program metrics for {} had drifted from source tables", programId);
+                    }
+                });
+            }
+            return metricsRepository.save(fresh);
+        });
+        refreshedCounter.increment();
+        return metrics;
+    }
+
+    @Scheduled(fixedDelay = AppConstants.PROGRAM_METRICS_REFRESH_INTERVAL_MS)
+    public void refreshDirty() {
+        for (ProgramKey key : tracker.drain()) {
+            refreshQuietly(key.tenantId(), key.programId(), false);
+        }
+    }
+
+    @Scheduled(fixedDelay = AppConstants.PROGRAM_METRICS_RECONCILE_INTERVAL_MS)
+    public void reconcile() {
+        Instant before = Instant.now().minusSeconds(AppConstants.PROGRAM_METRICS_STALE_SECONDS);
+        List<ProgramMetrics> stale = metricsRepository.findStale(
+                before, PageRequest.of(0, AppConstants.PROGRAM_METRICS_RECONCILE_BATCH_SIZE));
+        for (ProgramMetrics metrics : stale) {
+            refreshQuietly(metrics.getTenantId(), metrics.getProgramId(), true);
+        }
+    }
+
+    private void refreshQuietly(UUID tenantId, UUID programId, boolean checkDrift) {
+        try {
+            refresh(tenantId, programId, checkDrift);
+        } catch (DataIntegrityViolationException e) {
+            // Another node created the row concurrently; its values are just as fresh
+            log.debug("Concurrent program metrics refresh for {}", programId);
+        } catch (Exception e) {
+            log.error("Failed to refresh program metrics for {}: {}", programId, e.getMessage(), e);
+        }
+    }
+
+    private ProgramMetrics compute(UUID tenantId, UUID programId) {
+        ProgramMetrics metrics = new ProgramMetrics();
+        metrics.setProgramId(programId);
+        metrics.setTenantId(tenantId);
+
+        metrics.setPendingDecisionCount((int) decisionRepository.countByTenantIdAndProjectIdAndStatus(
+                tenantId, programId, DecisionStatus.NEEDS_INPUT));
+        metrics.setSlaBreachedDecisionCount((int) decisionRepository.countSlaBreachedForProject(tenantId, programId));
+        metrics.setActiveOutcomeCount((int) outcomeRepository.countByTenantIdAndProjectIdAndStatus(
+                tenantId, programId, OutcomeStatus.IN_PROGRESS));
+        metrics.setValidatedOutcomeCount(outcomeRepository.countValidatedForProject(tenantId, programId));
+        metrics.setNonDraftOutcomeCount(outcomeRepository.countNonDraftForProject(tenantId, programId));
+        metrics.setRunningExperimentCount((int) experimentRepository.countRunningForProject(tenantId, programId));
+
+        Double avgDecisionTimeHours = decisionRepository.getAverageDecisionTimeHours(
+                tenantId, Instant.now().minus(Duration.ofDays(30)));
+        double avg = avgDecisionTimeHours != null ? avgDecisionTimeHours : 0.0;
+        Double previousAvgTime = decisionRepository.getAverageDecisionTimeHours(
+                tenantId, Instant.now().minus(Duration.ofDays(60)));
+        metrics.setAvgDecisionTimeHours(avg);
+        metrics.setPreviousAvgDecisionTimeHours(previousAvgTime != null ? previousAvgTime : avg);
+
+        List<DailyMetric> velocity = new ArrayList<>();
+        Instant since = Instant.now().minus(Duration.ofDays(30));
+        for (Object[] row : decisionRepository.findDailyMetricsForProject(tenantId, programId, since)) {
+            velocity.add(new DailyMetric(
+                    ((java.sql.Date) row[0]).toLocalDate(),
+                    ((Number) row[1]).intValue(),
+                    ((Number) row[2]).doubleValue()));
+        }
+        metrics.setDecisionVelocity(writeList(velocity));
+
+        List<OutcomeProgressItem> progress = new ArrayList<>();
+        for (Object[] row : outcomeRepository.findProgressForProject(tenantId, programId, OutcomeStatus.IN_PROGRESS)) {
+            double progressPercent = row[3] != null ? ((Number) row[3]).doubleValue() : 0;
+            String color = progressPercent < 30 ? "red" : progressPercent < 70 ? "yellow" : "green";
+            progress.add(new OutcomeProgressItem(
+                    (UUID) row[0], (String) row[1], row[2].toString(), progressPercent, color));
+        }
+        metrics.setOutcomeProgress(writeList(progress));
+
+        metrics.setRefreshedAt(Instant.now());
+        return metrics;
+    }
+
+    private String writeList(List<?> items) {
+        try {
+            return objectMapper.writeValueAsString(items);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize program metrics", e);
+        }
+    }
+
+    private <T> List<T> readList(String json, TypeReference<List<T>> type) {
+        if (json == null) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            log.warn("Unreadable program metrics payload, returning empty list: {}", e.getMessage());
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package ai.zevaro.core.domain.program;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects programs whose dashboard rollup needs refreshing.
+ * Programs are marked after commit, so rolled-back changes never trigger a refresh, and
+ * repeated changes to the same program between refreshes collapse into one entry.
+ * <p>
+ * Holds no repositories: it is used from a JPA entity listener.
+ */
+@Component
+public class ProgramMetricsTracker {
+
+    private final Set<ProgramKey> dirtyPrograms = ConcurrentHashMap.newKeySet();
+
+    public void markDirty(UUID tenantId, UUID programId) {
+        if (tenantId == null || programId == null) {
+            return;
+        }
+
+        ProgramKey key = new ProgramKey(tenantId, programId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dirtyPrograms.add(key);
+                }
+            });
+        } else {
+            dirtyPrograms.add(key);
+        }
+    }
+
+    List<ProgramKey> drain() {
+        List<ProgramKey> drained = new ArrayList<>(dirtyPrograms);
+        dirtyPrograms.removeAll(drained);
+        return drained;
+    }
+
+    record ProgramKey(UUID tenantId, UUID programId) {}
+}
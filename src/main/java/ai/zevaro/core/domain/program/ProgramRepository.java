@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -41,6 +42,6 @@ public interface ProgramRepository extends JpaRepository<Program, UUID> {
 
     List<Program> findByTenantIdAndPortfolioId(UUID tenantId, UUID portfolioId);
 
-    @Query("SELECT p FROM Program p WHERE p.tenantId = :tenantId AND (LOWER(p.name) LIKE LOWER(CONCAT('%', :query, '%')) OR LOWER(p.description) LIKE LOWER(CONCAT('%', :query, '%')))")
-    List<Program> search(@Param("tenantId") UUID tenantId, @Param("query") String query, Pageable pageable);
+    @Query("SELECT p.id, p.name FROM Program p WHERE p.tenantId = :tenantId AND p.id IN :ids")
+    List<Object[]> findNamesByIds(@Param("tenantId") UUID tenantId, @Param("ids") Collection<UUID> ids);
 }
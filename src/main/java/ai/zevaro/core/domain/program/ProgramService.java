@@ -1,23 +1,17 @@
 package ai.zevaro.core.domain.program;
 
+import ai.zevaro.core.cache.ReferenceNameCache;
+import ai.zevaro.core.cache.ReferenceType;
 import ai.zevaro.core.domain.decision.DecisionRepository;
-import ai.zevaro.core.domain.experiment.ExperimentRepository;
 import ai.zevaro.core.domain.hypothesis.HypothesisRepository;
 import ai.zevaro.core.domain.outcome.OutcomeRepository;
-import ai.zevaro.core.domain.audit.AuditLog;
 import ai.zevaro.core.domain.audit.AuditLogRepository;
 import ai.zevaro.core.domain.space.SpaceService;
-import ai.zevaro.core.domain.decision.Decision;
-import ai.zevaro.core.domain.decision.DecisionStatus;
 import ai.zevaro.core.domain.outcome.KeyResult;
-import ai.zevaro.core.domain.outcome.Outcome;
-import ai.zevaro.core.domain.outcome.OutcomeStatus;
 import ai.zevaro.core.domain.program.dto.CreateProgramRequest;
 import ai.zevaro.core.domain.program.dto.ProgramDashboardResponse;
 import ai.zevaro.core.domain.program.dto.ProgramDashboardResponse.ActivityItem;
 import ai.zevaro.core.domain.program.dto.ProgramDashboardResponse.DecisionQueueItem;
-import ai.zevaro.core.domain.program.dto.ProgramDashboardResponse.DailyMetric;
-import ai.zevaro.core.domain.program.dto.ProgramDashboardResponse.OutcomeProgressItem;
 import ai.zevaro.core.domain.program.dto.ProgramResponse;
 import ai.zevaro.core.domain.program.dto.ProgramStatsResponse;
 import ai.zevaro.core.domain.program.dto.UpdateProgramRequest;
@@ -25,6 +19,7 @@ import ai.zevaro.core.domain.user.User;
 import ai.zevaro.core.domain.user.UserRepository;
 import ai.zevaro.core.event.EventPublisher;
 import ai.zevaro.core.exception.ResourceNotFoundException;
+import ai.zevaro.core.util.ReadFanOut;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -34,14 +29,11 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDate;
 import java.time.ZoneId;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -51,12 +43,14 @@ public class ProgramService {
     private final OutcomeRepository outcomeRepository;
     private final HypothesisRepository hypothesisRepository;
     private final DecisionRepository decisionRepository;
-    private final ExperimentRepository experimentRepository;
     private final UserRepository userRepository;
     private final ProgramMapper programMapper;
     private final EventPublisher eventPublisher;
     private final AuditLogRepository auditLogRepository;
     private final SpaceService spaceService;
+    private final ReferenceNameCache referenceNameCache;
+    private final ProgramMetricsService programMetricsService;
+    private final ReadFanOut readFanOut;
 
     @Transactional(readOnly = true)
     public List<ProgramResponse> getPrograms(UUID tenantId, ProgramStatus status) {
@@ -140,6 +134,7 @@ public class ProgramService {
 
         String oldStatus = program.getStatus().name();
         program = programRepository.save(program);
+        referenceNameCache.evict(ReferenceType.PROGRAM, tenantId, id);
 
         if (!oldStatus.equals(program.getStatus().name())) {
             eventPublisher.publishProgramStatusChanged(program, oldStatus, null);
@@ -156,6 +151,7 @@ public class ProgramService {
         // Soft delete: archive the program
         program.setStatus(ProgramStatus.ARCHIVED);
         programRepository.save(program);
+        referenceNameCache.evict(ReferenceType.PROGRAM, tenantId, id);
     }
 
     @Transactional(readOnly = true)
@@ -177,120 +173,62 @@ public class ProgramService {
         );
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Not transactional itself: the metrics, decision queue and activity reads are independent and
+     * run concurrently, each in its own read-only transaction.
+     */
     public ProgramDashboardResponse getProgramDashboard(UUID programId, UUID tenantId) {
-        Program program = programRepository.findByIdAndTenantId(programId, tenantId)
-                .orElseThrow(() -> new ResourceNotFoundException("Program", "id", programId));
-
-        // Count pending decisions
-        int pendingDecisionCount = (int) decisionRepository.countByTenantIdAndProjectIdAndStatus(
-                tenantId, programId, DecisionStatus.NEEDS_INPUT);
-
-        // Count SLA breached decisions
-        List<Decision> slaBreachedDecisions = decisionRepository.findSlaBreachedForProject(tenantId, programId);
-        int slaBreachedDecisionCount = slaBreachedDecisions.size();
-
-        // Count active outcomes (IN_PROGRESS)
-        int activeOutcomeCount = (int) outcomeRepository.countByTenantIdAndProjectIdAndStatus(
-                tenantId, programId, OutcomeStatus.IN_PROGRESS);
-
-        // Calculate outcome validation percentage
-        long validatedCount = outcomeRepository.countValidatedForProject(tenantId, programId);
-        long totalNonDraftCount = outcomeRepository.countNonDraftForProject(tenantId, programId);
-        double outcomeValidationPercentage = totalNonDraftCount > 0 ? (validatedCount * 100.0 / totalNonDraftCount) : 0;
-
-        // Count running experiments
-        long runningExperimentCount = experimentRepository.countRunningForProject(tenantId, programId);
-
-        // Calculate average decision time
-        Double avgDecisionTimeHours = decisionRepository.getAverageDecisionTimeHours(tenantId, Instant.now().minus(Duration.ofDays(30)));
-        if (avgDecisionTimeHours == null) {
-            avgDecisionTimeHours = 0.0;
-        }
-
-        // Calculate trend (simplified: compare to 30-60 days ago)
-        Double previousAvgTime = decisionRepository.getAverageDecisionTimeHours(
-                tenantId, Instant.now().minus(Duration.ofDays(60)));
-        if (previousAvgTime == null) {
-            previousAvgTime = avgDecisionTimeHours;
+        try (ReadFanOut.Scope scope = readFanOut.open()) {
+            // Checked in a read of its own so this thread holds no connection while it waits
+            scope.fork(() -> programRepository.findByIdAndTenantId(programId, tenantId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Program", "id", programId)));
+            Supplier<ProgramMetrics> metricsRead = scope.fork(() -> programMetricsService.getMetrics(tenantId, programId));
+
+            // Get urgent decisions (top 5); breach check mirrors countSlaBreachedForProject
+            Supplier<List<DecisionQueueItem>> decisionQueueRead = scope.fork(() ->
+                    decisionRepository.findUrgentDecisionsForProject(tenantId, programId).stream()
+                            .map(d -> new DecisionQueueItem(
+                                d.getId(),
+                                d.getTitle(),
+                                d.getPriority() != null ? d.getPriority().toString() : "NORMAL",
+                                d.getAssignedTo() != null ? d.getAssignedTo().getFullName() : "Unassigned",
+                                d.getAssignedTo() != null ? d.getAssignedTo().getAvatarUrl() : null,
+                                d.getWaitTimeHours() * 60, // convert hours to minutes
+                                d.getSlaHours() != null && d.getCreatedAt() != null
+                                        && Duration.between(d.getCreatedAt(), Instant.now()).toSeconds() > d.getSlaHours() * 3600L
+                            ))
+                            .toList());
+
+            // Get recent activity
+            Supplier<List<ActivityItem>> recentActivityRead = scope.fork(() ->
+                    auditLogRepository.findRecentActivityForTenant(tenantId, 20).stream()
+                            .map(log -> new ActivityItem(
+                                log.getActorName() != null ? log.getActorName() : "Unknown",
+                                null, // TODO: Could add actor avatar URL if available
+                                log.getAction() != null ? log.getAction().toString() : "UNKNOWN",
+                                log.getEntityType(),
+                                log.getEntityTitle(),
+                                log.getTimestamp()
+                            ))
+                            .toList());
+
+            scope.join();
+            ProgramMetrics metrics = metricsRead.get();
+
+            return new ProgramDashboardResponse(
+                metrics.getPendingDecisionCount(),
+                metrics.getSlaBreachedDecisionCount(),
+                metrics.getActiveOutcomeCount(),
+                metrics.getOutcomeValidationPercentage(),
+                metrics.getRunningExperimentCount(),
+                metrics.getAvgDecisionTimeHours(),
+                metrics.getAvgDecisionTimeHours() - metrics.getPreviousAvgDecisionTimeHours(),
+                decisionQueueRead.get(),
+                programMetricsService.getDecisionVelocity(metrics),
+                programMetricsService.getOutcomeProgress(metrics),
+                recentActivityRead.get()
+            );
         }
-        double avgDecisionTimeTrend = avgDecisionTimeHours - previousAvgTime;
-
-        // Get urgent decisions (top 5)
-        List<Decision> urgentDecisions = decisionRepository.findUrgentDecisionsForProject(tenantId, programId);
-        List<DecisionQueueItem> decisionQueueItems = urgentDecisions.stream()
-                .map(d -> new DecisionQueueItem(
-                    d.getId(),
-                    d.getTitle(),
-                    d.getPriority() != null ? d.getPriority().toString() : "NORMAL",
-                    d.getAssignedTo() != null ? d.getAssignedTo().getFullName() : "Unassigned",
-                    d.getAssignedTo() != null ? d.getAssignedTo().getAvatarUrl() : null,
-                    d.getWaitTimeHours() * 60, // convert hours to minutes
-                    slaBreachedDecisions.contains(d)
-                ))
-                .toList();
-
-        // Build decision velocity (last 30 days)
-        Instant since = Instant.now().minus(Duration.ofDays(30));
-        List<Object[]> dailyMetricsData = decisionRepository.findDailyMetricsForProject(tenantId, programId, since);
-        Map<LocalDate, DailyMetric> metricsMap = new HashMap<>();
-        for (Object[] row : dailyMetricsData) {
-            LocalDate date = ((java.sql.Date) row[0]).toLocalDate();
-            int count = ((Number) row[1]).intValue();
-            double avgHours = ((Number) row[2]).doubleValue();
-            metricsMap.put(date, new DailyMetric(date, count, avgHours));
-        }
-        List<DailyMetric> decisionVelocity = new ArrayList<>(metricsMap.values());
-
-        // Get outcome progress
-        List<Outcome> activeOutcomes = outcomeRepository.findByTenantIdAndProgramIdAndStatus(
-                tenantId, programId, OutcomeStatus.IN_PROGRESS);
-        List<OutcomeProgressItem> outcomeProgress = activeOutcomes.stream()
-                .map(o -> {
-                    double progressPercent = 0;
-                    if (!o.getKeyResults().isEmpty()) {
-                        double totalProgress = o.getKeyResults().stream()
-                                .mapToDouble(kr -> kr.getProgressPercent().doubleValue())
-                                .sum();
-                        progressPercent = totalProgress / o.getKeyResults().size();
-                    }
-                    String color = progressPercent < 30 ? "red" : progressPercent < 70 ? "yellow" : "green";
-                    return new OutcomeProgressItem(
-                        o.getId(),
-                        o.getTitle(),
-                        o.getStatus().toString(),
-                        progressPercent,
-                        color
-                    );
-                })
-                .toList();
-
-        // Get recent activity
-        List<AuditLog> recentActivityLogs = auditLogRepository.findRecentActivityForTenant(tenantId, 20);
-        List<ActivityItem> recentActivity = recentActivityLogs.stream()
-                .map(log -> new ActivityItem(
-                    log.getActorName() != null ? log.getActorName() : "Unknown",
-                    null, // TODO: Could add actor avatar URL if available
-                    log.getAction() != null ? log.getAction().toString() : "UNKNOWN",
-                    log.getEntityType(),
-                    log.getEntityTitle(),
-                    log.getTimestamp()
-                ))
-                .toList();
-
-        return new ProgramDashboardResponse(
-            pendingDecisionCount,
-            slaBreachedDecisionCount,
-            activeOutcomeCount,
-            outcomeValidationPercentage,
-            (int) runningExperimentCount,
-            avgDecisionTimeHours,
-            avgDecisionTimeTrend,
-            decisionQueueItems,
-            decisionVelocity,
-            outcomeProgress,
-            recentActivity
-        );
     }
 
     private ProgramResponse toResponseWithCounts(Program program) {
@@ -23,7 +23,29 @@ public class PermissionDataLoader implements CommandLineRunner {
     public void run(String... args) {
         log.info("Checking permissions...");
 
-        List<Permission> allPermissions = List.of(
+        List<Permission> allPermissions = definitions();
+
+        Set<String> existingCodes = new java.util.HashSet<>();
+        permissionRepository.findAll().forEach(p -> existingCodes.add(p.getCode()));
+
+        List<Permission> newPermissions = allPermissions.stream()
+                .filter(p -> !existingCodes.contains(p.getCode()))
+                .toList();
+
+        if (newPermissions.isEmpty()) {
+            log.info("All {} permissions already exist", allPermissions.size());
+        } else {
+            permissionRepository.saveAll(newPermissions);
+            log.info("Created {} new permissions (total defined: {})", newPermissions.size(), allPermissions.size());
+        }
+    }
+
+    /**
+     * Every permission the application defines; {@link ai.zevaro.core.security.PermissionSet}
+     * assigns its bit positions in this order.
+     */
+    public static List<Permission> definitions() {
+        return List.of(
                 // Project permissions
                 new Permission("project:read", "Read Projects", "View projects", "PROJECT"),
                 new Permission("project:create", "Create Projects", "Create new projects", "PROJECT"),
@@ -171,19 +193,5 @@ public class PermissionDataLoader implements CommandLineRunner {
                 new Permission("queue:update", "Update Queues", "Modify existing queues", "QUEUE"),
                 new Permission("queue:delete", "Delete Queues", "Remove queues", "QUEUE")
         );
-
-        Set<String> existingCodes = new java.util.HashSet<>();
-        permissionRepository.findAll().forEach(p -> existingCodes.add(p.getCode()));
-
-        List<Permission> newPermissions = allPermissions.stream()
-                .filter(p -> !existingCodes.contains(p.getCode()))
-                .toList();
-
-        if (newPermissions.isEmpty()) {
-            log.info("All {} permissions already exist", allPermissions.size());
-        } else {
-            permissionRepository.saveAll(newPermissions);
-            log.info("Created {} new permissions (total defined: {})", newPermissions.size(), allPermissions.size());
-        }
     }
 }
@@ -1,5 +1,6 @@
 package ai.zevaro.core.domain.requirement;
 
+import ai.zevaro.core.domain.search.SearchIndexListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
@@ -26,9 +27,10 @@ import java.util.UUID;
     @Index(name = "idx_requirements_tenant_spec", columnList = "tenant_id, specification_id"),
     @Index(name = "idx_requirements_tenant_status", columnList = "tenant_id, status"),
     @Index(name = "idx_requirements_tenant_ws", columnList = "tenant_id, workstream_id"),
-    @Index(name = "idx_requirements_tenant_program", columnList = "tenant_id, program_id")
+    @Index(name = "idx_requirements_tenant_program", columnList = "tenant_id, program_id"),
+    @Index(name = "idx_requirements_spec_created", columnList = "tenant_id, specification_id, created_at, id")
 })
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, SearchIndexListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
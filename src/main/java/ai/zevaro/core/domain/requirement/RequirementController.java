@@ -1,7 +1,12 @@
 package ai.zevaro.core.domain.requirement;
 
+import ai.zevaro.core.config.AppConstants;
+import ai.zevaro.core.domain.common.dto.CursorPage;
+import ai.zevaro.core.domain.requirement.dto.BuildOrderResponse;
 import ai.zevaro.core.domain.requirement.dto.CreateDependencyRequest;
 import ai.zevaro.core.domain.requirement.dto.CreateRequirementRequest;
+import ai.zevaro.core.domain.requirement.dto.CriticalPathResponse;
+import ai.zevaro.core.domain.requirement.dto.DependencyImpactResponse;
 import ai.zevaro.core.domain.requirement.dto.DependencyResponse;
 import ai.zevaro.core.domain.requirement.dto.RequirementResponse;
 import ai.zevaro.core.domain.requirement.dto.UpdateRequirementRequest;
@@ -37,6 +42,7 @@ import java.util.UUID;
 public class RequirementController {
 
     private final RequirementService requirementService;
+    private final RequirementGraphService graphService;
 
     // --- Nested endpoints (under Specifications) ---
 
@@ -76,6 +82,17 @@ public class RequirementController {
                 specId, user.getTenantId(), pageable));
     }
 
+    @GetMapping("/specifications/{specId}/requirements/cursor")
+    @PreAuthorize("hasRole('TENANT_OWNER') or hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('requirement:read')")
+    public ResponseEntity<CursorPage<RequirementResponse>> listBySpecificationCursor(
+            @PathVariable UUID specId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @CurrentUser UserPrincipal user) {
+        return ResponseEntity.ok(requirementService.listBySpecificationAfter(
+                specId, user.getTenantId(), cursor, Math.max(1, Math.min(size, AppConstants.MAX_PAGE_SIZE))));
+    }
+
     // --- Flat endpoints (direct access) ---
 
     @GetMapping("/requirements/{id}")
@@ -143,4 +160,46 @@ public class RequirementController {
         requirementService.removeDependency(id, depId, user.getTenantId(), user.getUserId());
         return ResponseEntity.noContent().build();
     }
+
+    // --- Dependency graph ---
+
+    @GetMapping("/requirements/{id}/impact")
+    @PreAuthorize("hasRole('TENANT_OWNER') or hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('requirement:read')")
+    public ResponseEntity<DependencyImpactResponse> getImpact(
+            @PathVariable UUID id,
+            @CurrentUser UserPrincipal user) {
+        return ResponseEntity.ok(graphService.getImpact(id, user.getTenantId()));
+    }
+
+    @GetMapping("/specifications/{specId}/requirements/build-order")
+    @PreAuthorize("hasRole('TENANT_OWNER') or hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('requirement:read')")
+    public ResponseEntity<BuildOrderResponse> getSpecificationBuildOrder(
+            @PathVariable UUID specId,
+            @CurrentUser UserPrincipal user) {
+        return ResponseEntity.ok(graphService.getBuildOrderForSpecification(specId, user.getTenantId()));
+    }
+
+    @GetMapping("/specifications/{specId}/requirements/critical-path")
+    @PreAuthorize("hasRole('TENANT_OWNER') or hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('requirement:read')")
+    public ResponseEntity<CriticalPathResponse> getSpecificationCriticalPath(
+            @PathVariable UUID specId,
+            @CurrentUser UserPrincipal user) {
+        return ResponseEntity.ok(graphService.getCriticalPathForSpecification(specId, user.getTenantId()));
+    }
+
+    @GetMapping("/programs/{programId}/requirements/build-order")
+    @PreAuthorize("hasRole('TENANT_OWNER') or hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('requirement:read')")
+    public ResponseEntity<BuildOrderResponse> getProgramBuildOrder(
+            @PathVariable UUID programId,
+            @CurrentUser UserPrincipal user) {
+        return ResponseEntity.ok(graphService.getBuildOrderForProgram(programId, user.getTenantId()));
+    }
+
+    @GetMapping("/programs/{programId}/requirements/critical-path")
+    @PreAuthorize("hasRole('TENANT_OWNER') or hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('requirement:read')")
+    public ResponseEntity<CriticalPathResponse> getProgramCriticalPath(
+            @PathVariable UUID programId,
+            @CurrentUser UserPrincipal user) {
+        return ResponseEntity.ok(graphService.getCriticalPathForProgram(programId, user.getTenantId()));
+    }
 }
@@ -1,8 +1,11 @@
 package ai.zevaro.core.domain.requirement;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,4 +22,12 @@ public interface RequirementDependencyRepository extends JpaRepository<Requireme
     void deleteByRequirementIdAndDependsOnId(UUID requirementId, UUID dependsOnId);
 
     boolean existsByRequirementIdAndDependsOnId(UUID requirementId, UUID dependsOnId);
+
+    List<RequirementDependency> findByRequirementIdIn(Collection<UUID> requirementIds);
+
+    List<RequirementDependency> findByDependsOnIdIn(Collection<UUID> dependsOnIds);
+
+    @Query("SELECT d.requirementId, d.dependsOnId FROM RequirementDependency d, Requirement r " +
+           "WHERE r.id = d.requirementId AND r.tenantId = :tenantId AND d.type IN :types")
+    List<Object[]> findGraphEdges(@Param("tenantId") UUID tenantId, @Param("types") Collection<DependencyType> types);
 }
@@ -0,0 +1,353 @@
+package ai.zevaro.core.domain.requirement;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.IntPredicate;
+
+/**
+ * Immutable snapshot of a tenant's requirement dependency graph.
+ * <p>
+ * Requirements are numbered 0..n-1 and edges are held in compressed adjacency arrays in both
+ * directions (prerequisites and dependents), so traversals touch only int arrays; UUIDs are
+ * translated once at the boundary. Only ordering edges ({@link DependencyType#BLOCKS} and
+ * {@link DependencyType#REQUIRES}) are part of the graph. Every query is O(V+E) or better.
+ */
+final class RequirementGraph {
+
+    static final int NOT_FOUND = -1;
+
+    /** A requirement visited by a query, with its distance (or level) from the starting point. */
+    record Visit(int node, int depth) {}
+
+    /** Topological order plus any requirements left over because they sit on a cycle. */
+    record BuildOrder(List<Visit> order, int[] cyclic) {}
+
+    /** Longest chain by estimated hours (ties broken by chain length), prerequisites first. */
+    record CriticalPath(int[] path, double totalHours) {}
+
+    private final UUID[] ids;
+    private final UUID[] programIds;
+    private final UUID[] specificationIds;
+    private final String[] identifiers;
+    private final String[] titles;
+    private final RequirementStatus[] statuses;
+    private final double[] hours;
+    private final Map<UUID, Integer> index;
+
+    // Prerequisites of node i are prereqs[prereqStart[i] .. prereqStart[i + 1])
+    private final int[] prereqStart;
+    private final int[] prereqs;
+    private final int[] dependentStart;
+    private final int[] dependents;
+
+    private RequirementGraph(UUID[] ids, UUID[] programIds, UUID[] specificationIds, String[] identifiers,
+                             String[] titles, RequirementStatus[] statuses, double[] hours,
+                             Map<UUID, Integer> index, int[] edgeFrom, int[] edgeTo, int edgeCount) {
+        this.ids = ids;
+        this.programIds = programIds;
+        this.specificationIds = specificationIds;
+        this.identifiers = identifiers;
+        this.titles = titles;
+        this.statuses = statuses;
+        this.hours = hours;
+        this.index = index;
+
+        int n = ids.length;
+        this.prereqStart = new int[n + 1];
+        this.prereqs = new int[edgeCount];
+        this.dependentStart = new int[n + 1];
+        this.dependents = new int[edgeCount];
+        fill(edgeFrom, edgeTo, edgeCount, prereqStart, prereqs);
+        fill(edgeTo, edgeFrom, edgeCount, dependentStart, dependents);
+    }
+
+    /**
+     * Build a graph from {@code [id, programId, specificationId, identifier, title, status, estimatedHours]}
+     * node rows and {@code [requirementId, dependsOnId]} edge rows. Edges to unknown nodes are ignored.
+     */
+    static RequirementGraph build(List<Object[]> nodeRows, List<Object[]> edgeRows) {
+        int n = nodeRows.size();
+        UUID[] ids = new UUID[n];
+        UUID[] programIds = new UUID[n];
+        UUID[] specificationIds = new UUID[n];
+        String[] identifiers = new String[n];
+        String[] titles = new String[n];
+        RequirementStatus[] statuses = new RequirementStatus[n];
+        double[] hours = new double[n];
+        Map<UUID, Integer> index = new HashMap<>(Math.max(16, n * 4 / 3 + 1));
+
+        for (int i = 0; i < n; i++) {
+            Object[] row = nodeRows.get(i);
+            ids[i] = (UUID) row[0];
+            programIds[i] = (UUID) row[1];
+            specificationIds[i] = (UUID) row[2];
+            identifiers[i] = (String) row[3];
+            titles[i] = (String) row[4];
+            statuses[i] = (RequirementStatus) row[5];
+            hours[i] = row[6] != null ? ((BigDecimal) row[6]).doubleValue() : Double.NaN;
+            index.put(ids[i], i);
+        }
+
+        int[] edgeFrom = new int[edgeRows.size()];
+        int[] edgeTo = new int[edgeRows.size()];
+        int edgeCount = 0;
+        for (Object[] row : edgeRows) {
+            Integer from = index.get((UUID) row[0]);
+            Integer to = index.get((UUID) row[1]);
+            if (from != null && to != null) {
+                edgeFrom[edgeCount] = from;
+                edgeTo[edgeCount] = to;
+                edgeCount++;
+            }
+        }
+
+        return new RequirementGraph(ids, programIds, specificationIds, identifiers, titles, statuses, hours,
+                index, edgeFrom, edgeTo, edgeCount);
+    }
+
+    private static void fill(int[] from, int[] to, int edgeCount, int[] start, int[] targets) {
+        for (int e = 0; e < edgeCount; e++) {
+            start[from[e] + 1]++;
+        }
+        for (int i = 1; i < start.length; i++) {
+            start[i] += start[i - 1];
+        }
+        int[] next = Arrays.copyOf(start, start.length - 1);
+        for (int e = 0; e < edgeCount; e++) {
+            targets[next[from[e]]++] = to[e];
+        }
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    int edgeCount() {
+        return prereqs.length;
+    }
+
+    int indexOf(UUID id) {
+        Integer i = index.get(id);
+        return i != null ? i : NOT_FOUND;
+    }
+
+    UUID id(int node) {
+        return ids[node];
+    }
+
+    UUID programId(int node) {
+        return programIds[node];
+    }
+
+    UUID specificationId(int node) {
+        return specificationIds[node];
+    }
+
+    String identifier(int node) {
+        return identifiers[node];
+    }
+
+    String title(int node) {
+        return titles[node];
+    }
+
+    RequirementStatus status(int node) {
+        return statuses[node];
+    }
+
+    BigDecimal estimatedHours(int node) {
+        return Double.isNaN(hours[node]) ? null : BigDecimal.valueOf(hours[node]);
+    }
+
+    /**
+     * Path of prerequisites leading from {@code from} to {@code to}, both included, or null if
+     * {@code to} isn't reachable. Adding the edge "to depends on from" closes a cycle exactly when
+     * such a path exists.
+     */
+    int[] findPath(int from, int to) {
+        int[] parent = new int[ids.length];
+        Arrays.fill(parent, NOT_FOUND);
+        int[] queue = new int[ids.length];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = from;
+        parent[from] = from;
+
+        while (head < tail) {
+            int node = queue[head++];
+            if (node == to) {
+                int length = 1;
+                for (int n = to; n != from; n = parent[n]) {
+                    length++;
+                }
+                int[] path = new int[length];
+                for (int n = to, i = length - 1; i >= 0; n = parent[n], i--) {
+                    path[i] = n;
+                }
+                return path;
+            }
+            for (int e = prereqStart[node]; e < prereqStart[node + 1]; e++) {
+                int next = prereqs[e];
+                if (parent[next] == NOT_FOUND) {
+                    parent[next] = node;
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Everything that transitively depends on {@code node}, nearest first, i.e. what slips when it does.
+     */
+    List<Visit> dependentsOf(int node) {
+        int[] depth = new int[ids.length];
+        Arrays.fill(depth, NOT_FOUND);
+        int[] queue = new int[ids.length];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = node;
+        depth[node] = 0;
+
+        List<Visit> visits = new ArrayList<>();
+        while (head < tail) {
+            int current = queue[head++];
+            for (int e = dependentStart[current]; e < dependentStart[current + 1]; e++) {
+                int next = dependents[e];
+                if (depth[next] == NOT_FOUND) {
+                    depth[next] = depth[current] + 1;
+                    queue[tail++] = next;
+                    visits.add(new Visit(next, depth[next]));
+                }
+            }
+        }
+        return visits;
+    }
+
+    /**
+     * Kahn's algorithm over the subgraph induced by {@code include}. Each visit's depth is its level:
+     * the length of the longest prerequisite chain below it, so requirements on the same level can be
+     * built in parallel.
+     */
+    BuildOrder buildOrder(IntPredicate include) {
+        int n = ids.length;
+        boolean[] member = members(include);
+        int[] pending = new int[n];
+        int[] level = new int[n];
+        int[] queue = new int[n];
+        int head = 0;
+        int tail = 0;
+
+        for (int i = 0; i < n; i++) {
+            if (!member[i]) {
+                continue;
+            }
+            for (int e = prereqStart[i]; e < prereqStart[i + 1]; e++) {
+                if (member[prereqs[e]]) {
+                    pending[i]++;
+                }
+            }
+            if (pending[i] == 0) {
+                queue[tail++] = i;
+            }
+        }
+
+        List<Visit> order = new ArrayList<>();
+        while (head < tail) {
+            int node = queue[head++];
+            order.add(new Visit(node, level[node]));
+            for (int e = dependentStart[node]; e < dependentStart[node + 1]; e++) {
+                int next = dependents[e];
+                if (!member[next]) {
+                    continue;
+                }
+                level[next] = Math.max(level[next], level[node] + 1);
+                if (--pending[next] == 0) {
+                    queue[tail++] = next;
+                }
+            }
+        }
+
+        int[] cyclic = new int[countMembers(member) - tail];
+        if (cyclic.length > 0) {
+            int c = 0;
+            for (int i = 0; i < n; i++) {
+                if (member[i] && pending[i] > 0) {
+                    cyclic[c++] = i;
+                }
+            }
+        }
+        return new BuildOrder(order, cyclic);
+    }
+
+    /**
+     * Longest prerequisite chain in the subgraph induced by {@code include}, weighted by estimated hours
+     * (requirements without an estimate count as zero). Requirements on a cycle are skipped.
+     */
+    CriticalPath criticalPath(IntPredicate include) {
+        BuildOrder order = buildOrder(include);
+        int n = ids.length;
+        double[] total = new double[n];
+        int[] length = new int[n];
+        int[] previous = new int[n];
+        boolean[] done = new boolean[n];
+
+        int best = NOT_FOUND;
+        for (Visit visit : order.order()) {
+            int node = visit.node();
+            double ownHours = Double.isNaN(hours[node]) ? 0 : hours[node];
+            total[node] = ownHours;
+            length[node] = 1;
+            previous[node] = NOT_FOUND;
+            for (int e = prereqStart[node]; e < prereqStart[node + 1]; e++) {
+                int prereq = prereqs[e];
+                if (!done[prereq]) {
+                    continue;
+                }
+                double candidate = total[prereq] + ownHours;
+                if (candidate > total[node] || (candidate == total[node] && length[prereq] + 1 > length[node])) {
+                    total[node] = candidate;
+                    length[node] = length[prereq] + 1;
+                    previous[node] = prereq;
+                }
+            }
+            done[node] = true;
+            if (best == NOT_FOUND || total[node] > total[best]
+                    || (total[node] == total[best] && length[node] > length[best])) {
+                best = node;
+            }
+        }
+
+        if (best == NOT_FOUND) {
+            return new CriticalPath(new int[0], 0);
+        }
+        int[] path = new int[length[best]];
+        for (int node = best, i = path.length - 1; node != NOT_FOUND; node = previous[node], i--) {
+            path[i] = node;
+        }
+        return new CriticalPath(path, total[best]);
+    }
+
+    private boolean[] members(IntPredicate include) {
+        boolean[] member = new boolean[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            member[i] = include.test(i);
+        }
+        return member;
+    }
+
+    private static int countMembers(boolean[] member) {
+        int count = 0;
+        for (boolean m : member) {
+            if (m) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,246 @@
+package ai.zevaro.core.domain.requirement;
+
+import ai.zevaro.core.config.AppConstants;
+import ai.zevaro.core.domain.program.ProgramRepository;
+import ai.zevaro.core.domain.requirement.RequirementGraph.BuildOrder;
+import ai.zevaro.core.domain.requirement.RequirementGraph.CriticalPath;
+import ai.zevaro.core.domain.requirement.RequirementGraph.Visit;
+import ai.zevaro.core.domain.requirement.dto.BuildOrderResponse;
+import ai.zevaro.core.domain.requirement.dto.CriticalPathResponse;
+import ai.zevaro.core.domain.requirement.dto.DependencyImpactResponse;
+import ai.zevaro.core.domain.requirement.dto.RequirementGraphNode;
+import ai.zevaro.core.domain.specification.SpecificationRepository;
+import ai.zevaro.core.exception.ResourceNotFoundException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+
+/**
+ * Dependency analysis over a tenant's requirements: cycle rejection, build order, critical path
+ * and transitive impact.
+ *
+ * - The whole tenant graph is loaded with one node query and one edge query into a
+ *   {@link RequirementGraph}, so cycles spanning specifications and programs are seen too;
+ *   program and specification views are induced subgraphs of it
+ * - Read queries use a per-node snapshot, invalidated after commit whenever a requirement or
+ *   dependency changes and expired after {@link AppConstants#REQUIREMENT_GRAPH_CACHE_TTL_SECONDS}
+ *   seconds so changes made on other nodes show up
+ * - Cycle checks never trust the snapshot: they take a per-tenant advisory lock, held until the
+ *   transaction ends, and rebuild from committed data, so two concurrent inserts can't each
+ *   close half of a cycle
+ *
+ * Metrics: {@code cache.*{cache=requirement.graph}}, {@code zevaro.requirement.graph.build} and
+ * {@code zevaro.requirement.graph.cycles.rejected}.
+ */
+@Service
+@Slf4j
+public class RequirementGraphService {
+
+    private static final List<DependencyType> ORDERING_TYPES = List.of(DependencyType.BLOCKS, DependencyType.REQUIRES);
+    private static final String LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtext(?))";
+
+    private final RequirementRepository requirementRepository;
+    private final RequirementDependencyRepository dependencyRepository;
+    private final SpecificationRepository specificationRepository;
+    private final ProgramRepository programRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Cache<UUID, RequirementGraph> graphs;
+    private final Timer buildTimer;
+    private final Counter cyclesRejected;
+
+    public RequirementGraphService(RequirementRepository requirementRepository,
+                                   RequirementDependencyRepository dependencyRepository,
+                                   SpecificationRepository specificationRepository,
+                                   ProgramRepository programRepository,
+                                   JdbcTemplate jdbcTemplate,
+                                   MeterRegistry meterRegistry) {
+        this.requirementRepository = requirementRepository;
+        this.dependencyRepository = dependencyRepository;
+        this.specificationRepository = specificationRepository;
+        this.programRepository = programRepository;
+        this.jdbcTemplate = jdbcTemplate;
+
+        this.graphs = Caffeine.newBuilder()
+                .maximumSize(AppConstants.REQUIREMENT_GRAPH_CACHE_MAX_TENANTS)
+                .expireAfterWrite(Duration.ofSeconds(AppConstants.REQUIREMENT_GRAPH_CACHE_TTL_SECONDS))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, graphs, "requirement.graph");
+
+        this.buildTimer = meterRegistry.timer("zevaro.requirement.graph.build");
+        this.cyclesRejected = meterRegistry.counter("zevaro.requirement.graph.cycles.rejected");
+    }
+
+    /**
+     * Reject the dependency "requirement depends on dependsOn" if it would close a cycle.
+     * Must run inside the transaction that inserts the dependency.
+     */
+    @Transactional
+    public void checkNoCycle(UUID tenantId, UUID requirementId, UUID dependsOnId) {
+        jdbcTemplate.query(LOCK_SQL, rs -> null, "requirement-graph:" + tenantId);
+
+        RequirementGraph graph = load(tenantId);
+        int from = graph.indexOf(dependsOnId);
+        int to = graph.indexOf(requirementId);
+        if (from == RequirementGraph.NOT_FOUND || to == RequirementGraph.NOT_FOUND) {
+            return;
+        }
+
+        int[] path = graph.findPath(from, to);
+        if (path != null) {
+            cyclesRejected.increment();
+            StringBuilder cycle = new StringBuilder(graph.identifier(to));
+            for (int node : path) {
+                cycle.append(" → ").append(graph.identifier(node));
+            }
+            throw new IllegalArgumentException("Dependency would create a cycle: " + cycle);
+        }
+    }
+
+    /**
+     * Drop the tenant's cached graph. Inside a transaction this happens after commit.
+     */
+    public void invalidate(UUID tenantId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    graphs.invalidate(tenantId);
+                }
+            });
+        } else {
+            graphs.invalidate(tenantId);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public BuildOrderResponse getBuildOrderForProgram(UUID programId, UUID tenantId) {
+        programRepository.findByIdAndTenantId(programId, tenantId)
+                .orElseThrow(() -> new ResourceNotFoundException("Program", "id", programId));
+        RequirementGraph graph = graph(tenantId);
+        return toBuildOrder(graph, graph.buildOrder(node -> programId.equals(graph.programId(node))));
+    }
+
+    @Transactional(readOnly = true)
+    public BuildOrderResponse getBuildOrderForSpecification(UUID specificationId, UUID tenantId) {
+        specificationRepository.findByIdAndTenantId(specificationId, tenantId)
+                .orElseThrow(() -> new ResourceNotFoundException("Specification", "id", specificationId));
+        RequirementGraph graph = graph(tenantId);
+        return toBuildOrder(graph, graph.buildOrder(node -> specificationId.equals(graph.specificationId(node))));
+    }
+
+    @Transactional(readOnly = true)
+    public CriticalPathResponse getCriticalPathForProgram(UUID programId, UUID tenantId) {
+        programRepository.findByIdAndTenantId(programId, tenantId)
+                .orElseThrow(() -> new ResourceNotFoundException("Program", "id", programId));
+        RequirementGraph graph = graph(tenantId);
+        return toCriticalPath(graph, node -> programId.equals(graph.programId(node)));
+    }
+
+    @Transactional(readOnly = true)
+    public CriticalPathResponse getCriticalPathForSpecification(UUID specificationId, UUID tenantId) {
+        specificationRepository.findByIdAndTenantId(specificationId, tenantId)
+                .orElseThrow(() -> new ResourceNotFoundException("Specification", "id", specificationId));
+        RequirementGraph graph = graph(tenantId);
+        return toCriticalPath(graph, node -> specificationId.equals(graph.specificationId(node)));
+    }
+
+    /**
+     * Everything that is (transitively) held up if the requirement slips.
+     */
+    @Transactional(readOnly = true)
+    public DependencyImpactResponse getImpact(UUID requirementId, UUID tenantId) {
+        RequirementGraph graph = graph(tenantId);
+        int node = graph.indexOf(requirementId);
+        if (node == RequirementGraph.NOT_FOUND) {
+            // Possibly created on another node after this snapshot was built
+            graphs.invalidate(tenantId);
+            graph = graph(tenantId);
+            node = graph.indexOf(requirementId);
+            if (node == RequirementGraph.NOT_FOUND) {
+                throw new ResourceNotFoundException("Requirement", "id", requirementId);
+            }
+        }
+
+        RequirementGraph snapshot = graph;
+        List<RequirementGraphNode> affected = graph.dependentsOf(node).stream()
+                .map(visit -> toNode(snapshot, visit.node(), visit.depth()))
+                .toList();
+        return new DependencyImpactResponse(requirementId, graph.identifier(node), affected.size(), affected);
+    }
+
+    private RequirementGraph graph(UUID tenantId) {
+        return graphs.get(tenantId, this::load);
+    }
+
+    private RequirementGraph load(UUID tenantId) {
+        long start = System.nanoTime();
+        RequirementGraph graph = RequirementGraph.build(
+                requirementRepository.findGraphNodes(tenantId),
+                dependencyRepository.findGraphEdges(tenantId, ORDERING_TYPES));
+        buildTimer.record(Duration.ofNanos(System.nanoTime() - start));
+        log.debug("Built requirement graph for tenant {}: {} requirements, {} dependencies",
+                tenantId, graph.size(), graph.edgeCount());
+        return graph;
+    }
+
+    private static BuildOrderResponse toBuildOrder(RequirementGraph graph, BuildOrder order) {
+        List<RequirementGraphNode> nodes = new ArrayList<>(order.order().size());
+        int levels = 0;
+        for (Visit visit : order.order()) {
+            nodes.add(toNode(graph, visit.node(), visit.depth()));
+            levels = Math.max(levels, visit.depth() + 1);
+        }
+
+        List<RequirementGraphNode> cyclic = new ArrayList<>(order.cyclic().length);
+        for (int node : order.cyclic()) {
+            cyclic.add(toNode(graph, node, -1));
+        }
+        if (!cyclic.isEmpty()) {
+            log.warn("Requirement graph contains a cycle through {}",
+                    cyclic.stream().map(RequirementGraphNode::identifier).collect(Collectors.joining(", ")));
+        }
+        return new BuildOrderResponse(levels, nodes, cyclic);
+    }
+
+    private static CriticalPathResponse toCriticalPath(RequirementGraph graph, IntPredicate include) {
+        CriticalPath criticalPath = graph.criticalPath(include);
+        List<RequirementGraphNode> path = new ArrayList<>(criticalPath.path().length);
+        for (int i = 0; i < criticalPath.path().length; i++) {
+            path.add(toNode(graph, criticalPath.path()[i], i));
+        }
+        boolean estimated = path.stream().map(RequirementGraphNode::estimatedHours).anyMatch(Objects::nonNull);
+        return new CriticalPathResponse(path.size(),
+                estimated ? BigDecimal.valueOf(criticalPath.totalHours()) : null, path);
+    }
+
+    private static RequirementGraphNode toNode(RequirementGraph graph, int node, int depth) {
+        return new RequirementGraphNode(
+                graph.id(node),
+                graph.identifier(node),
+                graph.title(node),
+                graph.status(node),
+                graph.specificationId(node),
+                graph.estimatedHours(node),
+                depth);
+    }
+}
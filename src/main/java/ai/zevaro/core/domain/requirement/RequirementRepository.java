@@ -3,16 +3,18 @@ package ai.zevaro.core.domain.requirement;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface RequirementRepository extends JpaRepository<Requirement, UUID> {
+public interface RequirementRepository extends JpaRepository<Requirement, UUID>, JpaSpecificationExecutor<Requirement> {
 
     List<Requirement> findByTenantIdAndSpecificationIdOrderBySortOrderAsc(UUID tenantId, UUID specificationId);
 
@@ -35,6 +37,10 @@ public interface RequirementRepository extends JpaRepository<Requirement, UUID>
     @Query("SELECT MAX(CAST(SUBSTRING(r.identifier, 5) AS int)) FROM Requirement r WHERE r.tenantId = :tenantId AND r.specificationId = :specificationId")
     Optional<Integer> findMaxIdentifierNumber(@Param("tenantId") UUID tenantId, @Param("specificationId") UUID specificationId);
 
-    @Query("SELECT r FROM Requirement r WHERE r.tenantId = :tenantId AND (LOWER(r.title) LIKE LOWER(CONCAT('%', :query, '%')) OR LOWER(r.description) LIKE LOWER(CONCAT('%', :query, '%')))")
-    List<Requirement> search(@Param("tenantId") UUID tenantId, @Param("query") String query, Pageable pageable);
+    @Query("SELECT r.id, r.programId, r.specificationId, r.identifier, r.title, r.status, r.estimatedHours " +
+           "FROM Requirement r WHERE r.tenantId = :tenantId ORDER BY r.specificationId, r.sortOrder, r.identifier")
+    List<Object[]> findGraphNodes(@Param("tenantId") UUID tenantId);
+
+    @Query("SELECT r.id, r.title FROM Requirement r WHERE r.tenantId = :tenantId AND r.id IN :ids")
+    List<Object[]> findTitlesByIds(@Param("tenantId") UUID tenantId, @Param("ids") Collection<UUID> ids);
 }
@@ -3,6 +3,8 @@ package ai.zevaro.core.domain.requirement;
 import ai.zevaro.core.domain.audit.AuditAction;
 import ai.zevaro.core.domain.audit.AuditLogBuilder;
 import ai.zevaro.core.domain.audit.AuditService;
+import ai.zevaro.core.domain.common.KeysetCursor;
+import ai.zevaro.core.domain.common.dto.CursorPage;
 import ai.zevaro.core.domain.requirement.dto.CreateDependencyRequest;
 import ai.zevaro.core.domain.requirement.dto.CreateRequirementRequest;
 import ai.zevaro.core.domain.requirement.dto.DependencyResponse;
@@ -14,12 +16,20 @@ import ai.zevaro.core.event.EventPublisher;
 import ai.zevaro.core.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -29,6 +39,7 @@ public class RequirementService {
     private final RequirementDependencyRepository dependencyRepository;
     private final SpecificationRepository specificationRepository;
     private final RequirementMapper requirementMapper;
+    private final RequirementGraphService graphService;
     private final AuditService auditService;
     private final EventPublisher eventPublisher;
 
@@ -50,8 +61,11 @@ public class RequirementService {
                 .actor(userId, null, null)
                 .action(AuditAction.CREATE)
                 .entity("REQUIREMENT", requirement.getId(), requirement.getIdentifier())
+                .scope(requirement.getProgramId(), requirement.getWorkstreamId())
                 .description("Created requirement: " + requirement.getIdentifier() + " - " + requirement.getTitle()));
 
+        graphService.invalidate(tenantId);
+
         return buildResponse(requirement);
     }
 
@@ -67,10 +81,8 @@ public class RequirementService {
         specificationRepository.findByIdAndTenantId(specificationId, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Specification", "id", specificationId));
 
-        return requirementRepository.findByTenantIdAndSpecificationIdOrderBySortOrderAsc(tenantId, specificationId)
-                .stream()
-                .map(this::buildResponse)
-                .toList();
+        return buildResponses(
+                requirementRepository.findByTenantIdAndSpecificationIdOrderBySortOrderAsc(tenantId, specificationId));
     }
 
     @Transactional(readOnly = true)
@@ -78,8 +90,26 @@ public class RequirementService {
         specificationRepository.findByIdAndTenantId(specificationId, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Specification", "id", specificationId));
 
-        return requirementRepository.findByTenantIdAndSpecificationId(tenantId, specificationId, pageable)
-                .map(this::buildResponse);
+        Page<Requirement> page = requirementRepository.findByTenantIdAndSpecificationId(tenantId, specificationId, pageable);
+        return new PageImpl<>(buildResponses(page.getContent()), page.getPageable(), page.getTotalElements());
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<RequirementResponse> listBySpecificationAfter(UUID specificationId, UUID tenantId,
+                                                                    String cursor, int size) {
+        specificationRepository.findByIdAndTenantId(specificationId, tenantId)
+                .orElseThrow(() -> new ResourceNotFoundException("Specification", "id", specificationId));
+
+        org.springframework.data.jpa.domain.Specification<Requirement> spec =
+                org.springframework.data.jpa.domain.Specification.<Requirement>where((root, query, cb) -> cb.and(
+                                cb.equal(root.get("tenantId"), tenantId),
+                                cb.equal(root.get("specificationId"), specificationId)))
+                        .and(KeysetCursor.after(KeysetCursor.decode(cursor), "createdAt", Sort.Direction.ASC));
+        List<Requirement> rows = requirementRepository.findBy(spec, query -> query
+                .sortBy(KeysetCursor.sort("createdAt", Sort.Direction.ASC))
+                .limit(size + 1)
+                .all());
+        return CursorPage.ofBatch(rows, size, r -> new KeysetCursor(r.getCreatedAt(), r.getId()), this::buildResponses);
     }
 
     @Transactional
@@ -96,8 +126,11 @@ public class RequirementService {
                 .actor(userId, null, null)
                 .action(AuditAction.UPDATE)
                 .entity("REQUIREMENT", requirement.getId(), requirement.getIdentifier())
+                .scope(requirement.getProgramId(), requirement.getWorkstreamId())
                 .description("Updated requirement: " + requirement.getIdentifier()));
 
+        graphService.invalidate(tenantId);
+
         if (!oldStatus.equals(requirement.getStatus().name())) {
             eventPublisher.publishRequirementStatusChanged(requirement, oldStatus, userId);
         }
@@ -123,7 +156,10 @@ public class RequirementService {
                 .actor(userId, null, null)
                 .action(AuditAction.DELETE)
                 .entity("REQUIREMENT", requirement.getId(), requirement.getIdentifier())
+                .scope(requirement.getProgramId(), requirement.getWorkstreamId())
                 .description("Deleted requirement: " + requirement.getIdentifier()));
+
+        graphService.invalidate(tenantId);
     }
 
     // --- Dependencies ---
@@ -143,6 +179,10 @@ public class RequirementService {
             throw new IllegalArgumentException("Dependency already exists");
         }
 
+        if (req.type() != DependencyType.RELATES_TO) {
+            graphService.checkNoCycle(tenantId, requirementId, req.dependsOnId());
+        }
+
         RequirementDependency dep = new RequirementDependency();
         dep.setRequirementId(requirementId);
         dep.setDependsOnId(req.dependsOnId());
@@ -154,8 +194,11 @@ public class RequirementService {
                 .actor(userId, null, null)
                 .action(AuditAction.CREATE)
                 .entity("REQUIREMENT_DEPENDENCY", dep.getId(), source.getIdentifier() + " → " + target.getIdentifier())
+                .scope(source.getProgramId(), source.getWorkstreamId())
                 .description("Added dependency: " + source.getIdentifier() + " depends on " + target.getIdentifier()));
 
+        graphService.invalidate(tenantId);
+
         return requirementMapper.toDependencyResponse(dep, source, target);
     }
 
@@ -175,7 +218,10 @@ public class RequirementService {
                 .actor(userId, null, null)
                 .action(AuditAction.DELETE)
                 .entity("REQUIREMENT_DEPENDENCY", dep.getId(), source.getIdentifier())
+                .scope(source.getProgramId(), source.getWorkstreamId())
                 .description("Removed dependency from " + source.getIdentifier()));
+
+        graphService.invalidate(tenantId);
     }
 
     @Transactional(readOnly = true)
@@ -183,13 +229,8 @@ public class RequirementService {
         requirementRepository.findByIdAndTenantId(requirementId, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Requirement", "id", requirementId));
 
-        return dependencyRepository.findByRequirementId(requirementId).stream()
-                .map(dep -> {
-                    Requirement source = requirementRepository.findById(dep.getRequirementId()).orElse(null);
-                    Requirement target = requirementRepository.findById(dep.getDependsOnId()).orElse(null);
-                    return requirementMapper.toDependencyResponse(dep, source, target);
-                })
-                .toList();
+        List<RequirementDependency> deps = dependencyRepository.findByRequirementId(requirementId);
+        return toDependencyResponses(deps, loadEndpoints(deps));
     }
 
     @Transactional(readOnly = true)
@@ -197,13 +238,8 @@ public class RequirementService {
         requirementRepository.findByIdAndTenantId(requirementId, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Requirement", "id", requirementId));
 
-        return dependencyRepository.findByDependsOnId(requirementId).stream()
-                .map(dep -> {
-                    Requirement source = requirementRepository.findById(dep.getRequirementId()).orElse(null);
-                    Requirement target = requirementRepository.findById(dep.getDependsOnId()).orElse(null);
-                    return requirementMapper.toDependencyResponse(dep, source, target);
-                })
-                .toList();
+        List<RequirementDependency> deps = dependencyRepository.findByDependsOnId(requirementId);
+        return toDependencyResponses(deps, loadEndpoints(deps));
     }
 
     // --- Helpers ---
@@ -216,26 +252,75 @@ public class RequirementService {
     }
 
     private RequirementResponse buildResponse(Requirement req) {
-        String specName = specificationRepository.findByIdAndTenantId(req.getSpecificationId(), req.getTenantId())
-                .map(Specification::getName)
-                .orElse(null);
-
-        List<DependencyResponse> deps = dependencyRepository.findByRequirementId(req.getId()).stream()
-                .map(dep -> {
-                    Requirement source = requirementRepository.findById(dep.getRequirementId()).orElse(null);
-                    Requirement target = requirementRepository.findById(dep.getDependsOnId()).orElse(null);
-                    return requirementMapper.toDependencyResponse(dep, source, target);
-                })
-                .toList();
+        return buildResponses(List.of(req)).get(0);
+    }
 
-        List<DependencyResponse> dependedOnBy = dependencyRepository.findByDependsOnId(req.getId()).stream()
-                .map(dep -> {
-                    Requirement source = requirementRepository.findById(dep.getRequirementId()).orElse(null);
-                    Requirement target = requirementRepository.findById(dep.getDependsOnId()).orElse(null);
-                    return requirementMapper.toDependencyResponse(dep, source, target);
-                })
+    /**
+     * Build responses for a batch of requirements with a fixed number of queries: specification
+     * names, dependencies in both directions, then the requirements at the other end of them.
+     */
+    private List<RequirementResponse> buildResponses(List<Requirement> requirements) {
+        if (requirements.isEmpty()) {
+            return List.of();
+        }
+
+        UUID tenantId = requirements.get(0).getTenantId();
+        Set<UUID> ids = requirements.stream().map(Requirement::getId).collect(Collectors.toSet());
+        Set<UUID> specIds = requirements.stream().map(Requirement::getSpecificationId).collect(Collectors.toSet());
+
+        Map<UUID, String> specNames = specificationRepository.findAllById(specIds).stream()
+                .filter(spec -> tenantId.equals(spec.getTenantId()))
+                .collect(Collectors.toMap(Specification::getId, Specification::getName));
+
+        List<RequirementDependency> outgoing = dependencyRepository.findByRequirementIdIn(ids);
+        List<RequirementDependency> incoming = dependencyRepository.findByDependsOnIdIn(ids);
+
+        Map<UUID, Requirement> endpoints = requirements.stream()
+                .collect(Collectors.toMap(Requirement::getId, Function.identity()));
+        Set<UUID> missing = new HashSet<>();
+        for (RequirementDependency dep : outgoing) {
+            missing.add(dep.getDependsOnId());
+        }
+        for (RequirementDependency dep : incoming) {
+            missing.add(dep.getRequirementId());
+        }
+        missing.removeAll(endpoints.keySet());
+        if (!missing.isEmpty()) {
+            endpoints.putAll(loadRequirements(missing));
+        }
+
+        Map<UUID, List<DependencyResponse>> depsById = toDependencyResponses(outgoing, endpoints).stream()
+                .collect(Collectors.groupingBy(DependencyResponse::requirementId));
+        Map<UUID, List<DependencyResponse>> dependedOnById = toDependencyResponses(incoming, endpoints).stream()
+                .collect(Collectors.groupingBy(DependencyResponse::dependsOnId));
+
+        return requirements.stream()
+                .map(req -> requirementMapper.toResponse(req,
+                        specNames.get(req.getSpecificationId()),
+                        depsById.getOrDefault(req.getId(), List.of()),
+                        dependedOnById.getOrDefault(req.getId(), List.of())))
                 .toList();
+    }
+
+    private Map<UUID, Requirement> loadEndpoints(List<RequirementDependency> deps) {
+        Set<UUID> ids = new HashSet<>();
+        for (RequirementDependency dep : deps) {
+            ids.add(dep.getRequirementId());
+            ids.add(dep.getDependsOnId());
+        }
+        return loadRequirements(ids);
+    }
+
+    private Map<UUID, Requirement> loadRequirements(Collection<UUID> ids) {
+        return requirementRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Requirement::getId, Function.identity()));
+    }
 
-        return requirementMapper.toResponse(req, specName, deps, dependedOnBy);
+    private List<DependencyResponse> toDependencyResponses(List<RequirementDependency> deps,
+                                                           Map<UUID, Requirement> requirements) {
+        return deps.stream()
+                .map(dep -> requirementMapper.toDependencyResponse(dep,
+                        requirements.get(dep.getRequirementId()), requirements.get(dep.getDependsOnId())))
+                .toList();
     }
 }
@@ -0,0 +1,9 @@
+package ai.zevaro.core.domain.requirement.dto;
+
+import java.util.List;
+
+public record BuildOrderResponse(
+    int levels,
+    List<RequirementGraphNode> order,
+    List<RequirementGraphNode> cyclic
+) {}
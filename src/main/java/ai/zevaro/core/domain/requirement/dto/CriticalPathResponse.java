@@ -0,0 +1,10 @@
+package ai.zevaro.core.domain.requirement.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record CriticalPathResponse(
+    int length,
+    BigDecimal totalEstimatedHours,
+    List<RequirementGraphNode> path
+) {}
@@ -0,0 +1,11 @@
+package ai.zevaro.core.domain.requirement.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record DependencyImpactResponse(
+    UUID requirementId,
+    String identifier,
+    int totalAffected,
+    List<RequirementGraphNode> affected
+) {}
@@ -0,0 +1,16 @@
+package ai.zevaro.core.domain.requirement.dto;
+
+import ai.zevaro.core.domain.requirement.RequirementStatus;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record RequirementGraphNode(
+    UUID id,
+    String identifier,
+    String title,
+    RequirementStatus status,
+    UUID specificationId,
+    BigDecimal estimatedHours,
+    int depth
+) {}
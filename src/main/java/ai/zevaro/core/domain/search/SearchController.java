@@ -1,5 +1,6 @@
 package ai.zevaro.core.domain.search;
 
+import ai.zevaro.core.domain.search.dto.SearchReindexResponse;
 import ai.zevaro.core.domain.search.dto.SearchResult;
 import ai.zevaro.core.security.CurrentUser;
 import ai.zevaro.core.security.UserPrincipal;
@@ -8,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -30,9 +32,16 @@ public class SearchController {
             @RequestParam(required = false) String type,
             @RequestParam(required = false) UUID programId,
             @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int limit,
             @CurrentUser UserPrincipal user) {
         return ResponseEntity.ok(searchService.search(
-                user.getTenantId(), q, type, programId, status, Math.min(limit, 100)));
+                user.getTenantId(), q, type, programId, status, page, Math.min(limit, 100)));
+    }
+
+    @PostMapping("/reindex")
+    @PreAuthorize("hasRole('TENANT_OWNER') or hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN')")
+    public ResponseEntity<SearchReindexResponse> reindex(@CurrentUser UserPrincipal user) {
+        return ResponseEntity.ok(searchService.rebuild(user.getTenantId()));
     }
 }
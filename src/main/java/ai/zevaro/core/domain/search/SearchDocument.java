@@ -0,0 +1,81 @@
+package ai.zevaro.core.domain.search;
+
+import ai.zevaro.core.domain.decision.Decision;
+import ai.zevaro.core.domain.document.Document;
+import ai.zevaro.core.domain.hypothesis.Hypothesis;
+import ai.zevaro.core.domain.outcome.Outcome;
+import ai.zevaro.core.domain.program.Program;
+import ai.zevaro.core.domain.requirement.Requirement;
+import ai.zevaro.core.domain.specification.Specification;
+import ai.zevaro.core.domain.ticket.Ticket;
+import ai.zevaro.core.domain.workstream.Workstream;
+
+import java.util.UUID;
+
+/**
+ * Snapshot of the searchable fields of an entity, taken when the entity is flushed.
+ * {@code keywords} (e.g. ticket identifiers) are indexed with the title weight. Documents have no
+ * program of their own; their {@code spaceId} is set instead and the space's program is used.
+ */
+record SearchDocument(
+        String entityType,
+        UUID entityId,
+        UUID tenantId,
+        UUID programId,
+        String status,
+        String title,
+        String keywords,
+        String body,
+        UUID spaceId
+) {
+
+    /**
+     * @return the snapshot, or {@code null} if the entity type is not searchable
+     */
+    static SearchDocument from(Object entity) {
+        if (entity instanceof Program p) {
+            return new SearchDocument("PROGRAM", p.getId(), p.getTenantId(), p.getId(),
+                    name(p.getStatus()), p.getName(), null, p.getDescription(), null);
+        }
+        if (entity instanceof Workstream w) {
+            return new SearchDocument("WORKSTREAM", w.getId(), w.getTenantId(), w.getProgramId(),
+                    name(w.getStatus()), w.getName(), null, w.getDescription(), null);
+        }
+        if (entity instanceof Outcome o) {
+            return new SearchDocument("OUTCOME", o.getId(), o.getTenantId(),
+                    o.getProgram() != null ? o.getProgram().getId() : null,
+                    name(o.getStatus()), o.getTitle(), null, o.getDescription(), null);
+        }
+        if (entity instanceof Hypothesis h) {
+            return new SearchDocument("HYPOTHESIS", h.getId(), h.getTenantId(),
+                    h.getProgram() != null ? h.getProgram().getId() : null,
+                    name(h.getStatus()), h.getTitle(), null, h.getBelief(), null);
+        }
+        if (entity instanceof Specification s) {
+            return new SearchDocument("SPECIFICATION", s.getId(), s.getTenantId(), s.getProgramId(),
+                    name(s.getStatus()), s.getName(), null, s.getDescription(), null);
+        }
+        if (entity instanceof Requirement r) {
+            return new SearchDocument("REQUIREMENT", r.getId(), r.getTenantId(), r.getProgramId(),
+                    name(r.getStatus()), r.getTitle(), r.getIdentifier(), r.getDescription(), null);
+        }
+        if (entity instanceof Ticket t) {
+            return new SearchDocument("TICKET", t.getId(), t.getTenantId(), t.getProgramId(),
+                    name(t.getStatus()), t.getTitle(), t.getIdentifier(), t.getDescription(), null);
+        }
+        if (entity instanceof Decision d) {
+            return new SearchDocument("DECISION", d.getId(), d.getTenantId(),
+                    d.getProgram() != null ? d.getProgram().getId() : null,
+                    name(d.getStatus()), d.getTitle(), null, d.getDescription(), null);
+        }
+        if (entity instanceof Document d) {
+            return new SearchDocument("DOCUMENT", d.getId(), d.getTenantId(), null,
+                    name(d.getStatus()), d.getTitle(), null, d.getBody(), d.getSpaceId());
+        }
+        return null;
+    }
+
+    private static String name(Enum<?> status) {
+        return status != null ? status.name() : null;
+    }
+}
@@ -0,0 +1,59 @@
+package ai.zevaro.core.domain.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates and backfills {@code search_documents} on first start, and repairs it on later ones.
+ * Hibernate ddl-auto cannot create tsvector columns or GIN indexes, so the
+ * migration script is applied here when the table is missing.
+ *
+ * - Idempotent repair scripts run on every start
+ * - With {@code zevaro.search.rebuild-on-startup} the whole index is rewritten from the source tables
+ */
+@Component
+@Order(0)
+@Slf4j
+public class SearchIndexInitializer implements CommandLineRunner {
+
+    private static final String MIGRATION = "db/migration/V2_0_4__search_documents.sql";
+    private static final String REPAIR = "db/migration/V2_0_16__search_documents_repair.sql";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SearchIndexRebuilder rebuilder;
+    private final boolean rebuildOnStartup;
+
+    public SearchIndexInitializer(JdbcTemplate jdbcTemplate,
+                                  SearchIndexRebuilder rebuilder,
+                                  @Value("${zevaro.search.rebuild-on-startup:false}") boolean rebuildOnStartup) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rebuilder = rebuilder;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @Override
+    public void run(String... args) {
+        Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT to_regclass('search_documents') IS NOT NULL", Boolean.class);
+        if (!Boolean.TRUE.equals(exists)) {
+            log.info("Creating and backfilling search index...");
+            new ResourceDatabasePopulator(new ClassPathResource(MIGRATION)).execute(jdbcTemplate.getDataSource());
+            Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM search_documents", Long.class);
+            log.info("Search index ready with {} documents", count);
+            return;
+        }
+
+        new ResourceDatabasePopulator(new ClassPathResource(REPAIR)).execute(jdbcTemplate.getDataSource());
+        if (rebuildOnStartup) {
+            log.info("Rebuilding search index from source tables...");
+            int rows = rebuilder.rebuild(null);
+            log.info("Search index rebuilt ({} rows written or removed)", rows);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package ai.zevaro.core.domain.search;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that keeps {@code search_documents} in step with every save path
+ * of the searchable entities. Registered via {@code @EntityListeners} and instantiated
+ * by Spring through Hibernate's bean container.
+ * <p>
+ * Bulk JPQL and JDBC statements don't fire entity callbacks. One that changes a searchable
+ * column (title, body, status, program) must call {@link SearchIndexWriter#refresh} for the rows
+ * it touched; the SLA, tree and occurrence-count statements only touch unindexed columns.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchIndexListener {
+
+    private final SearchIndexWriter searchIndexWriter;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        SearchDocument document = SearchDocument.from(entity);
+        if (document != null) {
+            searchIndexWriter.index(document);
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        SearchDocument document = SearchDocument.from(entity);
+        if (document != null) {
+            searchIndexWriter.remove(document.entityType(), document.entityId());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package ai.zevaro.core.domain.search;
+
+import ai.zevaro.core.config.AppConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Rewrites {@code search_documents} rows from the source tables. The normal write path is
+ * {@link SearchIndexWriter}; this is how the index is repaired.
+ *
+ * - {@link #reindex} refreshes specific entities: writes that failed after commit, and bulk
+ *   statements that bypass {@link SearchIndexListener}. Rows whose entity is gone are removed
+ * - {@link #rebuild} refreshes a whole tenant (or every tenant) one entity type at a time, and
+ *   removes rows whose entity is gone
+ * - Documents take the program of their space
+ *
+ * Depends only on JDBC, like the writer.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchIndexRebuilder {
+
+    /**
+     * Where one entity type's searchable columns live. Columns are relative to {@code t},
+     * the source table; {@code join} may bring in other tables.
+     */
+    private record Source(String table, String join, String programId, String title,
+                          String keywords, String body) {}
+
+    private static final Map<String, Source> SOURCES = new LinkedHashMap<>();
+
+    static {
+        SOURCES.put("PROGRAM", new Source("projects", "", "t.id", "t.name", null, "t.description"));
+        SOURCES.put("WORKSTREAM", new Source("workstreams", "", "t.program_id", "t.name", null, "t.description"));
+        SOURCES.put("OUTCOME", new Source("outcomes", "", "t.project_id", "t.title", null, "t.description"));
+        SOURCES.put("HYPOTHESIS", new Source("hypotheses", "", "t.project_id", "t.title", null, "t.belief"));
+        SOURCES.put("SPECIFICATION", new Source("specifications", "", "t.program_id", "t.name", null, "t.description"));
+        SOURCES.put("REQUIREMENT", new Source("requirements", "", "t.program_id", "t.title", "t.identifier", "t.description"));
+        SOURCES.put("TICKET", new Source("tickets", "", "t.program_id", "t.title", "t.identifier", "t.description"));
+        SOURCES.put("DECISION", new Source("decisions", "", "t.project_id", "t.title", null, "t.description"));
+        SOURCES.put("DOCUMENT", new Source("documents", " LEFT JOIN spaces sp ON sp.id = t.space_id",
+                "sp.program_id", "t.title", null, "t.body"));
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Refresh the given entities of one type from their source rows.
+     *
+     * @return the number of index rows written or removed
+     */
+    public int reindex(String entityType, Collection<UUID> ids) {
+        Source source = source(entityType);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("entityType", entityType)
+                .addValue("ids", ids);
+        int written = jdbcTemplate.update(upsertSql(entityType, source, "t.id IN (:ids)"), params);
+        int removed = jdbcTemplate.update(
+                deleteOrphansSql(source, "s.entity_type = :entityType AND s.entity_id IN (:ids)"), params);
+        return written + removed;
+    }
+
+    /**
+     * Refresh every searchable entity of a tenant, or of all tenants when {@code tenantId} is null.
+     *
+     * @return the number of index rows written or removed
+     */
+    public int rebuild(UUID tenantId) {
+        String tenantFilter = tenantId != null ? "t.tenant_id = :tenantId" : "TRUE";
+        String orphanFilter = tenantId != null
+                ? "s.entity_type = :entityType AND s.tenant_id = :tenantId"
+                : "s.entity_type = :entityType";
+        int total = 0;
+        for (Map.Entry<String, Source> entry : SOURCES.entrySet()) {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("entityType", entry.getKey())
+                    .addValue("tenantId", tenantId);
+            int written = jdbcTemplate.update(upsertSql(entry.getKey(), entry.getValue(), tenantFilter), params);
+            int removed = jdbcTemplate.update(deleteOrphansSql(entry.getValue(), orphanFilter), params);
+            log.info("Search index rebuild: {} {} rows written, {} removed{}", written, entry.getKey(), removed,
+                    tenantId != null ? " for tenant " + tenantId : "");
+            total += written + removed;
+        }
+        return total;
+    }
+
+    private static Source source(String entityType) {
+        Source source = SOURCES.get(entityType);
+        if (source == null) {
+            throw new IllegalArgumentException("Not a searchable entity type: " + entityType);
+        }
+        return source;
+    }
+
+    /**
+     * Same columns and weights as {@link SearchIndexWriter}: keywords and title weighted A, body B.
+     */
+    private static String upsertSql(String entityType, Source source, String where) {
+        String keywords = source.keywords() != null ? "COALESCE(" + source.keywords() + ", '') || ' ' || " : "";
+        return "INSERT INTO search_documents (entity_type, entity_id, tenant_id, program_id, status, title, snippet, search_vector, updated_at) " +
+               "SELECT '" + entityType + "', t.id, t.tenant_id, " + source.programId() + ", t.status, " +
+               "LEFT(" + source.title() + ", " + AppConstants.TITLE_MAX_LENGTH + "), " +
+               "CASE WHEN LENGTH(" + source.body() + ") > " + AppConstants.SEARCH_SNIPPET_LENGTH +
+               " THEN LEFT(" + source.body() + ", " + AppConstants.SEARCH_SNIPPET_LENGTH + ") || '...' ELSE " + source.body() + " END, " +
+               "setweight(to_tsvector('simple', " + keywords + "COALESCE(" + source.title() + ", '')), 'A') || " +
+               "setweight(to_tsvector('simple', LEFT(COALESCE(" + source.body() + ", ''), " + AppConstants.SEARCH_BODY_MAX_CHARS + ")), 'B'), " +
+               "NOW() " +
+               "FROM " + source.table() + " t" + source.join() + " WHERE " + where + " " +
+               "ON CONFLICT (entity_type, entity_id) DO UPDATE SET " +
+               "tenant_id = EXCLUDED.tenant_id, program_id = EXCLUDED.program_id, status = EXCLUDED.status, " +
+               "title = EXCLUDED.title, snippet = EXCLUDED.snippet, search_vector = EXCLUDED.search_vector, " +
+               "updated_at = EXCLUDED.updated_at";
+    }
+
+    private static String deleteOrphansSql(Source source, String where) {
+        return "DELETE FROM search_documents s WHERE " + where +
+               " AND NOT EXISTS (SELECT 1 FROM " + source.table() + " t WHERE t.id = s.entity_id)";
+    }
+}
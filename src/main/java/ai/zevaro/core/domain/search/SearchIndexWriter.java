@@ -0,0 +1,222 @@
+package ai.zevaro.core.domain.search;
+
+import ai.zevaro.core.config.AppConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Writes {@link SearchDocument} snapshots into {@code search_documents}.
+ * <p>
+ * Changes made inside a transaction are collected (last write per entity wins) and flushed
+ * as one JDBC batch after commit, so rolled-back changes never reach the index and the
+ * caller's transaction is not extended by index maintenance.
+ * <p>
+ * A flush that fails never fails the business operation: the entities are remembered and
+ * re-read from their source tables by {@link SearchIndexRebuilder} every
+ * {@link AppConstants#SEARCH_INDEX_RETRY_INTERVAL_MS} ms until the write succeeds. Bulk statements
+ * that change searchable columns bypass {@link SearchIndexListener} and must call {@link #refresh}.
+ * <p>
+ * Deliberately depends only on JDBC (the transaction manager is resolved lazily): it is used
+ * from a JPA entity listener and must not pull the EntityManagerFactory into its own construction.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchIndexWriter {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO search_documents (entity_type, entity_id, tenant_id, program_id, status, title, snippet, search_vector, updated_at) " +
+            "VALUES (:entityType, :entityId, :tenantId, " +
+            "COALESCE(CAST(:programId AS UUID), (SELECT program_id FROM spaces WHERE id = CAST(:spaceId AS UUID))), " +
+            ":status, :title, :snippet, " +
+            "setweight(to_tsvector('simple', COALESCE(CAST(:keywords AS TEXT), '') || ' ' || COALESCE(CAST(:title AS TEXT), '')), 'A') || " +
+            "setweight(to_tsvector('simple', COALESCE(CAST(:body AS TEXT), '')), 'B'), NOW()) " +
+            "ON CONFLICT (entity_type, entity_id) DO UPDATE SET " +
+            "tenant_id = EXCLUDED.tenant_id, program_id = EXCLUDED.program_id, status = EXCLUDED.status, " +
+            "title = EXCLUDED.title, snippet = EXCLUDED.snippet, search_vector = EXCLUDED.search_vector, " +
+            "updated_at = EXCLUDED.updated_at";
+
+    private static final String DELETE_SQL =
+            "DELETE FROM search_documents WHERE entity_type = :entityType AND entity_id = :entityId";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+    private final SearchIndexRebuilder rebuilder;
+
+    /** Entities whose index write failed, waiting to be re-read from source. */
+    private final Set<EntityKey> failed = ConcurrentHashMap.newKeySet();
+
+    void index(SearchDocument document) {
+        enqueue(document.entityType(), document.entityId(), document);
+    }
+
+    void remove(String entityType, UUID entityId) {
+        enqueue(entityType, entityId, null);
+    }
+
+    /**
+     * Re-read entities from their source rows once the current transaction commits (immediately
+     * without one). For bulk updates and deletes, which don't reach {@link SearchIndexListener}.
+     */
+    public void refresh(String entityType, Collection<UUID> ids) {
+        List<EntityKey> keys = ids.stream().map(id -> new EntityKey(entityType, id)).toList();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reindex(keys);
+                }
+            });
+        } else {
+            reindex(keys);
+        }
+    }
+
+    /**
+     * Retry entities whose index write failed, re-reading them from source so a retry never
+     * writes a snapshot older than what has committed since.
+     */
+    @Scheduled(fixedDelay = AppConstants.SEARCH_INDEX_RETRY_INTERVAL_MS)
+    public void retryFailed() {
+        if (failed.isEmpty()) {
+            return;
+        }
+        List<EntityKey> keys = new ArrayList<>(AppConstants.SEARCH_INDEX_RETRY_BATCH_SIZE);
+        for (EntityKey key : failed) {
+            if (keys.size() == AppConstants.SEARCH_INDEX_RETRY_BATCH_SIZE) {
+                break;
+            }
+            keys.add(key);
+        }
+        keys.forEach(failed::remove);
+        if (reindex(keys)) {
+            log.info("Search index caught up on {} entities after failed writes ({} still pending)",
+                    keys.size(), failed.size());
+        }
+    }
+
+    private boolean reindex(List<EntityKey> keys) {
+        Map<String, List<UUID>> byType = keys.stream().collect(Collectors.groupingBy(EntityKey::entityType,
+                Collectors.mapping(EntityKey::entityId, Collectors.toList())));
+        try {
+            requiresNew().executeWithoutResult(status -> byType.forEach(rebuilder::reindex));
+            return true;
+        } catch (DataAccessException e) {
+            failed.addAll(keys);
+            log.warn("Failed to refresh search index for {} entities, will retry: {}", keys.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void enqueue(String entityType, UUID entityId, SearchDocument document) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            flush(Map.of(entityType + ":" + entityId, new PendingChange(entityType, entityId, document)));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, PendingChange> pending =
+                (Map<String, PendingChange>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Map<String, PendingChange> changes = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    flush(changes);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(SearchIndexWriter.this);
+                }
+            });
+            pending = changes;
+        }
+        pending.put(entityType + ":" + entityId, new PendingChange(entityType, entityId, document));
+    }
+
+    private void flush(Map<String, PendingChange> changes) {
+        List<SqlParameterSource> upserts = new ArrayList<>();
+        List<SqlParameterSource> deletes = new ArrayList<>();
+
+        for (PendingChange change : changes.values()) {
+            if (change.document() == null) {
+                deletes.add(new MapSqlParameterSource()
+                        .addValue("entityType", change.entityType())
+                        .addValue("entityId", change.entityId()));
+            } else {
+                upserts.add(toParams(change.document()));
+            }
+        }
+
+        // After commit the original connection is still bound, so write in a fresh transaction.
+        // Index maintenance must never fail the business operation; failed entities are retried from source.
+        try {
+            requiresNew().executeWithoutResult(status -> {
+                if (!upserts.isEmpty()) {
+                    jdbcTemplate.batchUpdate(UPSERT_SQL, upserts.toArray(new SqlParameterSource[0]));
+                }
+                if (!deletes.isEmpty()) {
+                    jdbcTemplate.batchUpdate(DELETE_SQL, deletes.toArray(new SqlParameterSource[0]));
+                }
+            });
+        } catch (DataAccessException e) {
+            changes.values().forEach(change -> failed.add(new EntityKey(change.entityType(), change.entityId())));
+            log.error("Failed to update search index for {} entities, will retry: {}", changes.size(), e.getMessage());
+        }
+    }
+
+    private TransactionTemplate requiresNew() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager.getObject());
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return tx;
+    }
+
+    private SqlParameterSource toParams(SearchDocument document) {
+        return new MapSqlParameterSource()
+                .addValue("entityType", document.entityType())
+                .addValue("entityId", document.entityId())
+                .addValue("tenantId", document.tenantId())
+                .addValue("programId", document.programId())
+                .addValue("spaceId", document.spaceId())
+                .addValue("status", document.status())
+                .addValue("title", truncate(document.title(), AppConstants.TITLE_MAX_LENGTH, ""))
+                .addValue("snippet", truncate(document.body(), AppConstants.SEARCH_SNIPPET_LENGTH, "..."))
+                .addValue("keywords", document.keywords())
+                .addValue("body", truncate(document.body(), AppConstants.SEARCH_BODY_MAX_CHARS, ""));
+    }
+
+    private static String truncate(String text, int maxLength, String suffix) {
+        if (text == null || text.length() <= maxLength) {
+            return text;
+        }
+        return text.substring(0, maxLength) + suffix;
+    }
+
+    private record PendingChange(String entityType, UUID entityId, SearchDocument document) {}
+
+    private record EntityKey(String entityType, UUID entityId) {}
+}
@@ -0,0 +1,5 @@
+package ai.zevaro.core.domain.search.dto;
+
+public record SearchReindexResponse(
+        int rowsChanged
+) {}
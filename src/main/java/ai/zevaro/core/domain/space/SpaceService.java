@@ -1,5 +1,6 @@
 package ai.zevaro.core.domain.space;
 
+import ai.zevaro.core.cache.ReferenceNameCache;
 import ai.zevaro.core.domain.audit.AuditAction;
 import ai.zevaro.core.domain.audit.AuditLogBuilder;
 import ai.zevaro.core.domain.audit.AuditService;
@@ -9,8 +10,6 @@ import ai.zevaro.core.domain.program.ProgramRepository;
 import ai.zevaro.core.domain.space.dto.CreateSpaceRequest;
 import ai.zevaro.core.domain.space.dto.SpaceResponse;
 import ai.zevaro.core.domain.space.dto.UpdateSpaceRequest;
-import ai.zevaro.core.domain.user.User;
-import ai.zevaro.core.domain.user.UserRepository;
 import ai.zevaro.core.exception.ResourceNotFoundException;
 import ai.zevaro.core.security.UserPrincipal;
 import ai.zevaro.core.util.SlugGenerator;
@@ -29,7 +28,7 @@ public class SpaceService {
 
     private final SpaceRepository spaceRepository;
     private final ProgramRepository programRepository;
-    private final UserRepository userRepository;
+    private final ReferenceNameCache referenceNameCache;
     private final DocumentRepository documentRepository;
     private final SpaceMapper spaceMapper;
     private final SlugGenerator slugGenerator;
@@ -67,6 +66,7 @@ public class SpaceService {
                 .actor(currentUser)
                 .action(AuditAction.CREATE)
                 .entity("SPACE", space.getId(), space.getName())
+                .scope(space.getProgramId(), null)
                 .description("Created space: " + space.getName()));
 
         return toResponse(space);
@@ -106,6 +106,7 @@ public class SpaceService {
                 .actor(ownerId, null, null)
                 .action(AuditAction.CREATE)
                 .entity("SPACE", space.getId(), space.getName())
+                .scope(space.getProgramId(), null)
                 .description("Auto-created space for program: " + programName));
 
         return toResponse(space);
@@ -178,6 +179,7 @@ public class SpaceService {
                 .actor(currentUser)
                 .action(AuditAction.UPDATE)
                 .entity("SPACE", space.getId(), space.getName())
+                .scope(space.getProgramId(), null)
                 .description("Updated space: " + space.getName()));
 
         return toResponse(space);
@@ -196,6 +198,7 @@ public class SpaceService {
                 .actor(currentUser)
                 .action(AuditAction.DELETE)
                 .entity("SPACE", space.getId(), space.getName())
+                .scope(space.getProgramId(), null)
                 .description("Archived space: " + space.getName()));
     }
 
@@ -210,17 +213,13 @@ public class SpaceService {
         if (programId == null) {
             return null;
         }
-        return programRepository.findByIdAndTenantId(programId, tenantId)
-                .map(Program::getName)
-                .orElse(null);
+        return referenceNameCache.programName(tenantId, programId);
     }
 
     private String resolveOwnerName(UUID ownerId, UUID tenantId) {
         if (ownerId == null) {
             return null;
         }
-        return userRepository.findByIdAndTenantId(ownerId, tenantId)
-                .map(User::getFullName)
-                .orElse(null);
+        return referenceNameCache.userName(tenantId, ownerId);
     }
 }
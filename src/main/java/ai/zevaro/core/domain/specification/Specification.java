@@ -1,5 +1,6 @@
 package ai.zevaro.core.domain.specification;
 
+import ai.zevaro.core.domain.search.SearchIndexListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
@@ -27,7 +28,7 @@ import java.util.UUID;
     @Index(name = "idx_specifications_tenant_status", columnList = "tenant_id, status"),
     @Index(name = "idx_specifications_tenant_program", columnList = "tenant_id, program_id")
 })
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, SearchIndexListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
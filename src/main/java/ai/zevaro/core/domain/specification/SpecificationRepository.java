@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -32,6 +33,6 @@ public interface SpecificationRepository extends JpaRepository<Specification, UU
 
     long countByTenantIdAndProgramIdAndStatus(UUID tenantId, UUID programId, SpecificationStatus status);
 
-    @Query("SELECT s FROM Specification s WHERE s.tenantId = :tenantId AND (LOWER(s.name) LIKE LOWER(CONCAT('%', :query, '%')) OR LOWER(s.description) LIKE LOWER(CONCAT('%', :query, '%')))")
-    List<Specification> search(@Param("tenantId") UUID tenantId, @Param("query") String query, Pageable pageable);
+    @Query("SELECT s.id, s.name FROM Specification s WHERE s.tenantId = :tenantId AND s.id IN :ids")
+    List<Object[]> findNamesByIds(@Param("tenantId") UUID tenantId, @Param("ids") Collection<UUID> ids);
 }
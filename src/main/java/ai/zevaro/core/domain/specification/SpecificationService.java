@@ -1,5 +1,6 @@
 package ai.zevaro.core.domain.specification;
 
+import ai.zevaro.core.cache.ReferenceNameCache;
 import ai.zevaro.core.domain.audit.AuditAction;
 import ai.zevaro.core.domain.audit.AuditLogBuilder;
 import ai.zevaro.core.domain.audit.AuditService;
@@ -11,8 +12,6 @@ import ai.zevaro.core.domain.space.SpaceRepository;
 import ai.zevaro.core.domain.specification.dto.CreateSpecificationRequest;
 import ai.zevaro.core.domain.specification.dto.SpecificationResponse;
 import ai.zevaro.core.domain.specification.dto.UpdateSpecificationRequest;
-import ai.zevaro.core.domain.user.User;
-import ai.zevaro.core.domain.user.UserRepository;
 import ai.zevaro.core.domain.workstream.Workstream;
 import ai.zevaro.core.domain.workstream.WorkstreamMode;
 import ai.zevaro.core.domain.workstream.WorkstreamRepository;
@@ -39,7 +38,7 @@ public class SpecificationService {
     private final SpecificationRepository specificationRepository;
     private final WorkstreamRepository workstreamRepository;
     private final ProgramRepository programRepository;
-    private final UserRepository userRepository;
+    private final ReferenceNameCache referenceNameCache;
     private final SpecificationMapper specificationMapper;
     private final AuditService auditService;
     private final DocumentService documentService;
@@ -73,6 +72,7 @@ public class SpecificationService {
                 .actor(userId, null, null)
                 .action(AuditAction.CREATE)
                 .entity("SPECIFICATION", spec.getId(), spec.getName())
+                .scope(spec.getProgramId(), spec.getWorkstreamId())
                 .description("Created specification: " + spec.getName()));
 
         eventPublisher.publishSpecificationCreated(spec, userId);
@@ -147,6 +147,7 @@ public class SpecificationService {
                 .actor(userId, null, null)
                 .action(AuditAction.UPDATE)
                 .entity("SPECIFICATION", spec.getId(), spec.getName())
+                .scope(spec.getProgramId(), spec.getWorkstreamId())
                 .description("Updated specification: " + spec.getName()));
 
         return buildResponse(spec);
@@ -164,6 +165,7 @@ public class SpecificationService {
                 .actor(userId, null, null)
                 .action(AuditAction.DELETE)
                 .entity("SPECIFICATION", spec.getId(), spec.getName())
+                .scope(spec.getProgramId(), spec.getWorkstreamId())
                 .description("Deleted specification: " + spec.getName()));
     }
 
@@ -184,6 +186,7 @@ public class SpecificationService {
                 .actor(userId, null, null)
                 .action(AuditAction.UPDATE)
                 .entity("SPECIFICATION", spec.getId(), spec.getName())
+                .scope(spec.getProgramId(), spec.getWorkstreamId())
                 .description("Submitted specification for review: " + spec.getName()));
 
         eventPublisher.publishSpecificationStatusChanged(spec, oldStatus, userId);
@@ -208,6 +211,7 @@ public class SpecificationService {
                 .actor(userId, null, null)
                 .action(AuditAction.UPDATE)
                 .entity("SPECIFICATION", spec.getId(), spec.getName())
+                .scope(spec.getProgramId(), spec.getWorkstreamId())
                 .description("Approved specification: " + spec.getName()));
 
         eventPublisher.publishSpecificationStatusChanged(spec, oldStatus, userId);
@@ -233,6 +237,7 @@ public class SpecificationService {
                 .actor(userId, null, null)
                 .action(AuditAction.UPDATE)
                 .entity("SPECIFICATION", spec.getId(), spec.getName())
+                .scope(spec.getProgramId(), spec.getWorkstreamId())
                 .description("Rejected specification: " + spec.getName()));
 
         eventPublisher.publishSpecificationStatusChanged(spec, oldStatus, userId);
@@ -255,6 +260,7 @@ public class SpecificationService {
                 .actor(userId, null, null)
                 .action(AuditAction.UPDATE)
                 .entity("SPECIFICATION", spec.getId(), spec.getName())
+                .scope(spec.getProgramId(), spec.getWorkstreamId())
                 .description("Started work on specification: " + spec.getName()));
 
         eventPublisher.publishSpecificationStatusChanged(spec, oldStatus, userId);
@@ -277,6 +283,7 @@ public class SpecificationService {
                 .actor(userId, null, null)
                 .action(AuditAction.UPDATE)
                 .entity("SPECIFICATION", spec.getId(), spec.getName())
+                .scope(spec.getProgramId(), spec.getWorkstreamId())
                 .description("Marked specification as delivered: " + spec.getName()));
 
         eventPublisher.publishSpecificationStatusChanged(spec, oldStatus, userId);
@@ -299,6 +306,7 @@ public class SpecificationService {
                 .actor(userId, null, null)
                 .action(AuditAction.UPDATE)
                 .entity("SPECIFICATION", spec.getId(), spec.getName())
+                .scope(spec.getProgramId(), spec.getWorkstreamId())
                 .description("Accepted specification: " + spec.getName()));
 
         eventPublisher.publishSpecificationStatusChanged(spec, oldStatus, userId);
@@ -315,12 +323,8 @@ public class SpecificationService {
     }
 
     private SpecificationResponse buildResponse(Specification spec) {
-        String workstreamName = workstreamRepository.findByIdAndTenantId(spec.getWorkstreamId(), spec.getTenantId())
-                .map(Workstream::getName)
-                .orElse(null);
-        String programName = programRepository.findByIdAndTenantId(spec.getProgramId(), spec.getTenantId())
-                .map(Program::getName)
-                .orElse(null);
+        String workstreamName = referenceNameCache.workstreamName(spec.getTenantId(), spec.getWorkstreamId());
+        String programName = referenceNameCache.programName(spec.getTenantId(), spec.getProgramId());
         String authorName = resolveUserName(spec.getAuthorId(), spec.getTenantId());
         String reviewerName = resolveUserName(spec.getReviewerId(), spec.getTenantId());
         String approvedByName = resolveUserName(spec.getApprovedById(), spec.getTenantId());
@@ -333,8 +337,6 @@ public class SpecificationService {
         if (userId == null) {
             return null;
         }
-        return userRepository.findByIdAndTenantId(userId, tenantId)
-                .map(User::getFullName)
-                .orElse(null);
+        return referenceNameCache.userName(tenantId, userId);
     }
 }
@@ -19,18 +19,24 @@ import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.Instant;
+import java.util.Map;
 import java.util.UUID;
 
 @Entity
 @Table(name = "stakeholders", indexes = {
         @Index(name = "idx_stakeholder_tenant", columnList = "tenant_id"),
         @Index(name = "idx_stakeholder_user", columnList = "user_id"),
-        @Index(name = "idx_stakeholder_project", columnList = "project_id")
+        @Index(name = "idx_stakeholder_project", columnList = "project_id"),
+        @Index(name = "idx_stakeholder_tenant_response_time", columnList = "tenant_id, avg_response_time_hours"),
+        @Index(name = "idx_stakeholder_tenant_completed", columnList = "tenant_id, is_active, decisions_completed DESC"),
+        @Index(name = "idx_stakeholder_tenant_pending", columnList = "tenant_id, is_active, decisions_pending DESC")
 })
 @EntityListeners(AuditingEntityListener.class)
 @Getter
@@ -105,8 +111,9 @@ public class Stakeholder {
     @Column(columnDefinition = "TEXT")
     private String notes;
 
-    @Column(name = "external_refs", columnDefinition = "text")
-    private String externalRefs;
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "external_refs", columnDefinition = "jsonb")
+    private Map<String, String> externalRefs;
 
     @CreatedDate
     @Column(name = "created_at", updatable = false)
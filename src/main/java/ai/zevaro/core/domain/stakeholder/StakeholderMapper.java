@@ -3,6 +3,7 @@ package ai.zevaro.core.domain.stakeholder;
 import ai.zevaro.core.domain.decision.dto.DecisionSummary;
 import ai.zevaro.core.domain.stakeholder.dto.CreateStakeholderRequest;
 import ai.zevaro.core.domain.stakeholder.dto.StakeholderMetrics;
+import ai.zevaro.core.domain.stakeholder.dto.StakeholderMonthlyStats;
 import ai.zevaro.core.domain.stakeholder.dto.StakeholderResponse;
 import ai.zevaro.core.domain.stakeholder.dto.StakeholderSummary;
 import ai.zevaro.core.domain.stakeholder.dto.UpdateStakeholderRequest;
@@ -15,7 +16,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 @Component
@@ -52,7 +52,7 @@ public class StakeholderMapper {
                 stakeholder.getLastDecisionAt(),
                 stakeholder.isActive(),
                 stakeholder.getNotes(),
-                parseJsonToStringMap(stakeholder.getExternalRefs()),
+                stakeholder.getExternalRefs(),
                 stakeholder.getCreatedAt(),
                 stakeholder.getUpdatedAt()
         );
@@ -73,6 +73,12 @@ public class StakeholderMapper {
     }
 
     public StakeholderMetrics toMetrics(Stakeholder stakeholder, List<DecisionSummary> pendingDecisions) {
+        return toMetrics(stakeholder, null, null, List.of(), pendingDecisions);
+    }
+
+    public StakeholderMetrics toMetrics(Stakeholder stakeholder, Double p50ResponseTimeHours,
+                                        Double p90ResponseTimeHours, List<StakeholderMonthlyStats> monthly,
+                                        List<DecisionSummary> pendingDecisions) {
         if (stakeholder == null) {
             return null;
         }
@@ -89,8 +95,11 @@ public class StakeholderMapper {
                 stakeholder.getDecisionsCompleted(),
                 stakeholder.getDecisionsEscalated(),
                 stakeholder.getAvgResponseTimeHours(),
+                p50ResponseTimeHours,
+                p90ResponseTimeHours,
                 escalationRate,
                 stakeholder.getLastDecisionAt(),
+                monthly,
                 pendingDecisions
         );
     }
@@ -110,7 +119,7 @@ public class StakeholderMapper {
         stakeholder.setAvailabilityNotes(request.availabilityNotes());
         stakeholder.setTimezone(request.timezone());
         stakeholder.setNotes(request.notes());
-        stakeholder.setExternalRefs(mapToJson(request.externalRefs()));
+        stakeholder.setExternalRefs(request.externalRefs());
         stakeholder.setCreatedById(createdById);
         stakeholder.setActive(true);
         stakeholder.setDecisionsPending(0);
@@ -157,7 +166,7 @@ public class StakeholderMapper {
             stakeholder.setNotes(request.notes());
         }
         if (request.externalRefs() != null) {
-            stakeholder.setExternalRefs(mapToJson(request.externalRefs()));
+            stakeholder.setExternalRefs(request.externalRefs());
         }
         if (request.active() != null) {
             stakeholder.setActive(request.active());
@@ -176,18 +185,6 @@ public class StakeholderMapper {
         }
     }
 
-    private Map<String, String> parseJsonToStringMap(String json) {
-        if (json == null || json.isBlank()) {
-            return null;
-        }
-        try {
-            return objectMapper.readValue(json, new TypeReference<>() {});
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to parse JSON to string map: {}", json, e);
-            return null;
-        }
-    }
-
     private String listToJson(List<String> list) {
         if (list == null) {
             return null;
@@ -199,16 +196,4 @@ public class StakeholderMapper {
             return null;
         }
     }
-
-    private String mapToJson(Map<String, ?> map) {
-        if (map == null) {
-            return null;
-        }
-        try {
-            return objectMapper.writeValueAsString(map);
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to convert map to JSON", e);
-            return null;
-        }
-    }
 }
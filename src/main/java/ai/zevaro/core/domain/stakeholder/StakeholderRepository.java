@@ -1,5 +1,6 @@
 package ai.zevaro.core.domain.stakeholder;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -7,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,6 +22,8 @@ public interface StakeholderRepository extends JpaRepository<Stakeholder, UUID>
 
     Optional<Stakeholder> findByUserIdAndTenantId(UUID userId, UUID tenantId);
 
+    List<Stakeholder> findByUserIdInAndTenantId(Collection<UUID> userIds, UUID tenantId);
+
     List<Stakeholder> findByTenantId(UUID tenantId);
 
     List<Stakeholder> findByTenantIdAndActiveTrue(UUID tenantId);
@@ -31,8 +35,62 @@ public interface StakeholderRepository extends JpaRepository<Stakeholder, UUID>
     @Query("SELECT s FROM Stakeholder s WHERE s.tenantId = :tenantId AND s.decisionsPending > 0 ORDER BY s.decisionsPending DESC")
     List<Stakeholder> findWithPendingDecisions(@Param("tenantId") UUID tenantId);
 
-    @Query("SELECT s FROM Stakeholder s WHERE s.tenantId = :tenantId AND s.decisionsCompleted > 0 AND s.avgResponseTimeHours IS NOT NULL ORDER BY s.avgResponseTimeHours ASC")
-    List<Stakeholder> findFastestResponders(@Param("tenantId") UUID tenantId);
+    @Query("SELECT s FROM Stakeholder s WHERE s.tenantId = :tenantId AND s.decisionsCompleted > 0 AND s.avgResponseTimeHours IS NOT NULL ORDER BY s.avgResponseTimeHours ASC, s.id")
+    List<Stakeholder> findFastestResponders(@Param("tenantId") UUID tenantId, Pageable pageable);
+
+    @Query("SELECT s FROM Stakeholder s WHERE s.tenantId = :tenantId AND s.active = true AND s.decisionsCompleted > 0 ORDER BY s.decisionsCompleted DESC, s.id")
+    List<Stakeholder> findMostActive(@Param("tenantId") UUID tenantId, Pageable pageable);
+
+    @Query("SELECT s FROM Stakeholder s WHERE s.tenantId = :tenantId AND s.active = true " +
+           "AND (s.decisionsPending > :pendingThreshold OR s.avgResponseTimeHours > :hoursThreshold) " +
+           "ORDER BY s.decisionsPending DESC, s.id")
+    List<Stakeholder> findNeedingAttention(@Param("tenantId") UUID tenantId,
+                                           @Param("pendingThreshold") int pendingThreshold,
+                                           @Param("hoursThreshold") double hoursThreshold,
+                                           Pageable pageable);
+
+    @Query("SELECT AVG(s.avgResponseTimeHours) FROM Stakeholder s WHERE s.tenantId = :tenantId AND s.avgResponseTimeHours > 0")
+    Double averageResponseTimeHours(@Param("tenantId") UUID tenantId);
+
+    /**
+     * Per-stakeholder figures over decisions assigned to the stakeholder's user and decided since
+     * {@code :since}: [stakeholderId, completed since {@code :monthStart}, p50 hours, p90 hours].
+     */
+    String RESPONSE_STATS = "SELECT s.id, " +
+            "COUNT(*) FILTER (WHERE d.decided_at >= :monthStart), " +
+            "percentile_cont(0.5) WITHIN GROUP (ORDER BY EXTRACT(EPOCH FROM (d.decided_at - d.created_at)) / 3600.0), " +
+            "percentile_cont(0.9) WITHIN GROUP (ORDER BY EXTRACT(EPOCH FROM (d.decided_at - d.created_at)) / 3600.0) " +
+            "FROM stakeholders s JOIN decisions d ON d.tenant_id = s.tenant_id AND d.assigned_to_id = s.user_id " +
+            "WHERE s.tenant_id = :tenantId AND d.decided_at >= :since";
+
+    @Query(value = RESPONSE_STATS + " GROUP BY s.id", nativeQuery = true)
+    List<Object[]> responseStats(@Param("tenantId") UUID tenantId,
+                                 @Param("since") Instant since,
+                                 @Param("monthStart") Instant monthStart);
+
+    @Query(value = RESPONSE_STATS + " AND s.project_id = :programId GROUP BY s.id", nativeQuery = true)
+    List<Object[]> responseStatsForProgram(@Param("tenantId") UUID tenantId,
+                                           @Param("programId") UUID programId,
+                                           @Param("since") Instant since,
+                                           @Param("monthStart") Instant monthStart);
+
+    @Query(value = RESPONSE_STATS + " AND s.id = :stakeholderId GROUP BY s.id", nativeQuery = true)
+    List<Object[]> responseStatsForStakeholder(@Param("tenantId") UUID tenantId,
+                                               @Param("stakeholderId") UUID stakeholderId,
+                                               @Param("since") Instant since,
+                                               @Param("monthStart") Instant monthStart);
+
+    /**
+     * One stakeholder's decisions decided since {@code :since}, by month (UTC):
+     * [yyyy-mm, completed, p50 hours, p90 hours], oldest first.
+     */
+    @Query(value = "SELECT to_char(date_trunc('month', d.decided_at AT TIME ZONE 'UTC'), 'YYYY-MM') AS month, COUNT(*), " +
+            "percentile_cont(0.5) WITHIN GROUP (ORDER BY EXTRACT(EPOCH FROM (d.decided_at - d.created_at)) / 3600.0), " +
+            "percentile_cont(0.9) WITHIN GROUP (ORDER BY EXTRACT(EPOCH FROM (d.decided_at - d.created_at)) / 3600.0) " +
+            "FROM stakeholders s JOIN decisions d ON d.tenant_id = s.tenant_id AND d.assigned_to_id = s.user_id " +
+            "WHERE s.id = :stakeholderId AND d.decided_at >= :since " +
+            "GROUP BY month ORDER BY month", nativeQuery = true)
+    List<Object[]> monthlyResponseStats(@Param("stakeholderId") UUID stakeholderId, @Param("since") Instant since);
 
     @Query("SELECT s FROM Stakeholder s WHERE s.tenantId = :tenantId AND s.avgResponseTimeHours > :threshold")
     List<Stakeholder> findSlowResponders(@Param("tenantId") UUID tenantId, @Param("threshold") Double threshold);
@@ -45,13 +103,34 @@ public interface StakeholderRepository extends JpaRepository<Stakeholder, UUID>
     void incrementPendingDecisions(@Param("id") UUID id);
 
     @Modifying
-    @Query("UPDATE Stakeholder s SET s.decisionsPending = CASE WHEN s.decisionsPending > 0 THEN s.decisionsPending - 1 ELSE 0 END, s.decisionsCompleted = s.decisionsCompleted + 1, s.lastDecisionAt = :decidedAt WHERE s.id = :id")
-    void recordDecisionCompleted(@Param("id") UUID id, @Param("decidedAt") Instant decidedAt);
+    @Query("UPDATE Stakeholder s SET s.decisionsPending = s.decisionsPending + :count WHERE s.id = :id")
+    void incrementPendingDecisions(@Param("id") UUID id, @Param("count") int count);
+
+    /**
+     * Record {@code count} completed decisions at once, folding their response times into the running average.
+     * All right-hand sides see the pre-update row, so this is equivalent to {@code count} single updates.
+     */
+    @Modifying
+    @Query("UPDATE Stakeholder s SET " +
+           "s.avgResponseTimeHours = CASE WHEN s.avgResponseTimeHours IS NULL THEN :totalHours / :count " +
+           "ELSE (s.avgResponseTimeHours * s.decisionsCompleted + :totalHours) / (s.decisionsCompleted + :count) END, " +
+           "s.decisionsPending = CASE WHEN s.decisionsPending > :count THEN s.decisionsPending - :count ELSE 0 END, " +
+           "s.decisionsCompleted = s.decisionsCompleted + :count, " +
+           "s.lastDecisionAt = :decidedAt " +
+           "WHERE s.id = :id")
+    void recordDecisionsCompleted(@Param("id") UUID id,
+                                  @Param("count") int count,
+                                  @Param("totalHours") double totalHours,
+                                  @Param("decidedAt") Instant decidedAt);
 
     @Modifying
     @Query("UPDATE Stakeholder s SET s.decisionsEscalated = s.decisionsEscalated + 1 WHERE s.id = :id")
     void incrementEscalatedDecisions(@Param("id") UUID id);
 
+    @Modifying
+    @Query("UPDATE Stakeholder s SET s.decisionsEscalated = s.decisionsEscalated + :count WHERE s.id = :id")
+    void incrementEscalatedDecisions(@Param("id") UUID id, @Param("count") int count);
+
     // Project-scoped queries
     List<Stakeholder> findByTenantIdAndProgramId(UUID tenantId, UUID projectId);
 }
@@ -1,14 +1,17 @@
 package ai.zevaro.core.domain.stakeholder;
 
+import ai.zevaro.core.config.AppConstants;
 import ai.zevaro.core.domain.decision.Decision;
 import ai.zevaro.core.domain.decision.DecisionMapper;
 import ai.zevaro.core.domain.decision.DecisionRepository;
+import ai.zevaro.core.domain.decision.DecisionResponseAssembler;
 import ai.zevaro.core.domain.decision.DecisionStatus;
 import ai.zevaro.core.domain.decision.dto.DecisionResponse;
 import ai.zevaro.core.domain.decision.dto.DecisionSummary;
 import ai.zevaro.core.domain.stakeholder.dto.CreateStakeholderRequest;
 import ai.zevaro.core.domain.stakeholder.dto.StakeholderLeaderboard;
 import ai.zevaro.core.domain.stakeholder.dto.StakeholderMetrics;
+import ai.zevaro.core.domain.stakeholder.dto.StakeholderMonthlyStats;
 import ai.zevaro.core.domain.stakeholder.dto.StakeholderResponse;
 import ai.zevaro.core.domain.stakeholder.dto.StakeholderScorecardResponse;
 import ai.zevaro.core.domain.stakeholder.dto.StakeholderScorecardResponse.ScorecardEntry;
@@ -23,13 +26,17 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
-import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -41,6 +48,7 @@ public class StakeholderService {
     private final DecisionRepository decisionRepository;
     private final StakeholderMapper stakeholderMapper;
     private final DecisionMapper decisionMapper;
+    private final DecisionResponseAssembler decisionResponseAssembler;
 
     @Transactional(readOnly = true)
     public List<StakeholderResponse> getStakeholders(UUID tenantId, StakeholderType type, Boolean activeOnly) {
@@ -134,41 +142,49 @@ public class StakeholderService {
 
         List<DecisionSummary> pendingDecisions = new ArrayList<>();
         if (stakeholder.getUser() != null) {
-            List<Decision> decisions = decisionRepository.findMyPendingDecisions(stakeholder.getUser().getId());
+            List<Decision> decisions = decisionRepository.findMyPendingDecisions(tenantId, stakeholder.getUser().getId());
             pendingDecisions = decisions.stream()
                     .map(decisionMapper::toSummary)
                     .toList();
         }
 
-        return stakeholderMapper.toMetrics(stakeholder, pendingDecisions);
+        // Month buckets, and percentiles over the rolling window
+        Instant now = Instant.now();
+        List<StakeholderMonthlyStats> monthly = stakeholderRepository
+                .monthlyResponseStats(id, monthStart(now, AppConstants.STAKEHOLDER_MONTHLY_BUCKETS - 1))
+                .stream()
+                .map(row -> new StakeholderMonthlyStats(
+                        (String) row[0], ((Number) row[1]).intValue(), toDouble(row[2]), toDouble(row[3])))
+                .toList();
+        ResponseStats stats = responseStats(stakeholderRepository.responseStatsForStakeholder(
+                tenantId, id, statsSince(now), monthStart(now, 0))).getOrDefault(id, ResponseStats.NONE);
+
+        return stakeholderMapper.toMetrics(stakeholder, stats.p50(), stats.p90(), monthly, pendingDecisions);
     }
 
+    /**
+     * Top {@link AppConstants#STAKEHOLDER_LEADERBOARD_SIZE} per list, each read with an indexed,
+     * limited query rather than by sorting every stakeholder.
+     */
     @Transactional(readOnly = true)
     public StakeholderLeaderboard getLeaderboard(UUID tenantId) {
-        List<Stakeholder> fastest = stakeholderRepository.findFastestResponders(tenantId);
-        List<StakeholderMetrics> fastestMetrics = fastest.stream()
-                .limit(10)
+        Pageable top = PageRequest.of(0, AppConstants.STAKEHOLDER_LEADERBOARD_SIZE);
+
+        List<StakeholderMetrics> fastest = stakeholderRepository.findFastestResponders(tenantId, top).stream()
                 .map(s -> stakeholderMapper.toMetrics(s, List.of()))
                 .toList();
 
-        List<Stakeholder> allActive = stakeholderRepository.findByTenantIdAndActiveTrue(tenantId);
-
-        List<StakeholderMetrics> mostActive = allActive.stream()
-                .filter(s -> s.getDecisionsCompleted() != null && s.getDecisionsCompleted() > 0)
-                .sorted(Comparator.comparing(Stakeholder::getDecisionsCompleted).reversed())
-                .limit(10)
+        List<StakeholderMetrics> mostActive = stakeholderRepository.findMostActive(tenantId, top).stream()
                 .map(s -> stakeholderMapper.toMetrics(s, List.of()))
                 .toList();
 
-        List<StakeholderMetrics> needingAttention = allActive.stream()
-                .filter(s -> (s.getDecisionsPending() != null && s.getDecisionsPending() > 2)
-                        || (s.getAvgResponseTimeHours() != null && s.getAvgResponseTimeHours() > 24))
-                .sorted(Comparator.comparing((Stakeholder s) -> s.getDecisionsPending() != null ? s.getDecisionsPending() : 0).reversed())
-                .limit(10)
+        List<StakeholderMetrics> needingAttention = stakeholderRepository.findNeedingAttention(tenantId,
+                        AppConstants.STAKEHOLDER_ATTENTION_PENDING_THRESHOLD,
+                        AppConstants.STAKEHOLDER_ATTENTION_RESPONSE_HOURS, top).stream()
                 .map(s -> stakeholderMapper.toMetrics(s, List.of()))
                 .toList();
 
-        return new StakeholderLeaderboard(fastestMetrics, mostActive, needingAttention);
+        return new StakeholderLeaderboard(fastest, mostActive, needingAttention);
     }
 
     @Transactional(readOnly = true)
@@ -197,10 +213,29 @@ public class StakeholderService {
         stakeholderRepository.incrementPendingDecisions(stakeholderId);
     }
 
+    /**
+     * Single atomic update of the counters and running average, so concurrent completions don't
+     * overwrite each other.
+     */
     @Transactional
     public void onDecisionCompleted(UUID stakeholderId, Instant decidedAt, double responseTimeHours) {
-        stakeholderRepository.recordDecisionCompleted(stakeholderId, decidedAt);
-        updateAverageResponseTime(stakeholderId, responseTimeHours);
+        stakeholderRepository.recordDecisionsCompleted(stakeholderId, 1, responseTimeHours, decidedAt);
+    }
+
+    /**
+     * Batch form of {@link #onDecisionAssigned}: one update per stakeholder.
+     */
+    @Transactional
+    public void onDecisionsAssigned(Map<UUID, Integer> countsByStakeholder) {
+        countsByStakeholder.forEach(stakeholderRepository::incrementPendingDecisions);
+    }
+
+    /**
+     * Batch form of {@link #onDecisionCompleted}: one atomic update covering {@code count} decisions.
+     */
+    @Transactional
+    public void onDecisionsCompleted(UUID stakeholderId, int count, Instant decidedAt, double totalResponseTimeHours) {
+        stakeholderRepository.recordDecisionsCompleted(stakeholderId, count, totalResponseTimeHours, decidedAt);
     }
 
     @Transactional
@@ -208,15 +243,21 @@ public class StakeholderService {
         stakeholderRepository.incrementEscalatedDecisions(stakeholderId);
     }
 
+    /**
+     * Batch form of {@link #onDecisionEscalated}: one update per stakeholder.
+     */
+    @Transactional
+    public void onDecisionsEscalated(Map<UUID, Integer> countsByStakeholder) {
+        countsByStakeholder.forEach(stakeholderRepository::incrementEscalatedDecisions);
+    }
+
     @Transactional(readOnly = true)
     public List<DecisionResponse> getMyPendingResponses(UUID userId, UUID tenantId) {
         // Get decisions assigned to this user that are pending
         List<Decision> decisions = decisionRepository.findByTenantIdAndAssignedToIdAndStatusIn(
                 tenantId, userId,
                 List.of(DecisionStatus.NEEDS_INPUT, DecisionStatus.UNDER_DISCUSSION));
-        return decisions.stream()
-                .map(d -> decisionMapper.toResponse(d, 0))
-                .toList();
+        return decisionResponseAssembler.toResponses(decisions);
     }
 
     @Transactional(readOnly = true)
@@ -230,34 +271,26 @@ public class StakeholderService {
         }
 
         UUID userId = stakeholder.getUser().getId();
-        List<Decision> decisions;
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+        Page<Decision> decisions;
 
         if (Boolean.TRUE.equals(pending)) {
             // Get pending decisions
             decisions = decisionRepository.findByTenantIdAndAssignedToIdAndStatusIn(
                     tenantId, userId,
-                    List.of(DecisionStatus.NEEDS_INPUT, DecisionStatus.UNDER_DISCUSSION));
+                    List.of(DecisionStatus.NEEDS_INPUT, DecisionStatus.UNDER_DISCUSSION), pageable);
         } else if (Boolean.FALSE.equals(pending)) {
             // Get completed decisions
             decisions = decisionRepository.findByTenantIdAndAssignedToIdAndStatusIn(
                     tenantId, userId,
                     List.of(DecisionStatus.DECIDED, DecisionStatus.IMPLEMENTED,
-                            DecisionStatus.DEFERRED, DecisionStatus.CANCELLED));
+                            DecisionStatus.DEFERRED, DecisionStatus.CANCELLED), pageable);
         } else {
             // Get all decisions for this stakeholder
-            decisions = decisionRepository.findByTenantIdAndAssignedToId(tenantId, userId);
+            decisions = decisionRepository.findByTenantIdAndAssignedToId(tenantId, userId, pageable);
         }
 
-        // Convert to response and paginate
-        List<DecisionResponse> responses = decisions.stream()
-                .map(d -> decisionMapper.toResponse(d, 0))
-                .toList();
-
-        int start = Math.min(page * size, responses.size());
-        int end = Math.min(start + size, responses.size());
-        List<DecisionResponse> pageContent = responses.subList(start, end);
-
-        return new PageImpl<>(pageContent, PageRequest.of(page, size), responses.size());
+        return decisionResponseAssembler.toResponses(decisions);
     }
 
     @Transactional(readOnly = true)
@@ -266,13 +299,14 @@ public class StakeholderService {
             ? stakeholderRepository.findByTenantIdAndProgramId(tenantId, projectId)
             : stakeholderRepository.findByTenantId(tenantId);
 
-        // Calculate team average response time
-        List<Stakeholder> allStakeholders = stakeholderRepository.findByTenantId(tenantId);
-        double teamAvgResponseTime = allStakeholders.stream()
-                .filter(s -> s.getAvgResponseTimeHours() != null && s.getAvgResponseTimeHours() > 0)
-                .mapToDouble(Stakeholder::getAvgResponseTimeHours)
-                .average()
-                .orElse(0);
+        Double teamAverage = stakeholderRepository.averageResponseTimeHours(tenantId);
+        double teamAvgResponseTime = teamAverage != null ? teamAverage : 0;
+
+        // Completed-this-month counts and percentiles for every stakeholder in one grouped query
+        Instant now = Instant.now();
+        Map<UUID, ResponseStats> stats = responseStats(projectId != null
+                ? stakeholderRepository.responseStatsForProgram(tenantId, projectId, statsSince(now), monthStart(now, 0))
+                : stakeholderRepository.responseStats(tenantId, statsSince(now), monthStart(now, 0)));
 
         List<ScorecardEntry> entries = stakeholders.stream()
                 .map(s -> {
@@ -283,15 +317,8 @@ public class StakeholderService {
                         ? Arrays.asList(s.getExpertise().split(","))
                         : new ArrayList<>();
 
-                    // Count pending decisions
                     int decisionsPending = s.getDecisionsPending() != null ? s.getDecisionsPending() : 0;
-
-                    // Count decisions completed this month (from User if available)
-                    int decisionsCompletedThisMonth = 0;
-                    if (s.getUser() != null) {
-                        decisionsCompletedThisMonth = (int) decisionRepository.countDecisionsCompletedThisMonth(
-                            tenantId, s.getUser().getId());
-                    }
+                    ResponseStats stakeholderStats = stats.getOrDefault(s.getId(), ResponseStats.NONE);
 
                     return new ScorecardEntry(
                         s.getId(),
@@ -300,9 +327,11 @@ public class StakeholderService {
                         s.getAvatarUrl(),
                         decisionDomains,
                         avgResponseTime,
+                        stakeholderStats.p50(),
+                        stakeholderStats.p90(),
                         teamAvgResponseTime,
                         decisionsPending,
-                        decisionsCompletedThisMonth
+                        stakeholderStats.completedThisMonth()
                     );
                 })
                 .toList();
@@ -310,19 +339,28 @@ public class StakeholderService {
         return new StakeholderScorecardResponse(entries);
     }
 
-    private void updateAverageResponseTime(UUID stakeholderId, double newResponseTimeHours) {
-        Stakeholder stakeholder = stakeholderRepository.findById(stakeholderId)
-                .orElseThrow(() -> new ResourceNotFoundException("Stakeholder", "id", stakeholderId));
+    private record ResponseStats(int completedThisMonth, Double p50, Double p90) {
+        static final ResponseStats NONE = new ResponseStats(0, null, null);
+    }
 
-        if (stakeholder.getAvgResponseTimeHours() == null) {
-            stakeholder.setAvgResponseTimeHours(newResponseTimeHours);
-        } else {
-            int n = stakeholder.getDecisionsCompleted();
-            if (n > 0) {
-                double newAvg = (stakeholder.getAvgResponseTimeHours() * (n - 1) + newResponseTimeHours) / n;
-                stakeholder.setAvgResponseTimeHours(newAvg);
-            }
+    private static Map<UUID, ResponseStats> responseStats(List<Object[]> rows) {
+        Map<UUID, ResponseStats> stats = new HashMap<>();
+        for (Object[] row : rows) {
+            stats.put((UUID) row[0], new ResponseStats(((Number) row[1]).intValue(), toDouble(row[2]), toDouble(row[3])));
         }
-        stakeholderRepository.save(stakeholder);
+        return stats;
+    }
+
+    private static Instant statsSince(Instant now) {
+        return now.minus(AppConstants.STAKEHOLDER_STATS_WINDOW_DAYS, ChronoUnit.DAYS);
+    }
+
+    private static Instant monthStart(Instant now, int monthsBack) {
+        return now.atZone(ZoneOffset.UTC).withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS)
+                .minusMonths(monthsBack).toInstant();
+    }
+
+    private static Double toDouble(Object value) {
+        return value != null ? ((Number) value).doubleValue() : null;
     }
 }
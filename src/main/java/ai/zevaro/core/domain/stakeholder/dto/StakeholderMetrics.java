@@ -13,7 +13,10 @@ public record StakeholderMetrics(
         Integer decisionsCompleted,
         Integer decisionsEscalated,
         Double avgResponseTimeHours,
+        Double p50ResponseTimeHours,
+        Double p90ResponseTimeHours,
         Double escalationRate,
         Instant lastDecisionAt,
+        List<StakeholderMonthlyStats> monthly,
         List<DecisionSummary> pendingDecisions
 ) {}
@@ -0,0 +1,8 @@
+package ai.zevaro.core.domain.stakeholder.dto;
+
+public record StakeholderMonthlyStats(
+        String month,
+        int decisionsCompleted,
+        Double p50ResponseTimeHours,
+        Double p90ResponseTimeHours
+) {}
@@ -13,6 +13,8 @@ public record StakeholderScorecardResponse(
         String avatarUrl,
         List<String> decisionDomains,
         double avgResponseTimeHours,
+        Double p50ResponseTimeHours,
+        Double p90ResponseTimeHours,
         double teamAvgResponseTimeHours,
         int decisionsPending,
         int decisionsCompletedThisMonth
@@ -1,5 +1,7 @@
 package ai.zevaro.core.domain.team;
 
+import ai.zevaro.core.cache.ReferenceNameCache;
+import ai.zevaro.core.cache.ReferenceType;
 import ai.zevaro.core.domain.decision.DecisionRepository;
 import ai.zevaro.core.domain.hypothesis.HypothesisRepository;
 import ai.zevaro.core.domain.stakeholder.StakeholderRepository;
@@ -15,6 +17,7 @@ import ai.zevaro.core.domain.team.dto.UpdateTeamRequest;
 import ai.zevaro.core.domain.user.User;
 import ai.zevaro.core.domain.user.UserRepository;
 import ai.zevaro.core.exception.ResourceNotFoundException;
+import ai.zevaro.core.util.ReadFanOut;
 import ai.zevaro.core.util.SlugGenerator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -22,11 +25,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
-import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -40,6 +44,8 @@ public class TeamService {
     private final DecisionRepository decisionRepository;
     private final HypothesisRepository hypothesisRepository;
     private final StakeholderRepository stakeholderRepository;
+    private final ReferenceNameCache referenceNameCache;
+    private final ReadFanOut readFanOut;
 
     @Transactional(readOnly = true)
     public List<TeamResponse> getTeams(UUID tenantId) {
@@ -134,6 +140,7 @@ public class TeamService {
         }
 
         team = teamRepository.save(team);
+        referenceNameCache.evict(ReferenceType.TEAM, tenantId, id);
         return teamMapper.toResponse(team);
     }
 
@@ -143,6 +150,7 @@ public class TeamService {
                 .orElseThrow(() -> new ResourceNotFoundException("Team", "id", id));
         team.setActive(false);
         teamRepository.save(team);
+        referenceNameCache.evict(ReferenceType.TEAM, tenantId, id);
     }
 
     @Transactional
@@ -202,69 +210,76 @@ public class TeamService {
                 .toList();
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Not transactional itself: the member list and the per-member aggregates are independent
+     * grouped reads that run concurrently, each in its own read-only transaction.
+     */
     public TeamWorkloadResponse getTeamWorkload(UUID teamId, UUID tenantId) {
-        Team team = teamRepository.findByIdAndTenantId(teamId, tenantId)
-                .orElseThrow(() -> new ResourceNotFoundException("Team", "id", teamId));
-
-        List<TeamMember> members = teamMemberRepository.findByTeamId(teamId);
-
-        // Count total stakeholders (not directly associated with team, so 0)
-        // Stakeholders are associated with Projects, not Teams
-        long totalStakeholders = 0;
-
-        // Calculate pending decisions across team
-        long pendingDecisionsAcrossTeam = members.stream()
-                .mapToLong(m -> decisionRepository.countPendingForAssignee(tenantId, m.getUser().getId()))
-                .sum();
-
-        // Build member workload list
-        List<MemberWorkload> memberWorkloads = new ArrayList<>();
-        for (TeamMember member : members) {
-            UUID userId = member.getUser().getId();
-
-            // Count pending decisions
-            long decisionsPending = decisionRepository.countPendingForAssignee(tenantId, userId);
-
-            // Calculate average response time from resolved decisions
-            List<ai.zevaro.core.domain.decision.Decision> recentResolved =
-                decisionRepository.findRecentResolvedForAssignee(tenantId, userId);
-            double avgResponseTimeHours = 0;
-            if (!recentResolved.isEmpty()) {
-                avgResponseTimeHours = recentResolved.stream()
-                        .mapToDouble(d -> {
-                            if (d.getCreatedAt() != null && d.getDecidedAt() != null) {
-                                return Duration.between(d.getCreatedAt(), d.getDecidedAt()).toMinutes() / 60.0;
-                            }
-                            return 0;
-                        })
-                        .average()
-                        .orElse(0);
+        try (ReadFanOut.Scope scope = readFanOut.open()) {
+            // Looked up in a read of its own so this thread holds no connection while it waits
+            Supplier<Team> teamRead = scope.fork(() -> teamRepository.findByIdAndTenantId(teamId, tenantId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Team", "id", teamId)));
+            Supplier<List<TeamMember>> membersRead = scope.fork(() -> teamMemberRepository.findByTeamId(teamId));
+            Supplier<Map<UUID, Long>> pendingRead = scope.fork(() ->
+                    toCountMap(decisionRepository.countPendingByTeamMember(tenantId, teamId)));
+            // Average response time over each member's recent resolved decisions
+            Supplier<Map<UUID, Double>> responseHoursRead = scope.fork(() -> {
+                Map<UUID, Double> hours = new HashMap<>();
+                for (Object[] row : decisionRepository.averageResponseHoursByTeamMember(tenantId, teamId)) {
+                    hours.put((UUID) row[0], ((Number) row[1]).doubleValue());
+                }
+                return hours;
+            });
+            Supplier<Map<UUID, Long>> hypothesesRead = scope.fork(() ->
+                    toCountMap(hypothesisRepository.countOwnedByTeamMember(tenantId, teamId)));
+            scope.join();
+
+            Team team = teamRead.get();
+            List<TeamMember> members = membersRead.get();
+            Map<UUID, Long> pending = pendingRead.get();
+            Map<UUID, Double> responseHours = responseHoursRead.get();
+            Map<UUID, Long> hypotheses = hypothesesRead.get();
+
+            // Count total stakeholders (not directly associated with team, so 0)
+            // Stakeholders are associated with Projects, not Teams
+            long totalStakeholders = 0;
+
+            long pendingDecisionsAcrossTeam = 0;
+            List<MemberWorkload> memberWorkloads = new ArrayList<>();
+            for (TeamMember member : members) {
+                UUID userId = member.getUser().getId();
+                long decisionsPending = pending.getOrDefault(userId, 0L);
+                pendingDecisionsAcrossTeam += decisionsPending;
+
+                memberWorkloads.add(new MemberWorkload(
+                    userId,
+                    member.getUser().getFullName(),
+                    member.getUser().getEmail(),
+                    member.getUser().getAvatarUrl(),
+                    member.getTeamRole().toString(),
+                    (int) decisionsPending,
+                    responseHours.getOrDefault(userId, 0.0),
+                    hypotheses.getOrDefault(userId, 0L).intValue(),
+                    member.getUser().isActive()
+                ));
             }
 
-            // Count hypotheses owned
-            long hypothesesOwned = hypothesisRepository.countOwnedByUser(tenantId, userId);
-
-            memberWorkloads.add(new MemberWorkload(
-                userId,
-                member.getUser().getFullName(),
-                member.getUser().getEmail(),
-                member.getUser().getAvatarUrl(),
-                member.getTeamRole().toString(),
-                (int) decisionsPending,
-                avgResponseTimeHours,
-                (int) hypothesesOwned,
-                member.getUser().isActive()
-            ));
+            return new TeamWorkloadResponse(
+                teamId,
+                team.getName(),
+                members.size(),
+                (int) totalStakeholders,
+                (int) pendingDecisionsAcrossTeam,
+                memberWorkloads
+            );
         }
+    }
 
-        return new TeamWorkloadResponse(
-            teamId,
-            team.getName(),
-            members.size(),
-            (int) totalStakeholders,
-            (int) pendingDecisionsAcrossTeam,
-            memberWorkloads
-        );
+    private static Map<UUID, Long> toCountMap(List<Object[]> rows) {
+        Map<UUID, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((UUID) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
     }
 }
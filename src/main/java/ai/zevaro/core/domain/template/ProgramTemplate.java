@@ -11,11 +11,15 @@ import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Entity
@@ -42,8 +46,9 @@ public class ProgramTemplate {
     @Column(columnDefinition = "TEXT")
     private String description;
 
-    @Column(columnDefinition = "text", nullable = false)
-    private String structure;
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb", nullable = false)
+    private List<Map<String, String>> structure;
 
     @Column(name = "is_system", nullable = false)
     private Boolean isSystem = false;
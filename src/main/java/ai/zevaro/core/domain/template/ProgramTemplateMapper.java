@@ -2,21 +2,30 @@ package ai.zevaro.core.domain.template;
 
 import ai.zevaro.core.domain.template.dto.CreateTemplateRequest;
 import ai.zevaro.core.domain.template.dto.TemplateResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class ProgramTemplateMapper {
 
-    public ProgramTemplate toEntity(CreateTemplateRequest req, UUID tenantId, UUID userId) {
+    private final ObjectMapper objectMapper;
+
+    public ProgramTemplate toEntity(CreateTemplateRequest req, List<Map<String, String>> structure,
+                                    UUID tenantId, UUID userId) {
         ProgramTemplate template = new ProgramTemplate();
         template.setTenantId(tenantId);
         template.setName(req.name());
         template.setDescription(req.description());
-        template.setStructure(req.structure());
+        template.setStructure(structure);
         template.setIsSystem(false);
         template.setCreatedById(userId);
         return template;
@@ -31,11 +40,23 @@ public class ProgramTemplateMapper {
                 template.getId(),
                 template.getName(),
                 template.getDescription(),
-                template.getStructure(),
+                structureToJson(template.getStructure()),
                 template.getIsSystem(),
                 template.getCreatedById(),
                 template.getCreatedAt(),
                 template.getUpdatedAt()
         );
     }
+
+    private String structureToJson(List<Map<String, String>> structure) {
+        if (structure == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(structure);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to convert template structure to JSON", e);
+            return null;
+        }
+    }
 }
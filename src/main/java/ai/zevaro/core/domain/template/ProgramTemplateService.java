@@ -38,9 +38,9 @@ public class ProgramTemplateService {
 
     @Transactional
     public TemplateResponse create(CreateTemplateRequest req, UUID tenantId, UUID userId) {
-        validateStructureJson(req.structure());
+        List<Map<String, String>> structure = parseStructure(req.structure());
 
-        ProgramTemplate template = templateMapper.toEntity(req, tenantId, userId);
+        ProgramTemplate template = templateMapper.toEntity(req, structure, tenantId, userId);
         template = templateRepository.save(template);
 
         auditService.log(AuditLogBuilder.create()
@@ -77,11 +77,11 @@ public class ProgramTemplateService {
             throw new IllegalArgumentException("System templates cannot be modified");
         }
 
-        validateStructureJson(req.structure());
+        List<Map<String, String>> structure = parseStructure(req.structure());
 
         template.setName(req.name());
         template.setDescription(req.description());
-        template.setStructure(req.structure());
+        template.setStructure(structure);
         template = templateRepository.save(template);
 
         auditService.log(AuditLogBuilder.create()
@@ -118,7 +118,7 @@ public class ProgramTemplateService {
         ProgramTemplate template = templateRepository.findByIdAccessible(templateId, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("ProgramTemplate", "id", templateId));
 
-        List<Map<String, String>> workstreamDefs = parseStructure(template.getStructure());
+        List<Map<String, String>> workstreamDefs = template.getStructure();
 
         // Create the Program
         UUID ownerId = req.ownerId() != null ? req.ownerId() : userId;
@@ -163,6 +163,7 @@ public class ProgramTemplateService {
                 .actor(userId, null, null)
                 .action(AuditAction.CREATE)
                 .entity("PROGRAM", program.id(), program.name())
+                .scope(program.id(), null)
                 .description("Applied template '" + template.getName() + "' — created program with " + workstreamNames.size() + " workstreams"));
 
         return new ApplyTemplateResponse(
@@ -173,7 +174,7 @@ public class ProgramTemplateService {
         );
     }
 
-    private void validateStructureJson(String json) {
+    private List<Map<String, String>> parseStructure(String json) {
         try {
             List<Map<String, String>> parsed = objectMapper.readValue(json, new TypeReference<>() {});
             if (parsed == null || parsed.isEmpty()) {
@@ -190,16 +191,9 @@ public class ProgramTemplateService {
                     throw new IllegalArgumentException("Each workstream definition must have an executionMode");
                 }
             }
+            return parsed;
         } catch (JsonProcessingException e) {
             throw new IllegalArgumentException("Invalid JSON structure: " + e.getMessage());
         }
     }
-
-    private List<Map<String, String>> parseStructure(String json) {
-        try {
-            return objectMapper.readValue(json, new TypeReference<>() {});
-        } catch (JsonProcessingException e) {
-            throw new IllegalArgumentException("Invalid template structure JSON: " + e.getMessage());
-        }
-    }
 }
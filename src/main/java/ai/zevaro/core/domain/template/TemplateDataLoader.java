@@ -1,5 +1,8 @@
 package ai.zevaro.core.domain.template;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -14,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class TemplateDataLoader implements CommandLineRunner {
 
     private final ProgramTemplateRepository templateRepository;
+    private final ObjectMapper objectMapper;
 
     @Override
     @Transactional
@@ -56,7 +60,11 @@ public class TemplateDataLoader implements CommandLineRunner {
         ProgramTemplate template = new ProgramTemplate();
         template.setName(name);
         template.setDescription(description);
-        template.setStructure(structure);
+        try {
+            template.setStructure(objectMapper.readValue(structure, new TypeReference<>() {}));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid structure for system template '" + name + "'", e);
+        }
         template.setIsSystem(true);
         templateRepository.save(template);
         log.info("Seeded system template: {}", name);
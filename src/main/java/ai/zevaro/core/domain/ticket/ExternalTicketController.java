@@ -1,12 +1,14 @@
 package ai.zevaro.core.domain.ticket;
 
-import ai.zevaro.core.domain.ticket.dto.CreateTicketRequest;
+import ai.zevaro.core.config.AppConstants;
+import ai.zevaro.core.domain.ticket.dto.BulkExternalTicketRequest;
 import ai.zevaro.core.domain.ticket.dto.ExternalTicketRequest;
-import ai.zevaro.core.domain.ticket.dto.TicketResponse;
+import ai.zevaro.core.domain.ticket.dto.TicketIngestResponse;
 import jakarta.validation.Valid;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -23,7 +25,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ExternalTicketController {
 
-    private final TicketService ticketService;
+    private final TicketIngestionService ingestionService;
 
     @Value("${zevaro.external.api-key:default-dev-key-change-in-production}")
     private String configuredApiKey;
@@ -36,30 +38,43 @@ public class ExternalTicketController {
             @RequestHeader(value = "X-API-Key", required = false) String apiKey,
             @Valid @RequestBody ExternalTicketRequest request) {
 
-        if (apiKey == null || !apiKey.equals(configuredApiKey)) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body("{\"error\":\"Invalid or missing API key\"}");
+        if (!isValidApiKey(apiKey)) {
+            return unauthorized();
         }
 
-        UUID reportedById = UUID.fromString(systemUserId);
-        TicketSource source = request.source() != null ? request.source() : TicketSource.API;
-
-        CreateTicketRequest ticketRequest = new CreateTicketRequest(
-                request.title(),
-                request.description(),
-                request.type(),
-                request.severity(),
-                null,
-                request.environment(),
-                null, null, null,
-                source,
-                request.externalRef(),
-                null
-        );
-
-        TicketResponse response = ticketService.create(
-                request.workstreamId(), ticketRequest, request.tenantId(), reportedById);
-
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        TicketIngestionService.Ingested ingested =
+                ingestionService.ingestNow(request, UUID.fromString(systemUserId));
+
+        // A repeat of an alert with an open ticket returns that ticket rather than creating another
+        return ResponseEntity.status(ingested.created() ? HttpStatus.CREATED : HttpStatus.OK)
+                .body(ingested.ticket());
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<?> ingestTickets(
+            @RequestHeader(value = "X-API-Key", required = false) String apiKey,
+            @Valid @RequestBody BulkExternalTicketRequest request) {
+
+        if (!isValidApiKey(apiKey)) {
+            return unauthorized();
+        }
+
+        TicketIngestResponse response = ingestionService.submit(request.tickets(), UUID.fromString(systemUserId));
+
+        if (response.throttled() == response.requested()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(AppConstants.TICKET_INGEST_RETRY_AFTER_SECONDS))
+                    .body(response);
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    private boolean isValidApiKey(String apiKey) {
+        return apiKey != null && apiKey.equals(configuredApiKey);
+    }
+
+    private static ResponseEntity<?> unauthorized() {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body("{\"error\":\"Invalid or missing API key\"}");
     }
 }
@@ -1,5 +1,6 @@
 package ai.zevaro.core.domain.ticket;
 
+import ai.zevaro.core.domain.search.SearchIndexListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
@@ -28,9 +29,11 @@ import java.util.UUID;
     @Index(name = "idx_tickets_tenant_severity", columnList = "tenant_id, severity"),
     @Index(name = "idx_tickets_tenant_type", columnList = "tenant_id, type"),
     @Index(name = "idx_tickets_tenant_program", columnList = "tenant_id, program_id"),
-    @Index(name = "idx_tickets_tenant_assigned", columnList = "tenant_id, assigned_to_id")
+    @Index(name = "idx_tickets_tenant_assigned", columnList = "tenant_id, assigned_to_id"),
+    @Index(name = "idx_tickets_ws_created", columnList = "tenant_id, workstream_id, created_at DESC, id DESC"),
+    @Index(name = "idx_tickets_ws_external_ref", columnList = "tenant_id, workstream_id, external_ref")
 })
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, SearchIndexListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -97,6 +100,12 @@ public class Ticket {
     @Column(name = "external_ref", length = 255)
     private String externalRef;
 
+    @Column(name = "occurrence_count", nullable = false, columnDefinition = "integer default 1")
+    private int occurrenceCount = 1;
+
+    @Column(name = "last_occurred_at")
+    private Instant lastOccurredAt;
+
     @Column(name = "estimated_hours")
     private BigDecimal estimatedHours;
 
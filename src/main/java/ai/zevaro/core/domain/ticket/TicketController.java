@@ -1,5 +1,7 @@
 package ai.zevaro.core.domain.ticket;
 
+import ai.zevaro.core.config.AppConstants;
+import ai.zevaro.core.domain.common.dto.CursorPage;
 import ai.zevaro.core.domain.ticket.dto.AssignTicketRequest;
 import ai.zevaro.core.domain.ticket.dto.CreateTicketRequest;
 import ai.zevaro.core.domain.ticket.dto.ResolveTicketRequest;
@@ -77,6 +79,17 @@ public class TicketController {
                 wsId, user.getTenantId(), pageable));
     }
 
+    @GetMapping("/workstreams/{wsId}/tickets/cursor")
+    @PreAuthorize("hasRole('TENANT_OWNER') or hasRole('TENANT_ADMIN') or hasRole('SUPER_ADMIN') or hasAuthority('ticket:read')")
+    public ResponseEntity<CursorPage<TicketResponse>> listByWorkstreamCursor(
+            @PathVariable UUID wsId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @CurrentUser UserPrincipal user) {
+        return ResponseEntity.ok(ticketService.listByWorkstreamAfter(
+                wsId, user.getTenantId(), cursor, Math.max(1, Math.min(size, AppConstants.MAX_PAGE_SIZE))));
+    }
+
     // --- Flat endpoints (direct access) ---
 
     @GetMapping("/tickets/{id}")
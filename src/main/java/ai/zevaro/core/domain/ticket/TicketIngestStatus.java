@@ -0,0 +1,8 @@
+package ai.zevaro.core.domain.ticket;
+
+public enum TicketIngestStatus {
+    ACCEPTED,
+    DEDUPED,
+    REJECTED,
+    THROTTLED
+}
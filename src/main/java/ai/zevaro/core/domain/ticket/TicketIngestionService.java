@@ -0,0 +1,553 @@
+package ai.zevaro.core.domain.ticket;
+
+import ai.zevaro.core.config.AppConstants;
+import ai.zevaro.core.domain.audit.AuditAction;
+import ai.zevaro.core.domain.audit.AuditLogBuilder;
+import ai.zevaro.core.domain.audit.AuditService;
+import ai.zevaro.core.domain.ticket.dto.ExternalTicketRequest;
+import ai.zevaro.core.domain.ticket.dto.TicketIngestItemResult;
+import ai.zevaro.core.domain.ticket.dto.TicketIngestResponse;
+import ai.zevaro.core.domain.ticket.dto.TicketResponse;
+import ai.zevaro.core.domain.workstream.Workstream;
+import ai.zevaro.core.domain.workstream.WorkstreamMode;
+import ai.zevaro.core.domain.workstream.WorkstreamRepository;
+import ai.zevaro.core.event.EventPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ingestion of tickets raised by external monitoring systems, built for alert storms.
+ *
+ * - {@link #submit} validates a batch, queues it and returns immediately; a single drain thread
+ *   persists up to {@link AppConstants#TICKET_INGEST_BATCH_SIZE} tickets per flush, one transaction
+ *   per tenant
+ * - Alerts are idempotent on {@code externalRef} within a workstream: a repeat of an alert that is
+ *   still queued, or that already has an open ticket, only bumps that ticket's occurrence count.
+ *   Alerts without a ref coalesce while queued when type and title match
+ * - New tickets get identifiers in one block per workstream and type, and are inserted as a JDBC
+ *   batch together with their audit records and outbox events
+ * - {@link #ingestNow} is the synchronous single-ticket path with the same idempotency
+ * - A full queue turns items away as {@link TicketIngestStatus#THROTTLED} instead of blocking
+ * - A tenant batch that fails to persist is retried on its own, with exponential backoff, up to
+ *   {@link AppConstants#TICKET_INGEST_FLUSH_MAX_ATTEMPTS} times before it is dropped and counted as failed
+ * - On shutdown the queue is drained after the web server has stopped accepting requests
+ *
+ * Metrics: {@code zevaro.ticket.ingest.accepted}, {@code zevaro.ticket.ingest.deduped} (coalesced
+ * while queued), {@code zevaro.ticket.ingest.persisted}, {@code zevaro.ticket.ingest.rejected},
+ * {@code zevaro.ticket.ingest.throttled}, {@code zevaro.ticket.ingest.retried},
+ * {@code zevaro.ticket.ingest.failed}, {@code zevaro.ticket.ingest.queue.size},
+ * {@code zevaro.ticket.ingest.retry.size} and {@code zevaro.ticket.ingest.flush}.
+ */
+@Service
+@Slf4j
+public class TicketIngestionService implements SmartLifecycle {
+
+    private static final String LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtext(?))";
+
+    private static final String RECORD_OCCURRENCES_SQL =
+            "UPDATE tickets SET occurrence_count = occurrence_count + ?, last_occurred_at = ? WHERE id = ?";
+
+    private static final Set<TicketStatus> CLOSED_STATUSES =
+            EnumSet.of(TicketStatus.RESOLVED, TicketStatus.CLOSED, TicketStatus.WONT_FIX);
+
+    private static final int EXTERNAL_REF_MAX_LENGTH = 255;
+    private static final int ENVIRONMENT_MAX_LENGTH = 100;
+
+    /**
+     * Result of the synchronous path: the ticket, and whether it was created or an existing one was bumped.
+     */
+    public record Ingested(TicketResponse ticket, boolean created) {}
+
+    /**
+     * Coalescing key: the external ref when there is one, otherwise type and title.
+     */
+    private record IngestKey(UUID tenantId, UUID workstreamId, String externalRef, TicketType type, String title) {
+        static IngestKey of(ExternalTicketRequest req) {
+            return StringUtils.hasText(req.externalRef())
+                    ? new IngestKey(req.tenantId(), req.workstreamId(), req.externalRef(), null, null)
+                    : new IngestKey(req.tenantId(), req.workstreamId(), null, req.type(), req.title());
+        }
+    }
+
+    private record SequenceKey(UUID workstreamId, TicketType type) {}
+
+    /**
+     * A tenant batch waiting to be written again after a failed flush.
+     */
+    private record RetryBatch(UUID tenantId, List<PendingTicket> tickets, int attempt, long dueNanos) {}
+
+    /**
+     * A queued ticket. Occurrences are only changed inside {@code pending.compute}, and read after
+     * the drain thread has removed the entry, so the map provides the synchronization.
+     */
+    private static final class PendingTicket {
+        private final IngestKey key;
+        private final ExternalTicketRequest request;
+        private final UUID programId;
+        private final UUID reporterId;
+        private int occurrences = 1;
+        private Instant lastOccurredAt;
+
+        private PendingTicket(IngestKey key, ExternalTicketRequest request, UUID programId,
+                              UUID reporterId, Instant occurredAt) {
+            this.key = key;
+            this.request = request;
+            this.programId = programId;
+            this.reporterId = reporterId;
+            this.lastOccurredAt = occurredAt;
+        }
+
+        private void merge(int count, Instant occurredAt) {
+            occurrences += count;
+            if (occurredAt.isAfter(lastOccurredAt)) {
+                lastOccurredAt = occurredAt;
+            }
+        }
+    }
+
+    private final TicketService ticketService;
+    private final TicketRepository ticketRepository;
+    private final WorkstreamRepository workstreamRepository;
+    private final TicketSequenceAllocator sequenceAllocator;
+    private final TicketMapper ticketMapper;
+    private final AuditService auditService;
+    private final EventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final BlockingQueue<PendingTicket> queue = new ArrayBlockingQueue<>(AppConstants.TICKET_INGEST_QUEUE_CAPACITY);
+    private final Map<IngestKey, PendingTicket> pending = new ConcurrentHashMap<>();
+    private final Queue<RetryBatch> retries = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger retryingTickets = new AtomicInteger();
+
+    private final Counter acceptedCounter;
+    private final Counter dedupedCounter;
+    private final Counter persistedCounter;
+    private final Counter rejectedCounter;
+    private final Counter throttledCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread drainThread;
+
+    public TicketIngestionService(TicketService ticketService,
+                                  TicketRepository ticketRepository,
+                                  WorkstreamRepository workstreamRepository,
+                                  TicketSequenceAllocator sequenceAllocator,
+                                  TicketMapper ticketMapper,
+                                  AuditService auditService,
+                                  EventPublisher eventPublisher,
+                                  JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry) {
+        this.ticketService = ticketService;
+        this.ticketRepository = ticketRepository;
+        this.workstreamRepository = workstreamRepository;
+        this.sequenceAllocator = sequenceAllocator;
+        this.ticketMapper = ticketMapper;
+        this.auditService = auditService;
+        this.eventPublisher = eventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        meterRegistry.gaugeCollectionSize("zevaro.ticket.ingest.queue.size", List.of(), queue);
+        meterRegistry.gauge("zevaro.ticket.ingest.retry.size", retryingTickets);
+        this.acceptedCounter = meterRegistry.counter("zevaro.ticket.ingest.accepted");
+        this.dedupedCounter = meterRegistry.counter("zevaro.ticket.ingest.deduped");
+        this.persistedCounter = meterRegistry.counter("zevaro.ticket.ingest.persisted");
+        this.rejectedCounter = meterRegistry.counter("zevaro.ticket.ingest.rejected");
+        this.throttledCounter = meterRegistry.counter("zevaro.ticket.ingest.throttled");
+        this.retriedCounter = meterRegistry.counter("zevaro.ticket.ingest.retried");
+        this.failedCounter = meterRegistry.counter("zevaro.ticket.ingest.failed");
+        this.flushTimer = meterRegistry.timer("zevaro.ticket.ingest.flush");
+    }
+
+    /**
+     * Validate and queue a batch of external tickets. Items are reported in request order;
+     * ACCEPTED means queued, and the ticket may still coalesce into an open one when persisted.
+     */
+    public TicketIngestResponse submit(List<ExternalTicketRequest> requests, UUID reporterId) {
+        Map<UUID, Workstream> workstreams = workstreamRepository
+                .findAllById(requests.stream().map(ExternalTicketRequest::workstreamId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Workstream::getId, Function.identity()));
+
+        Instant now = Instant.now();
+        List<TicketIngestItemResult> results = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            ExternalTicketRequest req = requests.get(i);
+            Workstream workstream = workstreams.get(req.workstreamId());
+            String error = validate(req, workstream);
+            if (error != null) {
+                rejectedCounter.increment();
+                results.add(new TicketIngestItemResult(i, req.externalRef(), TicketIngestStatus.REJECTED, error));
+                continue;
+            }
+            TicketIngestStatus status = enqueue(req, workstream.getProgramId(), reporterId, now);
+            results.add(new TicketIngestItemResult(i, req.externalRef(), status, null));
+        }
+        return TicketIngestResponse.of(results);
+    }
+
+    /**
+     * Create one external ticket now, or record another occurrence on the open ticket with the same
+     * {@code externalRef}.
+     */
+    public Ingested ingestNow(ExternalTicketRequest req, UUID reporterId) {
+        return transactionTemplate.execute(status -> {
+            if (StringUtils.hasText(req.externalRef())) {
+                lockTenant(req.tenantId());
+                List<Object[]> open = ticketRepository.findOpenByExternalRefs(req.tenantId(),
+                        List.of(req.workstreamId()), List.of(req.externalRef()), CLOSED_STATUSES);
+                if (!open.isEmpty()) {
+                    UUID ticketId = (UUID) open.get(0)[0];
+                    jdbcTemplate.update(RECORD_OCCURRENCES_SQL, 1, Timestamp.from(Instant.now()), ticketId);
+                    dedupedCounter.increment();
+                    return new Ingested(ticketService.getById(ticketId, req.tenantId()), false);
+                }
+            }
+
+            TicketResponse created = ticketService.create(req.workstreamId(), ticketMapper.toCreateRequest(req),
+                    req.tenantId(), reporterId);
+            acceptedCounter.increment();
+            persistedCounter.increment();
+            return new Ingested(created, true);
+        });
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        drainThread = new Thread(this::drainLoop, "ticket-ingestion");
+        drainThread.setDaemon(true);
+        drainThread.start();
+        log.info("Ticket ingestion started (batch size {}, flush interval {}ms)",
+                AppConstants.TICKET_INGEST_BATCH_SIZE, AppConstants.TICKET_INGEST_FLUSH_INTERVAL_MS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        drainThread.interrupt();
+        try {
+            drainThread.join(TimeUnit.SECONDS.toMillis(AppConstants.DEFAULT_TIMEOUT_SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Persist whatever the drain thread didn't get to
+        List<PendingTicket> remaining = new ArrayList<>();
+        while (take(remaining) > 0) {
+            flush(remaining);
+            remaining.clear();
+        }
+
+        // One last attempt for batches still backing off; running is false, so failures are dropped
+        RetryBatch retry;
+        while ((retry = retries.poll()) != null) {
+            retryingTickets.addAndGet(-retry.tickets().size());
+            flush(retry.tenantId(), retry.tickets(), retry.attempt());
+        }
+        log.info("Ticket ingestion stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stop after the web server so accepted tickets are persisted, and before the audit log
+     * writer so their audit records are still batched.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 3072;
+    }
+
+    private TicketIngestStatus enqueue(ExternalTicketRequest req, UUID programId, UUID reporterId, Instant now) {
+        if (!running) {
+            throttledCounter.increment();
+            return TicketIngestStatus.THROTTLED;
+        }
+
+        TicketIngestStatus[] status = new TicketIngestStatus[1];
+        pending.compute(IngestKey.of(req), (key, existing) -> {
+            if (existing != null) {
+                existing.merge(1, now);
+                status[0] = TicketIngestStatus.DEDUPED;
+                return existing;
+            }
+            PendingTicket ticket = new PendingTicket(key, req, programId, reporterId, now);
+            if (!queue.offer(ticket)) {
+                status[0] = TicketIngestStatus.THROTTLED;
+                return null;
+            }
+            status[0] = TicketIngestStatus.ACCEPTED;
+            return ticket;
+        });
+
+        switch (status[0]) {
+            case ACCEPTED -> acceptedCounter.increment();
+            case DEDUPED -> dedupedCounter.increment();
+            default -> throttledCounter.increment();
+        }
+        return status[0];
+    }
+
+    private static String validate(ExternalTicketRequest req, Workstream workstream) {
+        if (workstream == null || !workstream.getTenantId().equals(req.tenantId())) {
+            return "Workstream not found with id: " + req.workstreamId();
+        }
+        if (workstream.getMode() != WorkstreamMode.OPS) {
+            return "Tickets can only be created in OPS mode Workstreams";
+        }
+        if (req.title().length() > AppConstants.TITLE_MAX_LENGTH) {
+            return "Title exceeds " + AppConstants.TITLE_MAX_LENGTH + " characters";
+        }
+        if (req.externalRef() != null && req.externalRef().length() > EXTERNAL_REF_MAX_LENGTH) {
+            return "External ref exceeds " + EXTERNAL_REF_MAX_LENGTH + " characters";
+        }
+        if (req.environment() != null && req.environment().length() > ENVIRONMENT_MAX_LENGTH) {
+            return "Environment exceeds " + ENVIRONMENT_MAX_LENGTH + " characters";
+        }
+        return null;
+    }
+
+    private void drainLoop() {
+        List<PendingTicket> batch = new ArrayList<>(AppConstants.TICKET_INGEST_BATCH_SIZE);
+        while (running) {
+            try {
+                PendingTicket first = queue.poll(AppConstants.TICKET_INGEST_FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                release(first);
+                batch.add(first);
+
+                // Give a burst a moment to fill the batch before writing
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(AppConstants.TICKET_INGEST_FLUSH_INTERVAL_MS);
+                while (batch.size() < AppConstants.TICKET_INGEST_BATCH_SIZE) {
+                    take(batch);
+                    long waitNanos = deadline - System.nanoTime();
+                    if (batch.size() >= AppConstants.TICKET_INGEST_BATCH_SIZE || waitNanos <= 0) {
+                        break;
+                    }
+                    PendingTicket next = queue.poll(waitNanos, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    release(next);
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // Shutdown requested; stop() drains the rest
+                Thread.currentThread().interrupt();
+            }
+
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+            flushDueRetries();
+        }
+    }
+
+    /**
+     * Move queued tickets into the batch, detaching each from the coalescing map so later
+     * repeats start a new entry instead of changing one that is being written.
+     */
+    private int take(List<PendingTicket> batch) {
+        int from = batch.size();
+        int taken = queue.drainTo(batch, AppConstants.TICKET_INGEST_BATCH_SIZE - from);
+        for (int i = from; i < batch.size(); i++) {
+            release(batch.get(i));
+        }
+        return taken;
+    }
+
+    private void release(PendingTicket ticket) {
+        pending.remove(ticket.key, ticket);
+    }
+
+    private void flush(List<PendingTicket> batch) {
+        Map<UUID, List<PendingTicket>> byTenant = coalesce(batch).stream()
+                .collect(Collectors.groupingBy(p -> p.key.tenantId(), LinkedHashMap::new, Collectors.toList()));
+        byTenant.forEach((tenantId, tickets) -> flush(tenantId, tickets, 1));
+    }
+
+    /**
+     * Write one tenant's tickets in a transaction. On failure the same tickets are scheduled again
+     * with exponential backoff while the service is running, the retry limit hasn't been reached and
+     * the retry backlog has room; otherwise they are dropped.
+     */
+    private void flush(UUID tenantId, List<PendingTicket> tickets, int attempt) {
+        try {
+            Integer created = flushTimer.record(() -> transactionTemplate.execute(status -> persist(tenantId, tickets)));
+            persistedCounter.increment(created != null ? created : 0);
+        } catch (RuntimeException e) {
+            if (running && attempt < AppConstants.TICKET_INGEST_FLUSH_MAX_ATTEMPTS && reserveRetry(tickets.size())) {
+                long backoffMs = AppConstants.TICKET_INGEST_FLUSH_BACKOFF_MS << (attempt - 1);
+                retries.add(new RetryBatch(tenantId, tickets, attempt + 1,
+                        System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMs)));
+                retriedCounter.increment(tickets.size());
+                log.warn("Failed to persist {} external tickets for tenant {} (attempt {}), retrying in {}ms: {}",
+                        tickets.size(), tenantId, attempt, backoffMs, e.getMessage());
+            } else {
+                failedCounter.increment(tickets.size());
+                log.error("Failed to persist {} external tickets for tenant {} after {} attempts: {}",
+                        tickets.size(), tenantId, attempt, e.getMessage(), e);
+            }
+        }
+    }
+
+    private boolean reserveRetry(int count) {
+        int reserved = retryingTickets.addAndGet(count);
+        if (reserved > AppConstants.TICKET_INGEST_QUEUE_CAPACITY) {
+            retryingTickets.addAndGet(-count);
+            return false;
+        }
+        return true;
+    }
+
+    private void flushDueRetries() {
+        long now = System.nanoTime();
+        for (Iterator<RetryBatch> it = retries.iterator(); it.hasNext(); ) {
+            RetryBatch retry = it.next();
+            if (retry.dueNanos() - now > 0) {
+                continue;
+            }
+            it.remove();
+            retryingTickets.addAndGet(-retry.tickets().size());
+            flush(retry.tenantId(), retry.tickets(), retry.attempt());
+        }
+    }
+
+    /**
+     * Fold repeats within a batch into one ticket. A repeat can arrive after its first occurrence left
+     * the coalescing map but before it was written; folding here rather than inside the transaction
+     * keeps a retried batch from counting the same occurrences twice.
+     */
+    private static List<PendingTicket> coalesce(List<PendingTicket> batch) {
+        Map<IngestKey, PendingTicket> merged = new LinkedHashMap<>();
+        for (PendingTicket ticket : batch) {
+            merged.merge(ticket.key, ticket, (a, b) -> {
+                a.merge(b.occurrences, b.lastOccurredAt);
+                return a;
+            });
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    /**
+     * Write one tenant's share of a batch, already coalesced by key, returning the number of tickets
+     * created. Must not modify the tickets, which are written again if the transaction fails.
+     */
+    private int persist(UUID tenantId, List<PendingTicket> batch) {
+        lockTenant(tenantId);
+
+        Map<IngestKey, UUID> open = findOpenTickets(tenantId,
+                batch.stream().map(p -> p.key).collect(Collectors.toSet()));
+        List<Object[]> occurrences = new ArrayList<>();
+        Map<SequenceKey, List<PendingTicket>> toCreate = new LinkedHashMap<>();
+        for (PendingTicket ticket : batch) {
+            UUID existingId = open.get(ticket.key);
+            if (existingId != null) {
+                occurrences.add(new Object[]{ticket.occurrences, Timestamp.from(ticket.lastOccurredAt), existingId});
+            } else {
+                toCreate.computeIfAbsent(new SequenceKey(ticket.key.workstreamId(), ticket.request.type()),
+                        k -> new ArrayList<>()).add(ticket);
+            }
+        }
+        if (!occurrences.isEmpty()) {
+            jdbcTemplate.batchUpdate(RECORD_OCCURRENCES_SQL, occurrences);
+        }
+
+        List<Ticket> created = new ArrayList<>();
+        toCreate.forEach((sequence, tickets) -> {
+            List<String> identifiers = sequenceAllocator.allocate(tenantId, sequence.workstreamId(),
+                    sequence.type(), tickets.size());
+            for (int i = 0; i < tickets.size(); i++) {
+                PendingTicket p = tickets.get(i);
+                Ticket ticket = ticketMapper.toEntity(ticketMapper.toCreateRequest(p.request),
+                        sequence.workstreamId(), p.programId, tenantId, p.reporterId, identifiers.get(i));
+                ticket.setOccurrenceCount(p.occurrences);
+                ticket.setLastOccurredAt(p.lastOccurredAt);
+                created.add(ticket);
+            }
+        });
+        if (created.isEmpty()) {
+            return 0;
+        }
+
+        ticketRepository.saveAll(created);
+        for (Ticket ticket : created) {
+            auditService.log(AuditLogBuilder.create()
+                    .tenant(tenantId)
+                    .actor(ticket.getReportedById(), null, null)
+                    .action(AuditAction.CREATE)
+                    .entity("TICKET", ticket.getId(), ticket.getIdentifier())
+                    .scope(ticket.getProgramId(), ticket.getWorkstreamId())
+                    .description("Created ticket: " + ticket.getIdentifier() + " - " + ticket.getTitle()));
+        }
+        created.stream()
+                .collect(Collectors.groupingBy(Ticket::getReportedById))
+                .forEach((reporterId, tickets) -> eventPublisher.publishTicketsCreated(tickets, reporterId));
+        return created.size();
+    }
+
+    private Map<IngestKey, UUID> findOpenTickets(UUID tenantId, Set<IngestKey> keys) {
+        Set<UUID> workstreamIds = keys.stream()
+                .filter(k -> k.externalRef() != null)
+                .map(IngestKey::workstreamId)
+                .collect(Collectors.toSet());
+        if (workstreamIds.isEmpty()) {
+            return Map.of();
+        }
+        Set<String> refs = keys.stream()
+                .map(IngestKey::externalRef)
+                .filter(ref -> ref != null)
+                .collect(Collectors.toSet());
+
+        // Newest first, so the most recent open ticket wins if several share a ref
+        Map<IngestKey, UUID> open = new LinkedHashMap<>();
+        for (Object[] row : ticketRepository.findOpenByExternalRefs(tenantId, workstreamIds, refs, CLOSED_STATUSES)) {
+            open.putIfAbsent(new IngestKey(tenantId, (UUID) row[1], (String) row[2], null, null), (UUID) row[0]);
+        }
+        return open;
+    }
+
+    private void lockTenant(UUID tenantId) {
+        jdbcTemplate.query(LOCK_SQL, rs -> null, "ticket-ingest:" + tenantId);
+    }
+}
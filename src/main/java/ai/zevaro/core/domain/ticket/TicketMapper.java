@@ -1,6 +1,7 @@
 package ai.zevaro.core.domain.ticket;
 
 import ai.zevaro.core.domain.ticket.dto.CreateTicketRequest;
+import ai.zevaro.core.domain.ticket.dto.ExternalTicketRequest;
 import ai.zevaro.core.domain.ticket.dto.TicketResponse;
 import ai.zevaro.core.domain.ticket.dto.UpdateTicketRequest;
 import org.springframework.stereotype.Component;
@@ -35,6 +36,21 @@ public class TicketMapper {
         return t;
     }
 
+    public CreateTicketRequest toCreateRequest(ExternalTicketRequest req) {
+        return new CreateTicketRequest(
+                req.title(),
+                req.description(),
+                req.type(),
+                req.severity(),
+                null,
+                req.environment(),
+                null, null, null,
+                req.source() != null ? req.source() : TicketSource.API,
+                req.externalRef(),
+                null
+        );
+    }
+
     public TicketResponse toResponse(Ticket ticket, String workstreamName, String programName,
                                      String reportedByName, String assignedToName) {
         return new TicketResponse(
@@ -60,6 +76,8 @@ public class TicketMapper {
                 ticket.getActualBehavior(),
                 ticket.getSource(),
                 ticket.getExternalRef(),
+                ticket.getOccurrenceCount(),
+                ticket.getLastOccurredAt(),
                 ticket.getEstimatedHours(),
                 ticket.getActualHours(),
                 ticket.getResolvedAt(),
@@ -3,16 +3,18 @@ package ai.zevaro.core.domain.ticket;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface TicketRepository extends JpaRepository<Ticket, UUID> {
+public interface TicketRepository extends JpaRepository<Ticket, UUID>, JpaSpecificationExecutor<Ticket> {
 
     List<Ticket> findByTenantIdAndWorkstreamIdOrderByCreatedAtDesc(UUID tenantId, UUID workstreamId);
 
@@ -39,6 +41,9 @@ public interface TicketRepository extends JpaRepository<Ticket, UUID> {
     @Query("SELECT MAX(CAST(SUBSTRING(t.identifier, LENGTH(:prefix) + 1) AS int)) FROM Ticket t WHERE t.tenantId = :tenantId AND t.workstreamId = :workstreamId AND t.identifier LIKE CONCAT(:prefix, '%')")
     Optional<Integer> findMaxIdentifierNumber(@Param("tenantId") UUID tenantId, @Param("workstreamId") UUID workstreamId, @Param("prefix") String prefix);
 
-    @Query("SELECT t FROM Ticket t WHERE t.tenantId = :tenantId AND (LOWER(t.title) LIKE LOWER(CONCAT('%', :query, '%')) OR LOWER(t.description) LIKE LOWER(CONCAT('%', :query, '%')) OR LOWER(t.identifier) LIKE LOWER(CONCAT('%', :query, '%')))")
-    List<Ticket> search(@Param("tenantId") UUID tenantId, @Param("query") String query, Pageable pageable);
+    @Query("SELECT t.id, t.workstreamId, t.externalRef FROM Ticket t WHERE t.tenantId = :tenantId AND t.workstreamId IN :workstreamIds AND t.externalRef IN :externalRefs AND t.status NOT IN :closedStatuses ORDER BY t.createdAt DESC")
+    List<Object[]> findOpenByExternalRefs(@Param("tenantId") UUID tenantId, @Param("workstreamIds") Collection<UUID> workstreamIds, @Param("externalRefs") Collection<String> externalRefs, @Param("closedStatuses") Collection<TicketStatus> closedStatuses);
+
+    @Query("SELECT t.id, t.title FROM Ticket t WHERE t.tenantId = :tenantId AND t.id IN :ids")
+    List<Object[]> findTitlesByIds(@Param("tenantId") UUID tenantId, @Param("ids") Collection<UUID> ids);
 }
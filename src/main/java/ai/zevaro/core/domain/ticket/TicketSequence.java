@@ -0,0 +1,40 @@
+package ai.zevaro.core.domain.ticket;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+/**
+ * Next free identifier number for one ticket type prefix in a workstream. Managed with plain SQL
+ * by {@link TicketSequenceAllocator}; mapped here so the table is created with the rest of the schema.
+ */
+@Entity
+@Table(name = "ticket_sequences",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"tenant_id", "workstream_id", "prefix"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class TicketSequence {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
+    @Column(name = "workstream_id", nullable = false)
+    private UUID workstreamId;
+
+    @Column(nullable = false, length = 10)
+    private String prefix;
+
+    @Column(name = "next_value", nullable = false)
+    private int nextValue;
+}
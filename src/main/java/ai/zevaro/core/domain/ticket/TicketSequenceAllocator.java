@@ -0,0 +1,74 @@
+package ai.zevaro.core.domain.ticket;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Hands out ticket identifiers ({@code BUG-001}, {@code SEC-042}, ...) from a per-workstream,
+ * per-prefix counter in {@code ticket_sequences}.
+ *
+ * - A block of any size costs one {@code UPDATE ... RETURNING}; the row lock serializes concurrent
+ *   allocations for the same prefix, so two tickets can never get the same identifier
+ * - Runs in the caller's transaction: a rollback returns the block, so identifiers stay gap-free
+ * - A counter is seeded once from the highest existing identifier the first time it's used
+ */
+@Component
+@RequiredArgsConstructor
+public class TicketSequenceAllocator {
+
+    private static final Map<TicketType, String> TYPE_PREFIXES = Map.of(
+            TicketType.BUG, "BUG-",
+            TicketType.ENHANCEMENT, "ENH-",
+            TicketType.MAINTENANCE, "MAINT-",
+            TicketType.SECURITY, "SEC-",
+            TicketType.TECH_DEBT, "DEBT-"
+    );
+
+    private static final String ALLOCATE_SQL =
+            "UPDATE ticket_sequences SET next_value = next_value + ? " +
+            "WHERE tenant_id = ? AND workstream_id = ? AND prefix = ? " +
+            "RETURNING next_value - ?";
+
+    private static final String SEED_SQL =
+            "INSERT INTO ticket_sequences (id, tenant_id, workstream_id, prefix, next_value) VALUES (?, ?, ?, ?, ?) " +
+            "ON CONFLICT (tenant_id, workstream_id, prefix) DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TicketRepository ticketRepository;
+
+    /**
+     * Reserve {@code count} consecutive identifiers for a ticket type in a workstream.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<String> allocate(UUID tenantId, UUID workstreamId, TicketType type, int count) {
+        String prefix = TYPE_PREFIXES.get(type);
+        Integer first = reserve(tenantId, workstreamId, prefix, count);
+        if (first == null) {
+            int seed = ticketRepository.findMaxIdentifierNumber(tenantId, workstreamId, prefix)
+                    .map(max -> max + 1)
+                    .orElse(1);
+            // A concurrent seed wins the conflict; either way the row exists now
+            jdbcTemplate.update(SEED_SQL, UUID.randomUUID(), tenantId, workstreamId, prefix, seed);
+            first = reserve(tenantId, workstreamId, prefix, count);
+        }
+
+        List<String> identifiers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            identifiers.add(prefix + String.format("%03d", first + i));
+        }
+        return identifiers;
+    }
+
+    private Integer reserve(UUID tenantId, UUID workstreamId, String prefix, int count) {
+        return jdbcTemplate.query(ALLOCATE_SQL, rs -> rs.next() ? rs.getInt(1) : null,
+                count, tenantId, workstreamId, prefix, count);
+    }
+}
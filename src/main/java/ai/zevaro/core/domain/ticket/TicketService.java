@@ -1,8 +1,11 @@
 package ai.zevaro.core.domain.ticket;
 
+import ai.zevaro.core.cache.ReferenceNameCache;
 import ai.zevaro.core.domain.audit.AuditAction;
 import ai.zevaro.core.domain.audit.AuditLogBuilder;
 import ai.zevaro.core.domain.audit.AuditService;
+import ai.zevaro.core.domain.common.KeysetCursor;
+import ai.zevaro.core.domain.common.dto.CursorPage;
 import ai.zevaro.core.domain.program.Program;
 import ai.zevaro.core.domain.program.ProgramRepository;
 import ai.zevaro.core.domain.ticket.dto.CreateTicketRequest;
@@ -10,8 +13,6 @@ import ai.zevaro.core.domain.ticket.dto.ResolveTicketRequest;
 import ai.zevaro.core.domain.ticket.dto.TicketResponse;
 import ai.zevaro.core.domain.ticket.dto.TriageTicketRequest;
 import ai.zevaro.core.domain.ticket.dto.UpdateTicketRequest;
-import ai.zevaro.core.domain.user.User;
-import ai.zevaro.core.domain.user.UserRepository;
 import ai.zevaro.core.domain.workstream.Workstream;
 import ai.zevaro.core.domain.workstream.WorkstreamMode;
 import ai.zevaro.core.domain.workstream.WorkstreamRepository;
@@ -20,6 +21,8 @@ import ai.zevaro.core.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,8 +39,9 @@ public class TicketService {
     private final TicketRepository ticketRepository;
     private final WorkstreamRepository workstreamRepository;
     private final ProgramRepository programRepository;
-    private final UserRepository userRepository;
+    private final ReferenceNameCache referenceNameCache;
     private final TicketMapper ticketMapper;
+    private final TicketSequenceAllocator sequenceAllocator;
     private final AuditService auditService;
     private final EventPublisher eventPublisher;
 
@@ -49,14 +53,6 @@ public class TicketService {
             TicketStatus.RESOLVED, Set.of(TicketStatus.CLOSED)
     );
 
-    private static final Map<TicketType, String> TYPE_PREFIXES = Map.of(
-            TicketType.BUG, "BUG-",
-            TicketType.ENHANCEMENT, "ENH-",
-            TicketType.MAINTENANCE, "MAINT-",
-            TicketType.SECURITY, "SEC-",
-            TicketType.TECH_DEBT, "DEBT-"
-    );
-
     // --- CRUD ---
 
     @Transactional
@@ -79,6 +75,7 @@ public class TicketService {
                 .actor(userId, null, null)
                 .action(AuditAction.CREATE)
                 .entity("TICKET", ticket.getId(), ticket.getIdentifier())
+                .scope(ticket.getProgramId(), ticket.getWorkstreamId())
                 .description("Created ticket: " + ticket.getIdentifier() + " - " + ticket.getTitle()));
 
         eventPublisher.publishTicketCreated(ticket, userId);
@@ -113,6 +110,22 @@ public class TicketService {
                 .map(this::buildResponse);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<TicketResponse> listByWorkstreamAfter(UUID workstreamId, UUID tenantId, String cursor, int size) {
+        workstreamRepository.findByIdAndTenantId(workstreamId, tenantId)
+                .orElseThrow(() -> new ResourceNotFoundException("Workstream", "id", workstreamId));
+
+        Specification<Ticket> spec = Specification.<Ticket>where((root, query, cb) -> cb.and(
+                        cb.equal(root.get("tenantId"), tenantId),
+                        cb.equal(root.get("workstreamId"), workstreamId)))
+                .and(KeysetCursor.after(KeysetCursor.decode(cursor), "createdAt", Sort.Direction.DESC));
+        List<Ticket> rows = ticketRepository.findBy(spec, query -> query
+                .sortBy(KeysetCursor.sort("createdAt", Sort.Direction.DESC))
+                .limit(size + 1)
+                .all());
+        return CursorPage.of(rows, size, t -> new KeysetCursor(t.getCreatedAt(), t.getId()), this::buildResponse);
+    }
+
     @Transactional(readOnly = true)
     public List<TicketResponse> listByProgram(UUID programId, UUID tenantId) {
         programRepository.findByIdAndTenantId(programId, tenantId)
@@ -137,6 +150,7 @@ public class TicketService {
                 .actor(userId, null, null)
                 .action(AuditAction.UPDATE)
                 .entity("TICKET", ticket.getId(), ticket.getIdentifier())
+                .scope(ticket.getProgramId(), ticket.getWorkstreamId())
                 .description("Updated ticket: " + ticket.getIdentifier()));
 
         return buildResponse(ticket);
@@ -154,6 +168,7 @@ public class TicketService {
                 .actor(userId, null, null)
                 .action(AuditAction.DELETE)
                 .entity("TICKET", ticket.getId(), ticket.getIdentifier())
+                .scope(ticket.getProgramId(), ticket.getWorkstreamId())
                 .description("Deleted ticket: " + ticket.getIdentifier()));
     }
 
@@ -177,6 +192,7 @@ public class TicketService {
                 .actor(userId, null, null)
                 .action(AuditAction.UPDATE)
                 .entity("TICKET", ticket.getId(), ticket.getIdentifier())
+                .scope(ticket.getProgramId(), ticket.getWorkstreamId())
                 .description("Triaged ticket: " + ticket.getIdentifier() + " severity=" + req.severity()));
 
         return buildResponse(ticket);
@@ -199,6 +215,7 @@ public class TicketService {
                 .actor(userId, null, null)
                 .action(AuditAction.UPDATE)
                 .entity("TICKET", ticket.getId(), ticket.getIdentifier())
+                .scope(ticket.getProgramId(), ticket.getWorkstreamId())
                 .description("Assigned ticket: " + ticket.getIdentifier() + " to " + assignedToId));
 
         eventPublisher.publishTicketAssigned(ticket, userId);
@@ -220,6 +237,7 @@ public class TicketService {
                 .actor(userId, null, null)
                 .action(AuditAction.UPDATE)
                 .entity("TICKET", ticket.getId(), ticket.getIdentifier())
+                .scope(ticket.getProgramId(), ticket.getWorkstreamId())
                 .description("Started work on ticket: " + ticket.getIdentifier()));
 
         return buildResponse(ticket);
@@ -239,6 +257,7 @@ public class TicketService {
                 .actor(userId, null, null)
                 .action(AuditAction.UPDATE)
                 .entity("TICKET", ticket.getId(), ticket.getIdentifier())
+                .scope(ticket.getProgramId(), ticket.getWorkstreamId())
                 .description("Submitted ticket for review: " + ticket.getIdentifier()));
 
         return buildResponse(ticket);
@@ -263,6 +282,7 @@ public class TicketService {
                 .actor(userId, null, null)
                 .action(AuditAction.UPDATE)
                 .entity("TICKET", ticket.getId(), ticket.getIdentifier())
+                .scope(ticket.getProgramId(), ticket.getWorkstreamId())
                 .description("Resolved ticket: " + ticket.getIdentifier() + " resolution=" + req.resolution()));
 
         eventPublisher.publishTicketResolved(ticket, userId);
@@ -285,6 +305,7 @@ public class TicketService {
                 .actor(userId, null, null)
                 .action(AuditAction.UPDATE)
                 .entity("TICKET", ticket.getId(), ticket.getIdentifier())
+                .scope(ticket.getProgramId(), ticket.getWorkstreamId())
                 .description("Closed ticket: " + ticket.getIdentifier()));
 
         return buildResponse(ticket);
@@ -305,6 +326,7 @@ public class TicketService {
                 .actor(userId, null, null)
                 .action(AuditAction.UPDATE)
                 .entity("TICKET", ticket.getId(), ticket.getIdentifier())
+                .scope(ticket.getProgramId(), ticket.getWorkstreamId())
                 .description("Marked ticket as won't fix: " + ticket.getIdentifier()));
 
         return buildResponse(ticket);
@@ -319,20 +341,12 @@ public class TicketService {
     }
 
     private String generateIdentifier(UUID tenantId, UUID workstreamId, TicketType type) {
-        String prefix = TYPE_PREFIXES.get(type);
-        int nextNumber = ticketRepository.findMaxIdentifierNumber(tenantId, workstreamId, prefix)
-                .map(max -> max + 1)
-                .orElse(1);
-        return prefix + String.format("%03d", nextNumber);
+        return sequenceAllocator.allocate(tenantId, workstreamId, type, 1).get(0);
     }
 
     private TicketResponse buildResponse(Ticket ticket) {
-        String workstreamName = workstreamRepository.findByIdAndTenantId(ticket.getWorkstreamId(), ticket.getTenantId())
-                .map(Workstream::getName)
-                .orElse(null);
-        String programName = programRepository.findByIdAndTenantId(ticket.getProgramId(), ticket.getTenantId())
-                .map(Program::getName)
-                .orElse(null);
+        String workstreamName = referenceNameCache.workstreamName(ticket.getTenantId(), ticket.getWorkstreamId());
+        String programName = referenceNameCache.programName(ticket.getTenantId(), ticket.getProgramId());
         String reportedByName = resolveUserName(ticket.getReportedById(), ticket.getTenantId());
         String assignedToName = resolveUserName(ticket.getAssignedToId(), ticket.getTenantId());
 
@@ -343,8 +357,6 @@ public class TicketService {
         if (userId == null) {
             return null;
         }
-        return userRepository.findByIdAndTenantId(userId, tenantId)
-                .map(User::getFullName)
-                .orElse(null);
+        return referenceNameCache.userName(tenantId, userId);
     }
 }
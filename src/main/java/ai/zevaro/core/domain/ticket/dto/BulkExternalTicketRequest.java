@@ -0,0 +1,14 @@
+package ai.zevaro.core.domain.ticket.dto;
+
+import ai.zevaro.core.config.AppConstants;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkExternalTicketRequest(
+        @NotEmpty
+        @Size(max = AppConstants.TICKET_INGEST_MAX_BATCH_ITEMS)
+        List<@Valid ExternalTicketRequest> tickets
+) {}
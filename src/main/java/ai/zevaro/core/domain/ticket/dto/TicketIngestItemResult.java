@@ -0,0 +1,10 @@
+package ai.zevaro.core.domain.ticket.dto;
+
+import ai.zevaro.core.domain.ticket.TicketIngestStatus;
+
+public record TicketIngestItemResult(
+        int index,
+        String externalRef,
+        TicketIngestStatus status,
+        String error
+) {}
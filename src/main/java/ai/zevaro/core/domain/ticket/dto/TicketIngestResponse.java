@@ -0,0 +1,25 @@
+package ai.zevaro.core.domain.ticket.dto;
+
+import ai.zevaro.core.domain.ticket.TicketIngestStatus;
+
+import java.util.List;
+
+public record TicketIngestResponse(
+        int requested,
+        int accepted,
+        int deduped,
+        int rejected,
+        int throttled,
+        List<TicketIngestItemResult> results
+) {
+    public static TicketIngestResponse of(List<TicketIngestItemResult> results) {
+        int[] counts = new int[TicketIngestStatus.values().length];
+        results.forEach(r -> counts[r.status().ordinal()]++);
+        return new TicketIngestResponse(results.size(),
+                counts[TicketIngestStatus.ACCEPTED.ordinal()],
+                counts[TicketIngestStatus.DEDUPED.ordinal()],
+                counts[TicketIngestStatus.REJECTED.ordinal()],
+                counts[TicketIngestStatus.THROTTLED.ordinal()],
+                results);
+    }
+}
@@ -33,6 +33,8 @@ public record TicketResponse(
     String actualBehavior,
     TicketSource source,
     String externalRef,
+    int occurrenceCount,
+    Instant lastOccurredAt,
     BigDecimal estimatedHours,
     BigDecimal actualHours,
     Instant resolvedAt,
@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,6 +18,8 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     Optional<User> findByIdAndTenantId(UUID id, UUID tenantId);
 
+    List<User> findByIdInAndTenantId(Collection<UUID> ids, UUID tenantId);
+
     Optional<User> findByEmailAndTenantId(String email, UUID tenantId);
 
     Optional<User> findByEmail(String email);
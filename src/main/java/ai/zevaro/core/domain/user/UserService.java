@@ -1,5 +1,7 @@
 package ai.zevaro.core.domain.user;
 
+import ai.zevaro.core.cache.ReferenceNameCache;
+import ai.zevaro.core.cache.ReferenceType;
 import ai.zevaro.core.domain.rbac.Role;
 import ai.zevaro.core.domain.rbac.RoleRepository;
 import ai.zevaro.core.domain.user.dto.UpdateUserRequest;
@@ -19,6 +21,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final UserMapper userMapper;
+    private final ReferenceNameCache referenceNameCache;
 
     @Transactional(readOnly = true)
     public List<UserResponse> getUsers(UUID tenantId) {
@@ -83,6 +86,7 @@ public class UserService {
         }
 
         user = userRepository.save(user);
+        referenceNameCache.evict(ReferenceType.USER, tenantId, id);
         return userMapper.toResponse(user);
     }
 
@@ -104,5 +108,6 @@ public class UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
         user.setActive(false);
         userRepository.save(user);
+        referenceNameCache.evict(ReferenceType.USER, tenantId, id);
     }
 }
@@ -1,5 +1,6 @@
 package ai.zevaro.core.domain.workstream;
 
+import ai.zevaro.core.domain.search.SearchIndexListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
@@ -29,7 +30,7 @@ import java.util.UUID;
         @Index(name = "idx_workstreams_tenant_status", columnList = "tenant_id, status")
     }
 )
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, SearchIndexListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -28,6 +29,6 @@ public interface WorkstreamRepository extends JpaRepository<Workstream, UUID> {
 
     boolean existsByTenantIdAndProgramIdAndName(UUID tenantId, UUID programId, String name);
 
-    @Query("SELECT w FROM Workstream w WHERE w.tenantId = :tenantId AND (LOWER(w.name) LIKE LOWER(CONCAT('%', :query, '%')) OR LOWER(w.description) LIKE LOWER(CONCAT('%', :query, '%')))")
-    List<Workstream> search(@Param("tenantId") UUID tenantId, @Param("query") String query, Pageable pageable);
+    @Query("SELECT w.id, w.name FROM Workstream w WHERE w.tenantId = :tenantId AND w.id IN :ids")
+    List<Object[]> findNamesByIds(@Param("tenantId") UUID tenantId, @Param("ids") Collection<UUID> ids);
 }
@@ -1,5 +1,7 @@
 package ai.zevaro.core.domain.workstream;
 
+import ai.zevaro.core.cache.ReferenceNameCache;
+import ai.zevaro.core.cache.ReferenceType;
 import ai.zevaro.core.domain.audit.AuditAction;
 import ai.zevaro.core.domain.audit.AuditLogBuilder;
 import ai.zevaro.core.domain.audit.AuditService;
@@ -31,6 +33,7 @@ public class WorkstreamService {
     private final WorkstreamMapper workstreamMapper;
     private final AuditService auditService;
     private final EventPublisher eventPublisher;
+    private final ReferenceNameCache referenceNameCache;
 
     @Transactional
     public WorkstreamResponse create(UUID programId, CreateWorkstreamRequest request, UUID tenantId, UUID userId) {
@@ -49,6 +52,7 @@ public class WorkstreamService {
                 .actor(userId, null, null)
                 .action(AuditAction.CREATE)
                 .entity("WORKSTREAM", workstream.getId(), workstream.getName())
+                .scope(workstream.getProgramId(), workstream.getId())
                 .description("Created workstream: " + workstream.getName()));
 
         eventPublisher.publishWorkstreamCreated(workstream, userId);
@@ -118,12 +122,14 @@ public class WorkstreamService {
         String oldStatus = workstream.getStatus().name();
         workstreamMapper.applyUpdate(workstream, request);
         workstream = workstreamRepository.save(workstream);
+        referenceNameCache.evict(ReferenceType.WORKSTREAM, tenantId, id);
 
         auditService.log(AuditLogBuilder.create()
                 .tenant(tenantId)
                 .actor(userId, null, null)
                 .action(AuditAction.UPDATE)
                 .entity("WORKSTREAM", workstream.getId(), workstream.getName())
+                .scope(workstream.getProgramId(), workstream.getId())
                 .description("Updated workstream: " + workstream.getName()));
 
         if (!oldStatus.equals(workstream.getStatus().name())) {
@@ -144,12 +150,14 @@ public class WorkstreamService {
 
         workstream.setStatus(WorkstreamStatus.CANCELLED);
         workstreamRepository.save(workstream);
+        referenceNameCache.evict(ReferenceType.WORKSTREAM, tenantId, id);
 
         auditService.log(AuditLogBuilder.create()
                 .tenant(tenantId)
                 .actor(userId, null, null)
                 .action(AuditAction.DELETE)
                 .entity("WORKSTREAM", workstream.getId(), workstream.getName())
+                .scope(workstream.getProgramId(), workstream.getId())
                 .description("Cancelled workstream: " + workstream.getName()));
     }
 
@@ -1,5 +1,7 @@
 package ai.zevaro.core.event;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.time.Instant;
 import java.util.UUID;
 
@@ -9,4 +11,11 @@ public interface DomainEvent {
     UUID getTenantId();
     Instant getTimestamp();
     UUID getActorId();
+
+    /**
+     * The entity the event is about; used as the Kafka key, so events of one entity stay in order.
+     * Already part of the payload under its own name.
+     */
+    @JsonIgnore
+    UUID getAggregateId();
 }
@@ -1,7 +1,7 @@
 package ai.zevaro.core.event;
 
-import ai.zevaro.core.config.KafkaProducerInterface;
 import ai.zevaro.core.config.KafkaTopics;
+import ai.zevaro.core.domain.activity.ActivityStreamHub;
 import ai.zevaro.core.domain.comment.Comment;
 import ai.zevaro.core.domain.decision.Decision;
 import ai.zevaro.core.domain.decision.DecisionPriority;
@@ -37,25 +37,43 @@ import ai.zevaro.core.event.ticket.TicketAssignedEvent;
 import ai.zevaro.core.event.ticket.TicketCreatedEvent;
 import ai.zevaro.core.event.ticket.TicketResolvedEvent;
 import ai.zevaro.core.event.workstream.WorkstreamCreatedEvent;
+import ai.zevaro.core.event.outbox.OutboxEvent;
+import ai.zevaro.core.event.outbox.OutboxEventRepository;
 import ai.zevaro.core.event.workstream.WorkstreamStatusChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
+import java.sql.Timestamp;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 /**
- * Event publisher service using KafkaProducerService with circuit breaker protection.
+ * Publishes domain events through the transactional outbox.
+ * <p>
+ * Events are written to {@code event_outbox} in the caller's transaction, so they are published
+ * only if the change commits; {@link ai.zevaro.core.event.outbox.OutboxRelay} sends them to Kafka.
+ * After commit they are also handed to {@link ActivityStreamHub} for live activity feeds.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EventPublisher {
 
-    private final KafkaProducerInterface kafkaProducerService;
+    private static final String INSERT_OUTBOX =
+            "INSERT INTO event_outbox (event_id, tenant_id, event_type, topic, event_key, payload, attempts, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, 0, ?)";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ActivityStreamHub activityStream;
 
     private static final Map<String, String> TOPIC_MAP = Map.ofEntries(
             Map.entry("decision.created", KafkaTopics.DECISION_CREATED),
@@ -83,17 +101,60 @@ public class EventPublisher {
     );
 
     public void publish(DomainEvent event) {
-        String topic = TOPIC_MAP.getOrDefault(event.getEventType(), "zevaro.events.unknown");
-        String key = event.getTenantId().toString();
+        OutboxEvent outboxEvent = toOutboxEvent(event);
+        log.debug("Queueing event {} for topic {}", event.getEventType(), outboxEvent.getTopic());
+        outboxEventRepository.save(outboxEvent);
+        activityStream.publishEvents(List.of(outboxEvent));
+    }
+
+    /**
+     * Queue several events with one batched insert (the outbox ID is an identity column,
+     * which Hibernate can't batch).
+     */
+    public void publishAll(List<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<OutboxEvent> outboxEvents = new ArrayList<>(events.size());
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (DomainEvent event : events) {
+            OutboxEvent o = toOutboxEvent(event);
+            outboxEvents.add(o);
+            rows.add(new Object[]{o.getEventId(), o.getTenantId(), o.getEventType(), o.getTopic(),
+                    o.getEventKey(), o.getPayload(), Timestamp.from(o.getCreatedAt())});
+        }
+        log.debug("Queueing {} events", rows.size());
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX, rows);
+        activityStream.publishEvents(outboxEvents);
+    }
 
-        log.debug("Publishing event {} to topic {}", event.getEventType(), topic);
-        kafkaProducerService.send(topic, key, event);
+    private OutboxEvent toOutboxEvent(DomainEvent event) {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setEventId(event.getEventId());
+        outboxEvent.setTenantId(event.getTenantId());
+        outboxEvent.setEventType(event.getEventType());
+        outboxEvent.setTopic(TOPIC_MAP.getOrDefault(event.getEventType(), "zevaro.events.unknown"));
+        outboxEvent.setEventKey(event.getAggregateId().toString());
+        try {
+            outboxEvent.setPayload(objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize event " + event.getEventType(), e);
+        }
+        return outboxEvent;
     }
 
     // --- Decision events ---
 
     public void publishDecisionCreated(Decision decision, UUID actorId) {
-        publish(new DecisionCreatedEvent(
+        publish(decisionCreated(decision, actorId));
+    }
+
+    public void publishDecisionsCreated(List<Decision> decisions, UUID actorId) {
+        publishAll(decisions.stream().map(d -> decisionCreated(d, actorId)).toList());
+    }
+
+    private DecisionCreatedEvent decisionCreated(Decision decision, UUID actorId) {
+        return new DecisionCreatedEvent(
                 decision.getTenantId(),
                 actorId,
                 decision.getId(),
@@ -103,13 +164,26 @@ public class EventPublisher {
                 decision.getAssignedTo() != null ? decision.getAssignedTo().getId() : null,
                 decision.getOutcome() != null ? decision.getOutcome().getId() : null,
                 decision.getHypothesis() != null ? decision.getHypothesis().getId() : null,
-                decision.getDueAt()
-        ));
+                decision.getDueAt(),
+                programIdOf(decision),
+                decision.getWorkstreamId()
+        );
     }
 
     public void publishDecisionResolved(Decision decision, UUID actorId, List<UUID> unblockedHypothesisIds) {
+        publish(decisionResolved(decision, actorId, unblockedHypothesisIds));
+    }
+
+    public void publishDecisionsResolved(List<Decision> decisions, UUID actorId,
+                                         Map<UUID, List<UUID>> unblockedHypothesisIds) {
+        publishAll(decisions.stream()
+                .map(d -> decisionResolved(d, actorId, unblockedHypothesisIds.getOrDefault(d.getId(), List.of())))
+                .toList());
+    }
+
+    private DecisionResolvedEvent decisionResolved(Decision decision, UUID actorId, List<UUID> unblockedHypothesisIds) {
         long cycleTimeHours = Duration.between(decision.getCreatedAt(), decision.getDecidedAt()).toHours();
-        publish(new DecisionResolvedEvent(
+        return new DecisionResolvedEvent(
                 decision.getTenantId(),
                 actorId,
                 decision.getId(),
@@ -120,8 +194,10 @@ public class EventPublisher {
                 cycleTimeHours,
                 decision.getEscalationLevel() > 0,
                 decision.getEscalationLevel(),
-                unblockedHypothesisIds
-        ));
+                unblockedHypothesisIds,
+                programIdOf(decision),
+                decision.getWorkstreamId()
+        );
     }
 
     public void publishDecisionEscalated(Decision decision, UUID actorId, UUID escalatedFromId, String reason) {
@@ -135,7 +211,9 @@ public class EventPublisher {
                 decision.getEscalatedTo().getId(),
                 decision.getEscalationLevel(),
                 reason,
-                decision.getWaitTimeHours()
+                decision.getWaitTimeHours(),
+                programIdOf(decision),
+                decision.getWorkstreamId()
         ));
     }
 
@@ -149,7 +227,9 @@ public class EventPublisher {
                 outcome.getTitle(),
                 outcome.getPriority(),
                 outcome.getTeam() != null ? outcome.getTeam().getId() : null,
-                outcome.getOwner() != null ? outcome.getOwner().getId() : null
+                outcome.getOwner() != null ? outcome.getOwner().getId() : null,
+                programIdOf(outcome),
+                outcome.getWorkstreamId()
         ));
     }
 
@@ -165,7 +245,9 @@ public class EventPublisher {
                 outcome.getValidatedBy().getId(),
                 outcome.getValidationNotes(),
                 finalMetrics,
-                daysToValidation
+                daysToValidation,
+                programIdOf(outcome),
+                outcome.getWorkstreamId()
         ));
     }
 
@@ -176,7 +258,9 @@ public class EventPublisher {
                 outcome.getId(),
                 outcome.getTitle(),
                 outcome.getInvalidatedBy().getId(),
-                outcome.getValidationNotes()
+                outcome.getValidationNotes(),
+                programIdOf(outcome),
+                outcome.getWorkstreamId()
         ));
     }
 
@@ -189,7 +273,8 @@ public class EventPublisher {
                 hypothesis.getId(),
                 hypothesis.getTitle(),
                 hypothesis.getOutcome().getId(),
-                hypothesis.getOwner() != null ? hypothesis.getOwner().getId() : null
+                hypothesis.getOwner() != null ? hypothesis.getOwner().getId() : null,
+                programIdOf(hypothesis)
         ));
     }
 
@@ -203,7 +288,8 @@ public class EventPublisher {
                 previousStatus,
                 hypothesis.getStatus(),
                 hypothesis.getOutcome().getId(),
-                blockedByDecisionId
+                blockedByDecisionId,
+                programIdOf(hypothesis)
         ));
     }
 
@@ -219,7 +305,8 @@ public class EventPublisher {
                 hypothesis.getStatus() == HypothesisStatus.VALIDATED,
                 hypothesis.getOutcome().getId(),
                 experimentResults,
-                daysToConclusion
+                daysToConclusion,
+                programIdOf(hypothesis)
         ));
     }
 
@@ -249,7 +336,7 @@ public class EventPublisher {
     public void publishWorkstreamStatusChanged(Workstream workstream, String oldStatus, UUID actorId) {
         publish(new WorkstreamStatusChangedEvent(
                 workstream.getTenantId(), actorId, workstream.getId(),
-                oldStatus, workstream.getStatus().name()));
+                oldStatus, workstream.getStatus().name(), workstream.getProgramId()));
     }
 
     // --- Specification events ---
@@ -263,12 +350,13 @@ public class EventPublisher {
     public void publishSpecificationStatusChanged(Specification spec, String oldStatus, UUID actorId) {
         publish(new SpecificationStatusChangedEvent(
                 spec.getTenantId(), actorId, spec.getId(),
-                oldStatus, spec.getStatus().name()));
+                oldStatus, spec.getStatus().name(), spec.getProgramId(), spec.getWorkstreamId()));
     }
 
     public void publishSpecificationApproved(Specification spec, UUID actorId) {
         publish(new SpecificationApprovedEvent(
-                spec.getTenantId(), actorId, spec.getId()));
+                spec.getTenantId(), actorId, spec.getId(),
+                spec.getProgramId(), spec.getWorkstreamId()));
     }
 
     // --- Requirement events ---
@@ -276,36 +364,50 @@ public class EventPublisher {
     public void publishRequirementStatusChanged(Requirement req, String oldStatus, UUID actorId) {
         publish(new RequirementStatusChangedEvent(
                 req.getTenantId(), actorId, req.getId(),
-                req.getSpecificationId(), oldStatus, req.getStatus().name()));
+                req.getSpecificationId(), oldStatus, req.getStatus().name(),
+                req.getProgramId(), req.getWorkstreamId()));
     }
 
     // --- Ticket events ---
 
     public void publishTicketCreated(Ticket ticket, UUID actorId) {
-        publish(new TicketCreatedEvent(
+        publish(ticketCreated(ticket, actorId));
+    }
+
+    public void publishTicketsCreated(List<Ticket> tickets, UUID actorId) {
+        publishAll(tickets.stream().map(t -> ticketCreated(t, actorId)).toList());
+    }
+
+    private TicketCreatedEvent ticketCreated(Ticket ticket, UUID actorId) {
+        return new TicketCreatedEvent(
                 ticket.getTenantId(), actorId, ticket.getId(),
                 ticket.getWorkstreamId(), ticket.getType().name(),
-                ticket.getSeverity() != null ? ticket.getSeverity().name() : null));
+                ticket.getSeverity() != null ? ticket.getSeverity().name() : null,
+                ticket.getProgramId());
     }
 
     public void publishTicketResolved(Ticket ticket, UUID actorId) {
         publish(new TicketResolvedEvent(
                 ticket.getTenantId(), actorId, ticket.getId(),
-                ticket.getResolution() != null ? ticket.getResolution().name() : null));
+                ticket.getResolution() != null ? ticket.getResolution().name() : null,
+                ticket.getProgramId(), ticket.getWorkstreamId()));
     }
 
     public void publishTicketAssigned(Ticket ticket, UUID actorId) {
         publish(new TicketAssignedEvent(
                 ticket.getTenantId(), actorId, ticket.getId(),
-                ticket.getAssignedToId()));
+                ticket.getAssignedToId(), ticket.getProgramId(), ticket.getWorkstreamId()));
     }
 
     // --- Document events ---
 
-    public void publishDocumentPublished(Document document, UUID actorId) {
+    /**
+     * {@code programId} is the document's space's program, if the space belongs to one.
+     */
+    public void publishDocumentPublished(Document document, UUID programId, UUID actorId) {
         publish(new DocumentPublishedEvent(
                 document.getTenantId(), actorId, document.getId(),
-                document.getSpaceId(), document.getTitle(), document.getVersion()));
+                document.getSpaceId(), document.getTitle(), document.getVersion(), programId));
     }
 
     // --- Comment events ---
@@ -315,4 +417,18 @@ public class EventPublisher {
                 comment.getTenantId(), actorId, comment.getId(),
                 comment.getParentType().name(), comment.getParentId()));
     }
+
+    // Program and workstream ids let activity feeds filter events by scope
+
+    private static UUID programIdOf(Decision decision) {
+        return decision.getProgram() != null ? decision.getProgram().getId() : null;
+    }
+
+    private static UUID programIdOf(Outcome outcome) {
+        return outcome.getProgram() != null ? outcome.getProgram().getId() : null;
+    }
+
+    private static UUID programIdOf(Hypothesis hypothesis) {
+        return hypothesis.getProgram() != null ? hypothesis.getProgram().getId() : null;
+    }
 }
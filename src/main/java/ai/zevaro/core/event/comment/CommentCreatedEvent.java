@@ -22,4 +22,9 @@ public class CommentCreatedEvent extends BaseEvent {
     public String getEventType() {
         return "comment.created";
     }
+
+    @Override
+    public UUID getAggregateId() {
+        return commentId;
+    }
 }
@@ -11,6 +11,8 @@ import java.util.UUID;
 @Getter
 public class DecisionCreatedEvent extends BaseEvent {
     private final UUID decisionId;
+    private final UUID programId;
+    private final UUID workstreamId;
     private final String title;
     private final DecisionPriority priority;
     private final DecisionType type;
@@ -21,9 +23,12 @@ public class DecisionCreatedEvent extends BaseEvent {
 
     public DecisionCreatedEvent(UUID tenantId, UUID actorId, UUID decisionId, String title,
                                  DecisionPriority priority, DecisionType type, UUID assignedToId,
-                                 UUID outcomeId, UUID hypothesisId, Instant dueAt) {
+                                 UUID outcomeId, UUID hypothesisId, Instant dueAt,
+                                 UUID programId, UUID workstreamId) {
         super(tenantId, actorId);
         this.decisionId = decisionId;
+        this.programId = programId;
+        this.workstreamId = workstreamId;
         this.title = title;
         this.priority = priority;
         this.type = type;
@@ -37,4 +42,9 @@ public class DecisionCreatedEvent extends BaseEvent {
     public String getEventType() {
         return "decision.created";
     }
+
+    @Override
+    public UUID getAggregateId() {
+        return decisionId;
+    }
 }
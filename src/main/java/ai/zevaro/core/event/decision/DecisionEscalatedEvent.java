@@ -9,6 +9,8 @@ import java.util.UUID;
 @Getter
 public class DecisionEscalatedEvent extends BaseEvent {
     private final UUID decisionId;
+    private final UUID programId;
+    private final UUID workstreamId;
     private final String title;
     private final DecisionPriority priority;
     private final UUID escalatedFromId;
@@ -19,9 +21,12 @@ public class DecisionEscalatedEvent extends BaseEvent {
 
     public DecisionEscalatedEvent(UUID tenantId, UUID actorId, UUID decisionId, String title,
                                    DecisionPriority priority, UUID escalatedFromId, UUID escalatedToId,
-                                   int escalationLevel, String reason, long waitTimeHours) {
+                                   int escalationLevel, String reason, long waitTimeHours,
+                                   UUID programId, UUID workstreamId) {
         super(tenantId, actorId);
         this.decisionId = decisionId;
+        this.programId = programId;
+        this.workstreamId = workstreamId;
         this.title = title;
         this.priority = priority;
         this.escalatedFromId = escalatedFromId;
@@ -35,4 +40,9 @@ public class DecisionEscalatedEvent extends BaseEvent {
     public String getEventType() {
         return "decision.escalated";
     }
+
+    @Override
+    public UUID getAggregateId() {
+        return decisionId;
+    }
 }
@@ -10,6 +10,8 @@ import java.util.UUID;
 @Getter
 public class DecisionResolvedEvent extends BaseEvent {
     private final UUID decisionId;
+    private final UUID programId;
+    private final UUID workstreamId;
     private final String title;
     private final DecisionPriority priority;
     private final UUID decidedById;
@@ -22,9 +24,11 @@ public class DecisionResolvedEvent extends BaseEvent {
     public DecisionResolvedEvent(UUID tenantId, UUID actorId, UUID decisionId, String title,
                                   DecisionPriority priority, UUID decidedById, String rationale,
                                   long cycleTimeHours, boolean wasEscalated, int escalationLevel,
-                                  List<UUID> unblockedHypothesisIds) {
+                                  List<UUID> unblockedHypothesisIds, UUID programId, UUID workstreamId) {
         super(tenantId, actorId);
         this.decisionId = decisionId;
+        this.programId = programId;
+        this.workstreamId = workstreamId;
         this.title = title;
         this.priority = priority;
         this.decidedById = decidedById;
@@ -39,4 +43,9 @@ public class DecisionResolvedEvent extends BaseEvent {
     public String getEventType() {
         return "decision.resolved";
     }
+
+    @Override
+    public UUID getAggregateId() {
+        return decisionId;
+    }
 }
@@ -8,14 +8,16 @@ import java.util.UUID;
 @Getter
 public class DocumentPublishedEvent extends BaseEvent {
     private final UUID documentId;
+    private final UUID programId;
     private final UUID spaceId;
     private final String title;
     private final int version;
 
     public DocumentPublishedEvent(UUID tenantId, UUID actorId, UUID documentId, UUID spaceId,
-                                   String title, int version) {
+                                   String title, int version, UUID programId) {
         super(tenantId, actorId);
         this.documentId = documentId;
+        this.programId = programId;
         this.spaceId = spaceId;
         this.title = title;
         this.version = version;
@@ -25,4 +27,9 @@ public class DocumentPublishedEvent extends BaseEvent {
     public String getEventType() {
         return "document.published";
     }
+
+    @Override
+    public UUID getAggregateId() {
+        return documentId;
+    }
 }
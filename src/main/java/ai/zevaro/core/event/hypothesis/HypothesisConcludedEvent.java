@@ -9,6 +9,7 @@ import java.util.UUID;
 @Getter
 public class HypothesisConcludedEvent extends BaseEvent {
     private final UUID hypothesisId;
+    private final UUID programId;
     private final String title;
     private final boolean validated;
     private final UUID outcomeId;
@@ -17,9 +18,11 @@ public class HypothesisConcludedEvent extends BaseEvent {
 
     public HypothesisConcludedEvent(UUID tenantId, UUID actorId, UUID hypothesisId, String title,
                                      boolean validated, UUID outcomeId,
-                                     Map<String, Object> experimentResults, long daysToConclusion) {
+                                     Map<String, Object> experimentResults, long daysToConclusion,
+                                     UUID programId) {
         super(tenantId, actorId);
         this.hypothesisId = hypothesisId;
+        this.programId = programId;
         this.title = title;
         this.validated = validated;
         this.outcomeId = outcomeId;
@@ -31,4 +34,9 @@ public class HypothesisConcludedEvent extends BaseEvent {
     public String getEventType() {
         return "hypothesis.concluded";
     }
+
+    @Override
+    public UUID getAggregateId() {
+        return hypothesisId;
+    }
 }
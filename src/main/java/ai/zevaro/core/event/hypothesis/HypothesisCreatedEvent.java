@@ -8,14 +8,16 @@ import java.util.UUID;
 @Getter
 public class HypothesisCreatedEvent extends BaseEvent {
     private final UUID hypothesisId;
+    private final UUID programId;
     private final String title;
     private final UUID outcomeId;
     private final UUID assigneeId;
 
     public HypothesisCreatedEvent(UUID tenantId, UUID actorId, UUID hypothesisId, String title,
-                                   UUID outcomeId, UUID assigneeId) {
+                                   UUID outcomeId, UUID assigneeId, UUID programId) {
         super(tenantId, actorId);
         this.hypothesisId = hypothesisId;
+        this.programId = programId;
         this.title = title;
         this.outcomeId = outcomeId;
         this.assigneeId = assigneeId;
@@ -25,4 +27,9 @@ public class HypothesisCreatedEvent extends BaseEvent {
     public String getEventType() {
         return "hypothesis.created";
     }
+
+    @Override
+    public UUID getAggregateId() {
+        return hypothesisId;
+    }
 }
@@ -9,6 +9,7 @@ import java.util.UUID;
 @Getter
 public class HypothesisStatusChangedEvent extends BaseEvent {
     private final UUID hypothesisId;
+    private final UUID programId;
     private final String title;
     private final HypothesisStatus previousStatus;
     private final HypothesisStatus newStatus;
@@ -17,9 +18,10 @@ public class HypothesisStatusChangedEvent extends BaseEvent {
 
     public HypothesisStatusChangedEvent(UUID tenantId, UUID actorId, UUID hypothesisId, String title,
                                          HypothesisStatus previousStatus, HypothesisStatus newStatus,
-                                         UUID outcomeId, UUID blockedByDecisionId) {
+                                         UUID outcomeId, UUID blockedByDecisionId, UUID programId) {
         super(tenantId, actorId);
         this.hypothesisId = hypothesisId;
+        this.programId = programId;
         this.title = title;
         this.previousStatus = previousStatus;
         this.newStatus = newStatus;
@@ -31,4 +33,9 @@ public class HypothesisStatusChangedEvent extends BaseEvent {
     public String getEventType() {
         return "hypothesis.status-changed";
     }
+
+    @Override
+    public UUID getAggregateId() {
+        return hypothesisId;
+    }
 }
@@ -0,0 +1,49 @@
+package ai.zevaro.core.event.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Claim the oldest unsent events. Rows locked by another relay instance are skipped,
+     * so several nodes can relay concurrently without publishing the same event twice.
+     * Parked events are left alone.
+     */
+    @Query(value = "SELECT * FROM event_outbox WHERE sent_at IS NULL AND parked_at IS NULL ORDER BY id " +
+            "LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(@Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.sentAt = :sentAt WHERE e.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") Instant sentAt);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1 WHERE e.id IN :ids")
+    int incrementAttempts(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.parkedAt = :parkedAt WHERE e.id IN :ids")
+    int markParked(@Param("ids") Collection<Long> ids, @Param("parkedAt") Instant parkedAt);
+
+    @Query("SELECT COUNT(e) FROM OutboxEvent e WHERE e.sentAt IS NULL AND e.parkedAt IS NULL")
+    long countUnsent();
+
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e WHERE e.sentAt IS NULL AND e.parkedAt IS NULL")
+    Instant findOldestUnsentCreatedAt();
+
+    @Query("SELECT COUNT(e) FROM OutboxEvent e WHERE e.parkedAt IS NOT NULL")
+    long countParked();
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.sentAt < :before")
+    int deleteSentBefore(@Param("before") Instant before);
+}
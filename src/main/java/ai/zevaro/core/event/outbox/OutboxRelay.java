@@ -0,0 +1,199 @@
+package ai.zevaro.core.event.outbox;
+
+import ai.zevaro.core.config.AppConstants;
+import ai.zevaro.core.config.KafkaProducerInterface;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Relays {@link OutboxEvent}s to Kafka.
+ *
+ * - Claims batches with {@code FOR UPDATE SKIP LOCKED}, so every node can run the relay
+ * - Sends the whole batch, waits for the acknowledgements, then marks the acknowledged rows sent
+ *   in the same transaction; unacknowledged rows stay in the outbox and are retried next poll
+ * - Events are keyed by the entity they are about. Per key, only the acknowledged prefix is marked
+ *   sent: after the first failure, later events with that key stay unsent (even if Kafka took them)
+ *   so the retry replays them in order
+ * - An event Kafka keeps rejecting while it acknowledges others is parked after
+ *   {@link AppConstants#OUTBOX_MAX_ATTEMPTS} attempts, which releases the events queued behind it.
+ *   Parked rows stay in the outbox for inspection; clearing {@code parked_at} requeues them
+ * - While Kafka is unreachable no attempts are counted and nothing is dropped: the backlog grows
+ *   and is replayed in order once Kafka is reachable again
+ * - Delivery is at-least-once; consumers dedupe on the event ID
+ *
+ * Metrics: {@code zevaro.outbox.published}, {@code zevaro.outbox.failed} (rate = throughput),
+ * {@code zevaro.outbox.parked}, {@code zevaro.outbox.backlog}, {@code zevaro.outbox.parked.total}
+ * and {@code zevaro.outbox.lag.seconds} (age of the oldest unsent event).
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxRepository;
+    private final KafkaProducerInterface kafkaProducer;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Counter parkedCounter;
+    private final AtomicLong backlog = new AtomicLong(0);
+    private final AtomicLong parked = new AtomicLong(0);
+    private final AtomicLong lagSeconds = new AtomicLong(0);
+
+    public OutboxRelay(OutboxEventRepository outboxRepository,
+                       KafkaProducerInterface kafkaProducer,
+                       ObjectMapper objectMapper,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.kafkaProducer = kafkaProducer;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.publishedCounter = meterRegistry.counter("zevaro.outbox.published");
+        this.failedCounter = meterRegistry.counter("zevaro.outbox.failed");
+        this.parkedCounter = meterRegistry.counter("zevaro.outbox.parked");
+        meterRegistry.gauge("zevaro.outbox.backlog", backlog);
+        meterRegistry.gauge("zevaro.outbox.parked.total", parked);
+        meterRegistry.gauge("zevaro.outbox.lag.seconds", lagSeconds);
+    }
+
+    @Scheduled(fixedDelay = AppConstants.OUTBOX_POLL_INTERVAL_MS)
+    public void relay() {
+        try {
+            // Keep going while full batches are being acknowledged, so a backlog drains quickly
+            Integer sent;
+            do {
+                sent = transactionTemplate.execute(status -> relayBatch());
+            } while (sent != null && sent == AppConstants.OUTBOX_BATCH_SIZE);
+
+            updateBacklogMetrics();
+        } catch (Exception e) {
+            log.error("Outbox relay failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelay = AppConstants.OUTBOX_CLEANUP_INTERVAL_MS)
+    public void purgeSent() {
+        Instant before = Instant.now().minus(AppConstants.OUTBOX_RETENTION_DAYS, ChronoUnit.DAYS);
+        Integer deleted = transactionTemplate.execute(status -> outboxRepository.deleteSentBefore(before));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} relayed outbox events older than {} days", deleted, AppConstants.OUTBOX_RETENTION_DAYS);
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> batch = outboxRepository.lockNextBatch(AppConstants.OUTBOX_BATCH_SIZE);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            futures.add(send(event));
+        }
+
+        boolean[] acknowledged = new boolean[batch.size()];
+        boolean anyAcknowledged = false;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(AppConstants.DEFAULT_TIMEOUT_SECONDS);
+        for (int i = 0; i < batch.size(); i++) {
+            acknowledged[i] = awaitAck(futures.get(i), deadline);
+            anyAcknowledged |= acknowledged[i];
+        }
+
+        List<Long> sentIds = new ArrayList<>(batch.size());
+        List<Long> failedIds = new ArrayList<>();
+        List<OutboxEvent> parkedEvents = new ArrayList<>();
+        Set<String> blockedKeys = new HashSet<>();
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxEvent event = batch.get(i);
+            if (blockedKeys.contains(event.getEventKey())) {
+                // An earlier event with this key failed; resend this one after it
+                continue;
+            }
+            if (acknowledged[i]) {
+                sentIds.add(event.getId());
+            } else if (anyAcknowledged && event.getAttempts() + 1 >= AppConstants.OUTBOX_MAX_ATTEMPTS) {
+                // Kafka is up but keeps rejecting this event; stop holding its key back
+                parkedEvents.add(event);
+            } else {
+                failedIds.add(event.getId());
+                blockedKeys.add(event.getEventKey());
+            }
+        }
+
+        if (!sentIds.isEmpty()) {
+            outboxRepository.markSent(sentIds, Instant.now());
+            publishedCounter.increment(sentIds.size());
+        }
+        if (!failedIds.isEmpty()) {
+            // Only failures while Kafka acknowledged other events count towards parking; an outage
+            // must not park the whole backlog
+            if (anyAcknowledged) {
+                outboxRepository.incrementAttempts(failedIds);
+            }
+            failedCounter.increment(failedIds.size());
+            log.debug("{} of {} outbox events not acknowledged, {} held back behind them, will retry",
+                    failedIds.size(), batch.size(), batch.size() - sentIds.size() - failedIds.size() - parkedEvents.size());
+        }
+        if (!parkedEvents.isEmpty()) {
+            outboxRepository.markParked(parkedEvents.stream().map(OutboxEvent::getId).toList(), Instant.now());
+            parkedCounter.increment(parkedEvents.size());
+            for (OutboxEvent event : parkedEvents) {
+                log.error("Parked outbox event {} ({} for key {}) after {} attempts",
+                        event.getEventId(), event.getEventType(), event.getEventKey(), AppConstants.OUTBOX_MAX_ATTEMPTS);
+            }
+        }
+        return sentIds.size();
+    }
+
+    private static boolean awaitAck(CompletableFuture<Void> future, long deadline) {
+        try {
+            future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (ExecutionException | TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private CompletableFuture<Void> send(OutboxEvent event) {
+        try {
+            JsonNode payload = objectMapper.readTree(event.getPayload());
+            return kafkaProducer.sendAndConfirm(event.getTopic(), event.getEventKey(), payload);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void updateBacklogMetrics() {
+        backlog.set(outboxRepository.countUnsent());
+        parked.set(outboxRepository.countParked());
+        Instant oldest = outboxRepository.findOldestUnsentCreatedAt();
+        lagSeconds.set(oldest != null ? Duration.between(oldest, Instant.now()).toSeconds() : 0);
+    }
+}
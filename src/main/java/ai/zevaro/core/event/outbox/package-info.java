@@ -0,0 +1,4 @@
+/**
+ * Transactional outbox and relay for publishing domain events to Kafka.
+ */
+package ai.zevaro.core.event.outbox;
@@ -9,15 +9,20 @@ import java.util.UUID;
 @Getter
 public class OutcomeCreatedEvent extends BaseEvent {
     private final UUID outcomeId;
+    private final UUID programId;
+    private final UUID workstreamId;
     private final String title;
     private final OutcomePriority priority;
     private final UUID teamId;
     private final UUID ownerId;
 
     public OutcomeCreatedEvent(UUID tenantId, UUID actorId, UUID outcomeId, String title,
-                                OutcomePriority priority, UUID teamId, UUID ownerId) {
+                                OutcomePriority priority, UUID teamId, UUID ownerId,
+                                UUID programId, UUID workstreamId) {
         super(tenantId, actorId);
         this.outcomeId = outcomeId;
+        this.programId = programId;
+        this.workstreamId = workstreamId;
         this.title = title;
         this.priority = priority;
         this.teamId = teamId;
@@ -28,4 +33,9 @@ public class OutcomeCreatedEvent extends BaseEvent {
     public String getEventType() {
         return "outcome.created";
     }
+
+    @Override
+    public UUID getAggregateId() {
+        return outcomeId;
+    }
 }
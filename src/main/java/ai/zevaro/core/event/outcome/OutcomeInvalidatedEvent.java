@@ -8,14 +8,18 @@ import java.util.UUID;
 @Getter
 public class OutcomeInvalidatedEvent extends BaseEvent {
     private final UUID outcomeId;
+    private final UUID programId;
+    private final UUID workstreamId;
     private final String title;
     private final UUID invalidatedById;
     private final String reason;
 
     public OutcomeInvalidatedEvent(UUID tenantId, UUID actorId, UUID outcomeId, String title,
-                                    UUID invalidatedById, String reason) {
+                                    UUID invalidatedById, String reason, UUID programId, UUID workstreamId) {
         super(tenantId, actorId);
         this.outcomeId = outcomeId;
+        this.programId = programId;
+        this.workstreamId = workstreamId;
         this.title = title;
         this.invalidatedById = invalidatedById;
         this.reason = reason;
@@ -25,4 +29,9 @@ public class OutcomeInvalidatedEvent extends BaseEvent {
     public String getEventType() {
         return "outcome.invalidated";
     }
+
+    @Override
+    public UUID getAggregateId() {
+        return outcomeId;
+    }
 }
@@ -9,6 +9,8 @@ import java.util.UUID;
 @Getter
 public class OutcomeValidatedEvent extends BaseEvent {
     private final UUID outcomeId;
+    private final UUID programId;
+    private final UUID workstreamId;
     private final String title;
     private final UUID validatedById;
     private final String validationNotes;
@@ -17,9 +19,12 @@ public class OutcomeValidatedEvent extends BaseEvent {
 
     public OutcomeValidatedEvent(UUID tenantId, UUID actorId, UUID outcomeId, String title,
                                   UUID validatedById, String validationNotes,
-                                  Map<String, Object> finalMetrics, long daysToValidation) {
+                                  Map<String, Object> finalMetrics, long daysToValidation,
+                                  UUID programId, UUID workstreamId) {
         super(tenantId, actorId);
         this.outcomeId = outcomeId;
+        this.programId = programId;
+        this.workstreamId = workstreamId;
         this.title = title;
         this.validatedById = validatedById;
         this.validationNotes = validationNotes;
@@ -31,4 +36,9 @@ public class OutcomeValidatedEvent extends BaseEvent {
     public String getEventType() {
         return "outcome.validated";
     }
+
+    @Override
+    public UUID getAggregateId() {
+        return outcomeId;
+    }
 }
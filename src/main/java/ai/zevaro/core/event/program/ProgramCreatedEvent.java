@@ -22,4 +22,9 @@ public class ProgramCreatedEvent extends BaseEvent {
     public String getEventType() {
         return "program.created";
     }
+
+    @Override
+    public UUID getAggregateId() {
+        return programId;
+    }
 }
@@ -22,4 +22,9 @@ public class ProgramStatusChangedEvent extends BaseEvent {
     public String getEventType() {
         return "program.status-changed";
     }
+
+    @Override
+    public UUID getAggregateId() {
+        return programId;
+    }
 }
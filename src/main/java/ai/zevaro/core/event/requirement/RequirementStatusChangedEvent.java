@@ -8,14 +8,19 @@ import java.util.UUID;
 @Getter
 public class RequirementStatusChangedEvent extends BaseEvent {
     private final UUID requirementId;
+    private final UUID programId;
+    private final UUID workstreamId;
     private final UUID specificationId;
     private final String oldStatus;
     private final String newStatus;
 
     public RequirementStatusChangedEvent(UUID tenantId, UUID actorId, UUID requirementId,
-                                          UUID specificationId, String oldStatus, String newStatus) {
+                                          UUID specificationId, String oldStatus, String newStatus,
+                                          UUID programId, UUID workstreamId) {
         super(tenantId, actorId);
         this.requirementId = requirementId;
+        this.programId = programId;
+        this.workstreamId = workstreamId;
         this.specificationId = specificationId;
         this.oldStatus = oldStatus;
         this.newStatus = newStatus;
@@ -25,4 +30,9 @@ public class RequirementStatusChangedEvent extends BaseEvent {
     public String getEventType() {
         return "requirement.status-changed";
     }
+
+    @Override
+    public UUID getAggregateId() {
+        return requirementId;
+    }
 }
@@ -8,14 +8,24 @@ import java.util.UUID;
 @Getter
 public class SpecificationApprovedEvent extends BaseEvent {
     private final UUID specificationId;
+    private final UUID programId;
+    private final UUID workstreamId;
 
-    public SpecificationApprovedEvent(UUID tenantId, UUID actorId, UUID specificationId) {
+    public SpecificationApprovedEvent(UUID tenantId, UUID actorId, UUID specificationId,
+                                      UUID programId, UUID workstreamId) {
         super(tenantId, actorId);
         this.specificationId = specificationId;
+        this.programId = programId;
+        this.workstreamId = workstreamId;
     }
 
     @Override
     public String getEventType() {
         return "specification.approved";
     }
+
+    @Override
+    public UUID getAggregateId() {
+        return specificationId;
+    }
 }
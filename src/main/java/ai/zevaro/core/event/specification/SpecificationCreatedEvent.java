@@ -25,4 +25,9 @@ public class SpecificationCreatedEvent extends BaseEvent {
     public String getEventType() {
         return "specification.created";
     }
+
+    @Override
+    public UUID getAggregateId() {
+        return specificationId;
+    }
 }
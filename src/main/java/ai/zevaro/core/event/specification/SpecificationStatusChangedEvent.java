@@ -8,13 +8,18 @@ import java.util.UUID;
 @Getter
 public class SpecificationStatusChangedEvent extends BaseEvent {
     private final UUID specificationId;
+    private final UUID programId;
+    private final UUID workstreamId;
     private final String oldStatus;
     private final String newStatus;
 
     public SpecificationStatusChangedEvent(UUID tenantId, UUID actorId, UUID specificationId,
-                                            String oldStatus, String newStatus) {
+                                            String oldStatus, String newStatus,
+                                            UUID programId, UUID workstreamId) {
         super(tenantId, actorId);
         this.specificationId = specificationId;
+        this.programId = programId;
+        this.workstreamId = workstreamId;
         this.oldStatus = oldStatus;
         this.newStatus = newStatus;
     }
@@ -23,4 +28,9 @@ public class SpecificationStatusChangedEvent extends BaseEvent {
     public String getEventType() {
         return "specification.status-changed";
     }
+
+    @Override
+    public UUID getAggregateId() {
+        return specificationId;
+    }
 }
@@ -8,11 +8,16 @@ import java.util.UUID;
 @Getter
 public class TicketAssignedEvent extends BaseEvent {
     private final UUID ticketId;
+    private final UUID programId;
+    private final UUID workstreamId;
     private final UUID assignedToId;
 
-    public TicketAssignedEvent(UUID tenantId, UUID actorId, UUID ticketId, UUID assignedToId) {
+    public TicketAssignedEvent(UUID tenantId, UUID actorId, UUID ticketId, UUID assignedToId,
+                               UUID programId, UUID workstreamId) {
         super(tenantId, actorId);
         this.ticketId = ticketId;
+        this.programId = programId;
+        this.workstreamId = workstreamId;
         this.assignedToId = assignedToId;
     }
 
@@ -20,4 +25,9 @@ public class TicketAssignedEvent extends BaseEvent {
     public String getEventType() {
         return "ticket.assigned";
     }
+
+    @Override
+    public UUID getAggregateId() {
+        return ticketId;
+    }
 }
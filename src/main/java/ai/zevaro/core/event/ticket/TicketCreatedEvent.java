@@ -9,14 +9,16 @@ import java.util.UUID;
 public class TicketCreatedEvent extends BaseEvent {
     private final UUID ticketId;
     private final UUID workstreamId;
+    private final UUID programId;
     private final String type;
     private final String severity;
 
     public TicketCreatedEvent(UUID tenantId, UUID actorId, UUID ticketId, UUID workstreamId,
-                               String type, String severity) {
+                               String type, String severity, UUID programId) {
         super(tenantId, actorId);
         this.ticketId = ticketId;
         this.workstreamId = workstreamId;
+        this.programId = programId;
         this.type = type;
         this.severity = severity;
     }
@@ -25,4 +27,9 @@ public class TicketCreatedEvent extends BaseEvent {
     public String getEventType() {
         return "ticket.created";
     }
+
+    @Override
+    public UUID getAggregateId() {
+        return ticketId;
+    }
 }
@@ -8,11 +8,16 @@ import java.util.UUID;
 @Getter
 public class TicketResolvedEvent extends BaseEvent {
     private final UUID ticketId;
+    private final UUID programId;
+    private final UUID workstreamId;
     private final String resolution;
 
-    public TicketResolvedEvent(UUID tenantId, UUID actorId, UUID ticketId, String resolution) {
+    public TicketResolvedEvent(UUID tenantId, UUID actorId, UUID ticketId, String resolution,
+                               UUID programId, UUID workstreamId) {
         super(tenantId, actorId);
         this.ticketId = ticketId;
+        this.programId = programId;
+        this.workstreamId = workstreamId;
         this.resolution = resolution;
     }
 
@@ -20,4 +25,9 @@ public class TicketResolvedEvent extends BaseEvent {
     public String getEventType() {
         return "ticket.resolved";
     }
+
+    @Override
+    public UUID getAggregateId() {
+        return ticketId;
+    }
 }
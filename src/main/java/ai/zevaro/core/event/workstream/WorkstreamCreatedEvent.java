@@ -27,4 +27,9 @@ public class WorkstreamCreatedEvent extends BaseEvent {
     public String getEventType() {
         return "workstream.created";
     }
+
+    @Override
+    public UUID getAggregateId() {
+        return workstreamId;
+    }
 }
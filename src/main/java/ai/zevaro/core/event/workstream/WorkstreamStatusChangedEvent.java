@@ -8,13 +8,15 @@ import java.util.UUID;
 @Getter
 public class WorkstreamStatusChangedEvent extends BaseEvent {
     private final UUID workstreamId;
+    private final UUID programId;
     private final String oldStatus;
     private final String newStatus;
 
     public WorkstreamStatusChangedEvent(UUID tenantId, UUID actorId, UUID workstreamId,
-                                         String oldStatus, String newStatus) {
+                                         String oldStatus, String newStatus, UUID programId) {
         super(tenantId, actorId);
         this.workstreamId = workstreamId;
+        this.programId = programId;
         this.oldStatus = oldStatus;
         this.newStatus = newStatus;
     }
@@ -23,4 +25,9 @@ public class WorkstreamStatusChangedEvent extends BaseEvent {
     public String getEventType() {
         return "workstream.status-changed";
     }
+
+    @Override
+    public UUID getAggregateId() {
+        return workstreamId;
+    }
 }
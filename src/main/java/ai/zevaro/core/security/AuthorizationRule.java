@@ -0,0 +1,117 @@
+package ai.zevaro.core.security;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A {@code @PreAuthorize} expression compiled to direct checks on a {@link UserPrincipal}.
+ * <p>
+ * Handles the disjunctions the controllers use: {@code isAuthenticated()} or any mix of
+ * {@code hasRole('X')} and {@code hasAuthority('x:y')} joined by {@code or}. Roles compare against
+ * the principal's role code and authorities test a bit in its {@link PermissionSet}. Anything
+ * else doesn't compile and stays on the SpEL path.
+ */
+final class AuthorizationRule {
+
+    private static final Pattern OR = Pattern.compile("\\s+or\\s+");
+    private static final Pattern TERM = Pattern.compile(
+            "\\s*(?:(hasRole|hasAuthority)\\('([A-Za-z0-9_:.\\-]+)'\\)|(isAuthenticated)\\(\\))\\s*");
+
+    private final String expression;
+    private final boolean anyAuthenticated;
+    private final String[] roles;
+    private final int[] permissionBits;
+    private final String[] uncatalogedPermissions;
+    private final Set<String> permissions;
+
+    private AuthorizationRule(String expression, boolean anyAuthenticated, Set<String> roles, Set<String> permissions) {
+        this.expression = expression;
+        this.anyAuthenticated = anyAuthenticated;
+        this.roles = roles.toArray(String[]::new);
+        this.permissions = Set.copyOf(permissions);
+
+        List<Integer> bits = new ArrayList<>();
+        List<String> uncataloged = new ArrayList<>();
+        for (String permission : permissions) {
+            int bit = PermissionSet.bitOf(permission);
+            if (bit >= 0) {
+                bits.add(bit);
+            } else {
+                uncataloged.add(permission);
+            }
+        }
+        this.permissionBits = bits.stream().mapToInt(Integer::intValue).toArray();
+        this.uncatalogedPermissions = uncataloged.toArray(String[]::new);
+    }
+
+    /**
+     * Compile an expression, or return null if it uses anything beyond the supported subset.
+     */
+    static AuthorizationRule compile(String expression) {
+        if (expression == null || expression.isBlank()) {
+            return null;
+        }
+
+        boolean anyAuthenticated = false;
+        Set<String> roles = new LinkedHashSet<>();
+        Set<String> permissions = new LinkedHashSet<>();
+        for (String term : OR.split(expression.trim())) {
+            Matcher matcher = TERM.matcher(term);
+            if (!matcher.matches()) {
+                return null;
+            }
+            if (matcher.group(3) != null) {
+                anyAuthenticated = true;
+            } else if ("hasRole".equals(matcher.group(1))) {
+                // hasRole('ROLE_X') is rejected by Spring; leave that to SpEL to report
+                if (matcher.group(2).startsWith("ROLE_")) {
+                    return null;
+                }
+                roles.add(matcher.group(2));
+            } else {
+                permissions.add(matcher.group(2));
+            }
+        }
+        return new AuthorizationRule(expression, anyAuthenticated, roles, permissions);
+    }
+
+    boolean test(UserPrincipal principal) {
+        if (anyAuthenticated) {
+            return true;
+        }
+        String roleCode = principal.getRoleCode();
+        for (String role : roles) {
+            if (role.equals(roleCode)) {
+                return true;
+            }
+        }
+        PermissionSet permissionSet = principal.getPermissionSet();
+        for (int bit : permissionBits) {
+            if (permissionSet.containsBit(bit)) {
+                return true;
+            }
+        }
+        for (String permission : uncatalogedPermissions) {
+            if (permissionSet.contains(permission)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    String expression() {
+        return expression;
+    }
+
+    Set<String> roles() {
+        return Set.of(roles);
+    }
+
+    Set<String> permissions() {
+        return permissions;
+    }
+}
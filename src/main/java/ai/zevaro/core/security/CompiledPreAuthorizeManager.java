@@ -0,0 +1,65 @@
+package ai.zevaro.core.security;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * {@code @PreAuthorize} evaluation that compiles each method's expression once into an
+ * {@link AuthorizationRule} and checks it against the principal's role code and permission bitset.
+ *
+ * - Expressions outside the supported subset, and authentications that don't carry a
+ *   {@link UserPrincipal}, go through Spring's SpEL evaluation unchanged
+ * - {@link PreAuthorizeRuleVerifier} checks at startup that every compiled rule agrees with SpEL
+ */
+public class CompiledPreAuthorizeManager implements AuthorizationManager<MethodInvocation> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final PreAuthorizeAuthorizationManager spel = new PreAuthorizeAuthorizationManager();
+    private final Map<Method, Optional<AuthorizationRule>> rules = new ConcurrentHashMap<>();
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        Optional<AuthorizationRule> rule = ruleFor(invocation.getMethod(), invocation.getThis());
+        if (rule.isEmpty()) {
+            return spel.check(authentication, invocation);
+        }
+
+        Authentication auth = authentication.get();
+        if (auth == null || !auth.isAuthenticated() || !(auth.getPrincipal() instanceof UserPrincipal principal)) {
+            return spel.check(authentication, invocation);
+        }
+        return rule.get().test(principal) ? GRANTED : DENIED;
+    }
+
+    /**
+     * SpEL result for the same invocation, used to verify compiled rules.
+     */
+    AuthorizationDecision checkWithSpel(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        return spel.check(authentication, invocation);
+    }
+
+    Optional<AuthorizationRule> ruleFor(Method method, Object target) {
+        return rules.computeIfAbsent(method, m -> {
+            Method specific = target != null ? AopUtils.getMostSpecificMethod(m, AopUtils.getTargetClass(target)) : m;
+            PreAuthorize annotation = AnnotationUtils.findAnnotation(specific, PreAuthorize.class);
+            if (annotation == null && target != null) {
+                annotation = AnnotationUtils.findAnnotation(AopUtils.getTargetClass(target), PreAuthorize.class);
+            }
+            return annotation != null ? Optional.ofNullable(AuthorizationRule.compile(annotation.value())) : Optional.empty();
+        });
+    }
+}
@@ -1,6 +1,5 @@
 package ai.zevaro.core.security;
 
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,22 +7,17 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache tokenCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -32,28 +26,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String token = extractTokenFromRequest(request);
 
             if (StringUtils.hasText(token)) {
-                Claims claims = jwtTokenProvider.validateToken(token);
+                UserPrincipal userPrincipal = tokenCache.authenticate(token);
 
-                if (claims != null) {
-                    UUID userId = UUID.fromString(claims.getSubject());
-                    UUID tenantId = UUID.fromString(claims.get("tenantId", String.class));
-                    String email = claims.get("email", String.class);
-                    String role = claims.get("role", String.class);
-
-                    @SuppressWarnings("unchecked")
-                    List<String> permissionsList = claims.get("permissions", List.class);
-                    Set<String> permissions = permissionsList != null
-                            ? new HashSet<>(permissionsList)
-                            : Set.of();
-
-                    UserPrincipal userPrincipal = new UserPrincipal(userId, tenantId, email, role, permissions);
-
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(userPrincipal, null, userPrincipal.getAuthorities());
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                if (userPrincipal != null) {
+                    UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken
+                            .authenticated(userPrincipal, null, userPrincipal.getAuthorities());
 
                     SecurityContextHolder.getContext().setAuthentication(authentication);
-                    TenantContext.setTenantId(tenantId);
+                    TenantContext.setTenantId(userPrincipal.getTenantId());
                 }
             }
         } catch (Exception e) {
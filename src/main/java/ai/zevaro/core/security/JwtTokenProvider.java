@@ -4,8 +4,10 @@ import ai.zevaro.core.domain.rbac.Permission;
 import ai.zevaro.core.domain.user.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -18,6 +20,9 @@ import java.util.UUID;
 @Component
 public class JwtTokenProvider {
 
+    /** Issue time in milliseconds; {@code iat} only has second precision. */
+    public static final String ISSUED_AT_MS_CLAIM = "issuedAtMs";
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
@@ -27,8 +32,18 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-expiration}")
     private long refreshExpiration;
 
+    // Both are immutable and thread-safe, so build them once rather than per token
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+    }
+
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        return signingKey;
     }
 
     public String generateToken(User user) {
@@ -45,6 +60,7 @@ public class JwtTokenProvider {
                 .claim("email", user.getEmail())
                 .claim("role", user.getRole().getCode())
                 .claim("permissions", permissions)
+                .claim(ISSUED_AT_MS_CLAIM, now.getTime())
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(getSigningKey())
@@ -67,11 +83,7 @@ public class JwtTokenProvider {
 
     public Claims validateToken(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return parser.parseSignedClaims(token).getPayload();
         } catch (JwtException | IllegalArgumentException e) {
             return null;
         }
@@ -0,0 +1,61 @@
+package ai.zevaro.core.security;
+
+import ai.zevaro.core.config.AppConstants;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.local.LocalBucketBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Per-node buckets. Bounded and evicted after {@link AppConstants#RATE_LIMIT_LOCAL_IDLE_MINUTES}
+ * idle minutes (by then a bucket has refilled anyway), so a flood of distinct keys can't grow
+ * memory without limit. Each node enforces limits on its own.
+ */
+@Component
+@ConditionalOnProperty(name = "zevaro.rate-limit.mode", havingValue = "local", matchIfMissing = true)
+@Slf4j
+public class LocalRateLimitBackend implements RateLimitBackend {
+
+    private final Cache<String, Bucket> buckets;
+
+    public LocalRateLimitBackend(MeterRegistry meterRegistry) {
+        this.buckets = newBucketCache();
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "ratelimit.buckets");
+        log.info("Rate limiting uses per-node buckets");
+    }
+
+    LocalRateLimitBackend() {
+        this.buckets = newBucketCache();
+    }
+
+    @Override
+    public ConsumptionProbe tryConsume(String key, BucketConfiguration configuration) {
+        return buckets.get(key, k -> newBucket(configuration)).tryConsumeAndReturnRemaining(1);
+    }
+
+    private static Cache<String, Bucket> newBucketCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(AppConstants.RATE_LIMIT_LOCAL_MAX_BUCKETS)
+                .expireAfterAccess(Duration.ofMinutes(AppConstants.RATE_LIMIT_LOCAL_IDLE_MINUTES))
+                .recordStats()
+                .build();
+    }
+
+    private static Bucket newBucket(BucketConfiguration configuration) {
+        LocalBucketBuilder builder = Bucket.builder();
+        for (Bandwidth bandwidth : configuration.getBandwidths()) {
+            builder.addLimit(bandwidth);
+        }
+        return builder.build();
+    }
+}
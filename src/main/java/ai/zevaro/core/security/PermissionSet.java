@@ -0,0 +1,116 @@
+package ai.zevaro.core.security;
+
+import ai.zevaro.core.config.AppConstants;
+import ai.zevaro.core.domain.rbac.Permission;
+import ai.zevaro.core.domain.rbac.PermissionDataLoader;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable set of permission codes, held as a bitset over the codes defined in
+ * {@link PermissionDataLoader}, so a membership check is a shift and a mask.
+ *
+ * - Codes outside that catalog (e.g. added directly in the database) are kept in a side set,
+ *   so nothing is lost
+ * - Instances are interned: every principal with the same permissions shares one set and
+ *   one list of authorities
+ */
+public final class PermissionSet {
+
+    private static final List<String> CATALOG = PermissionDataLoader.definitions().stream()
+            .map(Permission::getCode)
+            .toList();
+    private static final Map<String, Integer> BITS = new HashMap<>();
+
+    static {
+        for (int i = 0; i < CATALOG.size(); i++) {
+            BITS.put(CATALOG.get(i), i);
+        }
+    }
+
+    private static final Cache<Set<String>, PermissionSet> INTERNED = Caffeine.newBuilder()
+            .maximumSize(AppConstants.PERMISSION_SET_INTERN_MAX_SIZE)
+            .build();
+
+    public static final PermissionSet EMPTY = new PermissionSet(Set.of());
+
+    private final long[] bits;
+    private final Set<String> uncataloged;
+    private final Set<String> codes;
+    private final List<GrantedAuthority> authorities;
+
+    private PermissionSet(Set<String> codes) {
+        this.bits = new long[(CATALOG.size() + 63) >>> 6];
+        Set<String> other = new HashSet<>();
+        List<GrantedAuthority> auths = new ArrayList<>(codes.size());
+        for (String code : codes) {
+            Integer bit = BITS.get(code);
+            if (bit != null) {
+                bits[bit >>> 6] |= 1L << bit;
+            } else {
+                other.add(code);
+            }
+            auths.add(new SimpleGrantedAuthority(code));
+        }
+        this.uncataloged = other.isEmpty() ? Set.of() : Set.copyOf(other);
+        this.codes = Collections.unmodifiableSet(codes);
+        this.authorities = List.copyOf(auths);
+    }
+
+    /**
+     * The shared instance for these codes.
+     */
+    public static PermissionSet of(Collection<String> codes) {
+        if (codes == null || codes.isEmpty()) {
+            return EMPTY;
+        }
+        Set<String> key = Set.copyOf(codes);
+        return INTERNED.get(key, PermissionSet::new);
+    }
+
+    /**
+     * Bit position of a catalog code, or -1 for a code the catalog doesn't define.
+     */
+    public static int bitOf(String code) {
+        Integer bit = BITS.get(code);
+        return bit != null ? bit : -1;
+    }
+
+    public static int catalogSize() {
+        return CATALOG.size();
+    }
+
+    public boolean contains(String code) {
+        Integer bit = BITS.get(code);
+        if (bit != null) {
+            return (bits[bit >>> 6] & (1L << bit)) != 0;
+        }
+        return uncataloged.contains(code);
+    }
+
+    public boolean containsBit(int bit) {
+        return bit >= 0 && (bits[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    public Set<String> codes() {
+        return codes;
+    }
+
+    /**
+     * One {@link SimpleGrantedAuthority} per code, shared by every principal holding this set.
+     */
+    public List<GrantedAuthority> authorities() {
+        return authorities;
+    }
+}
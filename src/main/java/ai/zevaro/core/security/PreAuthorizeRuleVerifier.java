@@ -0,0 +1,101 @@
+package ai.zevaro.core.security;
+
+import ai.zevaro.core.domain.rbac.Permission;
+import ai.zevaro.core.domain.rbac.PermissionDataLoader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.util.SimpleMethodInvocation;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Compiles every controller's {@code @PreAuthorize} rule at startup and checks it against SpEL
+ * for a spread of principals: each referenced role plus an unrelated one, crossed with no
+ * permissions, each permission the rule names, every other permission, and all of them.
+ * A disagreement fails startup rather than silently changing who can call an endpoint.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PreAuthorizeRuleVerifier implements SmartInitializingSingleton {
+
+    private static final String UNRELATED_ROLE = "RULE_VERIFIER";
+
+    private final ApplicationContext applicationContext;
+    private final CompiledPreAuthorizeManager authorizationManager;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<String> catalog = PermissionDataLoader.definitions().stream().map(Permission::getCode).toList();
+        int compiled = 0;
+        int interpreted = 0;
+
+        for (Object controller : applicationContext.getBeansWithAnnotation(RestController.class).values()) {
+            Class<?> type = AopUtils.getTargetClass(controller);
+            for (Method method : ReflectionUtils.getUniqueDeclaredMethods(type, ReflectionUtils.USER_DECLARED_METHODS)) {
+                if (AnnotationUtils.findAnnotation(method, PreAuthorize.class) == null) {
+                    continue;
+                }
+                Optional<AuthorizationRule> rule = authorizationManager.ruleFor(method, controller);
+                if (rule.isEmpty()) {
+                    interpreted++;
+                    continue;
+                }
+                verify(rule.get(), controller, method, catalog);
+                compiled++;
+            }
+        }
+        log.info("Compiled {} @PreAuthorize rules ({} left to SpEL)", compiled, interpreted);
+    }
+
+    private void verify(AuthorizationRule rule, Object controller, Method method, List<String> catalog) {
+        SimpleMethodInvocation invocation = new SimpleMethodInvocation(controller, method);
+
+        Set<String> roles = new LinkedHashSet<>(rule.roles());
+        roles.add(UNRELATED_ROLE);
+
+        Set<String> others = new HashSet<>(catalog);
+        others.removeAll(rule.permissions());
+        List<Set<String>> permissionSets = new ArrayList<>();
+        permissionSets.add(Set.of());
+        rule.permissions().forEach(p -> permissionSets.add(Set.of(p)));
+        permissionSets.add(others);
+        permissionSets.add(new HashSet<>(catalog));
+
+        for (String role : roles) {
+            for (Set<String> permissions : permissionSets) {
+                UserPrincipal principal = new UserPrincipal(UUID.randomUUID(), UUID.randomUUID(),
+                        "verifier@zevaro.ai", role, permissions);
+                Authentication authentication = UsernamePasswordAuthenticationToken
+                        .authenticated(principal, null, principal.getAuthorities());
+
+                AuthorizationDecision expected = authorizationManager.checkWithSpel(() -> authentication, invocation);
+                boolean spelGranted = expected == null || expected.isGranted();
+                if (spelGranted != rule.test(principal)) {
+                    throw new IllegalStateException(String.format(
+                            "Compiled rule for %s.%s disagrees with \"%s\" for role %s with %d permissions",
+                            method.getDeclaringClass().getSimpleName(), method.getName(), rule.expression(),
+                            role, permissions.size()));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package ai.zevaro.core.security;
+
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+
+/**
+ * Where rate-limit buckets live. Selected with {@code zevaro.rate-limit.mode}.
+ */
+public interface RateLimitBackend {
+
+    /**
+     * Take one token from the bucket for {@code key}, creating it with {@code configuration} if needed.
+     */
+    ConsumptionProbe tryConsume(String key, BucketConfiguration configuration);
+}
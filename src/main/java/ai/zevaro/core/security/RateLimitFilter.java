@@ -0,0 +1,110 @@
+package ai.zevaro.core.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bucket4j.ConsumptionProbe;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies the per-tenant limit to authenticated API calls and the per-API-key limit to
+ * {@code /api/v1/external/**}. Runs after {@link JwtAuthenticationFilter}. A throttled request
+ * gets 429 with {@code Retry-After}; every limited response carries {@code X-RateLimit-Remaining}.
+ *
+ * - Only a valid API key gets the key's bucket; requests with a missing or wrong key are limited
+ *   per client address, so guessing keys can't drain or sidestep the real key's budget
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String EXTERNAL_PATH = "/api/v1/external/";
+    private static final String API_KEY_HEADER = "X-API-Key";
+
+    private final RateLimiterService rateLimiterService;
+    private final ObjectMapper objectMapper;
+    private final byte[] configuredApiKey;
+    private final String apiKeySubject;
+
+    public RateLimitFilter(RateLimiterService rateLimiterService, ObjectMapper objectMapper,
+                           @Value("${zevaro.external.api-key:default-dev-key-change-in-production}") String apiKey) {
+        this.rateLimiterService = rateLimiterService;
+        this.objectMapper = objectMapper;
+        this.configuredApiKey = apiKey.getBytes(StandardCharsets.UTF_8);
+        // Never use the key itself as a bucket name; it would end up in Redis
+        this.apiKeySubject = "key:" + fingerprint(apiKey);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ConsumptionProbe probe = null;
+        if (request.getRequestURI().startsWith(EXTERNAL_PATH)) {
+            String subject = isValidApiKey(request.getHeader(API_KEY_HEADER))
+                    ? apiKeySubject
+                    : "ip:" + request.getRemoteAddr();
+            probe = rateLimiterService.tryConsume(RateLimitPolicy.EXTERNAL, subject);
+        } else {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+                probe = rateLimiterService.tryConsume(RateLimitPolicy.TENANT, principal.getTenantId().toString());
+            }
+        }
+
+        if (probe != null) {
+            response.setHeader("X-RateLimit-Remaining", Long.toString(probe.getRemainingTokens()));
+            if (!probe.isConsumed()) {
+                reject(response, probe);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private void reject(HttpServletResponse response, ConsumptionProbe probe) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(probe.getNanosToWaitForRefill() + 999_999_999L));
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", Instant.now().toString());
+        body.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+        body.put("error", "TOO_MANY_REQUESTS");
+        body.put("message", "Rate limit exceeded, retry in " + retryAfterSeconds + "s");
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private boolean isValidApiKey(String apiKey) {
+        return StringUtils.hasText(apiKey)
+                && MessageDigest.isEqual(apiKey.getBytes(StandardCharsets.UTF_8), configuredApiKey);
+    }
+
+    private static String fingerprint(String apiKey) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(apiKey.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
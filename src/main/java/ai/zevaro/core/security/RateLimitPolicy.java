@@ -0,0 +1,22 @@
+package ai.zevaro.core.security;
+
+/**
+ * What a rate limit applies to. Each policy has its own buckets, so the same key
+ * (e.g. an IP address) is limited independently per policy.
+ */
+public enum RateLimitPolicy {
+    LOGIN("login"),          // Per client IP
+    AUTH("auth"),            // Per client IP: register, refresh
+    TENANT("tenant"),        // Per tenant, all authenticated API traffic
+    EXTERNAL("external");    // Per API key, /api/v1/external/**
+
+    private final String prefix;
+
+    RateLimitPolicy(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public String key(String subject) {
+        return prefix + ":" + subject;
+    }
+}
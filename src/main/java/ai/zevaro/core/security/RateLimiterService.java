@@ -1,39 +1,77 @@
 package ai.zevaro.core.security;
 
+import ai.zevaro.core.config.AppConstants;
 import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Refill;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.EnumMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Token-bucket rate limits per {@link RateLimitPolicy}, on whichever {@link RateLimitBackend}
+ * is configured.
+ *
+ * - Login and other auth endpoints: per client IP
+ * - Authenticated API traffic: per tenant ({@code zevaro.rate-limit.tenant-requests-per-minute})
+ * - External ingestion: per API key ({@code zevaro.rate-limit.external-requests-per-minute})
+ *
+ * Metrics: {@code zevaro.ratelimit.throttled} (tagged by policy).
+ */
 @Service
 public class RateLimiterService {
 
-    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final RateLimitBackend backend;
+    private final Map<RateLimitPolicy, BucketConfiguration> configurations = new EnumMap<>(RateLimitPolicy.class);
+    private final Map<RateLimitPolicy, Counter> throttled = new EnumMap<>(RateLimitPolicy.class);
 
-    private static final int GENERAL_AUTH_REQUESTS_PER_MINUTE = 10;
-    private static final int LOGIN_REQUESTS_PER_MINUTE = 5;
+    public RateLimiterService(RateLimitBackend backend,
+                              @Value("${zevaro.rate-limit.tenant-requests-per-minute:6000}") int tenantPerMinute,
+                              @Value("${zevaro.rate-limit.external-requests-per-minute:600}") int externalPerMinute,
+                              MeterRegistry meterRegistry) {
+        this.backend = backend;
+
+        configurations.put(RateLimitPolicy.LOGIN, perMinute(AppConstants.RATE_LIMIT_LOGIN_PER_MINUTE));
+        configurations.put(RateLimitPolicy.AUTH, perMinute(AppConstants.RATE_LIMIT_AUTH_PER_MINUTE));
+        configurations.put(RateLimitPolicy.TENANT, perMinute(tenantPerMinute));
+        configurations.put(RateLimitPolicy.EXTERNAL, perMinute(externalPerMinute));
+
+        for (RateLimitPolicy policy : RateLimitPolicy.values()) {
+            throttled.put(policy, meterRegistry.counter("zevaro.ratelimit.throttled", "policy", policy.name()));
+        }
+    }
 
     public boolean tryConsumeGeneral(String key) {
-        return getBucket(key, GENERAL_AUTH_REQUESTS_PER_MINUTE).tryConsume(1);
+        return tryConsume(RateLimitPolicy.AUTH, key).isConsumed();
     }
 
     public boolean tryConsumeLogin(String key) {
-        return getBucket("login:" + key, LOGIN_REQUESTS_PER_MINUTE).tryConsume(1);
+        return tryConsume(RateLimitPolicy.LOGIN, key).isConsumed();
     }
 
-    private Bucket getBucket(String key, int requestsPerMinute) {
-        return buckets.computeIfAbsent(key, k -> createBucket(requestsPerMinute));
+    /**
+     * Take one request from the subject's bucket. When not consumed, the probe says how long
+     * until a token is available.
+     */
+    public ConsumptionProbe tryConsume(RateLimitPolicy policy, String subject) {
+        ConsumptionProbe probe = backend.tryConsume(policy.key(subject), configurations.get(policy));
+        if (!probe.isConsumed()) {
+            throttled.get(policy).increment();
+        }
+        return probe;
     }
 
-    private Bucket createBucket(int requestsPerMinute) {
-        Bandwidth limit = Bandwidth.classic(
-                requestsPerMinute,
-                Refill.greedy(requestsPerMinute, Duration.ofMinutes(1))
-        );
-        return Bucket.builder().addLimit(limit).build();
+    private static BucketConfiguration perMinute(int requestsPerMinute) {
+        return BucketConfiguration.builder()
+                .addLimit(Bandwidth.builder()
+                        .capacity(requestsPerMinute)
+                        .refillGreedy(requestsPerMinute, Duration.ofMinutes(1))
+                        .build())
+                .build();
     }
 }
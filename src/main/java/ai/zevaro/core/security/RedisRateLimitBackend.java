@@ -0,0 +1,109 @@
+package ai.zevaro.core.security;
+
+import ai.zevaro.core.config.AppConstants;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Buckets shared by all nodes, stored in Redis through bucket4j's Lettuce proxy manager
+ * (compare-and-swap updates, keys expire once the bucket would have refilled).
+ *
+ * - Opens a dedicated connection on the auto-configured Lettuce client, so {@code spring.data.redis}
+ *   settings (url, username, ssl, sentinel, cluster) apply, with its own short command timeout so a
+ *   slow Redis can't stall every request
+ * - When Redis fails, limits fall back to per-node buckets and Redis is skipped for
+ *   {@link AppConstants#RATE_LIMIT_REDIS_RETRY_SECONDS} seconds
+ *
+ * Metrics: {@code zevaro.ratelimit.backend.errors}.
+ */
+@Component
+@ConditionalOnProperty(name = "zevaro.rate-limit.mode", havingValue = "redis")
+@Slf4j
+public class RedisRateLimitBackend implements RateLimitBackend, DisposableBean {
+
+    private static final String KEY_PREFIX = "zevaro:ratelimit:";
+
+    private final StatefulConnection<byte[], byte[]> connection;
+    private final LettuceBasedProxyManager<byte[]> proxyManager;
+    private final LocalRateLimitBackend fallback = new LocalRateLimitBackend();
+    private final AtomicReference<Instant> redisDownUntil = new AtomicReference<>(null);
+    private final Counter errorCounter;
+
+    public RedisRateLimitBackend(RedisConnectionFactory connectionFactory, MeterRegistry meterRegistry) {
+        if (!(connectionFactory instanceof LettuceConnectionFactory lettuce)) {
+            throw new IllegalStateException("Redis rate limiting requires the Lettuce connection factory, found "
+                    + connectionFactory.getClass().getName());
+        }
+
+        AbstractRedisClient client = lettuce.getRequiredNativeClient();
+        Duration timeout = Duration.ofMillis(AppConstants.RATE_LIMIT_REDIS_TIMEOUT_MS);
+        ExpirationAfterWriteStrategy expiration =
+                ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(Duration.ofMinutes(1));
+        if (client instanceof RedisClusterClient clusterClient) {
+            StatefulRedisClusterConnection<byte[], byte[]> cluster = clusterClient.connect(ByteArrayCodec.INSTANCE);
+            cluster.setTimeout(timeout);
+            this.connection = cluster;
+            this.proxyManager = LettuceBasedProxyManager.builderFor(cluster).withExpirationStrategy(expiration).build();
+        } else {
+            StatefulRedisConnection<byte[], byte[]> standalone = ((RedisClient) client).connect(ByteArrayCodec.INSTANCE);
+            standalone.setTimeout(timeout);
+            this.connection = standalone;
+            this.proxyManager = LettuceBasedProxyManager.builderFor(standalone).withExpirationStrategy(expiration).build();
+        }
+        this.errorCounter = meterRegistry.counter("zevaro.ratelimit.backend.errors");
+        log.info("Rate limiting uses shared Redis buckets ({})", client.getClass().getSimpleName());
+    }
+
+    @Override
+    public ConsumptionProbe tryConsume(String key, BucketConfiguration configuration) {
+        Instant downUntil = redisDownUntil.get();
+        if (downUntil != null && Instant.now().isBefore(downUntil)) {
+            return fallback.tryConsume(key, configuration);
+        }
+
+        try {
+            ConsumptionProbe probe = proxyManager.builder()
+                    .build((KEY_PREFIX + key).getBytes(StandardCharsets.UTF_8), () -> configuration)
+                    .tryConsumeAndReturnRemaining(1);
+            if (downUntil != null) {
+                redisDownUntil.set(null);
+            }
+            return probe;
+        } catch (RuntimeException e) {
+            errorCounter.increment();
+            if (redisDownUntil.getAndSet(Instant.now().plusSeconds(AppConstants.RATE_LIMIT_REDIS_RETRY_SECONDS)) == null) {
+                log.warn("Redis rate limiting unavailable, using per-node limits for {}s: {}",
+                        AppConstants.RATE_LIMIT_REDIS_RETRY_SECONDS, e.getMessage());
+            }
+            return fallback.tryConsume(key, configuration);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        // The client belongs to the connection factory; only close the connection opened here
+        connection.close();
+    }
+}
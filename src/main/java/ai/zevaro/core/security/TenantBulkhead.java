@@ -0,0 +1,226 @@
+package ai.zevaro.core.security;
+
+import ai.zevaro.core.config.AppConstants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps concurrent requests per tenant so one tenant's heavy traffic cannot take every database
+ * connection from the others.
+ *
+ * - Each tenant may run {@code zevaro.bulkhead.tenant-max-concurrent} standard and
+ *   {@code zevaro.bulkhead.tenant-max-concurrent-reports} report requests at once; more are
+ *   rejected straight away (429) rather than queued
+ * - All tenants together may run {@code zevaro.bulkhead.max-concurrent}; beyond that requests are
+ *   rejected as server overload (503)
+ * - Limits left at 0 are derived from {@code spring.datasource.hikari.maximum-pool-size}:
+ *   {@link AppConstants#TENANT_BULKHEAD_REQUESTS_PER_CONNECTION} requests per connection in total,
+ *   {@link AppConstants#TENANT_BULKHEAD_TENANT_PERCENT}% of that per tenant, and report requests per
+ *   tenant {@link AppConstants#TENANT_BULKHEAD_REPORT_POOL_PERCENT}% of the pool
+ * - Once the node is {@link AppConstants#TENANT_BULKHEAD_CONTENTION_PERCENT}% busy, each active
+ *   tenant is held to an equal share of the global limit, so a tenant that got in first cannot
+ *   keep the capacity it grabbed while others wait
+ * - A tenant's state is dropped once it has been idle for
+ *   {@link AppConstants#TENANT_BULKHEAD_IDLE_MINUTES} minutes, never while it has requests in flight
+ * - Limits are per node
+ *
+ * Metrics: {@code zevaro.bulkhead.in_flight}, {@code zevaro.bulkhead.active_tenants},
+ * {@code zevaro.bulkhead.rejected} (tagged by class and reason) and
+ * {@code zevaro.bulkhead.tenant.in_flight} (tagged by tenant and class, for tenants seen in the
+ * last {@link AppConstants#TENANT_BULKHEAD_IDLE_MINUTES} minutes).
+ */
+@Component
+public class TenantBulkhead {
+
+    public enum Outcome { ADMITTED, TENANT_SATURATED, SERVER_SATURATED }
+
+    /**
+     * The result of {@link #tryAcquire}. An admitted permit must be closed when the request ends,
+     * which for an async request may be on another thread.
+     */
+    public static final class Permit implements AutoCloseable {
+
+        private static final Permit REJECTED_TENANT = new Permit(Outcome.TENANT_SATURATED, null, null, null);
+        private static final Permit REJECTED_SERVER = new Permit(Outcome.SERVER_SATURATED, null, null, null);
+
+        private final Outcome outcome;
+        private final TenantBulkhead bulkhead;
+        private final TenantState state;
+        private final WorkloadClass workloadClass;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Permit(Outcome outcome, TenantBulkhead bulkhead, TenantState state, WorkloadClass workloadClass) {
+            this.outcome = outcome;
+            this.bulkhead = bulkhead;
+            this.state = state;
+            this.workloadClass = workloadClass;
+        }
+
+        public Outcome outcome() {
+            return outcome;
+        }
+
+        public boolean admitted() {
+            return outcome == Outcome.ADMITTED;
+        }
+
+        @Override
+        public void close() {
+            if (admitted() && closed.compareAndSet(false, true)) {
+                bulkhead.release(state, workloadClass);
+            }
+        }
+    }
+
+    private static final class TenantState {
+        private final Map<WorkloadClass, AtomicInteger> inFlight = new EnumMap<>(WorkloadClass.class);
+        private final AtomicInteger total = new AtomicInteger();
+        private final List<Meter> meters = new ArrayList<>();
+        private volatile long lastUsedNanos = System.nanoTime();
+
+        private TenantState() {
+            for (WorkloadClass workloadClass : WorkloadClass.values()) {
+                inFlight.put(workloadClass, new AtomicInteger());
+            }
+        }
+    }
+
+    private final boolean enabled;
+    private final int maxConcurrent;
+    private final Map<WorkloadClass, Integer> tenantLimits = new EnumMap<>(WorkloadClass.class);
+
+    private final AtomicInteger globalInFlight = new AtomicInteger();
+    private final AtomicInteger activeTenants = new AtomicInteger();
+    private final Map<UUID, TenantState> tenants = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+    private final Map<WorkloadClass, Counter> tenantRejections = new EnumMap<>(WorkloadClass.class);
+    private final Map<WorkloadClass, Counter> serverRejections = new EnumMap<>(WorkloadClass.class);
+
+    public TenantBulkhead(@Value("${zevaro.bulkhead.enabled:true}") boolean enabled,
+                          @Value("${zevaro.bulkhead.max-concurrent:0}") int maxConcurrent,
+                          @Value("${zevaro.bulkhead.tenant-max-concurrent:0}") int tenantMaxConcurrent,
+                          @Value("${zevaro.bulkhead.tenant-max-concurrent-reports:0}") int tenantMaxConcurrentReports,
+                          @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+                          MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxConcurrent = maxConcurrent > 0 ? maxConcurrent
+                : maximumPoolSize * AppConstants.TENANT_BULKHEAD_REQUESTS_PER_CONNECTION;
+        this.tenantLimits.put(WorkloadClass.STANDARD, tenantMaxConcurrent > 0 ? tenantMaxConcurrent
+                : Math.max(1, this.maxConcurrent * AppConstants.TENANT_BULKHEAD_TENANT_PERCENT / 100));
+        this.tenantLimits.put(WorkloadClass.REPORT, tenantMaxConcurrentReports > 0 ? tenantMaxConcurrentReports
+                : Math.max(1, maximumPoolSize * AppConstants.TENANT_BULKHEAD_REPORT_POOL_PERCENT / 100));
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("zevaro.bulkhead.in_flight", globalInFlight, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("zevaro.bulkhead.active_tenants", activeTenants, AtomicInteger::get).register(meterRegistry);
+        for (WorkloadClass workloadClass : WorkloadClass.values()) {
+            tenantRejections.put(workloadClass, meterRegistry.counter("zevaro.bulkhead.rejected",
+                    "class", workloadClass.name(), "reason", "tenant"));
+            serverRejections.put(workloadClass, meterRegistry.counter("zevaro.bulkhead.rejected",
+                    "class", workloadClass.name(), "reason", "server"));
+        }
+    }
+
+    public Permit tryAcquire(UUID tenantId, WorkloadClass workloadClass) {
+        int limit = Integer.MAX_VALUE;
+        int global = globalInFlight.incrementAndGet();
+        if (enabled) {
+            if (global > maxConcurrent) {
+                globalInFlight.decrementAndGet();
+                serverRejections.get(workloadClass).increment();
+                return Permit.REJECTED_SERVER;
+            }
+
+            limit = tenantLimits.get(workloadClass);
+            if (global * 100 >= maxConcurrent * AppConstants.TENANT_BULKHEAD_CONTENTION_PERCENT) {
+                int fairShare = Math.max(1, maxConcurrent / Math.max(1, activeTenants.get()));
+                limit = Math.min(limit, fairShare);
+            }
+        }
+
+        TenantState state = enter(tenantId);
+        AtomicInteger tenantInFlight = state.inFlight.get(workloadClass);
+        if (tenantInFlight.incrementAndGet() > limit) {
+            tenantInFlight.decrementAndGet();
+            leave(state);
+            globalInFlight.decrementAndGet();
+            tenantRejections.get(workloadClass).increment();
+            return Permit.REJECTED_TENANT;
+        }
+        return new Permit(Outcome.ADMITTED, this, state, workloadClass);
+    }
+
+    /**
+     * Drop the state of tenants idle for {@link AppConstants#TENANT_BULKHEAD_IDLE_MINUTES} minutes.
+     */
+    @Scheduled(fixedDelay = AppConstants.TENANT_BULKHEAD_SWEEP_INTERVAL_MS)
+    public void evictIdleTenants() {
+        long idleNanos = TimeUnit.MINUTES.toNanos(AppConstants.TENANT_BULKHEAD_IDLE_MINUTES);
+        long now = System.nanoTime();
+        for (UUID tenantId : tenants.keySet()) {
+            tenants.computeIfPresent(tenantId, (id, state) -> {
+                if (state.total.get() > 0 || now - state.lastUsedNanos < idleNanos) {
+                    return state;
+                }
+                state.meters.forEach(meterRegistry::remove);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Count a request against its tenant's state. Runs under the map's lock for the tenant, so a
+     * state is never evicted while it has requests, and each tenant has one state (counted once
+     * in {@code activeTenants}).
+     */
+    private TenantState enter(UUID tenantId) {
+        return tenants.compute(tenantId, (id, existing) -> {
+            TenantState state = existing != null ? existing : newState(id);
+            state.lastUsedNanos = System.nanoTime();
+            if (state.total.getAndIncrement() == 0) {
+                activeTenants.incrementAndGet();
+            }
+            return state;
+        });
+    }
+
+    private void leave(TenantState state) {
+        if (state.total.decrementAndGet() == 0) {
+            activeTenants.decrementAndGet();
+        }
+    }
+
+    private void release(TenantState state, WorkloadClass workloadClass) {
+        state.inFlight.get(workloadClass).decrementAndGet();
+        leave(state);
+        globalInFlight.decrementAndGet();
+    }
+
+    private TenantState newState(UUID tenantId) {
+        TenantState state = new TenantState();
+        for (WorkloadClass workloadClass : WorkloadClass.values()) {
+            state.meters.add(Gauge.builder("zevaro.bulkhead.tenant.in_flight",
+                            state.inFlight.get(workloadClass), AtomicInteger::get)
+                    .tag("tenant", tenantId.toString())
+                    .tag("class", workloadClass.name())
+                    .register(meterRegistry));
+        }
+        return state;
+    }
+}
@@ -0,0 +1,140 @@
+package ai.zevaro.core.security;
+
+import ai.zevaro.core.config.AppConstants;
+import ai.zevaro.core.config.StatementTimeoutContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Admits authenticated API calls through the {@link TenantBulkhead} and sets the statement
+ * timeout for their {@link WorkloadClass}. Runs after {@link RateLimitFilter}. A tenant over its
+ * own limit gets 429 and an overloaded node 503, both with {@code Retry-After}.
+ *
+ * - An export keeps its permit until the async processing completes, since it holds a database
+ *   connection throughout; other async requests release it after the initial dispatch
+ * - Long-lived event streams bypass the bulkhead: they hold no connection while open and are
+ *   capped by {@link ai.zevaro.core.domain.activity.ActivityStreamHub}
+ */
+@Component
+public class TenantBulkheadFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher MATCHER = new AntPathMatcher();
+    private static final String EXPORT_PATTERN = "/api/v1/export/**";
+    private static final List<String> STREAM_PATTERNS = List.of("/api/v1/activity/stream");
+
+    private final TenantBulkhead bulkhead;
+    private final ObjectMapper objectMapper;
+    private final Map<WorkloadClass, Integer> statementTimeouts = new EnumMap<>(WorkloadClass.class);
+
+    public TenantBulkheadFilter(TenantBulkhead bulkhead,
+                                ObjectMapper objectMapper,
+                                @Value("${zevaro.bulkhead.statement-timeout-seconds:10}") int statementTimeoutSeconds,
+                                @Value("${zevaro.bulkhead.report-statement-timeout-seconds:30}") int reportStatementTimeoutSeconds) {
+        this.bulkhead = bulkhead;
+        this.objectMapper = objectMapper;
+        this.statementTimeouts.put(WorkloadClass.STANDARD, statementTimeoutSeconds);
+        this.statementTimeouts.put(WorkloadClass.REPORT, reportStatementTimeoutSeconds);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        WorkloadClass workloadClass = WorkloadClass.of(request.getRequestURI());
+        StatementTimeoutContext.setTimeoutSeconds(statementTimeouts.get(workloadClass));
+        try {
+            UUID tenantId = TenantContext.getTenantId();
+            if (tenantId == null || isStream(request.getRequestURI())) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+
+            TenantBulkhead.Permit permit = bulkhead.tryAcquire(tenantId, workloadClass);
+            boolean releasedLater = false;
+            try {
+                switch (permit.outcome()) {
+                    case ADMITTED -> {
+                        filterChain.doFilter(request, response);
+                        if (request.isAsyncStarted() && MATCHER.match(EXPORT_PATTERN, request.getRequestURI())) {
+                            request.getAsyncContext().addListener(new PermitReleasingListener(permit));
+                            releasedLater = true;
+                        }
+                    }
+                    case TENANT_SATURATED -> reject(response, HttpStatus.TOO_MANY_REQUESTS,
+                            "Too many concurrent requests for this tenant");
+                    case SERVER_SATURATED -> reject(response, HttpStatus.SERVICE_UNAVAILABLE,
+                            "Server is busy");
+                }
+            } finally {
+                if (!releasedLater) {
+                    permit.close();
+                }
+            }
+        } finally {
+            StatementTimeoutContext.clear();
+        }
+    }
+
+    private static boolean isStream(String requestUri) {
+        for (String pattern : STREAM_PATTERNS) {
+            if (MATCHER.match(pattern, requestUri)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record PermitReleasingListener(TenantBulkhead.Permit permit) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            permit.close();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            permit.close();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            permit.close();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", Instant.now().toString());
+        body.put("status", status.value());
+        body.put("error", status.name());
+        body.put("message", message + ", retry in " + AppConstants.TENANT_BULKHEAD_RETRY_AFTER_SECONDS + "s");
+
+        response.setStatus(status.value());
+        response.setHeader("Retry-After", Integer.toString(AppConstants.TENANT_BULKHEAD_RETRY_AFTER_SECONDS));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
@@ -7,11 +7,12 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Getter
 public class UserPrincipal implements UserDetails {
@@ -21,7 +22,8 @@ public class UserPrincipal implements UserDetails {
     private final String email;
     private final String password;
     private final Role role;
-    private final Set<String> permissions;
+    private final String roleCode;
+    private final PermissionSet permissionSet;
     private final Collection<? extends GrantedAuthority> authorities;
 
     public UserPrincipal(UUID userId, UUID tenantId, String email, String password, Role role) {
@@ -30,34 +32,37 @@ public class UserPrincipal implements UserDetails {
         this.email = email;
         this.password = password;
         this.role = role;
-        this.permissions = role != null ? role.getPermissions().stream()
+        this.roleCode = role != null ? role.getCode() : null;
+        this.permissionSet = role != null ? PermissionSet.of(role.getPermissions().stream()
                 .map(Permission::getCode)
-                .collect(Collectors.toSet()) : Set.of();
-        this.authorities = buildAuthorities();
+                .toList()) : PermissionSet.EMPTY;
+        this.authorities = role != null ? buildAuthorities(roleCode, permissionSet) : List.of();
     }
 
-    public UserPrincipal(UUID userId, UUID tenantId, String email, String roleCode, Set<String> permissions) {
+    public UserPrincipal(UUID userId, UUID tenantId, String email, String roleCode, Collection<String> permissions) {
         this.userId = userId;
         this.tenantId = tenantId;
         this.email = email;
         this.password = null;
         this.role = null;
-        this.permissions = permissions != null ? permissions : Set.of();
+        this.roleCode = roleCode;
+        this.permissionSet = PermissionSet.of(permissions);
+        this.authorities = buildAuthorities(roleCode, permissionSet);
+    }
 
-        Set<GrantedAuthority> auths = new HashSet<>();
+    private static List<GrantedAuthority> buildAuthorities(String roleCode, PermissionSet permissionSet) {
+        List<GrantedAuthority> auths = new ArrayList<>(permissionSet.authorities().size() + 1);
         auths.add(new SimpleGrantedAuthority("ROLE_" + roleCode));
-        this.permissions.forEach(p -> auths.add(new SimpleGrantedAuthority(p)));
-        this.authorities = auths;
+        auths.addAll(permissionSet.authorities());
+        return Collections.unmodifiableList(auths);
+    }
+
+    public Set<String> getPermissions() {
+        return permissionSet.codes();
     }
 
-    private Collection<? extends GrantedAuthority> buildAuthorities() {
-        Set<GrantedAuthority> auths = new HashSet<>();
-        if (role != null) {
-            auths.add(new SimpleGrantedAuthority("ROLE_" + role.getCode()));
-            role.getPermissions().forEach(p ->
-                    auths.add(new SimpleGrantedAuthority(p.getCode())));
-        }
-        return auths;
+    public boolean hasPermission(String code) {
+        return permissionSet.contains(code);
     }
 
     @Override
@@ -94,8 +99,4 @@ public class UserPrincipal implements UserDetails {
     public boolean isEnabled() {
         return true;
     }
-
-    public String getRoleCode() {
-        return role != null ? role.getCode() : null;
-    }
 }
@@ -0,0 +1,232 @@
+package ai.zevaro.core.security;
+
+import ai.zevaro.core.config.AppConstants;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache of verified access tokens, so a token's signature and claims are checked once
+ * rather than on every request.
+ *
+ * - Keyed by the token's SHA-256, never the token itself; holds the immutable {@link UserPrincipal}
+ *   and expires each entry at the token's {@code exp}
+ * - Logout revokes every token issued to the user before that moment: the watermark is stored in
+ *   Redis (for tokens first seen later, or on nodes started later) and broadcast so other nodes
+ *   apply it to tokens they already hold
+ * - Redis being unavailable never blocks authentication; revocation then only applies locally,
+ *   and the watermark is read again after {@code JWT_REVOCATION_RETRY_SECONDS} rather than
+ *   assumed absent for the token lifetime
+ * - Token issue times are compared to the millisecond; a token issued at or before the logout
+ *   is revoked
+ *
+ * Metrics: {@code cache.*{cache=jwt.principals}} and {@code zevaro.jwt.rejected} (tagged by reason).
+ */
+@Component
+@Slf4j
+public class VerifiedTokenCache {
+
+    private static final String REVOKED_KEY_PREFIX = "zevaro:jwt:revoked:";
+    private static final String REVOCATION_CHANNEL = "zevaro:jwt:revocations";
+    private static final long NOT_REVOKED = 0L;
+    private static final long UNKNOWN = -1L;
+
+    private record TokenKey(long a, long b, long c, long d) {}
+
+    private record VerifiedToken(UserPrincipal principal, long issuedAtMs, long expiresAtMs) {}
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final StringRedisTemplate redisTemplate;
+
+    private final Cache<TokenKey, VerifiedToken> tokens;
+    private final Cache<UUID, Long> revokedBefore;
+    private final Counter invalidCounter;
+    private final Counter revokedCounter;
+
+    public VerifiedTokenCache(JwtTokenProvider jwtTokenProvider,
+                              StringRedisTemplate redisTemplate,
+                              RedisMessageListenerContainer listenerContainer,
+                              MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.redisTemplate = redisTemplate;
+
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(AppConstants.JWT_CACHE_MAX_SIZE)
+                .expireAfter(new Expiry<TokenKey, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(TokenKey key, VerifiedToken value, long currentTime) {
+                        long remainingMs = value.expiresAtMs() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(TokenKey key, VerifiedToken value, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(TokenKey key, VerifiedToken value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tokens, "jwt.principals");
+
+        // A watermark only matters while tokens issued before it can still be valid; an unknown one
+        // (Redis unreadable) is retried soon
+        long watermarkTtlNanos = TimeUnit.MILLISECONDS.toNanos(jwtTokenProvider.getJwtExpiration());
+        long unknownTtlNanos = TimeUnit.SECONDS.toNanos(AppConstants.JWT_REVOCATION_RETRY_SECONDS);
+        this.revokedBefore = Caffeine.newBuilder()
+                .expireAfter(new Expiry<UUID, Long>() {
+                    @Override
+                    public long expireAfterCreate(UUID key, Long value, long currentTime) {
+                        return value == UNKNOWN ? unknownTtlNanos : watermarkTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(UUID key, Long value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(UUID key, Long value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+
+        this.invalidCounter = meterRegistry.counter("zevaro.jwt.rejected", "reason", "invalid");
+        this.revokedCounter = meterRegistry.counter("zevaro.jwt.rejected", "reason", "revoked");
+
+        listenerContainer.addMessageListener(this::onRevocation, new ChannelTopic(REVOCATION_CHANNEL));
+    }
+
+    /**
+     * The principal for a valid, unrevoked access token, or null.
+     */
+    public UserPrincipal authenticate(String token) {
+        TokenKey key = keyOf(token);
+        VerifiedToken verified = tokens.getIfPresent(key);
+        if (verified == null) {
+            verified = verify(token);
+            if (verified == null) {
+                invalidCounter.increment();
+                return null;
+            }
+            tokens.put(key, verified);
+        }
+
+        if (isRevoked(verified)) {
+            tokens.invalidate(key);
+            revokedCounter.increment();
+            return null;
+        }
+        return verified.principal();
+    }
+
+    /**
+     * Revoke every access token issued to the user up to now, on all nodes.
+     */
+    public void revokeUser(UUID userId) {
+        long now = System.currentTimeMillis();
+        revokedBefore.put(userId, now);
+        tokens.asMap().values().removeIf(t -> t.principal().getUserId().equals(userId));
+
+        try {
+            redisTemplate.opsForValue().set(REVOKED_KEY_PREFIX + userId, Long.toString(now),
+                    Duration.ofMillis(jwtTokenProvider.getJwtExpiration()));
+            redisTemplate.convertAndSend(REVOCATION_CHANNEL, userId + ":" + now);
+        } catch (DataAccessException e) {
+            log.warn("Could not share token revocation for user {}, revoked on this node only: {}",
+                    userId, e.getMessage());
+        }
+    }
+
+    private VerifiedToken verify(String token) {
+        Claims claims = jwtTokenProvider.validateToken(token);
+        if (claims == null) {
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<String> permissions = claims.get("permissions", List.class);
+        UserPrincipal principal = new UserPrincipal(
+                UUID.fromString(claims.getSubject()),
+                UUID.fromString(claims.get("tenantId", String.class)),
+                claims.get("email", String.class),
+                claims.get("role", String.class),
+                permissions);
+
+        // iat has second precision; tokens issued before the millisecond claim was added fall back to it
+        Long preciseIssuedAt = claims.get(JwtTokenProvider.ISSUED_AT_MS_CLAIM, Long.class);
+        long issuedAtMs = preciseIssuedAt != null ? preciseIssuedAt
+                : claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L;
+        long expiresAtMs = claims.getExpiration() != null
+                ? claims.getExpiration().getTime()
+                : System.currentTimeMillis() + jwtTokenProvider.getJwtExpiration();
+        return new VerifiedToken(principal, issuedAtMs, expiresAtMs);
+    }
+
+    private boolean isRevoked(VerifiedToken token) {
+        long watermark = revokedBefore.get(token.principal().getUserId(), this::loadWatermark);
+        if (watermark == NOT_REVOKED || watermark == UNKNOWN) {
+            return false;
+        }
+        return token.issuedAtMs() <= watermark;
+    }
+
+    private Long loadWatermark(UUID userId) {
+        try {
+            String value = redisTemplate.opsForValue().get(REVOKED_KEY_PREFIX + userId);
+            return value != null ? Long.parseLong(value) : NOT_REVOKED;
+        } catch (DataAccessException | NumberFormatException e) {
+            log.debug("Could not read token revocation for user {}: {}", userId, e.getMessage());
+            return UNKNOWN;
+        }
+    }
+
+    private void onRevocation(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        try {
+            UUID userId = UUID.fromString(body.substring(0, separator));
+            long watermark = Long.parseLong(body.substring(separator + 1));
+            revokedBefore.asMap().merge(userId, watermark, Math::max);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            log.warn("Ignoring malformed token revocation message: {}", body);
+        }
+    }
+
+    private static TokenKey keyOf(String token) {
+        try {
+            ByteBuffer digest = ByteBuffer.wrap(MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new TokenKey(digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
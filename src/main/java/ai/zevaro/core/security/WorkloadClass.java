@@ -0,0 +1,38 @@
+package ai.zevaro.core.security;
+
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+
+/**
+ * How heavy a request's database work is expected to be. Each class has its own per-tenant
+ * concurrency cap and statement timeout in {@link TenantBulkhead}.
+ */
+public enum WorkloadClass {
+    STANDARD,   // CRUD and list endpoints
+    REPORT;     // Dashboards, stats, scorecards, queues, search and exports
+
+    private static final AntPathMatcher MATCHER = new AntPathMatcher();
+
+    private static final List<String> REPORT_PATTERNS = List.of(
+            "/api/v1/**/dashboard",
+            "/api/v1/**/workload",
+            "/api/v1/**/stats",
+            "/api/v1/**/metrics",
+            "/api/v1/**/metrics/**",
+            "/api/v1/stakeholders/leaderboard",
+            "/api/v1/stakeholders/scorecard",
+            "/api/v1/decisions/queue",
+            "/api/v1/search",
+            "/api/v1/audit/**",
+            "/api/v1/export/**");
+
+    public static WorkloadClass of(String requestUri) {
+        for (String pattern : REPORT_PATTERNS) {
+            if (MATCHER.match(pattern, requestUri)) {
+                return REPORT;
+            }
+        }
+        return STANDARD;
+    }
+}
@@ -0,0 +1,184 @@
+package ai.zevaro.core.util;
+
+import ai.zevaro.core.config.AppConstants;
+import ai.zevaro.core.config.StatementTimeoutContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs a request's independent reads concurrently, structured so none outlives the request.
+ *
+ * - Reads are forked inside a {@link Scope}; {@link Scope#join()} waits for all of them, and the
+ *   first failure cancels the rest and is rethrown as is (so a 404 stays a 404)
+ * - Each read runs in its own read-only transaction on its own connection; results must be fully
+ *   built inside the read, since lazy associations are detached once it returns
+ * - At most {@link AppConstants#FAN_OUT_MAX_CONCURRENCY_PER_REQUEST} reads of one scope run at a time,
+ *   so a single dashboard cannot take over the connection pool, and at most half of
+ *   {@code spring.datasource.hikari.maximum-pool-size} reads run at a time across the node, so
+ *   plain requests always find a connection
+ * - The calling thread must not hold a connection while it waits in {@link Scope#join()}
+ *   (open-in-view is off; do lookups in a fork, not before opening the scope), otherwise requests
+ *   waiting on their reads can exhaust the pool the reads need
+ * - With {@code spring.threads.virtual.enabled} every read gets a virtual thread; otherwise a
+ *   bounded platform pool is used and, when it is saturated, reads run on the calling thread
+ * - Reads inherit the request's statement timeout but must not depend on other request-bound
+ *   thread locals (security context, request attributes)
+ *
+ * Metrics: {@code zevaro.fanout.tasks} and {@code zevaro.fanout.caller.runs}.
+ */
+@Component
+@Slf4j
+public class ReadFanOut implements DisposableBean {
+
+    private final ExecutorService executor;
+    private final Semaphore connections;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Counter tasksCounter;
+    private final Counter callerRunsCounter;
+
+    public ReadFanOut(PlatformTransactionManager transactionManager,
+                      MeterRegistry meterRegistry,
+                      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                      @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize) {
+        this.connections = new Semaphore(Math.max(1, maximumPoolSize / 2));
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        this.tasksCounter = meterRegistry.counter("zevaro.fanout.tasks");
+        this.callerRunsCounter = meterRegistry.counter("zevaro.fanout.caller.runs");
+
+        if (virtualThreads) {
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("fan-out-", 0).factory());
+        } else {
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                    AppConstants.FAN_OUT_PLATFORM_POOL_SIZE, AppConstants.FAN_OUT_PLATFORM_POOL_SIZE,
+                    60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(AppConstants.FAN_OUT_QUEUE_CAPACITY),
+                    Thread.ofPlatform().name("fan-out-", 0).daemon(true).factory(),
+                    (task, rejectedBy) -> {
+                        callerRunsCounter.increment();
+                        task.run();
+                    });
+            pool.allowCoreThreadTimeOut(true);
+            this.executor = pool;
+        }
+        log.info("Read fan-out using {} threads, at most {} concurrent reads",
+                virtualThreads ? "virtual" : "platform", connections.availablePermits());
+    }
+
+    public Scope open() {
+        return new Scope();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * The reads forked for one request. Use with try-with-resources so unfinished reads are
+     * cancelled if the caller fails before joining.
+     */
+    public final class Scope implements AutoCloseable {
+
+        private final Semaphore permits = new Semaphore(AppConstants.FAN_OUT_MAX_CONCURRENCY_PER_REQUEST);
+        private final CompletionService<Object> completion = new ExecutorCompletionService<>(executor);
+        private final List<Future<Object>> futures = new ArrayList<>();
+        private boolean joined;
+
+        private Scope() {}
+
+        /**
+         * Start a read; its result is available from the returned supplier after {@link #join()}.
+         */
+        @SuppressWarnings("unchecked")
+        public <T> Supplier<T> fork(Supplier<T> read) {
+            if (joined) {
+                throw new IllegalStateException("Cannot fork after join");
+            }
+            tasksCounter.increment();
+            Integer statementTimeout = StatementTimeoutContext.getTimeoutSeconds();
+            Future<Object> future = completion.submit(() -> {
+                permits.acquire();
+                Integer callerTimeout = StatementTimeoutContext.getTimeoutSeconds();
+                try {
+                    connections.acquire();
+                    StatementTimeoutContext.setTimeoutSeconds(statementTimeout);
+                    try {
+                        return readOnlyTransaction.execute(status -> read.get());
+                    } finally {
+                        StatementTimeoutContext.setTimeoutSeconds(callerTimeout);
+                        connections.release();
+                    }
+                } finally {
+                    permits.release();
+                }
+            });
+            futures.add(future);
+            return () -> {
+                if (!joined) {
+                    throw new IllegalStateException("Fan-out result read before join");
+                }
+                return (T) future.resultNow();
+            };
+        }
+
+        /**
+         * Wait for every forked read, failing fast on the first error.
+         */
+        public void join() {
+            joined = true;
+            try {
+                for (int i = 0; i < futures.size(); i++) {
+                    completion.take().get();
+                }
+            } catch (ExecutionException e) {
+                cancelAll();
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException("Fan-out read failed: " + cause.getMessage(), cause);
+            } catch (InterruptedException e) {
+                cancelAll();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for fan-out reads", e);
+            }
+        }
+
+        @Override
+        public void close() {
+            cancelAll();
+        }
+
+        private void cancelAll() {
+            for (Future<Object> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+}
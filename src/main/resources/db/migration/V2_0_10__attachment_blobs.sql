@@ -0,0 +1,20 @@
+-- V2_0_10: Content-addressed attachment storage
+-- Documentation-only migration matching Hibernate-generated schema.
+-- Existing attachments keep blob_id NULL and are served from their original storage_url path.
+
+CREATE TABLE IF NOT EXISTS attachment_blobs (
+    id           UUID          PRIMARY KEY,
+    tenant_id    UUID          NOT NULL,
+    sha256       VARCHAR(64)   NOT NULL,
+    size_bytes   BIGINT        NOT NULL,
+    storage_key  VARCHAR(200)  NOT NULL,
+    ref_count    INTEGER       NOT NULL,
+    created_at   TIMESTAMP     NOT NULL,
+    orphaned_at  TIMESTAMP,
+    UNIQUE (tenant_id, sha256)
+);
+
+CREATE INDEX IF NOT EXISTS idx_attachment_blobs_orphaned ON attachment_blobs (orphaned_at);
+
+ALTER TABLE attachments ADD COLUMN IF NOT EXISTS blob_id UUID;
+ALTER TABLE attachments ADD COLUMN IF NOT EXISTS sha256 VARCHAR(64);
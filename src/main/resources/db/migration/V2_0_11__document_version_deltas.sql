@@ -0,0 +1,7 @@
+-- V2_0_11: Document versions stored as reverse deltas
+-- Documentation-only migration matching Hibernate-generated schema.
+-- Existing versions keep storage NULL and their full body; only versions published from now on become deltas.
+
+ALTER TABLE document_versions ADD COLUMN IF NOT EXISTS storage VARCHAR(10);
+ALTER TABLE document_versions ADD COLUMN IF NOT EXISTS delta BYTEA;
+ALTER TABLE document_versions ADD COLUMN IF NOT EXISTS body_length INTEGER;
@@ -0,0 +1,8 @@
+-- V2_0_12: Materialized document tree paths and child counts
+-- Documentation-only migration matching Hibernate-generated schema.
+-- Existing documents are backfilled at startup by DocumentTreeBackfill.
+
+ALTER TABLE documents ADD COLUMN IF NOT EXISTS path TEXT COLLATE "C";
+ALTER TABLE documents ADD COLUMN IF NOT EXISTS child_count INTEGER NOT NULL DEFAULT 0;
+
+CREATE INDEX IF NOT EXISTS idx_documents_tenant_path ON documents (tenant_id, path);
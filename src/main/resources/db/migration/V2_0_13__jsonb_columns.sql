@@ -0,0 +1,73 @@
+-- V2_0_13: Native jsonb storage for JSON columns, with GIN indexes for tag/external-ref filters
+-- Documentation-only migration matching Hibernate-generated schema.
+-- Existing databases are converted at startup by JsonbColumnMigration. Each ALTER rewrites its
+-- table under an exclusive lock; run this script ahead of the rollout for large tables.
+-- Only values of the shape the entity reads (array or object) are converted. Anything else is
+-- cleared (program_templates.structure, which is NOT NULL, becomes []) and its original text is
+-- kept in jsonb_migration_rejects.
+
+CREATE OR REPLACE FUNCTION pg_temp.zevaro_json_type(value text) RETURNS text AS $$
+BEGIN
+    RETURN jsonb_typeof(value::jsonb);
+EXCEPTION WHEN others THEN
+    RETURN null;
+END
+$$ LANGUAGE plpgsql IMMUTABLE;
+
+CREATE TABLE IF NOT EXISTS jsonb_migration_rejects (
+    table_name      VARCHAR(100) NOT NULL,
+    column_name     VARCHAR(100) NOT NULL,
+    row_id          TEXT         NOT NULL,
+    original_value  TEXT         NOT NULL,
+    rejected_at     TIMESTAMP    NOT NULL
+);
+
+INSERT INTO jsonb_migration_rejects SELECT 'decisions', 'options', id::text, options, now() FROM decisions WHERE btrim(options) <> '' AND COALESCE(pg_temp.zevaro_json_type(options), 'invalid') NOT IN ('array', 'null');
+INSERT INTO jsonb_migration_rejects SELECT 'decisions', 'selected_option', id::text, selected_option, now() FROM decisions WHERE btrim(selected_option) <> '' AND COALESCE(pg_temp.zevaro_json_type(selected_option), 'invalid') NOT IN ('object', 'null');
+INSERT INTO jsonb_migration_rejects SELECT 'decisions', 'blocked_items', id::text, blocked_items, now() FROM decisions WHERE btrim(blocked_items) <> '' AND COALESCE(pg_temp.zevaro_json_type(blocked_items), 'invalid') NOT IN ('array', 'null');
+INSERT INTO jsonb_migration_rejects SELECT 'decisions', 'external_refs', id::text, external_refs, now() FROM decisions WHERE btrim(external_refs) <> '' AND COALESCE(pg_temp.zevaro_json_type(external_refs), 'invalid') NOT IN ('object', 'null');
+INSERT INTO jsonb_migration_rejects SELECT 'decisions', 'tags', id::text, tags, now() FROM decisions WHERE btrim(tags) <> '' AND COALESCE(pg_temp.zevaro_json_type(tags), 'invalid') NOT IN ('array', 'null');
+
+INSERT INTO jsonb_migration_rejects SELECT 'outcomes', 'target_metrics', id::text, target_metrics, now() FROM outcomes WHERE btrim(target_metrics) <> '' AND COALESCE(pg_temp.zevaro_json_type(target_metrics), 'invalid') NOT IN ('object', 'null');
+INSERT INTO jsonb_migration_rejects SELECT 'outcomes', 'current_metrics', id::text, current_metrics, now() FROM outcomes WHERE btrim(current_metrics) <> '' AND COALESCE(pg_temp.zevaro_json_type(current_metrics), 'invalid') NOT IN ('object', 'null');
+INSERT INTO jsonb_migration_rejects SELECT 'outcomes', 'external_refs', id::text, external_refs, now() FROM outcomes WHERE btrim(external_refs) <> '' AND COALESCE(pg_temp.zevaro_json_type(external_refs), 'invalid') NOT IN ('object', 'null');
+INSERT INTO jsonb_migration_rejects SELECT 'outcomes', 'tags', id::text, tags, now() FROM outcomes WHERE btrim(tags) <> '' AND COALESCE(pg_temp.zevaro_json_type(tags), 'invalid') NOT IN ('array', 'null');
+
+INSERT INTO jsonb_migration_rejects SELECT 'experiments', 'config', id::text, config, now() FROM experiments WHERE btrim(config) <> '' AND COALESCE(pg_temp.zevaro_json_type(config), 'invalid') NOT IN ('object', 'null');
+INSERT INTO jsonb_migration_rejects SELECT 'experiments', 'results', id::text, results, now() FROM experiments WHERE btrim(results) <> '' AND COALESCE(pg_temp.zevaro_json_type(results), 'invalid') NOT IN ('object', 'null');
+INSERT INTO jsonb_migration_rejects SELECT 'experiments', 'secondary_metrics', id::text, secondary_metrics, now() FROM experiments WHERE btrim(secondary_metrics) <> '' AND COALESCE(pg_temp.zevaro_json_type(secondary_metrics), 'invalid') NOT IN ('array', 'null');
+
+INSERT INTO jsonb_migration_rejects SELECT 'stakeholders', 'external_refs', id::text, external_refs, now() FROM stakeholders WHERE btrim(external_refs) <> '' AND COALESCE(pg_temp.zevaro_json_type(external_refs), 'invalid') NOT IN ('object', 'null');
+
+INSERT INTO jsonb_migration_rejects SELECT 'program_templates', 'structure', id::text, structure, now() FROM program_templates WHERE btrim(structure) <> '' AND COALESCE(pg_temp.zevaro_json_type(structure), 'invalid') NOT IN ('array', 'null');
+
+ALTER TABLE decisions
+    ALTER COLUMN options TYPE jsonb USING CASE WHEN pg_temp.zevaro_json_type(options) = 'array' THEN options::jsonb ELSE NULL END,
+    ALTER COLUMN selected_option TYPE jsonb USING CASE WHEN pg_temp.zevaro_json_type(selected_option) = 'object' THEN selected_option::jsonb ELSE NULL END,
+    ALTER COLUMN blocked_items TYPE jsonb USING CASE WHEN pg_temp.zevaro_json_type(blocked_items) = 'array' THEN blocked_items::jsonb ELSE NULL END,
+    ALTER COLUMN external_refs TYPE jsonb USING CASE WHEN pg_temp.zevaro_json_type(external_refs) = 'object' THEN external_refs::jsonb ELSE NULL END,
+    ALTER COLUMN tags TYPE jsonb USING CASE WHEN pg_temp.zevaro_json_type(tags) = 'array' THEN tags::jsonb ELSE NULL END;
+
+ALTER TABLE outcomes
+    ALTER COLUMN target_metrics TYPE jsonb USING CASE WHEN pg_temp.zevaro_json_type(target_metrics) = 'object' THEN target_metrics::jsonb ELSE NULL END,
+    ALTER COLUMN current_metrics TYPE jsonb USING CASE WHEN pg_temp.zevaro_json_type(current_metrics) = 'object' THEN current_metrics::jsonb ELSE NULL END,
+    ALTER COLUMN external_refs TYPE jsonb USING CASE WHEN pg_temp.zevaro_json_type(external_refs) = 'object' THEN external_refs::jsonb ELSE NULL END,
+    ALTER COLUMN tags TYPE jsonb USING CASE WHEN pg_temp.zevaro_json_type(tags) = 'array' THEN tags::jsonb ELSE NULL END;
+
+ALTER TABLE experiments
+    ALTER COLUMN config TYPE jsonb USING CASE WHEN pg_temp.zevaro_json_type(config) = 'object' THEN config::jsonb ELSE NULL END,
+    ALTER COLUMN results TYPE jsonb USING CASE WHEN pg_temp.zevaro_json_type(results) = 'object' THEN results::jsonb ELSE NULL END,
+    ALTER COLUMN secondary_metrics TYPE jsonb USING CASE WHEN pg_temp.zevaro_json_type(secondary_metrics) = 'array' THEN secondary_metrics::jsonb ELSE NULL END;
+
+ALTER TABLE stakeholders
+    ALTER COLUMN external_refs TYPE jsonb USING CASE WHEN pg_temp.zevaro_json_type(external_refs) = 'object' THEN external_refs::jsonb ELSE NULL END;
+
+ALTER TABLE program_templates
+    ALTER COLUMN structure TYPE jsonb USING CASE WHEN pg_temp.zevaro_json_type(structure) = 'array' THEN structure::jsonb ELSE '[]'::jsonb END;
+
+-- Containment (@>) lookups: ?tag= and ?externalRef= on decision and outcome lists
+CREATE INDEX IF NOT EXISTS idx_decision_tags ON decisions USING gin (tags jsonb_path_ops);
+CREATE INDEX IF NOT EXISTS idx_decision_external_refs ON decisions USING gin (external_refs jsonb_path_ops);
+CREATE INDEX IF NOT EXISTS idx_outcome_tags ON outcomes USING gin (tags jsonb_path_ops);
+CREATE INDEX IF NOT EXISTS idx_outcome_external_refs ON outcomes USING gin (external_refs jsonb_path_ops);
+CREATE INDEX IF NOT EXISTS idx_stakeholder_external_refs ON stakeholders USING gin (external_refs jsonb_path_ops);
@@ -0,0 +1,9 @@
+-- V2_0_14: Program and workstream scope on audit entries, for activity feed filters
+-- Documentation-only migration matching Hibernate-generated schema.
+-- Entries written before this change have no scope and only appear in unfiltered feeds.
+
+ALTER TABLE audit_logs ADD COLUMN IF NOT EXISTS program_id UUID;
+ALTER TABLE audit_logs ADD COLUMN IF NOT EXISTS workstream_id UUID;
+
+CREATE INDEX IF NOT EXISTS idx_audit_tenant_program_timestamp ON audit_logs (tenant_id, program_id, timestamp DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_audit_tenant_workstream_timestamp ON audit_logs (tenant_id, workstream_id, timestamp DESC, id DESC);
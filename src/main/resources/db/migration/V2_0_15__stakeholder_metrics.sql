@@ -0,0 +1,10 @@
+-- V2_0_15: Indexes for stakeholder leaderboards and response-time statistics
+-- Documentation-only migration matching Hibernate-generated schema.
+
+-- Leaderboard top-K queries: fastest responders, most active, needing attention
+CREATE INDEX IF NOT EXISTS idx_stakeholder_tenant_response_time ON stakeholders (tenant_id, avg_response_time_hours);
+CREATE INDEX IF NOT EXISTS idx_stakeholder_tenant_completed ON stakeholders (tenant_id, is_active, decisions_completed DESC);
+CREATE INDEX IF NOT EXISTS idx_stakeholder_tenant_pending ON stakeholders (tenant_id, is_active, decisions_pending DESC);
+
+-- Grouped response-time percentiles and month buckets per assignee
+CREATE INDEX IF NOT EXISTS idx_decision_tenant_assignee_decided ON decisions (tenant_id, assigned_to_id, decided_at);
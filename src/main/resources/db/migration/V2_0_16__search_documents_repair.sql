@@ -0,0 +1,11 @@
+-- V2_0_16: Search index rows for documents take the program of their space
+-- Applied at startup by SearchIndexInitializer (idempotent). A full rebuild from the source
+-- tables is available through POST /api/v1/search/reindex or zevaro.search.rebuild-on-startup.
+
+UPDATE search_documents s
+SET program_id = sp.program_id
+FROM documents d
+JOIN spaces sp ON sp.id = d.space_id
+WHERE s.entity_type = 'DOCUMENT'
+  AND s.entity_id = d.id
+  AND s.program_id IS DISTINCT FROM sp.program_id;
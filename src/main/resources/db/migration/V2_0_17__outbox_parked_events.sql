@@ -0,0 +1,9 @@
+-- V2_0_17: Parked outbox events and per-entity event keys
+-- Documentation-only migration matching Hibernate-generated schema.
+-- The relay parks an event Kafka keeps rejecting after OUTBOX_MAX_ATTEMPTS attempts; clearing
+-- parked_at requeues it. New events are keyed by the entity they are about instead of the tenant.
+
+ALTER TABLE event_outbox ADD COLUMN IF NOT EXISTS parked_at TIMESTAMP;
+
+DROP INDEX IF EXISTS idx_event_outbox_pending;
+CREATE INDEX IF NOT EXISTS idx_event_outbox_pending ON event_outbox (id) WHERE sent_at IS NULL AND parked_at IS NULL;
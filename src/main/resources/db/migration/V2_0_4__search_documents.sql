@@ -0,0 +1,106 @@
+-- V2_0_4: Denormalized full-text search index
+-- Applied at startup by SearchIndexInitializer when the table does not exist yet
+-- (Hibernate ddl-auto cannot create tsvector columns or GIN indexes).
+
+CREATE TABLE IF NOT EXISTS search_documents (
+    entity_type   VARCHAR(50)  NOT NULL,
+    entity_id     UUID         NOT NULL,
+    tenant_id     UUID         NOT NULL,
+    program_id    UUID,
+    status        VARCHAR(50),
+    title         VARCHAR(500),
+    snippet       VARCHAR(300),
+    search_vector TSVECTOR     NOT NULL,
+    updated_at    TIMESTAMP    NOT NULL,
+    PRIMARY KEY (entity_type, entity_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_search_documents_vector  ON search_documents USING GIN (search_vector);
+CREATE INDEX IF NOT EXISTS idx_search_documents_tenant  ON search_documents (tenant_id, entity_type);
+CREATE INDEX IF NOT EXISTS idx_search_documents_program ON search_documents (tenant_id, program_id);
+
+-- ---------------------------------------------------------------------
+-- Backfill from source tables. Title is weighted A, body B; identifiers are indexed with the title.
+-- Bodies are capped at 100k characters to stay within the tsvector size limit.
+
+INSERT INTO search_documents (entity_type, entity_id, tenant_id, program_id, status, title, snippet, search_vector, updated_at)
+SELECT 'PROGRAM', id, tenant_id, id, status, name,
+       CASE WHEN LENGTH(description) > 200 THEN LEFT(description, 200) || '...' ELSE description END,
+       setweight(to_tsvector('simple', COALESCE(name, '')), 'A') ||
+       setweight(to_tsvector('simple', LEFT(COALESCE(description, ''), 100000)), 'B'),
+       NOW()
+FROM projects
+ON CONFLICT (entity_type, entity_id) DO NOTHING;
+
+INSERT INTO search_documents (entity_type, entity_id, tenant_id, program_id, status, title, snippet, search_vector, updated_at)
+SELECT 'WORKSTREAM', id, tenant_id, program_id, status, name,
+       CASE WHEN LENGTH(description) > 200 THEN LEFT(description, 200) || '...' ELSE description END,
+       setweight(to_tsvector('simple', COALESCE(name, '')), 'A') ||
+       setweight(to_tsvector('simple', LEFT(COALESCE(description, ''), 100000)), 'B'),
+       NOW()
+FROM workstreams
+ON CONFLICT (entity_type, entity_id) DO NOTHING;
+
+INSERT INTO search_documents (entity_type, entity_id, tenant_id, program_id, status, title, snippet, search_vector, updated_at)
+SELECT 'OUTCOME', id, tenant_id, project_id, status, title,
+       CASE WHEN LENGTH(description) > 200 THEN LEFT(description, 200) || '...' ELSE description END,
+       setweight(to_tsvector('simple', COALESCE(title, '')), 'A') ||
+       setweight(to_tsvector('simple', LEFT(COALESCE(description, ''), 100000)), 'B'),
+       NOW()
+FROM outcomes
+ON CONFLICT (entity_type, entity_id) DO NOTHING;
+
+INSERT INTO search_documents (entity_type, entity_id, tenant_id, program_id, status, title, snippet, search_vector, updated_at)
+SELECT 'HYPOTHESIS', id, tenant_id, project_id, status, title,
+       CASE WHEN LENGTH(belief) > 200 THEN LEFT(belief, 200) || '...' ELSE belief END,
+       setweight(to_tsvector('simple', COALESCE(title, '')), 'A') ||
+       setweight(to_tsvector('simple', LEFT(COALESCE(belief, ''), 100000)), 'B'),
+       NOW()
+FROM hypotheses
+ON CONFLICT (entity_type, entity_id) DO NOTHING;
+
+INSERT INTO search_documents (entity_type, entity_id, tenant_id, program_id, status, title, snippet, search_vector, updated_at)
+SELECT 'SPECIFICATION', id, tenant_id, program_id, status, name,
+       CASE WHEN LENGTH(description) > 200 THEN LEFT(description, 200) || '...' ELSE description END,
+       setweight(to_tsvector('simple', COALESCE(name, '')), 'A') ||
+       setweight(to_tsvector('simple', LEFT(COALESCE(description, ''), 100000)), 'B'),
+       NOW()
+FROM specifications
+ON CONFLICT (entity_type, entity_id) DO NOTHING;
+
+INSERT INTO search_documents (entity_type, entity_id, tenant_id, program_id, status, title, snippet, search_vector, updated_at)
+SELECT 'REQUIREMENT', id, tenant_id, program_id, status, title,
+       CASE WHEN LENGTH(description) > 200 THEN LEFT(description, 200) || '...' ELSE description END,
+       setweight(to_tsvector('simple', COALESCE(identifier, '') || ' ' || COALESCE(title, '')), 'A') ||
+       setweight(to_tsvector('simple', LEFT(COALESCE(description, ''), 100000)), 'B'),
+       NOW()
+FROM requirements
+ON CONFLICT (entity_type, entity_id) DO NOTHING;
+
+INSERT INTO search_documents (entity_type, entity_id, tenant_id, program_id, status, title, snippet, search_vector, updated_at)
+SELECT 'TICKET', id, tenant_id, program_id, status, title,
+       CASE WHEN LENGTH(description) > 200 THEN LEFT(description, 200) || '...' ELSE description END,
+       setweight(to_tsvector('simple', COALESCE(identifier, '') || ' ' || COALESCE(title, '')), 'A') ||
+       setweight(to_tsvector('simple', LEFT(COALESCE(description, ''), 100000)), 'B'),
+       NOW()
+FROM tickets
+ON CONFLICT (entity_type, entity_id) DO NOTHING;
+
+INSERT INTO search_documents (entity_type, entity_id, tenant_id, program_id, status, title, snippet, search_vector, updated_at)
+SELECT 'DECISION', id, tenant_id, project_id, status, title,
+       CASE WHEN LENGTH(description) > 200 THEN LEFT(description, 200) || '...' ELSE description END,
+       setweight(to_tsvector('simple', COALESCE(title, '')), 'A') ||
+       setweight(to_tsvector('simple', LEFT(COALESCE(description, ''), 100000)), 'B'),
+       NOW()
+FROM decisions
+ON CONFLICT (entity_type, entity_id) DO NOTHING;
+
+INSERT INTO search_documents (entity_type, entity_id, tenant_id, program_id, status, title, snippet, search_vector, updated_at)
+SELECT 'DOCUMENT', d.id, d.tenant_id, sp.program_id, d.status, d.title,
+       CASE WHEN LENGTH(d.body) > 200 THEN LEFT(d.body, 200) || '...' ELSE d.body END,
+       setweight(to_tsvector('simple', COALESCE(d.title, '')), 'A') ||
+       setweight(to_tsvector('simple', LEFT(COALESCE(d.body, ''), 100000)), 'B'),
+       NOW()
+FROM documents d
+LEFT JOIN spaces sp ON sp.id = d.space_id
+ON CONFLICT (entity_type, entity_id) DO NOTHING;
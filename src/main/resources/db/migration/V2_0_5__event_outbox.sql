@@ -0,0 +1,19 @@
+-- V2_0_5: Transactional outbox for domain events
+-- Documentation-only migration matching Hibernate-generated schema.
+-- The partial index is an optional improvement over idx_event_outbox_unsent for large outboxes.
+
+CREATE TABLE IF NOT EXISTS event_outbox (
+    id          BIGSERIAL PRIMARY KEY,
+    event_id    UUID         NOT NULL,
+    tenant_id   UUID         NOT NULL,
+    event_type  VARCHAR(100) NOT NULL,
+    topic       VARCHAR(255) NOT NULL,
+    event_key   VARCHAR(255) NOT NULL,
+    payload     TEXT         NOT NULL,
+    attempts    INTEGER      NOT NULL DEFAULT 0,
+    created_at  TIMESTAMP    NOT NULL,
+    sent_at     TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_event_outbox_unsent ON event_outbox (sent_at, id);
+CREATE INDEX IF NOT EXISTS idx_event_outbox_pending ON event_outbox (id) WHERE sent_at IS NULL;
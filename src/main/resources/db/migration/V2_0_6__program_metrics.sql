@@ -0,0 +1,20 @@
+-- V2_0_6: Program dashboard rollups
+-- Documentation-only migration matching Hibernate-generated schema.
+
+CREATE TABLE IF NOT EXISTS program_metrics (
+    program_id                        UUID PRIMARY KEY,
+    tenant_id                         UUID             NOT NULL,
+    pending_decision_count            INTEGER          NOT NULL,
+    sla_breached_decision_count       INTEGER          NOT NULL,
+    active_outcome_count              INTEGER          NOT NULL,
+    validated_outcome_count           BIGINT           NOT NULL,
+    non_draft_outcome_count           BIGINT           NOT NULL,
+    running_experiment_count          INTEGER          NOT NULL,
+    avg_decision_time_hours           DOUBLE PRECISION NOT NULL,
+    previous_avg_decision_time_hours  DOUBLE PRECISION NOT NULL,
+    decision_velocity                 TEXT,
+    outcome_progress                  TEXT,
+    refreshed_at                      TIMESTAMP        NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_program_metrics_refreshed ON program_metrics (refreshed_at);
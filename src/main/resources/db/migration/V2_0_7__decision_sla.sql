@@ -0,0 +1,20 @@
+-- V2_0_7: Decision SLA thresholds and SLA engine shard leases
+-- Documentation-only migration matching Hibernate-generated schema.
+-- The backfill is also run by DecisionSlaEngine on startup.
+
+ALTER TABLE decisions ADD COLUMN IF NOT EXISTS at_risk_at TIMESTAMP;
+ALTER TABLE decisions ADD COLUMN IF NOT EXISTS sla_status VARCHAR(20);
+
+CREATE INDEX IF NOT EXISTS idx_decision_sla            ON decisions (sla_status, due_at);
+CREATE INDEX IF NOT EXISTS idx_decision_tenant_at_risk ON decisions (tenant_id, at_risk_at);
+
+UPDATE decisions
+SET at_risk_at = created_at + (due_at - created_at) / 2,
+    sla_status = COALESCE(sla_status, 'ON_TRACK')
+WHERE due_at IS NOT NULL AND created_at IS NOT NULL AND at_risk_at IS NULL;
+
+CREATE TABLE IF NOT EXISTS decision_sla_leases (
+    shard       INTEGER PRIMARY KEY,
+    owner       VARCHAR(100) NOT NULL,
+    expires_at  TIMESTAMP    NOT NULL
+);
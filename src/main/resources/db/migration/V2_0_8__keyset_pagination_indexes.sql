@@ -0,0 +1,23 @@
+-- V2_0_8: Composite indexes backing keyset (cursor) pagination
+-- Documentation-only migration matching Hibernate-generated schema.
+-- Each index matches a seek predicate (ts, id) < (:ts, :id) plus its ORDER BY ts, id,
+-- so a page is a bounded index range scan regardless of depth.
+
+CREATE INDEX IF NOT EXISTS idx_audit_tenant_timestamp_id
+    ON audit_logs (tenant_id, timestamp DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_audit_tenant_entity_type_timestamp
+    ON audit_logs (tenant_id, entity_type, timestamp DESC, id DESC);
+-- Superseded by idx_audit_tenant_timestamp_id
+DROP INDEX IF EXISTS idx_audit_tenant_timestamp;
+
+CREATE INDEX IF NOT EXISTS idx_decision_tenant_created
+    ON decisions (tenant_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_comments_parent_created
+    ON comments (tenant_id, parent_type, parent_id, created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_tickets_ws_created
+    ON tickets (tenant_id, workstream_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_requirements_spec_created
+    ON requirements (tenant_id, specification_id, created_at, id);
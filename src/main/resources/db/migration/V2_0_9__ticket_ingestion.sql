@@ -0,0 +1,17 @@
+-- V2_0_9: External ticket ingestion (alert coalescing and identifier sequences)
+-- Documentation-only migration matching Hibernate-generated schema.
+-- ticket_sequences rows are seeded lazily from the highest existing identifier per prefix.
+
+ALTER TABLE tickets ADD COLUMN IF NOT EXISTS occurrence_count INTEGER DEFAULT 1 NOT NULL;
+ALTER TABLE tickets ADD COLUMN IF NOT EXISTS last_occurred_at TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_tickets_ws_external_ref ON tickets (tenant_id, workstream_id, external_ref);
+
+CREATE TABLE IF NOT EXISTS ticket_sequences (
+    id             UUID         PRIMARY KEY,
+    tenant_id      UUID         NOT NULL,
+    workstream_id  UUID         NOT NULL,
+    prefix         VARCHAR(10)  NOT NULL,
+    next_value     INTEGER      NOT NULL,
+    UNIQUE (tenant_id, workstream_id, prefix)
+);
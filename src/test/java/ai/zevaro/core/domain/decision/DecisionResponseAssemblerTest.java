@@ -0,0 +1,134 @@
+package ai.zevaro.core.domain.decision;
+
+import ai.zevaro.core.domain.comment.CommentParentType;
+import ai.zevaro.core.domain.comment.CommentRepository;
+import ai.zevaro.core.domain.hypothesis.HypothesisRepository;
+import ai.zevaro.core.domain.program.ProgramRepository;
+import ai.zevaro.core.domain.requirement.RequirementRepository;
+import ai.zevaro.core.domain.specification.SpecificationRepository;
+import ai.zevaro.core.domain.ticket.TicketRepository;
+import ai.zevaro.core.domain.workstream.WorkstreamRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Query-count regression for {@link DecisionResponseAssembler}: each repository lookup is one SQL
+ * statement, and the number of lookups must not grow with the page size.
+ */
+class DecisionResponseAssemblerTest {
+
+    private static final UUID TENANT_ID = UUID.randomUUID();
+
+    private DecisionMapper decisionMapper;
+    private CommentRepository commentRepository;
+    private DecisionVoteRepository voteRepository;
+    private WorkstreamRepository workstreamRepository;
+    private HypothesisRepository hypothesisRepository;
+    private SpecificationRepository specificationRepository;
+    private RequirementRepository requirementRepository;
+    private TicketRepository ticketRepository;
+    private ProgramRepository programRepository;
+
+    private DecisionResponseAssembler assembler;
+
+    @BeforeEach
+    void setUp() {
+        decisionMapper = mock(DecisionMapper.class);
+        commentRepository = mock(CommentRepository.class);
+        voteRepository = mock(DecisionVoteRepository.class);
+        workstreamRepository = mock(WorkstreamRepository.class);
+        hypothesisRepository = mock(HypothesisRepository.class);
+        specificationRepository = mock(SpecificationRepository.class);
+        requirementRepository = mock(RequirementRepository.class);
+        ticketRepository = mock(TicketRepository.class);
+        programRepository = mock(ProgramRepository.class);
+
+        assembler = new DecisionResponseAssembler(decisionMapper, commentRepository, voteRepository,
+                workstreamRepository, hypothesisRepository, specificationRepository, requirementRepository,
+                ticketRepository, programRepository);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20, 500})
+    void lookupCountDoesNotDependOnPageSize(int pageSize) {
+        List<Decision> page = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            DecisionParentType parentType = i % 2 == 0 ? DecisionParentType.HYPOTHESIS : DecisionParentType.TICKET;
+            page.add(decision(parentType, UUID.randomUUID(), UUID.randomUUID()));
+        }
+
+        assertThat(assembler.toResponses(page)).hasSize(pageSize);
+
+        verify(commentRepository, times(1)).countByParentIds(eq(TENANT_ID), eq(CommentParentType.DECISION), anyCollection());
+        verify(voteRepository, times(1)).countVotesByDecisionIds(anyCollection());
+        verify(workstreamRepository, times(1)).findNamesByIds(eq(TENANT_ID), anyCollection());
+        verify(hypothesisRepository, times(1)).findTitlesByIds(eq(TENANT_ID), anyCollection());
+        // A page of one only has a hypothesis parent
+        verify(ticketRepository, times(pageSize > 1 ? 1 : 0)).findTitlesByIds(eq(TENANT_ID), anyCollection());
+        verifyNoMoreInteractions(commentRepository, voteRepository, workstreamRepository, hypothesisRepository,
+                ticketRepository);
+        verifyNoInteractions(specificationRepository, requirementRepository, programRepository);
+    }
+
+    @Test
+    void mapperIsFedFromBatchedLookups() {
+        UUID workstreamId = UUID.randomUUID();
+        UUID hypothesisId = UUID.randomUUID();
+        Decision withParent = decision(DecisionParentType.HYPOTHESIS, hypothesisId, workstreamId);
+        Decision withoutParent = decision(null, null, null);
+
+        when(commentRepository.countByParentIds(eq(TENANT_ID), eq(CommentParentType.DECISION), anyCollection()))
+                .thenReturn(rows(new Object[]{withParent.getId(), 3L}));
+        when(voteRepository.countVotesByDecisionIds(anyCollection()))
+                .thenReturn(rows(new Object[]{withParent.getId(), 2L}));
+        when(workstreamRepository.findNamesByIds(eq(TENANT_ID), anyCollection()))
+                .thenReturn(rows(new Object[]{workstreamId, "Platform"}));
+        when(hypothesisRepository.findTitlesByIds(eq(TENANT_ID), anyCollection()))
+                .thenReturn(rows(new Object[]{hypothesisId, "Faster onboarding"}));
+
+        assembler.toResponses(List.of(withParent, withoutParent));
+
+        verify(decisionMapper).toResponse(withParent, 3, 2, "Faster onboarding", "Platform", null, null);
+        verify(decisionMapper).toResponse(withoutParent, 0, 0, null, null, null, null);
+    }
+
+    @Test
+    void emptyPageRunsNoLookups() {
+        assertThat(assembler.toResponses(List.<Decision>of())).isEmpty();
+
+        verifyNoInteractions(commentRepository, voteRepository, workstreamRepository, hypothesisRepository,
+                specificationRepository, requirementRepository, ticketRepository, programRepository,
+                decisionMapper);
+    }
+
+    private static Decision decision(DecisionParentType parentType, UUID parentId, UUID workstreamId) {
+        Decision decision = new Decision();
+        decision.setId(UUID.randomUUID());
+        decision.setTenantId(TENANT_ID);
+        decision.setParentType(parentType);
+        decision.setParentId(parentId);
+        decision.setWorkstreamId(workstreamId);
+        return decision;
+    }
+
+    private static List<Object[]> rows(Object[] row) {
+        return Collections.singletonList(row);
+    }
+}
@@ -0,0 +1,156 @@
+package ai.zevaro.core.domain.program;
+
+import ai.zevaro.core.domain.decision.DecisionRepository;
+import ai.zevaro.core.domain.decision.DecisionStatus;
+import ai.zevaro.core.domain.experiment.ExperimentRepository;
+import ai.zevaro.core.domain.outcome.OutcomeRepository;
+import ai.zevaro.core.domain.outcome.OutcomeStatus;
+import ai.zevaro.core.domain.program.dto.ProgramDashboardResponse.DailyMetric;
+import ai.zevaro.core.domain.program.dto.ProgramDashboardResponse.OutcomeProgressItem;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Consistency check for the {@code program_metrics} rollup: after the tracker-driven refresh, the
+ * served rollup must match a recompute from the source tables, and reconciliation must repair and
+ * count rows that missed an update.
+ */
+class ProgramMetricsServiceTest {
+
+    private static final UUID TENANT_ID = UUID.randomUUID();
+    private static final UUID PROGRAM_ID = UUID.randomUUID();
+    private static final UUID OUTCOME_ID = UUID.randomUUID();
+
+    private final Map<UUID, ProgramMetrics> rollups = new HashMap<>();
+
+    private ProgramMetricsRepository metricsRepository;
+    private DecisionRepository decisionRepository;
+    private OutcomeRepository outcomeRepository;
+    private ExperimentRepository experimentRepository;
+    private ProgramMetricsTracker tracker;
+    private SimpleMeterRegistry meterRegistry;
+
+    private ProgramMetricsService service;
+
+    @BeforeEach
+    void setUp() {
+        metricsRepository = mock(ProgramMetricsRepository.class);
+        decisionRepository = mock(DecisionRepository.class);
+        outcomeRepository = mock(OutcomeRepository.class);
+        experimentRepository = mock(ExperimentRepository.class);
+        tracker = new ProgramMetricsTracker();
+        meterRegistry = new SimpleMeterRegistry();
+
+        when(metricsRepository.findById(any(UUID.class)))
+                .thenAnswer(inv -> Optional.ofNullable(rollups.get(inv.<UUID>getArgument(0))));
+        when(metricsRepository.findByProgramIdAndTenantId(any(UUID.class), any(UUID.class)))
+                .thenAnswer(inv -> Optional.ofNullable(rollups.get(inv.<UUID>getArgument(0)))
+                        .filter(m -> m.getTenantId().equals(inv.getArgument(1))));
+        when(metricsRepository.save(any(ProgramMetrics.class))).thenAnswer(inv -> {
+            ProgramMetrics metrics = inv.getArgument(0);
+            rollups.put(metrics.getProgramId(), metrics);
+            return metrics;
+        });
+
+        service = new ProgramMetricsService(metricsRepository, tracker, decisionRepository, outcomeRepository,
+                experimentRepository, JsonMapper.builder().findAndRegisterModules().build(),
+                mock(PlatformTransactionManager.class), meterRegistry);
+
+        stubSources(4, 1, 3, 2);
+    }
+
+    @Test
+    void rollupIsBuiltFromSourcesOnFirstRead() {
+        ProgramMetrics metrics = service.getMetrics(TENANT_ID, PROGRAM_ID);
+
+        assertThat(metrics.getPendingDecisionCount()).isEqualTo(4);
+        assertThat(metrics.getSlaBreachedDecisionCount()).isEqualTo(1);
+        assertThat(metrics.getActiveOutcomeCount()).isEqualTo(3);
+        assertThat(metrics.getValidatedOutcomeCount()).isEqualTo(2);
+        assertThat(metrics.getNonDraftOutcomeCount()).isEqualTo(5);
+        assertThat(metrics.getRunningExperimentCount()).isEqualTo(1);
+        assertThat(metrics.getAvgDecisionTimeHours()).isEqualTo(12.0);
+        assertThat(service.getDecisionVelocity(metrics))
+                .containsExactly(new DailyMetric(LocalDate.of(2026, 10, 1), 4, 12.0));
+        assertThat(service.getOutcomeProgress(metrics))
+                .containsExactly(new OutcomeProgressItem(OUTCOME_ID, "Faster onboarding", "IN_PROGRESS", 40.0, "yellow"));
+
+        // The second read is served from the stored rollup
+        service.getMetrics(TENANT_ID, PROGRAM_ID);
+        verify(decisionRepository, times(1)).countSlaBreachedForProject(TENANT_ID, PROGRAM_ID);
+    }
+
+    @Test
+    void servedRollupMatchesRecomputeAfterTrackedChange() {
+        service.getMetrics(TENANT_ID, PROGRAM_ID);
+
+        stubSources(6, 2, 2, 3);
+        tracker.markDirty(TENANT_ID, PROGRAM_ID);
+        service.refreshDirty();
+
+        ProgramMetrics served = service.getMetrics(TENANT_ID, PROGRAM_ID);
+        assertThat(served.getPendingDecisionCount()).isEqualTo(6);
+        assertThat(served.getActiveOutcomeCount()).isEqualTo(2);
+        assertThat(served.getValidatedOutcomeCount()).isEqualTo(3);
+
+        ProgramMetrics recomputed = service.refresh(TENANT_ID, PROGRAM_ID);
+        assertThat(served.countsDifferFrom(recomputed)).isFalse();
+        assertThat(served.getSlaBreachedDecisionCount()).isEqualTo(recomputed.getSlaBreachedDecisionCount());
+        assertThat(service.getDecisionVelocity(served)).isEqualTo(service.getDecisionVelocity(recomputed));
+        assertThat(service.getOutcomeProgress(served)).isEqualTo(service.getOutcomeProgress(recomputed));
+        assertThat(meterRegistry.counter("zevaro.program.metrics.drift").count()).isZero();
+    }
+
+    @Test
+    void reconcileRepairsAndCountsUntrackedDrift() {
+        ProgramMetrics stored = service.getMetrics(TENANT_ID, PROGRAM_ID);
+        when(metricsRepository.findStale(any(), any())).thenReturn(List.of(stored));
+
+        // A bulk statement changed the source tables without marking the program
+        stubSources(7, 1, 3, 2);
+        service.reconcile();
+
+        assertThat(service.getMetrics(TENANT_ID, PROGRAM_ID).getPendingDecisionCount()).isEqualTo(7);
+        assertThat(meterRegistry.counter("zevaro.program.metrics.drift").count()).isEqualTo(1.0);
+    }
+
+    private void stubSources(int pending, int running, int active, long validated) {
+        when(decisionRepository.countByTenantIdAndProjectIdAndStatus(TENANT_ID, PROGRAM_ID, DecisionStatus.NEEDS_INPUT))
+                .thenReturn((long) pending);
+        when(decisionRepository.countSlaBreachedForProject(TENANT_ID, PROGRAM_ID)).thenReturn(1L);
+        when(outcomeRepository.countByTenantIdAndProjectIdAndStatus(TENANT_ID, PROGRAM_ID, OutcomeStatus.IN_PROGRESS))
+                .thenReturn((long) active);
+        when(outcomeRepository.countValidatedForProject(TENANT_ID, PROGRAM_ID)).thenReturn(validated);
+        when(outcomeRepository.countNonDraftForProject(TENANT_ID, PROGRAM_ID)).thenReturn(active + validated);
+        when(experimentRepository.countRunningForProject(TENANT_ID, PROGRAM_ID)).thenReturn((long) running);
+        when(decisionRepository.getAverageDecisionTimeHours(eq(TENANT_ID), any())).thenReturn(12.0);
+        when(decisionRepository.findDailyMetricsForProject(eq(TENANT_ID), eq(PROGRAM_ID), any()))
+                .thenReturn(rows(new Object[]{Date.valueOf(LocalDate.of(2026, 10, 1)), 4L, 12.0}));
+        when(outcomeRepository.findProgressForProject(TENANT_ID, PROGRAM_ID, OutcomeStatus.IN_PROGRESS))
+                .thenReturn(rows(new Object[]{OUTCOME_ID, "Faster onboarding", OutcomeStatus.IN_PROGRESS, 40.0}));
+    }
+
+    private static List<Object[]> rows(Object[] row) {
+        return Collections.singletonList(row);
+    }
+}